@@ -1,5 +1,5 @@
 import axios, { AxiosError, InternalAxiosRequestConfig } from 'axios';
-import type { ApiResponse, AuthResponse, Patient, PatientRequest, PaginatedResponse, HealthStatus } from '../types';
+import type { ApiResponse, AuthResponse, Patient, PatientRequest, PatientSuggestion, PatientSearchCriteria, PatientSearchResult, PaginatedResponse, PatientStats, HealthStatus } from '../types';
 
 const API_BASE_URL = '/api/v1';
 
@@ -52,6 +52,27 @@ export const patientApi = {
     return response.data.data;
   },
 
+  suggest: async (q: string, limit = 8, signal?: AbortSignal): Promise<PatientSuggestion[]> => {
+    const params = new URLSearchParams({ q, limit: String(limit) });
+    const response = await api.get<ApiResponse<PatientSuggestion[]>>(`/patients/autocomplete?${params}`, { signal });
+    return response.data.data;
+  },
+
+  search: async (criteria: PatientSearchCriteria, cursor?: string, limit = 20): Promise<PatientSearchResult> => {
+    const params = new URLSearchParams({ limit: String(limit) });
+    Object.entries(criteria).forEach(([key, value]) => {
+      if (value) params.append(key, value);
+    });
+    if (cursor) params.append('cursor', cursor);
+    const response = await api.get<ApiResponse<PatientSearchResult>>(`/patients/search?${params}`);
+    return response.data.data;
+  },
+
+  getStats: async (): Promise<PatientStats> => {
+    const response = await api.get<ApiResponse<PatientStats>>('/patients/stats');
+    return response.data.data;
+  },
+
   getById: async (id: string): Promise<Patient> => {
     const response = await api.get<ApiResponse<Patient>>(`/patients/${id}`);
     return response.data.data;
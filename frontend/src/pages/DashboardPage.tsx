@@ -17,6 +17,11 @@ export default function DashboardPage() {
     queryFn: () => patientApi.getAll(0, 5),
   });
 
+  const { data: statsData } = useQuery({
+    queryKey: ['patients', 'stats'],
+    queryFn: patientApi.getStats,
+  });
+
   const { data: healthData } = useQuery({
     queryKey: ['health'],
     queryFn: healthApi.getHealth,
@@ -32,13 +37,13 @@ export default function DashboardPage() {
   const stats = [
     {
       name: 'Total Patients',
-      value: patientsData?.totalElements ?? 0,
+      value: statsData?.total ?? 0,
       icon: Users,
       color: 'bg-primary-500',
     },
     {
       name: 'Active Patients',
-      value: patientsData?.content.filter(p => p.status === 'ACTIVE').length ?? 0,
+      value: statsData?.byStatus.ACTIVE ?? 0,
       icon: UserPlus,
       color: 'bg-healthcare-500',
     },
@@ -1,6 +1,6 @@
-import { useState } from 'react';
+import { useEffect, useState } from 'react';
 import { useQuery } from '@tanstack/react-query';
-import { Link } from 'react-router-dom';
+import { Link, useNavigate } from 'react-router-dom';
 import { patientApi } from '../api/client';
 import { Plus, Search, ChevronLeft, ChevronRight } from 'lucide-react';
 import { format } from 'date-fns';
@@ -9,8 +9,24 @@ export default function PatientsPage() {
   const [page, setPage] = useState(0);
   const [search, setSearch] = useState('');
   const [searchQuery, setSearchQuery] = useState('');
+  const [typed, setTyped] = useState('');
+  const [showSuggestions, setShowSuggestions] = useState(false);
+  const navigate = useNavigate();
   const pageSize = 10;
 
+  // Ask for suggestions once typing pauses, instead of on every keystroke
+  useEffect(() => {
+    const timer = setTimeout(() => setTyped(search.trim()), 150);
+    return () => clearTimeout(timer);
+  }, [search]);
+
+  const { data: suggestions } = useQuery({
+    queryKey: ['patient-suggestions', typed],
+    queryFn: ({ signal }) => patientApi.suggest(typed, 8, signal),
+    enabled: typed.length >= 2,
+    staleTime: 30_000,
+  });
+
   const { data, isLoading } = useQuery({
     queryKey: ['patients', page, searchQuery],
     queryFn: () => patientApi.getAll(page, pageSize, searchQuery || undefined),
@@ -19,6 +35,7 @@ export default function PatientsPage() {
   const handleSearch = (e: React.FormEvent) => {
     e.preventDefault();
     setSearchQuery(search);
+    setShowSuggestions(false);
     setPage(0);
   };
 
@@ -42,10 +59,43 @@ export default function PatientsPage() {
           <input
             type="text"
             value={search}
-            onChange={(e) => setSearch(e.target.value)}
+            onChange={(e) => {
+              setSearch(e.target.value);
+              setShowSuggestions(true);
+            }}
+            onFocus={() => setShowSuggestions(true)}
+            onBlur={() => setShowSuggestions(false)}
+            onKeyDown={(e) => e.key === 'Escape' && setShowSuggestions(false)}
             placeholder="Search patients by name..."
             className="input pl-10"
+            autoComplete="off"
           />
+          {showSuggestions && typed.length >= 2 && suggestions && suggestions.length > 0 && (
+            <ul className="absolute z-10 mt-1 w-full bg-white border rounded-md shadow-lg divide-y divide-gray-100">
+              {suggestions.map((patient) => (
+                <li key={patient.id}>
+                  <button
+                    type="button"
+                    // Navigate before the input's blur hides the list
+                    onMouseDown={(e) => {
+                      e.preventDefault();
+                      navigate(`/patients/${patient.id}`);
+                    }}
+                    className="w-full px-4 py-2 flex items-center justify-between text-left hover:bg-gray-50"
+                  >
+                    <span className="font-medium text-gray-900">
+                      {patient.lastName}, {patient.firstName}
+                    </span>
+                    <span className="text-sm text-gray-500">
+                      {patient.dateOfBirth && format(new Date(patient.dateOfBirth), 'MMM d, yyyy')}
+                      {' · '}
+                      {patient.medicalRecordNumber}
+                    </span>
+                  </button>
+                </li>
+              ))}
+            </ul>
+          )}
         </div>
         <button type="submit" className="btn-secondary">
           Search
@@ -10,6 +10,35 @@ export interface Patient {
   status: 'ACTIVE' | 'INACTIVE' | 'DECEASED';
   createdAt: string;
   updatedAt: string;
+  version?: number;
+}
+
+export interface PatientSuggestion {
+  id: string;
+  firstName: string;
+  lastName: string;
+  dateOfBirth?: string;
+  medicalRecordNumber: string;
+  status: 'ACTIVE' | 'INACTIVE' | 'DECEASED';
+}
+
+export interface PatientSearchCriteria {
+  lastName?: string;
+  firstName?: string;
+  dateOfBirth?: string;
+  dateOfBirthFrom?: string;
+  dateOfBirthTo?: string;
+  phone?: string;
+  email?: string;
+  medicalRecordNumber?: string;
+  status?: 'ACTIVE' | 'INACTIVE' | 'DECEASED';
+}
+
+export interface PatientSearchResult {
+  patients: Patient[];
+  nextCursor?: string;
+  hasMore: boolean;
+  plan: string;
 }
 
 export interface PatientRequest {
@@ -69,3 +98,11 @@ export interface HealthStatus {
     readiness: string;
   };
 }
+
+export interface PatientStats {
+  total: number;
+  byStatus: Record<string, number>;
+  byAge: Record<string, number>;
+  createdPerDay: Record<string, number>;
+  reconciledAt?: string;
+}
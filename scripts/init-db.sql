@@ -9,21 +9,67 @@ CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 --     id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
 --     first_name VARCHAR(100) NOT NULL,
 --     last_name VARCHAR(100) NOT NULL,
+--     last_name_normalized VARCHAR(100),
 --     date_of_birth DATE NOT NULL,
---     email VARCHAR(255) UNIQUE,
+--     email VARCHAR(255),
+--     email_normalized VARCHAR(255) CONSTRAINT uk_patients_email_normalized UNIQUE,
 --     phone VARCHAR(20),
+--     phone_normalized VARCHAR(20),
 --     address VARCHAR(500),
 --     medical_record_number VARCHAR(50) UNIQUE,
 --     status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
 --     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
---     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+--     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+--     version BIGINT NOT NULL DEFAULT 0
 -- );
 
+-- CREATE TABLE IF NOT EXISTS outbox_events (
+--     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+--     aggregate_type VARCHAR(50) NOT NULL,
+--     aggregate_id VARCHAR(64) NOT NULL,
+--     event_type VARCHAR(50) NOT NULL,
+--     payload VARCHAR(8000) NOT NULL,
+--     created_at TIMESTAMP WITH TIME ZONE NOT NULL
+-- );
+
+-- Append-only access audit trail; grant the application INSERT and SELECT only
+-- CREATE TABLE IF NOT EXISTS phi_access_audit (
+--     id UUID PRIMARY KEY,
+--     occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+--     principal VARCHAR(100) NOT NULL,
+--     action VARCHAR(20) NOT NULL,
+--     resource_type VARCHAR(50) NOT NULL,
+--     resource_id VARCHAR(64),
+--     correlation_id VARCHAR(64)
+-- );
+-- CREATE INDEX IF NOT EXISTS idx_phi_access_audit_resource ON phi_access_audit(resource_id, occurred_at);
+
+-- Existing databases: add the optimistic-locking version before starting with ddl-auto: validate; rows without one
+-- would never match an If-Match and could not have their status changed
+-- ALTER TABLE patients ADD COLUMN IF NOT EXISTS version BIGINT;
+-- UPDATE patients SET version = 0 WHERE version IS NULL;
+-- ALTER TABLE patients ALTER COLUMN version SET DEFAULT 0, ALTER COLUMN version SET NOT NULL;
+
+-- Existing databases: backfill the normalized email before relying on its unique constraint
+-- (resolve any case-insensitive duplicates first, or the constraint cannot be created)
+-- UPDATE patients SET email_normalized = LOWER(TRIM(email)) WHERE email IS NOT NULL AND email_normalized IS NULL;
+
+-- Existing databases: backfill the normalized search columns, or structured search misses those patients
+-- UPDATE patients SET last_name_normalized = LOWER(TRIM(last_name)) WHERE last_name_normalized IS NULL;
+-- UPDATE patients SET phone_normalized = RIGHT(REGEXP_REPLACE(phone, '[^0-9]', '', 'g'), 10)
+--     WHERE phone IS NOT NULL AND phone_normalized IS NULL;
+
 -- Create index for common queries
 -- CREATE INDEX IF NOT EXISTS idx_patients_email ON patients(email);
 -- CREATE INDEX IF NOT EXISTS idx_patients_mrn ON patients(medical_record_number);
 -- CREATE INDEX IF NOT EXISTS idx_patients_status ON patients(status);
 -- CREATE INDEX IF NOT EXISTS idx_patients_name ON patients(last_name, first_name);
+-- CREATE INDEX IF NOT EXISTS idx_patients_updated_at_id ON patients(updated_at, id);
+-- Structured search (name prefixes are searched as a range, so the default operator class serves them)
+-- CREATE INDEX IF NOT EXISTS idx_patients_last_name_normalized_id ON patients(last_name_normalized, id);
+-- CREATE INDEX IF NOT EXISTS idx_patients_date_of_birth_id ON patients(date_of_birth, id);
+-- CREATE INDEX IF NOT EXISTS idx_patients_phone_normalized_id ON patients(phone_normalized, id);
+-- CREATE INDEX IF NOT EXISTS idx_patients_status_id ON patients(status, id);
 
 -- Insert sample data for testing (optional)
 -- This will be handled by the application seed data
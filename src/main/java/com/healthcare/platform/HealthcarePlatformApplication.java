@@ -2,6 +2,7 @@ package com.healthcare.platform;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Healthcare Platform Starter Kit
@@ -10,6 +11,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * Features: JWT auth, rate limiting, structured logging, OpenAPI docs.
  */
 @SpringBootApplication
+@EnableScheduling
 public class HealthcarePlatformApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,298 @@
+package com.healthcare.platform.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.platform.dto.PatientResponse;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * One immutable archive segment file.
+ * <p>
+ * Patients are stored as JSON lines in blocks of up to {@code blockSize} patients, each block compressed on its own so
+ * that a lookup only inflates one block. The index follows the blocks and has fixed-width entries: patient ids sorted
+ * with the block that holds them, 64-bit MRN hashes sorted with their block, and the offset and length of every
+ * block. The index is memory-mapped and binary-searched in place, so an open segment costs no heap per patient. A
+ * segment is written to a temporary file and renamed into place, so a crash never leaves a partial segment.
+ */
+final class ArchiveSegment implements Closeable {
+
+    static final String PREFIX = "patients-";
+    static final String SUFFIX = ".seg";
+
+    private static final int MAGIC = 0x50415243;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int FOOTER_BYTES = 24;
+    private static final int ID_ENTRY_BYTES = 20;
+    private static final int MRN_ENTRY_BYTES = 12;
+    private static final int BLOCK_ENTRY_BYTES = 12;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ObjectMapper objectMapper;
+    private final MappedByteBuffer index;
+    private final int patientCount;
+    private final int mrnCount;
+    private final long size;
+
+    private ArchiveSegment(Path path, FileChannel channel, ObjectMapper objectMapper, MappedByteBuffer index,
+                           int patientCount, int mrnCount, long size) {
+        this.path = path;
+        this.channel = channel;
+        this.objectMapper = objectMapper;
+        this.index = index;
+        this.patientCount = patientCount;
+        this.mrnCount = mrnCount;
+        this.size = size;
+    }
+
+    /**
+     * Write {@code patients} to a new segment at {@code path} and open it.
+     */
+    static ArchiveSegment write(Path path, List<PatientResponse> patients, int blockSize,
+                                ObjectMapper objectMapper) throws IOException {
+        int perBlock = Math.max(1, blockSize);
+        List<IdEntry> ids = new ArrayList<>(patients.size());
+        List<MrnEntry> mrns = new ArrayList<>(patients.size());
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+            DataOutputStream blockEntries = new DataOutputStream(blocks);
+            writeFully(out, ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(FORMAT_VERSION).flip());
+
+            long offset = HEADER_BYTES;
+            for (int from = 0, block = 0; from < patients.size(); from += perBlock, block++) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+                try (OutputStream lines = new DeflaterOutputStream(compressed, deflater)) {
+                    for (PatientResponse patient : patients.subList(from, Math.min(from + perBlock, patients.size()))) {
+                        lines.write(objectMapper.writeValueAsBytes(patient));
+                        lines.write('\n');
+                        ids.add(new IdEntry(patient.getId(), block));
+                        if (patient.getMedicalRecordNumber() != null) {
+                            mrns.add(new MrnEntry(hash(patient.getMedicalRecordNumber()), block));
+                        }
+                    }
+                } finally {
+                    deflater.end();
+                }
+                writeFully(out, ByteBuffer.wrap(compressed.toByteArray()));
+                blockEntries.writeLong(offset);
+                blockEntries.writeInt(compressed.size());
+                offset += compressed.size();
+            }
+
+            ids.sort(Comparator.comparing(IdEntry::id));
+            mrns.sort(Comparator.comparingLong(MrnEntry::hash));
+            ByteArrayOutputStream indexBytes = new ByteArrayOutputStream(
+                    ids.size() * ID_ENTRY_BYTES + mrns.size() * MRN_ENTRY_BYTES + blocks.size() + FOOTER_BYTES);
+            DataOutputStream indexOut = new DataOutputStream(indexBytes);
+            for (IdEntry entry : ids) {
+                indexOut.writeLong(entry.id().getMostSignificantBits());
+                indexOut.writeLong(entry.id().getLeastSignificantBits());
+                indexOut.writeInt(entry.block());
+            }
+            for (MrnEntry entry : mrns) {
+                indexOut.writeLong(entry.hash());
+                indexOut.writeInt(entry.block());
+            }
+            blocks.writeTo(indexOut);
+            indexOut.writeInt(blocks.size() / BLOCK_ENTRY_BYTES);
+            indexOut.writeInt(ids.size());
+            indexOut.writeInt(mrns.size());
+            indexOut.writeLong(offset);
+            indexOut.writeInt(MAGIC);
+            writeFully(out, ByteBuffer.wrap(indexBytes.toByteArray()));
+            out.force(true);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temporary);
+            throw ex;
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        return open(path, objectMapper);
+    }
+
+    /**
+     * Open an existing segment.
+     */
+    static ArchiveSegment open(Path path, ObjectMapper objectMapper) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < HEADER_BYTES + FOOTER_BYTES) {
+                throw new IOException("Archive segment " + path.getFileName() + " is truncated");
+            }
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_BYTES);
+            readFully(channel, footer, size - FOOTER_BYTES);
+            footer.flip();
+            int blockCount = footer.getInt();
+            int patientCount = footer.getInt();
+            int mrnCount = footer.getInt();
+            long indexOffset = footer.getLong();
+            if (footer.getInt() != MAGIC) {
+                throw new IOException("Archive segment " + path.getFileName() + " has no valid footer");
+            }
+            long indexBytes = size - FOOTER_BYTES - indexOffset;
+            if (indexOffset < HEADER_BYTES || indexBytes != (long) patientCount * ID_ENTRY_BYTES
+                    + (long) mrnCount * MRN_ENTRY_BYTES + (long) blockCount * BLOCK_ENTRY_BYTES) {
+                throw new IOException("Archive segment " + path.getFileName() + " has an inconsistent index");
+            }
+            MappedByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, indexBytes);
+            return new ArchiveSegment(path, channel, objectMapper, index, patientCount, mrnCount, size);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    Optional<PatientResponse> findById(UUID id) throws IOException {
+        int low = 0;
+        int high = patientCount - 1;
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int position = mid * ID_ENTRY_BYTES;
+            int comparison = Long.compare(index.getLong(position), msb);
+            if (comparison == 0) {
+                comparison = Long.compare(index.getLong(position + 8), lsb);
+            }
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return scan(index.getInt(position + 16), id.toString(), patient -> id.equals(patient.getId()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    Optional<PatientResponse> findByMrn(String mrn) throws IOException {
+        long hash = hash(mrn);
+        int base = patientCount * ID_ENTRY_BYTES;
+        int low = 0;
+        int high = mrnCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (index.getLong(base + mid * MRN_ENTRY_BYTES) < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        // Different MRNs can share a hash; check every block the hash points to
+        String needle = objectMapper.writeValueAsString(mrn);
+        for (int i = low; i < mrnCount && index.getLong(base + i * MRN_ENTRY_BYTES) == hash; i++) {
+            Optional<PatientResponse> found = scan(index.getInt(base + i * MRN_ENTRY_BYTES + 8), needle,
+                    patient -> mrn.equals(patient.getMedicalRecordNumber()));
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int patientCount() {
+        return patientCount;
+    }
+
+    long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Inflate {@code block} and return the first patient matching {@code match}. Only lines containing
+     * {@code needle} are parsed.
+     */
+    private Optional<PatientResponse> scan(int block, String needle, Predicate<PatientResponse> match)
+            throws IOException {
+        int entry = patientCount * ID_ENTRY_BYTES + mrnCount * MRN_ENTRY_BYTES + block * BLOCK_ENTRY_BYTES;
+        ByteBuffer compressed = ByteBuffer.allocate(index.getInt(entry + 8));
+        readFully(channel, compressed, index.getLong(entry));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new InflaterInputStream(new ByteArrayInputStream(compressed.array())), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.contains(needle)) {
+                    PatientResponse patient = objectMapper.readValue(line, PatientResponse.class);
+                    if (match.test(patient)) {
+                        return Optional.of(patient);
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 64-bit FNV-1a hash of an MRN, so that unrelated MRNs rarely share index entries.
+     */
+    static long hash(String mrn) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : mrn.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of archive segment");
+            }
+        }
+    }
+
+    private record IdEntry(UUID id, int block) {
+    }
+
+    private record MrnEntry(long hash, int block) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.healthcare.platform.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.platform.dto.PatientResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Read-only cold storage for patients moved out of the {@code patients} table by {@link PatientArchiver}.
+ * <p>
+ * Archived patients live in immutable {@link ArchiveSegment} files under {@code app.patients.archive.directory}. Every
+ * segment in the directory is opened at startup, and segments written by other instances sharing the directory are
+ * picked up by {@link #refresh()}. Lookups search the segments newest first, so if a patient was archived twice (the
+ * segment of a batch whose commit failed is kept, and its rows are archived again by the next run if they are still in
+ * the table) the latest copy wins. Segment names start with their creation time and are strictly increasing on each
+ * instance, so that order survives a restart.
+ */
+@Component
+@Slf4j
+public class PatientArchive {
+
+    private final Path directory;
+    private final int blockSize;
+    private final ObjectMapper objectMapper;
+    private final Timer foundLookups;
+    private final Timer missedLookups;
+
+    /** Open segments, oldest first. Replaced as a whole so that lookups never lock. */
+    private volatile List<ArchiveSegment> segments = List.of();
+    private long lastSegmentMillis;
+
+    @Autowired
+    public PatientArchive(@Value("${app.patients.archive.directory:data/patient-archive}") Path directory,
+                          @Value("${app.patients.archive.block-size:64}") int blockSize,
+                          ObjectMapper objectMapper,
+                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this(directory, blockSize, objectMapper, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public PatientArchive(Path directory, int blockSize, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.blockSize = Math.max(1, blockSize);
+        this.objectMapper = objectMapper;
+
+        meterRegistry.gauge("patients.archive.segments", this, archive -> archive.segments.size());
+        meterRegistry.gauge("patients.archive.patients", this, PatientArchive::patientCount);
+        meterRegistry.gauge("patients.archive.bytes", this, archive -> archive.segments.stream()
+                .mapToLong(ArchiveSegment::size).sum());
+        this.foundLookups = Timer.builder("patients.archive.lookup")
+                .description("Time to look up a patient in the archive")
+                .tag("result", "found")
+                .register(meterRegistry);
+        this.missedLookups = Timer.builder("patients.archive.lookup")
+                .description("Time to look up a patient in the archive")
+                .tag("result", "missing")
+                .register(meterRegistry);
+        refresh();
+    }
+
+    /**
+     * Find an archived patient by id.
+     */
+    public Optional<PatientResponse> findById(UUID id) {
+        return find(segment -> segment.findById(id));
+    }
+
+    /**
+     * Find an archived patient by medical record number.
+     */
+    public Optional<PatientResponse> findByMrn(String mrn) {
+        return find(segment -> segment.findByMrn(mrn));
+    }
+
+    /**
+     * Write {@code patients} to a new segment. The segment is searched by lookups as soon as this returns.
+     *
+     * @return file name of the new segment, for {@link #discard(String)}
+     */
+    public synchronized String append(List<PatientResponse> patients) {
+        try {
+            Files.createDirectories(directory);
+            // Never reuse a millisecond, so that a patient archived twice in quick succession still sorts newest last
+            lastSegmentMillis = Math.max(System.currentTimeMillis(), lastSegmentMillis + 1);
+            String name = String.format("%s%013d-%08x%s", ArchiveSegment.PREFIX, lastSegmentMillis,
+                    ThreadLocalRandom.current().nextInt(), ArchiveSegment.SUFFIX);
+            ArchiveSegment segment = ArchiveSegment.write(directory.resolve(name), patients, blockSize, objectMapper);
+            List<ArchiveSegment> updated = new ArrayList<>(segments);
+            updated.add(segment);
+            segments = List.copyOf(updated);
+            return name;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write archive segment to " + directory, ex);
+        }
+    }
+
+    /**
+     * Remove a segment written by {@link #append} whose patients were not removed from the database after all.
+     */
+    synchronized void discard(String name) {
+        List<ArchiveSegment> updated = new ArrayList<>(segments);
+        for (ArchiveSegment segment : segments) {
+            if (segment.path().getFileName().toString().equals(name)) {
+                updated.remove(segment);
+                segments = List.copyOf(updated);
+                close(segment);
+                try {
+                    Files.deleteIfExists(segment.path());
+                } catch (IOException ex) {
+                    log.warn("Could not delete discarded archive segment {}: {}", name, ex.getMessage());
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Open segments that appeared in the directory since the last refresh, e.g. written by another instance.
+     */
+    public synchronized void refresh() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Set<Path> open = new HashSet<>();
+        segments.forEach(segment -> open.add(segment.path()));
+        List<ArchiveSegment> updated = new ArrayList<>(segments);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.filter(ArchiveSegment::isSegment).filter(path -> !open.contains(path)).toList()) {
+                try {
+                    updated.add(ArchiveSegment.open(path, objectMapper));
+                } catch (IOException ex) {
+                    log.error("Skipping unreadable archive segment {}: {}", path.getFileName(), ex.getMessage());
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not list archive segments in " + directory, ex);
+        }
+        if (updated.size() > segments.size()) {
+            // Segment names start with their creation time, so name order is age order
+            updated.sort(Comparator.comparing(segment -> segment.path().getFileName().toString()));
+            segments = List.copyOf(updated);
+            log.info("Opened {} archive segments holding {} patients", segments.size(), patientCount());
+        }
+    }
+
+    /**
+     * Patients held by all segments, counting a patient archived twice twice.
+     */
+    public long patientCount() {
+        return segments.stream().mapToLong(ArchiveSegment::patientCount).sum();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        segments.forEach(PatientArchive::close);
+        segments = List.of();
+    }
+
+    private Optional<PatientResponse> find(SegmentLookup lookup) {
+        long started = System.nanoTime();
+        Optional<PatientResponse> found = Optional.empty();
+        List<ArchiveSegment> current = segments;
+        for (int i = current.size() - 1; i >= 0 && found.isEmpty(); i--) {
+            ArchiveSegment segment = current.get(i);
+            try {
+                found = lookup.find(segment);
+            } catch (ClosedChannelException ex) {
+                // Discarded while this lookup was running; its patients are still in the database
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not read archive segment " + segment.path().getFileName(), ex);
+            }
+        }
+        (found.isPresent() ? foundLookups : missedLookups).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return found;
+    }
+
+    private static void close(ArchiveSegment segment) {
+        try {
+            segment.close();
+        } catch (IOException ex) {
+            log.warn("Could not close archive segment {}: {}", segment.path().getFileName(), ex.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface SegmentLookup {
+        Optional<PatientResponse> find(ArchiveSegment segment) throws IOException;
+    }
+}
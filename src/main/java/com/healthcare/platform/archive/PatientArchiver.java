@@ -0,0 +1,175 @@
+package com.healthcare.platform.archive;
+
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.service.PatientStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Moves long-inactive patients out of the {@code patients} table into the {@link PatientArchive}.
+ * <p>
+ * Patients that are {@code INACTIVE} or {@code DECEASED} and have not changed for {@code app.patients.archive.min-age}
+ * are archived in batches of {@code app.patients.archive.batch-size}. Each batch is locked, written to a new segment
+ * and deleted from the table in one transaction. If the batch fails before the commit, the segment is discarded and the
+ * patients stay in the table. If the commit itself fails, it may still have been applied, so the segment is kept: if
+ * the patients are in fact still in the table, the next run archives them again and the {@link PatientArchive} serves
+ * the newer copy. Archivers on several instances share the work because locked rows are skipped.
+ * <p>
+ * Archived patients can still be read by id and MRN, but they no longer appear in listings, searches, the change feed
+ * or the statistics, and cannot be updated. Each batch publishes a {@link PatientsArchivedEvent} so that the in-memory
+ * indexes drop its patients once it commits.
+ */
+@Component
+@Slf4j
+public class PatientArchiver {
+
+    static final Set<Patient.PatientStatus> ARCHIVABLE = EnumSet.of(Patient.PatientStatus.INACTIVE,
+            Patient.PatientStatus.DECEASED);
+
+    private final PatientRepository patientRepository;
+    private final PatientArchive patientArchive;
+    private final PatientStatistics patientStatistics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Clock clock;
+
+    private final Counter archived;
+
+    @Autowired
+    public PatientArchiver(PatientRepository patientRepository, PatientArchive patientArchive,
+                           PatientStatistics patientStatistics, ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.patients.archive.enabled:false}") boolean enabled,
+                           @Value("${app.patients.archive.min-age:P365D}") Duration minAge,
+                           @Value("${app.patients.archive.batch-size:1000}") int batchSize,
+                           @Value("${app.patients.archive.max-batches-per-run:100}") int maxBatchesPerRun,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this(patientRepository, patientArchive, patientStatistics, eventPublisher,
+                new TransactionTemplate(transactionManager), enabled, minAge, batchSize, maxBatchesPerRun,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new), Clock.systemDefaultZone());
+    }
+
+    PatientArchiver(PatientRepository patientRepository, PatientArchive patientArchive,
+                    PatientStatistics patientStatistics, ApplicationEventPublisher eventPublisher,
+                    TransactionTemplate transactionTemplate, boolean enabled, Duration minAge, int batchSize,
+                    int maxBatchesPerRun, MeterRegistry meterRegistry, Clock clock) {
+        this.patientRepository = patientRepository;
+        this.patientArchive = patientArchive;
+        this.patientStatistics = patientStatistics;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.clock = clock;
+
+        this.archived = Counter.builder("patients.archive.archived")
+                .description("Patients moved from the patients table to the archive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled run, every {@code app.patients.archive.cron}. Every instance opens the segments other instances wrote
+     * since the last run; only instances with {@code app.patients.archive.enabled} archive.
+     */
+    @Scheduled(cron = "${app.patients.archive.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        patientArchive.refresh();
+        if (enabled) {
+            try {
+                archive();
+            } catch (RuntimeException ex) {
+                log.error("Patient archival failed, will retry on the next run: {}", ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Archive up to {@code app.patients.archive.max-batches-per-run} batches, stopping early when no archivable
+     * patients are left.
+     *
+     * @return number of patients archived
+     */
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(minAge);
+        long hotBefore = patientRepository.count();
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int count = archiveBatch(cutoff);
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            long hotAfter = patientRepository.count();
+            log.info("Archived {} patients changed before {}; patients table {} -> {} rows ({}% smaller), " +
+                            "archive holds {} patients in {} segments", total, cutoff, hotBefore, hotAfter,
+                    hotBefore == 0 ? 0 : Math.round(100.0 * (hotBefore - hotAfter) / hotBefore),
+                    patientArchive.patientCount(), patientArchive.segmentCount());
+            patientStatistics.reconcile();
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        AtomicReference<String> segment = new AtomicReference<>();
+        AtomicBoolean written = new AtomicBoolean();
+        Integer count;
+        try {
+            count = transactionTemplate.execute(status -> {
+                List<Patient> batch = patientRepository.lockArchivable(ARCHIVABLE, cutoff, Limit.of(batchSize));
+                if (batch.isEmpty()) {
+                    return 0;
+                }
+                List<PatientResponse> patients = batch.stream().map(PatientResponse::fromEntity).toList();
+                segment.set(patientArchive.append(patients));
+                patientRepository.deleteByIdIn(batch.stream().map(Patient::getId).toList());
+                eventPublisher.publishEvent(new PatientsArchivedEvent(patients));
+                written.set(true);
+                return batch.size();
+            });
+        } catch (RuntimeException ex) {
+            if (segment.get() != null && !written.get()) {
+                // Failed before the commit: the transaction rolled back and the patients are still in the table
+                patientArchive.discard(segment.get());
+            } else if (segment.get() != null) {
+                log.warn("Commit of archive segment {} failed, keeping the segment in case the delete was applied",
+                        segment.get());
+            }
+            throw ex;
+        }
+        if (count == null) {
+            return 0;
+        }
+        archived.increment(count);
+        return count;
+    }
+}
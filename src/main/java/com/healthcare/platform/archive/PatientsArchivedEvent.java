@@ -0,0 +1,19 @@
+package com.healthcare.platform.archive;
+
+import com.healthcare.platform.dto.PatientResponse;
+
+import java.util.List;
+
+/**
+ * Published by {@link PatientArchiver} for every batch it moves out of the {@code patients} table, in the
+ * transaction that deletes them. Listeners that keep derived state of the table have to drop these patients when
+ * the batch commits; they are no longer listed, searched or suggested, but can still be read by id and MRN.
+ *
+ * @param patients the archived patients, as written to the archive
+ */
+public record PatientsArchivedEvent(List<PatientResponse> patients) {
+
+    public PatientsArchivedEvent {
+        patients = List.copyOf(patients);
+    }
+}
@@ -0,0 +1,19 @@
+package com.healthcare.platform.audit;
+
+/**
+ * How patient data was disclosed.
+ */
+public enum AuditAction {
+    /** Single patient by ID or MRN. */
+    READ,
+    /** Patient listed on a page of {@code GET /api/v1/patients}, with or without a search term. */
+    SEARCH,
+    /** Patient suggested by {@code GET /api/v1/patients/autocomplete}. */
+    SUGGEST,
+    /** Patient resolved by {@code POST /api/v1/patients/batch}. */
+    BATCH_READ,
+    /** Patient returned by the change feed. */
+    SYNC,
+    /** Subscription to the patient event stream; recorded once per stream, without a patient ID. */
+    STREAM
+}
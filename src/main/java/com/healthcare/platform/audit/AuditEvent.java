@@ -0,0 +1,19 @@
+package com.healthcare.platform.audit;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One disclosure of patient data.
+ *
+ * @param id            unique event ID; makes replays from the write-ahead log idempotent
+ * @param occurredAt    when the data was read
+ * @param principal     authenticated user, or {@code anonymous}
+ * @param action        how the data was disclosed
+ * @param resourceType  kind of record, e.g. {@code Patient}
+ * @param resourceId    ID of the record; {@code null} for {@link AuditAction#STREAM}
+ * @param correlationId correlation ID of the request, linking the event to application logs
+ */
+public record AuditEvent(UUID id, Instant occurredAt, String principal, AuditAction action, String resourceType,
+                         String resourceId, String correlationId) {
+}
@@ -0,0 +1,419 @@
+package com.healthcare.platform.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.platform.exception.AuditUnavailableException;
+import com.healthcare.platform.filter.CorrelationIdFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Access audit trail for patient data.
+ * <p>
+ * {@link #record} captures who read which patient, when, and under which correlation ID on the request thread and
+ * puts the events on a lock-free queue of at most {@code app.audit.queue-capacity} events. A single writer thread
+ * drains the queue into the {@code phi_access_audit} table with multi-row inserts of up to {@code app.audit.batch-size}
+ * events, waking every {@code app.audit.flush-interval} or as soon as a full batch is waiting. A failed batch is
+ * retried with backoff while new events keep queueing.
+ * <p>
+ * When the queue is full, {@code record} waits up to {@code app.audit.max-wait} for the writer to make room. If there
+ * is still no room, the {@code REJECT} overflow policy refuses the read with {@link AuditUnavailableException} so that
+ * no patient data leaves the service unaudited; {@code DROP} keeps serving and only counts the lost events.
+ * <p>
+ * With {@code app.audit.wal.enabled} every event is also appended to a local {@link AuditWriteAheadLog} before it is
+ * queued, and events a crash kept from reaching the database are written on the next start.
+ */
+@Component
+@Slf4j
+public class AuditLog {
+
+    static final String RESOURCE_TYPE = "Patient";
+    static final String ANONYMOUS = "anonymous";
+
+    private static final int MAX_CORRELATION_ID_LENGTH = 64;
+    private static final long MAX_BACKOFF_NANOS = Duration.ofSeconds(30).toNanos();
+
+    public enum OverflowPolicy {
+        REJECT, DROP
+    }
+
+    private final AuditStore store;
+    private final AuditWriteAheadLog writeAheadLog;
+    private final boolean enabled;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long maxWaitNanos;
+    private final Duration shutdownTimeout;
+    private final Clock clock;
+
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final List<Pending> inFlight = new ArrayList<>();
+    private final Counter written;
+    private final Counter rejected;
+    private final Counter dropped;
+    private final Counter failures;
+    private final Timer batchDuration;
+
+    private volatile Thread writer;
+    private volatile boolean running;
+    private volatile long stopDeadline;
+
+    @Autowired
+    public AuditLog(AuditStore store, ObjectMapper objectMapper,
+                    @Value("${app.audit.enabled:true}") boolean enabled,
+                    @Value("${app.audit.queue-capacity:10000}") int capacity,
+                    @Value("${app.audit.batch-size:500}") int batchSize,
+                    @Value("${app.audit.flush-interval:PT0.2S}") Duration flushInterval,
+                    @Value("${app.audit.overflow-policy:REJECT}") OverflowPolicy overflowPolicy,
+                    @Value("${app.audit.max-wait:PT0.1S}") Duration maxWait,
+                    @Value("${app.audit.shutdown-timeout:PT10S}") Duration shutdownTimeout,
+                    @Value("${app.audit.wal.enabled:false}") boolean walEnabled,
+                    @Value("${app.audit.wal.directory:data/audit-wal}") Path walDirectory,
+                    @Value("${app.audit.wal.segment-size:16MB}") DataSize walSegmentSize,
+                    ObjectProvider<MeterRegistry> meterRegistry) {
+        this(store, enabled && walEnabled ? openWriteAheadLog(walDirectory, walSegmentSize, objectMapper) : null,
+                enabled, capacity, batchSize, flushInterval, overflowPolicy, maxWait, shutdownTimeout,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new), Clock.systemUTC());
+    }
+
+    AuditLog(AuditStore store, AuditWriteAheadLog writeAheadLog, boolean enabled, int capacity, int batchSize,
+             Duration flushInterval, OverflowPolicy overflowPolicy, Duration maxWait, Duration shutdownTimeout,
+             MeterRegistry meterRegistry, Clock clock) {
+        this.store = store;
+        this.writeAheadLog = writeAheadLog;
+        this.enabled = enabled;
+        this.capacity = Math.max(1, capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.clock = clock;
+
+        meterRegistry.gauge("audit.queue.size", size, AtomicInteger::get);
+        this.written = Counter.builder("audit.events.written")
+                .description("Audit events written to the database")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("audit.events.rejected")
+                .description("Audit events whose read was refused because the audit queue was full")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("audit.events.dropped")
+                .description("Audit events lost because the audit queue was full")
+                .register(meterRegistry);
+        this.failures = Counter.builder("audit.write.failures")
+                .description("Audit batches that failed and will be retried")
+                .register(meterRegistry);
+        this.batchDuration = Timer.builder("audit.batch.duration")
+                .description("Time to write one batch of audit events")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record that the current user was given the patients with {@code patientIds}.
+     *
+     * @throws AuditUnavailableException if the events cannot be accepted and the overflow policy is {@code REJECT}
+     */
+    public void record(AuditAction action, Collection<UUID> patientIds) {
+        if (!enabled || patientIds.isEmpty()) {
+            return;
+        }
+        String principal = currentPrincipal();
+        String correlationId = currentCorrelationId();
+        Instant now = clock.instant();
+        List<AuditEvent> events = new ArrayList<>(patientIds.size());
+        for (UUID patientId : patientIds) {
+            events.add(new AuditEvent(randomId(), now, principal, action, RESOURCE_TYPE,
+                    patientId == null ? null : patientId.toString(), correlationId));
+        }
+        enqueue(events);
+    }
+
+    /**
+     * Record a single access; {@code patientId} may be {@code null} for accesses that are not tied to one patient,
+     * such as {@link AuditAction#STREAM}.
+     */
+    public void record(AuditAction action, UUID patientId) {
+        record(action, patientId == null ? Collections.singletonList(null) : List.of(patientId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || writer != null) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::run, "audit-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    /**
+     * Stop the writer after it has flushed the queue, or after {@code app.audit.shutdown-timeout} if the database is
+     * unavailable. Events still pending then survive only in the write-ahead log.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        Thread thread = writer;
+        if (thread != null) {
+            stopDeadline = System.nanoTime() + shutdownTimeout.toNanos();
+            running = false;
+            LockSupport.unpark(thread);
+            try {
+                thread.join(shutdownTimeout.toMillis() + 1000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+        if (size.get() > 0) {
+            log.error("{} audit events were not written to the database{}", size.get(),
+                    writeAheadLog != null ? "; they will be written from the write-ahead log on the next start" : "");
+        }
+        if (writeAheadLog != null) {
+            try {
+                writeAheadLog.close();
+            } catch (IOException ex) {
+                log.warn("Could not close the audit write-ahead log: {}", ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Events accepted but not yet written.
+     */
+    public int pending() {
+        return size.get();
+    }
+
+    /**
+     * Write up to one batch of queued events, or retry the batch that failed last time.
+     *
+     * @return whether the batch was written
+     */
+    boolean flush() {
+        if (inFlight.isEmpty()) {
+            Pending pending;
+            while (inFlight.size() < batchSize && (pending = queue.poll()) != null) {
+                inFlight.add(pending);
+            }
+            if (inFlight.isEmpty()) {
+                return true;
+            }
+        }
+        try {
+            if (writeAheadLog != null) {
+                writeAheadLog.sync();
+            }
+            List<AuditEvent> events = inFlight.stream().map(Pending::event).toList();
+            batchDuration.record(() -> store.insert(events));
+        } catch (IOException | RuntimeException ex) {
+            failures.increment();
+            log.warn("Writing {} audit events failed, will retry: {}", inFlight.size(), ex.getMessage());
+            return false;
+        }
+        int count = inFlight.size();
+        long lastSequence = inFlight.get(count - 1).sequence();
+        inFlight.clear();
+        size.addAndGet(-count);
+        written.increment(count);
+        if (writeAheadLog != null) {
+            writeAheadLog.committed(lastSequence);
+        }
+        return true;
+    }
+
+    /**
+     * Write the events a previous run left in the write-ahead log.
+     *
+     * @return whether they were written
+     */
+    boolean recover() {
+        if (writeAheadLog == null) {
+            return true;
+        }
+        try {
+            List<AuditEvent> events = writeAheadLog.recover();
+            if (!events.isEmpty()) {
+                store.insertMissing(events);
+                log.info("Recovered {} audit events from the write-ahead log", events.size());
+            }
+            writeAheadLog.discardRecovered();
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            failures.increment();
+            log.warn("Recovering the audit write-ahead log failed, will retry: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    private void run() {
+        int attempt = 0;
+        while (running && !recover()) {
+            LockSupport.parkNanos(backoff(++attempt));
+        }
+        attempt = 0;
+        while (true) {
+            boolean flushed = flush();
+            attempt = flushed ? 0 : attempt + 1;
+            if (!running && (size.get() == 0 || System.nanoTime() - stopDeadline > 0)) {
+                return;
+            }
+            if (!flushed) {
+                LockSupport.parkNanos(backoff(attempt));
+            } else if (running && size.get() < batchSize) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+    }
+
+    private void enqueue(List<AuditEvent> events) {
+        int count = events.size();
+        if (!reserve(count)) {
+            overflow(count, "audit queue is full");
+            return;
+        }
+        if (writeAheadLog == null) {
+            for (AuditEvent event : events) {
+                queue.add(new Pending(event, 0));
+            }
+        } else {
+            // Appending and queueing under one lock keeps the queue in sequence order, which committed() relies on
+            synchronized (writeAheadLog) {
+                long sequence;
+                try {
+                    sequence = writeAheadLog.append(events) - count;
+                } catch (IOException ex) {
+                    size.addAndGet(-count);
+                    log.error("Could not append to the audit write-ahead log: {}", ex.getMessage());
+                    overflow(count, "audit write-ahead log is unavailable");
+                    return;
+                }
+                for (AuditEvent event : events) {
+                    queue.add(new Pending(event, ++sequence));
+                }
+            }
+        }
+        if (size.get() >= batchSize) {
+            wakeWriter();
+        }
+    }
+
+    /**
+     * Claim room for {@code count} events, waiting up to {@code app.audit.max-wait} for the writer to make some.
+     */
+    private boolean reserve(int count) {
+        if (count > capacity) {
+            return false;
+        }
+        long deadline = 0;
+        boolean waiting = false;
+        while (true) {
+            int current = size.get();
+            if (current + count <= capacity) {
+                if (size.compareAndSet(current, current + count)) {
+                    return true;
+                }
+                continue;
+            }
+            long now = System.nanoTime();
+            if (!waiting) {
+                waiting = true;
+                deadline = now + maxWaitNanos;
+                wakeWriter();
+            } else if (now - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(Math.min(deadline - now, Duration.ofMillis(1).toNanos()));
+        }
+    }
+
+    private void overflow(int count, String reason) {
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            dropped.increment(count);
+            log.warn("Dropped {} audit events: {}", count, reason);
+            return;
+        }
+        rejected.increment(count);
+        throw new AuditUnavailableException("Patient data is temporarily unavailable: " + reason);
+    }
+
+    private void wakeWriter() {
+        Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private long backoff(int attempt) {
+        long base = Math.max(flushIntervalNanos, Duration.ofMillis(100).toNanos());
+        return Math.min(MAX_BACKOFF_NANOS, base << Math.min(attempt - 1, 16));
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? ANONYMOUS : authentication.getName();
+    }
+
+    private static String currentCorrelationId() {
+        String correlationId = MDC.get(CorrelationIdFilter.MDC_CORRELATION_ID);
+        return correlationId == null || correlationId.length() <= MAX_CORRELATION_ID_LENGTH
+                ? correlationId : correlationId.substring(0, MAX_CORRELATION_ID_LENGTH);
+    }
+
+    /**
+     * Random version 4 UUID without the contention of {@link UUID#randomUUID()}'s shared {@code SecureRandom}; event
+     * IDs only need to be unique, not unpredictable.
+     */
+    private static UUID randomId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(most, least);
+    }
+
+    private static AuditWriteAheadLog openWriteAheadLog(Path directory, DataSize segmentSize,
+                                                        ObjectMapper objectMapper) {
+        try {
+            return new AuditWriteAheadLog(directory, segmentSize.toBytes(), objectMapper);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open the audit write-ahead log in " + directory, ex);
+        }
+    }
+
+    private record Pending(AuditEvent event, long sequence) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.healthcare.platform.audit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes audit events to the append-only {@code phi_access_audit} table with multi-row {@code INSERT} statements.
+ */
+@Component
+public class AuditStore {
+
+    static final int ROWS_PER_STATEMENT = 100;
+
+    private static final String INSERT_PREFIX = "INSERT INTO phi_access_audit "
+            + "(id, occurred_at, principal, action, resource_type, resource_id, correlation_id) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 7;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String fullInsert = insertSql(ROWS_PER_STATEMENT);
+
+    @Autowired
+    public AuditStore(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Insert {@code events} in one transaction, so a failed batch can be retried as a whole.
+     */
+    public void insert(List<AuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < events.size(); from += ROWS_PER_STATEMENT) {
+                List<AuditEvent> chunk = events.subList(from, Math.min(from + ROWS_PER_STATEMENT, events.size()));
+                String sql = chunk.size() == ROWS_PER_STATEMENT ? fullInsert : insertSql(chunk.size());
+                jdbcTemplate.update(sql, parameters(chunk));
+            }
+        });
+    }
+
+    /**
+     * Insert the events that are not stored yet. Used when replaying the write-ahead log, which may contain events
+     * that were written just before the crash.
+     */
+    public void insertMissing(List<AuditEvent> events) {
+        Set<UUID> stored = new HashSet<>();
+        for (int from = 0; from < events.size(); from += ROWS_PER_STATEMENT) {
+            List<AuditEvent> chunk = events.subList(from, Math.min(from + ROWS_PER_STATEMENT, events.size()));
+            stored.addAll(existingIds(chunk.stream().map(AuditEvent::id).toList()));
+        }
+        insert(events.stream().filter(event -> !stored.contains(event.id())).toList());
+    }
+
+    private List<UUID> existingIds(Collection<UUID> ids) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.queryForList("SELECT id FROM phi_access_audit WHERE id IN (" + placeholders + ")",
+                UUID.class, ids.toArray());
+    }
+
+    private static Object[] parameters(List<AuditEvent> events) {
+        List<Object> parameters = new ArrayList<>(events.size() * COLUMNS);
+        for (AuditEvent event : events) {
+            parameters.add(event.id());
+            parameters.add(OffsetDateTime.ofInstant(event.occurredAt(), ZoneOffset.UTC));
+            parameters.add(event.principal());
+            parameters.add(event.action().name());
+            parameters.add(event.resourceType());
+            parameters.add(event.resourceId());
+            parameters.add(event.correlationId());
+        }
+        return parameters.toArray();
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+        }
+        return sql.toString();
+    }
+}
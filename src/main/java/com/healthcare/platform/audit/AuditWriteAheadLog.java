@@ -0,0 +1,181 @@
+package com.healthcare.platform.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Local write-ahead log for audit events that have been accepted but not yet written to the database.
+ * <p>
+ * Events are appended as JSON lines to numbered segment files of roughly {@code segmentBytes}. Every appended event
+ * gets the next sequence number; once the database has committed an event, {@link #committed(long)} deletes the full
+ * segments that only hold committed events. Segments found when the log is opened belong to a previous run and are
+ * replayed through {@link #recover()}. Appends reach the operating system immediately; {@link #sync()} forces them to
+ * disk and is called by the writer before each database batch, so one fsync covers a whole batch.
+ */
+@Slf4j
+class AuditWriteAheadLog implements Closeable {
+
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".wal";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final ObjectMapper objectMapper;
+    private final List<Path> recovered;
+    private final ArrayDeque<Segment> sealed = new ArrayDeque<>();
+
+    private Path currentPath;
+    private FileChannel current;
+    private long currentNumber;
+    private long currentBytes;
+    private long lastSequence;
+    private long committedSequence;
+    private boolean dirty;
+
+    AuditWriteAheadLog(Path directory, long segmentBytes, ObjectMapper objectMapper) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = Math.max(1, segmentBytes);
+        this.objectMapper = objectMapper;
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            this.recovered = files.filter(AuditWriteAheadLog::isSegment)
+                    .sorted(Comparator.comparingLong(AuditWriteAheadLog::segmentNumber))
+                    .toList();
+        }
+        this.currentNumber = recovered.isEmpty() ? 0 : segmentNumber(recovered.get(recovered.size() - 1));
+        openNextSegment();
+    }
+
+    /**
+     * Append {@code events}.
+     *
+     * @return sequence number of the last event
+     */
+    synchronized long append(List<AuditEvent> events) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(events.size() * 256);
+        for (AuditEvent event : events) {
+            lines.write(objectMapper.writeValueAsBytes(event));
+            lines.write('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        while (buffer.hasRemaining()) {
+            current.write(buffer);
+        }
+        lastSequence += events.size();
+        currentBytes += buffer.limit();
+        dirty = true;
+        if (currentBytes >= segmentBytes) {
+            current.force(false);
+            current.close();
+            sealed.addLast(new Segment(currentPath, lastSequence));
+            openNextSegment();
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Force appended events to disk.
+     */
+    synchronized void sync() throws IOException {
+        if (dirty) {
+            current.force(false);
+            dirty = false;
+        }
+    }
+
+    /**
+     * Record that every event up to and including {@code sequence} is in the database.
+     */
+    synchronized void committed(long sequence) {
+        committedSequence = Math.max(committedSequence, sequence);
+        while (!sealed.isEmpty() && sealed.peekFirst().lastSequence() <= committedSequence) {
+            delete(sealed.removeFirst().path());
+        }
+    }
+
+    /**
+     * Events left by a previous run, in the order they were appended. A line cut short by the crash is skipped.
+     */
+    List<AuditEvent> recover() throws IOException {
+        List<AuditEvent> events = new ArrayList<>();
+        for (Path segment : recovered) {
+            try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        events.add(objectMapper.readValue(line, AuditEvent.class));
+                    } catch (JsonProcessingException ex) {
+                        log.warn("Skipping unreadable audit write-ahead log entry in {}", segment.getFileName());
+                    }
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Delete the segments of the previous run once {@link #recover() their events} are in the database.
+     */
+    void discardRecovered() {
+        recovered.forEach(this::delete);
+    }
+
+    /**
+     * Close the log, deleting the current segment if all of its events are in the database.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        current.force(false);
+        current.close();
+        if (committedSequence >= lastSequence) {
+            delete(currentPath);
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        currentNumber++;
+        currentPath = directory.resolve(String.format("%s%012d%s", PREFIX, currentNumber, SUFFIX));
+        current = FileChannel.open(currentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        currentBytes = 0;
+    }
+
+    private void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException ex) {
+            log.warn("Could not delete audit write-ahead log segment {}: {}", segment, ex.getMessage());
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        return path.getFileName().toString().matches(PREFIX + "\\d+\\" + SUFFIX);
+    }
+
+    private static long segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private record Segment(Path path, long lastSequence) {
+    }
+}
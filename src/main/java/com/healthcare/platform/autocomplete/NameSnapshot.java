@@ -0,0 +1,397 @@
+package com.healthcare.platform.autocomplete;
+
+import com.healthcare.platform.dto.PatientSuggestion;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Immutable prefix index over the names of a fixed set of patients.
+ * <p>
+ * Patients are numbered in name order, and their fields are kept in parallel arrays instead of one object each. The
+ * distinct name tokens are sorted, and the patients having each token are stored contiguously in token order, so the
+ * patients having any token with a given prefix form one slice that is found by binary search. A query walks the
+ * smallest slice among its prefixes in name order and stops at the limit, so the first suggestions cost the same
+ * however many patients match. Patients changed after the snapshot was built are marked superseded and skipped.
+ */
+final class NameSnapshot {
+
+    static final Comparator<PatientSuggestion> NAME_ORDER = Comparator
+            .comparing((PatientSuggestion patient) -> nullToEmpty(patient.getLastName()), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(patient -> nullToEmpty(patient.getFirstName()), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(PatientSuggestion::getId);
+
+    static final NameSnapshot EMPTY = build(List.of());
+
+    private static final int NO_DATE = Integer.MIN_VALUE;
+
+    // Patient fields by ordinal, in name order
+    private final long[] mostSignificantBits;
+    private final long[] leastSignificantBits;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final int[] birthDays;
+    private final String[] medicalRecordNumbers;
+    private final String[] statuses;
+
+    // The patients having tokens[t] are postings[tokenStart[t]] to postings[tokenStart[t + 1] - 1], in ordinal order
+    private final String[] tokens;
+    private final int[] tokenStart;
+    private final int[] postings;
+
+    // The tokens of patient p are patientTokens[patientStart[p]] to patientTokens[patientStart[p + 1] - 1]
+    private final int[] patientStart;
+    private final int[] patientTokens;
+
+    // Ordinals in id order
+    private final int[] byId;
+    private final AtomicLongArray superseded;
+
+    private NameSnapshot(int size, int tokenCount, int postingCount) {
+        mostSignificantBits = new long[size];
+        leastSignificantBits = new long[size];
+        firstNames = new String[size];
+        lastNames = new String[size];
+        birthDays = new int[size];
+        medicalRecordNumbers = new String[size];
+        statuses = new String[size];
+        tokens = new String[tokenCount];
+        tokenStart = new int[tokenCount + 1];
+        postings = new int[postingCount];
+        patientStart = new int[size + 1];
+        patientTokens = new int[postingCount];
+        byId = new int[size];
+        superseded = new AtomicLongArray((size + 63) / 64);
+    }
+
+    static NameSnapshot build(List<PatientSuggestion> patients) {
+        List<PatientSuggestion> inIdOrder = new ArrayList<>(patients);
+        inIdOrder.sort(Comparator.comparing(PatientSuggestion::getId));
+        List<Ranked> inNameOrder = new ArrayList<>(inIdOrder.size());
+        for (int i = 0; i < inIdOrder.size(); i++) {
+            inNameOrder.add(new Ranked(inIdOrder.get(i), i));
+        }
+        inNameOrder.sort(Comparator.comparing(Ranked::patient, NAME_ORDER));
+
+        // Ordinals having each token; each value holds its count followed by the ordinals, and doubles when full
+        Map<String, int[]> tokenPatients = new HashMap<>();
+        int postingCount = 0;
+        for (int ordinal = 0; ordinal < inNameOrder.size(); ordinal++) {
+            PatientSuggestion patient = inNameOrder.get(ordinal).patient();
+            for (String token : tokens(patient.getFirstName(), patient.getLastName())) {
+                int[] ordinals = tokenPatients.get(token);
+                if (ordinals == null) {
+                    ordinals = new int[3];
+                    tokenPatients.put(token, ordinals);
+                } else if (ordinals[0] + 1 == ordinals.length) {
+                    ordinals = Arrays.copyOf(ordinals, ordinals.length * 2);
+                    tokenPatients.put(token, ordinals);
+                }
+                ordinals[++ordinals[0]] = ordinal;
+                postingCount++;
+            }
+        }
+
+        NameSnapshot snapshot = new NameSnapshot(inNameOrder.size(), tokenPatients.size(), postingCount);
+        Map<String, String> names = new HashMap<>();
+        for (int ordinal = 0; ordinal < inNameOrder.size(); ordinal++) {
+            Ranked ranked = inNameOrder.get(ordinal);
+            PatientSuggestion patient = ranked.patient();
+            snapshot.mostSignificantBits[ordinal] = patient.getId().getMostSignificantBits();
+            snapshot.leastSignificantBits[ordinal] = patient.getId().getLeastSignificantBits();
+            // Most patients share their names and status with many others; keep one copy of each
+            snapshot.firstNames[ordinal] = dedupe(names, patient.getFirstName());
+            snapshot.lastNames[ordinal] = dedupe(names, patient.getLastName());
+            snapshot.birthDays[ordinal] = patient.getDateOfBirth() == null
+                    ? NO_DATE : (int) patient.getDateOfBirth().toEpochDay();
+            snapshot.medicalRecordNumbers[ordinal] = patient.getMedicalRecordNumber();
+            snapshot.statuses[ordinal] = dedupe(names, patient.getStatus());
+            snapshot.byId[ranked.idRank()] = ordinal;
+        }
+
+        String[] sortedTokens = tokenPatients.keySet().toArray(String[]::new);
+        Arrays.sort(sortedTokens);
+        int[] tokenCounts = new int[inNameOrder.size()];
+        int next = 0;
+        for (int t = 0; t < sortedTokens.length; t++) {
+            int[] ordinals = tokenPatients.get(sortedTokens[t]);
+            snapshot.tokens[t] = sortedTokens[t];
+            snapshot.tokenStart[t] = next;
+            System.arraycopy(ordinals, 1, snapshot.postings, next, ordinals[0]);
+            next += ordinals[0];
+            for (int i = 1; i <= ordinals[0]; i++) {
+                tokenCounts[ordinals[i]]++;
+            }
+        }
+        snapshot.tokenStart[sortedTokens.length] = next;
+
+        for (int ordinal = 0; ordinal < tokenCounts.length; ordinal++) {
+            snapshot.patientStart[ordinal + 1] = snapshot.patientStart[ordinal] + tokenCounts[ordinal];
+        }
+        int[] filled = Arrays.copyOf(snapshot.patientStart, tokenCounts.length);
+        for (int t = 0; t < sortedTokens.length; t++) {
+            for (int p = snapshot.tokenStart[t]; p < snapshot.tokenStart[t + 1]; p++) {
+                snapshot.patientTokens[filled[snapshot.postings[p]]++] = t;
+            }
+        }
+        return snapshot;
+    }
+
+    int size() {
+        return byId.length;
+    }
+
+    /**
+     * Up to {@code limit} patients, in name order, that have a name token starting with each of {@code prefixes};
+     * superseded patients are skipped.
+     */
+    List<PatientSuggestion> find(String[] prefixes, int limit) {
+        int[] from = new int[prefixes.length];
+        int[] to = new int[prefixes.length];
+        int driver = 0;
+        for (int i = 0; i < prefixes.length; i++) {
+            from[i] = lowerBound(prefixes[i]);
+            to[i] = lowerBound(prefixes[i] + Character.MAX_VALUE);
+            if (from[i] == to[i]) {
+                return List.of();
+            }
+            if (tokenStart[to[i]] - tokenStart[from[i]] < tokenStart[to[driver]] - tokenStart[from[driver]]) {
+                driver = i;
+            }
+        }
+
+        List<PatientSuggestion> found = new ArrayList<>(Math.min(limit, 16));
+        PostingMerge candidates = new PostingMerge(from[driver], to[driver]);
+        int previous = -1;
+        for (int ordinal = candidates.next(); ordinal >= 0 && found.size() < limit; ordinal = candidates.next()) {
+            if (ordinal == previous) {
+                continue;
+            }
+            previous = ordinal;
+            if (!isSuperseded(ordinal) && hasAllTokens(ordinal, from, to, driver)) {
+                found.add(suggestion(ordinal));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Skip {@code id} in future results, if this snapshot has it.
+     */
+    void supersede(UUID id) {
+        int low = 0;
+        int high = byId.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int ordinal = byId[mid];
+            int cmp = Long.compare(mostSignificantBits[ordinal], id.getMostSignificantBits());
+            if (cmp == 0) {
+                cmp = Long.compare(leastSignificantBits[ordinal], id.getLeastSignificantBits());
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                superseded.getAndAccumulate(ordinal >> 6, 1L << ordinal, (bits, bit) -> bits | bit);
+                return;
+            }
+        }
+    }
+
+    /**
+     * The distinct tokens of patient names: their words, plus, for a name of several words, the words joined, so that
+     * {@code o'brien} and {@code obrien} both find O'Brien.
+     */
+    static String[] tokens(String... names) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String name : names) {
+            List<String> words = words(name);
+            tokens.addAll(words);
+            if (words.size() > 1) {
+                tokens.add(String.join("", words));
+            }
+        }
+        return tokens.toArray(String[]::new);
+    }
+
+    /**
+     * The distinct words of a query, each of which must begin a name token of a suggested patient.
+     */
+    static String[] prefixes(String query) {
+        return new LinkedHashSet<>(words(query)).toArray(String[]::new);
+    }
+
+    /**
+     * Lower-case runs of letters and digits in {@code text}, with accents removed.
+     */
+    private static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>(2);
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= decomposed.length(); i++) {
+            char c = i < decomposed.length() ? Character.toLowerCase(decomposed.charAt(i)) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (Character.getType(c) != Character.NON_SPACING_MARK && !word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Whether one of {@code tokens} starts with each of {@code prefixes}.
+     */
+    static boolean matches(String[] tokens, String[] prefixes) {
+        for (String prefix : prefixes) {
+            boolean found = false;
+            for (String token : tokens) {
+                if (token.startsWith(prefix)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSuperseded(int ordinal) {
+        return (superseded.get(ordinal >> 6) & (1L << ordinal)) != 0;
+    }
+
+    private boolean hasAllTokens(int ordinal, int[] from, int[] to, int driver) {
+        for (int i = 0; i < from.length; i++) {
+            if (i == driver) {
+                continue;
+            }
+            boolean found = false;
+            for (int p = patientStart[ordinal]; p < patientStart[ordinal + 1]; p++) {
+                if (patientTokens[p] >= from[i] && patientTokens[p] < to[i]) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private PatientSuggestion suggestion(int ordinal) {
+        return new PatientSuggestion(new UUID(mostSignificantBits[ordinal], leastSignificantBits[ordinal]),
+                firstNames[ordinal], lastNames[ordinal],
+                birthDays[ordinal] == NO_DATE ? null : LocalDate.ofEpochDay(birthDays[ordinal]),
+                medicalRecordNumbers[ordinal], statuses[ordinal]);
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = tokens.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokens[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String dedupe(Map<String, String> values, String value) {
+        return value == null ? null : values.computeIfAbsent(value, v -> v);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private record Ranked(PatientSuggestion patient, int idRank) {
+    }
+
+    /**
+     * Merges the posting lists of tokens {@code from} to {@code to - 1} into one ascending sequence of ordinals, which
+     * repeats an ordinal having several of the tokens.
+     */
+    private final class PostingMerge {
+
+        // Binary min-heap of the lists' positions in postings, ordered by the ordinal at that position
+        private final int[] heads;
+        private final int[] ends;
+        private int size;
+
+        PostingMerge(int from, int to) {
+            heads = new int[to - from];
+            ends = new int[to - from];
+            for (int t = from; t < to; t++) {
+                // Every token in the index has at least one patient, so no list starts empty
+                heads[size] = tokenStart[t];
+                ends[size] = tokenStart[t + 1];
+                size++;
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        /**
+         * The next ordinal, or -1 when every list is exhausted.
+         */
+        int next() {
+            if (size == 0) {
+                return -1;
+            }
+            int ordinal = postings[heads[0]];
+            if (++heads[0] == ends[0]) {
+                size--;
+                heads[0] = heads[size];
+                ends[0] = ends[size];
+            }
+            siftDown(0);
+            return ordinal;
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && postings[heads[left]] < postings[heads[smallest]]) {
+                    smallest = left;
+                }
+                if (right < size && postings[heads[right]] < postings[heads[smallest]]) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                int head = heads[i];
+                int end = ends[i];
+                heads[i] = heads[smallest];
+                ends[i] = ends[smallest];
+                heads[smallest] = head;
+                ends[smallest] = end;
+                i = smallest;
+            }
+        }
+    }
+}
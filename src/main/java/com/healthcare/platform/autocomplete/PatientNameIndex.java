@@ -0,0 +1,257 @@
+package com.healthcare.platform.autocomplete;
+
+import com.healthcare.platform.archive.PatientsArchivedEvent;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientSuggestion;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.service.PatientChangedEvent;
+import com.healthcare.platform.service.PatientsChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory name index behind {@code GET /api/v1/patients/autocomplete}.
+ * <p>
+ * Suggestions come from an immutable {@link NameSnapshot} of every patient plus the {@link PendingChanges} since it was
+ * built, which committed {@link PatientChangedEvent}s and {@link PatientsArchivedEvent}s record. The snapshot is built
+ * in the background once the application is ready and rebuilt every
+ * {@code app.patients.autocomplete.rebuild-interval}, which also picks up patients written around
+ * {@code PatientService} and empties the changes. Until the first build completes, or when the index is disabled,
+ * suggestions come from a name search in the database.
+ */
+@Component
+@Slf4j
+public class PatientNameIndex {
+
+    private final PatientRepository patientRepository;
+    private final boolean enabled;
+    private final int pageSize;
+    private final Timer indexLookups;
+    private final Timer databaseLookups;
+
+    private volatile State state = new State(NameSnapshot.EMPTY, new PendingChanges());
+    private volatile boolean ready;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Changes made while a rebuild reads the table; guarded by this
+    private PendingChanges building;
+    private Thread loader;
+
+    @Autowired
+    public PatientNameIndex(PatientRepository patientRepository,
+                            @Value("${app.patients.autocomplete.enabled:true}") boolean enabled,
+                            @Value("${app.patients.autocomplete.page-size:10000}") int pageSize,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(patientRepository, enabled, pageSize, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public PatientNameIndex(PatientRepository patientRepository, boolean enabled, int pageSize,
+                            MeterRegistry meterRegistry) {
+        this.patientRepository = patientRepository;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.indexLookups = meterRegistry.timer("patients.autocomplete.lookups", "source", "index");
+        this.databaseLookups = meterRegistry.timer("patients.autocomplete.lookups", "source", "database");
+        Gauge.builder("patients.autocomplete.entries", this, index -> index.state.snapshot().size())
+                .register(meterRegistry);
+        Gauge.builder("patients.autocomplete.pending.changes", this, index -> index.state.changed().size())
+                .description("Patients changed since the name index was last built")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Up to {@code limit} patients, in last and first name order, that have a name word starting with every word of
+     * {@code query}; {@code "jo sm"} finds John Smith and Joanna Smithers.
+     */
+    public List<PatientSuggestion> suggest(String query, int limit) {
+        String[] prefixes = NameSnapshot.prefixes(query);
+        if (prefixes.length == 0) {
+            return List.of();
+        }
+        if (!ready) {
+            return databaseLookups.record(() -> searchDatabase(prefixes, limit));
+        }
+        return indexLookups.record(() -> {
+            State current = state;
+            List<PatientSuggestion> found = current.snapshot().find(prefixes, limit);
+            List<PatientSuggestion> changed = current.changed().find(prefixes, limit);
+            if (changed.isEmpty()) {
+                return found;
+            }
+            changed.addAll(found);
+            changed.sort(NameSnapshot.NAME_ORDER);
+            return changed.subList(0, Math.min(limit, changed.size()));
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPatientChanged(PatientChangedEvent event) {
+        if (enabled) {
+            record(event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPatientsChanged(PatientsChangedEvent event) {
+        if (enabled) {
+            event.changes().forEach(this::record);
+        }
+    }
+
+    /**
+     * Stop suggesting patients moved to the archive.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPatientsArchived(PatientsArchivedEvent event) {
+        if (enabled) {
+            event.patients().forEach(patient -> remove(patient.getId()));
+        }
+    }
+
+    /**
+     * Stop suggesting the patient with {@code id}, until a rebuild finds it in the table again.
+     */
+    public synchronized void remove(UUID id) {
+        State current = state;
+        current.changed().remove(id);
+        current.snapshot().supersede(id);
+        if (building != null) {
+            building.remove(id);
+        }
+    }
+
+    private void record(PatientChangedEvent event) {
+        PatientSuggestion patient = suggestion(event.after());
+        State current = state;
+        current.changed().put(patient);
+        current.snapshot().supersede(patient.getId());
+        if (building != null) {
+            building.put(patient);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || loader != null) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "patient-name-index-loader");
+        thread.setDaemon(true);
+        loader = thread;
+        thread.start();
+    }
+
+    /**
+     * Replace the snapshot with one read from the database. Skipped while another rebuild is running.
+     */
+    @Scheduled(fixedDelayString = "${app.patients.autocomplete.rebuild-interval:PT15M}",
+            initialDelayString = "${app.patients.autocomplete.rebuild-interval:PT15M}")
+    public void rebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long started = System.nanoTime();
+        PendingChanges changes = new PendingChanges();
+        synchronized (this) {
+            building = changes;
+        }
+        try {
+            NameSnapshot snapshot = NameSnapshot.build(readPatients());
+            synchronized (this) {
+                // The table may have been read before or after each of these changes
+                changes.ids().forEach(snapshot::supersede);
+                state = new State(snapshot, changes);
+                building = null;
+            }
+            ready = true;
+            log.info("Patient name index built from {} patients in {} ms", snapshot.size(),
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                building = null;
+            }
+            log.error("Could not build the patient name index; suggestions are {}", ready
+                    ? "missing patients written around the API since the last build" : "served from the database", ex);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return state.snapshot().size();
+    }
+
+    private List<PatientSuggestion> readPatients() {
+        List<PatientSuggestion> patients = new ArrayList<>();
+        UUID after = new UUID(0, 0);
+        while (true) {
+            List<Object[]> rows = patientRepository.findSuggestionFields(after, Limit.of(pageSize));
+            for (Object[] row : rows) {
+                patients.add(new PatientSuggestion((UUID) row[0], (String) row[1], (String) row[2],
+                        (LocalDate) row[3], (String) row[4], row[5] == null ? null : ((Enum<?>) row[5]).name()));
+            }
+            if (rows.size() < pageSize) {
+                return patients;
+            }
+            after = (UUID) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    /**
+     * Database fallback: patients whose name contains the longest word of the query, keeping those that match every
+     * word. It may return fewer than {@code limit} patients when the other words rule many out.
+     */
+    private List<PatientSuggestion> searchDatabase(String[] prefixes, int limit) {
+        String longest = prefixes[0];
+        for (String prefix : prefixes) {
+            if (prefix.length() > longest.length()) {
+                longest = prefix;
+            }
+        }
+        return patientRepository.searchByName(longest,
+                        PageRequest.of(0, limit, Sort.by("lastName", "firstName", "id")))
+                .map(PatientNameIndex::suggestion)
+                .filter(patient -> NameSnapshot.matches(
+                        NameSnapshot.tokens(patient.getFirstName(), patient.getLastName()), prefixes))
+                .toList();
+    }
+
+    private static PatientSuggestion suggestion(Patient patient) {
+        return new PatientSuggestion(patient.getId(), patient.getFirstName(), patient.getLastName(),
+                patient.getDateOfBirth(), patient.getMedicalRecordNumber(),
+                patient.getStatus() == null ? null : patient.getStatus().name());
+    }
+
+    private static PatientSuggestion suggestion(PatientResponse patient) {
+        return new PatientSuggestion(patient.getId(), patient.getFirstName(), patient.getLastName(),
+                patient.getDateOfBirth(), patient.getMedicalRecordNumber(), patient.getStatus());
+    }
+
+    private record State(NameSnapshot snapshot, PendingChanges changed) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.healthcare.platform.autocomplete;
+
+import com.healthcare.platform.dto.PatientSuggestion;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Patients changed since the {@link NameSnapshot} was built, indexed by name token with the patients of each token in
+ * name order, so that a suggestion reads at most {@code limit} matching patients per token starting with one of the
+ * query words rather than every change. That keeps suggestions fast when a bulk write leaves thousands of changes
+ * until the next rebuild.
+ * <p>
+ * Written by one thread at a time and read without locking; a reader may briefly miss a change being recorded.
+ */
+final class PendingChanges {
+
+    private final Map<UUID, Change> byId = new ConcurrentHashMap<>();
+    private final Set<UUID> removed = ConcurrentHashMap.newKeySet();
+    private final ConcurrentNavigableMap<String, NavigableSet<PatientSuggestion>> byToken =
+            new ConcurrentSkipListMap<>();
+
+    /**
+     * Record the latest state of a changed patient, replacing an earlier change of the same patient.
+     */
+    void put(PatientSuggestion patient) {
+        UUID id = patient.getId();
+        Change change = new Change(patient, NameSnapshot.tokens(patient.getFirstName(), patient.getLastName()));
+        unindex(byId.put(id, change));
+        removed.remove(id);
+        for (String token : change.tokens()) {
+            byToken.computeIfAbsent(token, key -> new ConcurrentSkipListSet<>(NameSnapshot.NAME_ORDER)).add(patient);
+        }
+    }
+
+    /**
+     * Record that a patient is gone, dropping an earlier change of it.
+     */
+    void remove(UUID id) {
+        removed.add(id);
+        unindex(byId.remove(id));
+    }
+
+    /**
+     * Changed patients having a name token starting with every one of {@code prefixes}, in no particular order. The
+     * first {@code limit} of them in name order are among those returned.
+     */
+    List<PatientSuggestion> find(String[] prefixes, int limit) {
+        // The longest word usually has the fewest tokens starting with it
+        String driver = prefixes[0];
+        for (String prefix : prefixes) {
+            if (prefix.length() > driver.length()) {
+                driver = prefix;
+            }
+        }
+        List<PatientSuggestion> found = List.of();
+        Set<UUID> seen = null;
+        String to = driver + Character.MAX_VALUE;
+        for (NavigableSet<PatientSuggestion> patients : byToken.subMap(driver, to).values()) {
+            int taken = 0;
+            for (Iterator<PatientSuggestion> it = patients.iterator(); it.hasNext() && taken < limit; ) {
+                PatientSuggestion patient = it.next();
+                Change change = byId.get(patient.getId());
+                // Skip copies replaced by a later change while this lookup runs
+                if (change == null || change.patient() != patient
+                        || !NameSnapshot.matches(change.tokens(), prefixes)) {
+                    continue;
+                }
+                taken++;
+                if (seen == null) {
+                    seen = new HashSet<>();
+                    found = new ArrayList<>();
+                }
+                // A patient can have several tokens starting with the word
+                if (seen.add(patient.getId())) {
+                    found.add(patient);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Patients changed or removed.
+     */
+    Set<UUID> ids() {
+        Set<UUID> ids = new HashSet<>(byId.keySet());
+        ids.addAll(removed);
+        return ids;
+    }
+
+    int size() {
+        return byId.size() + removed.size();
+    }
+
+    private void unindex(Change previous) {
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens()) {
+            byToken.computeIfPresent(token, (key, patients) -> {
+                patients.remove(previous.patient());
+                return patients.isEmpty() ? null : patients;
+            });
+        }
+    }
+
+    /**
+     * A patient changed since the snapshot was built, with its name tokens.
+     */
+    private record Change(PatientSuggestion patient, String[] tokens) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.healthcare.platform.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sizing of the Hibernate second-level cache regions ({@code app.cache.regions.<region>}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class HibernateCacheProperties {
+
+    /**
+     * Per-region limits, keyed by Hibernate region name.
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+
+        /**
+         * Maximum number of entries; unbounded when not set.
+         */
+        private Long maxSize;
+
+        /**
+         * Time after which an entry expires, measured from when it was written; never when not set.
+         */
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,71 @@
+package com.healthcare.platform.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Marks beans that come from the given packages as lazy, so they are created on first use instead of during startup.
+ * Unlike {@code spring.main.lazy-initialization}, which defers every bean (and with it the first request's latency
+ * and any wiring errors), this only targets infrastructure that is not on the request path, such as springdoc.
+ * <p>
+ * A bean belongs to a package when its class does or, for {@code @Bean} methods, when the declaring configuration
+ * class does. Beans with an explicit {@code @Lazy} setting and {@link SmartInitializingSingleton}s, whose callback
+ * only runs for eagerly created singletons, are left alone.
+ */
+public class LazyPackagesBeanFactoryPostProcessor implements BeanFactoryPostProcessor, Ordered {
+
+    private final List<String> packagePrefixes;
+
+    public LazyPackagesBeanFactoryPostProcessor(List<String> packages) {
+        this.packagePrefixes = packages.stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> name.endsWith(".") ? name : name + ".")
+                .toList();
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (packagePrefixes.isEmpty()) {
+            return;
+        }
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition instanceof AbstractBeanDefinition abstractDefinition
+                    && abstractDefinition.getLazyInit() == null
+                    && definition.isSingleton()
+                    && isInLazyPackage(sourceClassName(beanFactory, definition))
+                    && !isSmartInitializingSingleton(beanFactory, beanName)) {
+                abstractDefinition.setLazyInit(true);
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private boolean isInLazyPackage(String className) {
+        return className != null && packagePrefixes.stream().anyMatch(className::startsWith);
+    }
+
+    private static String sourceClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName != null && beanFactory.containsBeanDefinition(factoryBeanName)) {
+            return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+        }
+        return definition.getBeanClassName();
+    }
+
+    private static boolean isSmartInitializingSingleton(ConfigurableListableBeanFactory beanFactory, String beanName) {
+        Class<?> type = beanFactory.getType(beanName, false);
+        return type == null || SmartInitializingSingleton.class.isAssignableFrom(type);
+    }
+}
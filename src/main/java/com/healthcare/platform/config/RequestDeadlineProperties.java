@@ -0,0 +1,49 @@
+package com.healthcare.platform.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * End-to-end request deadlines ({@code app.deadline}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.deadline")
+public class RequestDeadlineProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Deadline for requests that match no route and send no {@code X-Request-Timeout-Ms} header.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Upper bound for deadlines requested by clients.
+     */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Per-route defaults; the first matching route wins.
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+
+        /**
+         * HTTP method to match; any method when not set.
+         */
+        private String method;
+
+        /**
+         * Ant-style servlet path pattern, e.g. {@code /api/v1/patients/**}.
+         */
+        private String pattern;
+
+        private Duration timeout;
+    }
+}
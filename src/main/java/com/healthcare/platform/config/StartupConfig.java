@@ -0,0 +1,25 @@
+package com.healthcare.platform.config;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Startup tuning. Beans from the packages in {@code app.startup.lazy-packages} (springdoc by default) are created
+ * on first use; in an AOT build the list is fixed when the application is built.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyPackagesBeanFactoryPostProcessor lazyPackagesBeanFactoryPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("app.startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return new LazyPackagesBeanFactoryPostProcessor(packages);
+    }
+}
@@ -0,0 +1,103 @@
+package com.healthcare.platform.controller;
+
+import com.healthcare.platform.dto.PatientVersion;
+import com.healthcare.platform.exception.PreconditionFailedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Helpers for entity-tag based conditional requests.
+ * Patient ETags are strong validators derived from the optimistic-locking version.
+ */
+final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    private ETags() {
+    }
+
+    /**
+     * Format a version as a strong ETag, e.g. {@code "3"}.
+     */
+    static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Convert a last-modified timestamp to epoch milliseconds, or -1 if unknown.
+     */
+    static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Evaluate If-None-Match / If-Modified-Since against the current version.
+     * If-Modified-Since is only considered when no If-None-Match header is present (RFC 9110, 13.1.3).
+     */
+    static boolean isNotModified(HttpHeaders requestHeaders, PatientVersion current) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            String etag = of(current.version());
+            return etag != null && ifNoneMatch.stream()
+                    .anyMatch(candidate -> ANY.equals(candidate) || stripWeak(candidate).equals(etag));
+        }
+
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        long lastModified = lastModified(current.updatedAt());
+        // HTTP dates have second precision
+        return ifModifiedSince >= 0 && lastModified >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * Whether the request carries any header that could produce a 304.
+     */
+    static boolean isConditional(HttpHeaders requestHeaders) {
+        return !requestHeaders.getIfNoneMatch().isEmpty() || requestHeaders.getIfModifiedSince() >= 0;
+    }
+
+    /**
+     * Parse an If-Match header into the expected version, or {@code null} if the header is absent or {@code *}.
+     * If-Match uses strong comparison, so weak or malformed tags can never match.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must be a single strong ETag, e.g. \"3\"");
+        }
+
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("If-Match does not match any known version: " + tag);
+        }
+    }
+
+    /**
+     * Add ETag and Last-Modified validators to a response builder.
+     */
+    static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, Long version,
+                                                    LocalDateTime updatedAt) {
+        String etag = of(version);
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        long lastModified = lastModified(updatedAt);
+        if (lastModified >= 0) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
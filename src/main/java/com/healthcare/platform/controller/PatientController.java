@@ -1,9 +1,33 @@
 package com.healthcare.platform.controller;
 
+import com.healthcare.platform.audit.AuditAction;
+import com.healthcare.platform.audit.AuditLog;
+import com.healthcare.platform.autocomplete.PatientNameIndex;
+import com.healthcare.platform.duplicate.DuplicateScanner;
 import com.healthcare.platform.dto.ApiResponse;
+import com.healthcare.platform.dto.DuplicateScanResponse;
+import com.healthcare.platform.dto.PageResponse;
+import com.healthcare.platform.dto.PatientBatchRequest;
+import com.healthcare.platform.dto.PatientChangesResponse;
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientLookupResult;
 import com.healthcare.platform.dto.PatientRequest;
 import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientSearchCriteria;
+import com.healthcare.platform.dto.PatientSearchResponse;
+import com.healthcare.platform.dto.PatientStatsResponse;
+import com.healthcare.platform.dto.PatientStatusChangeRequest;
+import com.healthcare.platform.dto.PatientStatusChangeResponse;
+import com.healthcare.platform.dto.PatientSuggestion;
+import com.healthcare.platform.dto.PatientVersion;
+import com.healthcare.platform.exception.InvalidRequestException;
+import com.healthcare.platform.service.IdempotencyService;
+import com.healthcare.platform.service.PatientChangedEvent;
+import com.healthcare.platform.service.PatientEventBroadcaster;
+import com.healthcare.platform.service.PatientPageCache;
 import com.healthcare.platform.service.PatientService;
+import com.healthcare.platform.service.PatientStatistics;
+import com.healthcare.platform.service.StalePatientCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,14 +38,27 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * REST controller for patient management operations.
@@ -36,59 +73,274 @@ import java.util.UUID;
 public class PatientController {
 
     private final PatientService patientService;
+    private final IdempotencyService idempotencyService;
+    private final StalePatientCache stalePatientCache;
+    private final PatientPageCache patientPageCache;
+    private final PatientStatistics patientStatistics;
+    private final PatientEventBroadcaster patientEventBroadcaster;
+    private final AuditLog auditLog;
+    private final DuplicateScanner duplicateScanner;
+    private final PatientNameIndex patientNameIndex;
+
+    @Value("${app.patients.autocomplete.max-limit:25}")
+    private int autocompleteMaxLimit;
 
     @PostMapping
-    @Operation(summary = "Create a new patient", description = "Creates a new patient record in the system")
+    @Operation(summary = "Create a new patient", description = "Creates a new patient record in the system. " +
+            "Retries carrying the same Idempotency-Key replay the original response instead of creating a duplicate.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Patient created successfully"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request data"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Patient with same email already exists"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Patient with same email already exists, a request with the same Idempotency-Key is in progress, or the patient may duplicate the existing patients listed in data"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "Idempotency-Key reused with a different payload"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<ApiResponse<PatientResponse>> createPatient(
+            @Parameter(description = "Client-generated key that makes retries of this request safe")
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Parameter(description = "Create the patient even if it closely matches existing patients")
+            @RequestParam(defaultValue = "false") boolean allowDuplicate,
             @Valid @RequestBody PatientRequest request) {
         log.info("REST request to create patient");
-        PatientResponse patient = patientService.createPatient(request);
-        return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body(ApiResponse.success("Patient created successfully", patient));
+        if (idempotencyKey == null) {
+            return create(request, allowDuplicate);
+        }
+        return idempotencyService.execute(idempotencyKey, "POST /api/v1/patients", request,
+                () -> create(request, allowDuplicate));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get patient by ID", description = "Retrieves a patient by their unique identifier")
+    @Operation(summary = "Get patient by ID", description = "Retrieves a patient by their unique identifier. " +
+            "Use ?fields= to return only selected fields. Supports If-None-Match / If-Modified-Since conditional requests.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Patient found"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Patient not modified"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Unknown field in ?fields="),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Patient not found"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<ApiResponse<PatientResponse>> getPatientById(
             @Parameter(description = "Patient ID", required = true)
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @Parameter(description = "Comma-separated fields to return, e.g. firstName,lastName (id and version are always included)")
+            @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) @RequestHeader HttpHeaders headers) {
         log.info("REST request to get patient: {}", id);
-        PatientResponse patient = patientService.getPatientById(id);
-        return ResponseEntity.ok(ApiResponse.success(patient));
+        PatientFieldSet fieldSet = PatientFieldSet.parse(fields);
+        return conditionalGet(headers, fieldSet.isAll() ? StalePatientCache.idKey(id) : null,
+                () -> patientService.getPatientVersion(id),
+                () -> patientService.getPatientById(id, fieldSet));
     }
 
     @GetMapping
-    @Operation(summary = "Get all patients", description = "Retrieves all patients with pagination support")
+    @Operation(summary = "Get all patients", description = "Retrieves all patients with pagination support. " +
+            "Use ?fields= to return only selected fields. Pages are cached for a few seconds; writes made through " +
+            "this API show up in the next request.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Patients retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Unknown field in ?fields= or sort"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
     })
-    public ResponseEntity<ApiResponse<Page<PatientResponse>>> getAllPatients(
+    public ResponseEntity<ApiResponse<PageResponse<PatientResponse>>> getAllPatients(
             @Parameter(description = "Search term for filtering by name")
             @RequestParam(required = false) String search,
+            @Parameter(description = "Comma-separated fields to return, e.g. firstName,lastName (id and version are always included)")
+            @RequestParam(required = false) String fields,
             @PageableDefault(size = 20, sort = "lastName") Pageable pageable) {
         log.info("REST request to get all patients, search: {}", search);
 
+        PatientFieldSet fieldSet = PatientFieldSet.parse(fields);
         Page<PatientResponse> patients;
         if (search != null && !search.isBlank()) {
-            patients = patientService.searchPatients(search, pageable);
+            String term = search.strip();
+            patients = patientPageCache.read(PatientPageCache.QueryClass.NAME_SEARCH, term, pageable, fieldSet,
+                    () -> patientService.searchPatients(term, pageable, fieldSet));
         } else {
-            patients = patientService.getAllPatients(pageable);
+            patients = patientPageCache.read(PatientPageCache.QueryClass.LIST, null, pageable, fieldSet,
+                    () -> patientService.getAllPatients(pageable, fieldSet));
         }
+        auditLog.record(AuditAction.SEARCH, patients.map(PatientResponse::getId).getContent());
+
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(patients)));
+    }
 
-        return ResponseEntity.ok(ApiResponse.success(patients));
+    @GetMapping("/search")
+    @Operation(summary = "Search patients by field", description = "Structured search: returns patients matching " +
+            "every given filter, at least one of them other than firstName. Names match by prefix ignoring case, and " +
+            "phones by their last ten digits. The most selective indexed filter drives the search (see plan) and " +
+            "decides the order of the results. While hasMore is true, call again with nextCursor and the same filters. " +
+            "Use ?fields= to return only selected fields.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Patients retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "No indexed filter, invalid filter or cursor, or unknown field in ?fields="),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<ApiResponse<PatientSearchResponse>> searchPatients(
+            @Parameter(description = "Beginning of the last name") @RequestParam(required = false) String lastName,
+            @Parameter(description = "Beginning of the first name") @RequestParam(required = false) String firstName,
+            @Parameter(description = "Exact date of birth, e.g. 1985-03-15")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateOfBirth,
+            @Parameter(description = "Earliest date of birth, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateOfBirthFrom,
+            @Parameter(description = "Latest date of birth, inclusive")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateOfBirthTo,
+            @Parameter(description = "Phone number in any format") @RequestParam(required = false) String phone,
+            @Parameter(description = "Email address") @RequestParam(required = false) String email,
+            @Parameter(description = "Medical record number") @RequestParam(required = false) String medicalRecordNumber,
+            @Parameter(description = "ACTIVE, INACTIVE or DECEASED") @RequestParam(required = false) String status,
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of patients to return")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Comma-separated fields to return, e.g. firstName,lastName (id and version are always included)")
+            @RequestParam(required = false) String fields) {
+        log.info("REST request to search patients");
+        PatientSearchCriteria criteria = PatientSearchCriteria.builder()
+                .lastName(lastName)
+                .firstName(firstName)
+                .dateOfBirth(dateOfBirth)
+                .dateOfBirthFrom(dateOfBirthFrom)
+                .dateOfBirthTo(dateOfBirthTo)
+                .phone(phone)
+                .email(email)
+                .medicalRecordNumber(medicalRecordNumber)
+                .status(status)
+                .build();
+        PatientSearchResponse result = patientService.findPatients(criteria, cursor, limit,
+                PatientFieldSet.parse(fields));
+        auditLog.record(AuditAction.SEARCH, result.getPatients().stream().map(PatientResponse::getId).toList());
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get patient statistics", description = "Returns patient totals by status and age band and " +
+            "the number of patients created per day. Served from in-memory counters that are kept up to date on every " +
+            "write and reconciled with the database periodically (see reconciledAt).")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<ApiResponse<PatientStatsResponse>> getPatientStats() {
+        return ResponseEntity.ok(ApiResponse.success(patientStatistics.snapshot()));
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Suggest patients by name", description = "Type-ahead: returns up to limit patients, in last " +
+            "and first name order, having a name word that starts with each word of q, e.g. q=jo sm finds John Smith. " +
+            "Served from an in-memory index that is updated on every write.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<ApiResponse<List<PatientSuggestion>>> suggestPatients(
+            @Parameter(description = "Beginning of the patient's first and/or last name", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions")
+            @RequestParam(defaultValue = "10") int limit) {
+        List<PatientSuggestion> suggestions = patientNameIndex.suggest(q,
+                Math.max(1, Math.min(limit, autocompleteMaxLimit)));
+        auditLog.record(AuditAction.SUGGEST, suggestions.stream().map(PatientSuggestion::getId).toList());
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get patient changes", description = "Incremental sync: returns patients created, updated or " +
+            "soft-deleted after the cursor, oldest change first. Start without a cursor for a full sync, then keep " +
+            "calling with nextCursor; while hasMore is true, call again immediately. Use ?fields= to return only " +
+            "selected fields (status and updatedAt are always included).")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor or unknown field in ?fields="),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<ApiResponse<PatientChangesResponse>> getPatientChanges(
+            @Parameter(description = "nextCursor from the previous call; omit for a full sync")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of patients to return")
+            @RequestParam(defaultValue = "500") int limit,
+            @Parameter(description = "Comma-separated fields to return, e.g. firstName,lastName")
+            @RequestParam(required = false) String fields) {
+        log.info("REST request to get patient changes");
+        PatientChangesResponse changes = patientService.getChanges(cursor, limit, PatientFieldSet.parse(fields));
+        auditLog.record(AuditAction.SYNC, changes.getPatients().stream().map(PatientResponse::getId).toList());
+        return ResponseEntity.ok(ApiResponse.success(changes));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream patient changes", description = "Server-sent events for every committed create, " +
+            "update and soft delete. A new stream starts with a 'ready' event; each change is a 'patient' event. " +
+            "Reconnect with Last-Event-ID to receive missed changes. A 'reset' event means they are no longer " +
+            "available and the client should reload. Clients that fall too far behind are disconnected. " +
+            "Only ADMIN, DOCTOR and NURSE receive patient details; other roles receive id, version, status and updatedAt.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Unknown type or invalid Last-Event-ID"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public SseEmitter streamPatientEvents(
+            @Parameter(description = "Id of the last event received, sent automatically by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @Parameter(description = "Comma-separated change types to receive: CREATED, UPDATED, DELETED (default all)")
+            @RequestParam(required = false) String types,
+            Authentication authentication) {
+        Long lastId = parseLastEventId(lastEventId);
+        Set<PatientChangedEvent.Type> changeTypes = parseChangeTypes(types);
+        auditLog.record(AuditAction.STREAM, (UUID) null);
+        return patientEventBroadcaster.subscribe(lastId, authentication.getAuthorities(), changeTypes);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Look up patients in bulk", description = "Resolves up to " + PatientBatchRequest.MAX_ITEMS +
+            " patient IDs or MRNs in one request. Results follow the request order, with found=false for unknown keys.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lookup completed"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<ApiResponse<List<PatientLookupResult>>> getPatientsBatch(
+            @Valid @RequestBody PatientBatchRequest request) {
+        log.info("REST request to batch get patients");
+        List<PatientLookupResult> results = patientService.getPatientsBatch(request);
+        auditLog.record(AuditAction.BATCH_READ, results.stream()
+                .filter(PatientLookupResult::isFound)
+                .map(result -> result.getPatient().getId())
+                .toList());
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+
+    @PostMapping("/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Change the status of many patients", description = "Moves the patients with the given IDs, " +
+            "or all patients matching the filter, to one status, e.g. INACTIVE to deactivate a closed clinic's " +
+            "patients. Runs as chunked set-based updates, each chunk committed on its own; patients already in the " +
+            "status are skipped, so a failed request can simply be repeated. ADMIN only.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Status changed"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Not an administrator")
+    })
+    public ResponseEntity<ApiResponse<PatientStatusChangeResponse>> changePatientStatus(
+            @Valid @RequestBody PatientStatusChangeRequest request) {
+        log.info("REST request to change patient status to {}", request.getStatus());
+        PatientStatusChangeResponse result = patientService.changeStatus(request);
+        return ResponseEntity.ok(ApiResponse.success(result.getUpdated() + " patients updated", result));
+    }
+
+    @PostMapping("/duplicates/scan")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Scan for duplicate patients", description = "Compares every patient with the patients " +
+            "sharing a phonetic name code and date of birth (or birth year) and returns the pairs that probably " +
+            "describe the same person, best match first. Reads the whole table; ADMIN only.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Scan completed"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Not an administrator")
+    })
+    public ResponseEntity<ApiResponse<DuplicateScanResponse>> scanDuplicates() {
+        log.info("REST request to scan for duplicate patients");
+        DuplicateScanResponse result = duplicateScanner.scan();
+        return ResponseEntity.ok(ApiResponse.success(result.getMatches() + " possible duplicates found", result));
     }
 
     @PutMapping("/{id}")
@@ -97,15 +349,20 @@ public class PatientController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Patient updated successfully"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request data"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Patient not found"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Patient was modified concurrently"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "If-Match does not match the current version"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<ApiResponse<PatientResponse>> updatePatient(
             @Parameter(description = "Patient ID", required = true)
             @PathVariable UUID id,
+            @Parameter(description = "ETag of the version being updated, for lost-update protection")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody PatientRequest request) {
         log.info("REST request to update patient: {}", id);
-        PatientResponse patient = patientService.updatePatient(id, request);
-        return ResponseEntity.ok(ApiResponse.success("Patient updated successfully", patient));
+        PatientResponse patient = patientService.updatePatient(id, request, ETags.expectedVersion(ifMatch));
+        return ETags.withValidators(ResponseEntity.ok(), patient.getVersion(), patient.getUpdatedAt())
+                .body(ApiResponse.success("Patient updated successfully", patient));
     }
 
     @DeleteMapping("/{id}")
@@ -124,17 +381,106 @@ public class PatientController {
     }
 
     @GetMapping("/mrn/{mrn}")
-    @Operation(summary = "Get patient by MRN", description = "Retrieves a patient by their Medical Record Number")
+    @Operation(summary = "Get patient by MRN", description = "Retrieves a patient by their Medical Record Number. " +
+            "Use ?fields= to return only selected fields. Supports If-None-Match / If-Modified-Since conditional requests.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Patient found"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Patient not modified"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Unknown field in ?fields="),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Patient not found"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<ApiResponse<PatientResponse>> getPatientByMrn(
             @Parameter(description = "Medical Record Number", required = true)
-            @PathVariable String mrn) {
+            @PathVariable String mrn,
+            @Parameter(description = "Comma-separated fields to return, e.g. firstName,lastName (id and version are always included)")
+            @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) @RequestHeader HttpHeaders headers) {
         log.info("REST request to get patient by MRN: {}", mrn);
-        PatientResponse patient = patientService.getPatientByMrn(mrn);
-        return ResponseEntity.ok(ApiResponse.success(patient));
+        PatientFieldSet fieldSet = PatientFieldSet.parse(fields);
+        return conditionalGet(headers, fieldSet.isAll() ? StalePatientCache.mrnKey(mrn) : null,
+                () -> patientService.getPatientVersionByMrn(mrn),
+                () -> patientService.getPatientByMrn(mrn, fieldSet));
+    }
+
+    private ResponseEntity<ApiResponse<PatientResponse>> create(PatientRequest request, boolean allowDuplicate) {
+        PatientResponse patient = patientService.createPatient(request, allowDuplicate);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Patient created successfully", patient));
+    }
+
+    /**
+     * Serve a single-patient read, answering 304 from a version-only lookup when the client's copy is current.
+     * The full record is only loaded when the validators do not match. Full-representation reads (no ?fields=)
+     * are remembered under {@code staleKey} and served stale, with Warning and Age headers, if the database
+     * is unavailable. Only reads that return the record are audited.
+     */
+    private ResponseEntity<ApiResponse<PatientResponse>> conditionalGet(HttpHeaders headers, String staleKey,
+                                                                       Supplier<Optional<PatientVersion>> versionLookup,
+                                                                       Supplier<PatientResponse> loader) {
+        if (ETags.isConditional(headers)) {
+            Optional<PatientVersion> current = lookupVersion(versionLookup, staleKey != null);
+            if (current.isPresent() && ETags.isNotModified(headers, current.get())) {
+                return ETags.withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED),
+                                current.get().version(), current.get().updatedAt())
+                        .build();
+            }
+        }
+
+        StalePatientCache.Read read = staleKey != null
+                ? stalePatientCache.read(staleKey, loader)
+                : new StalePatientCache.Read(loader.get(), null);
+        PatientResponse patient = read.patient();
+        auditLog.record(AuditAction.READ, patient.getId());
+        ResponseEntity.BodyBuilder response = ETags.withValidators(ResponseEntity.ok(), patient.getVersion(),
+                patient.getUpdatedAt());
+        if (read.isStale()) {
+            response.header(HttpHeaders.WARNING, StalePatientCache.STALE_WARNING)
+                    .header(HttpHeaders.AGE, String.valueOf(read.age().toSeconds()));
+        }
+        return response.body(ApiResponse.success(patient));
+    }
+
+    /**
+     * Run the version lookup for a conditional request. If the database is unavailable and a stale copy may be
+     * served, the request is treated as unconditional so the stale fallback can answer it.
+     */
+    private static Optional<PatientVersion> lookupVersion(Supplier<Optional<PatientVersion>> versionLookup,
+                                                          boolean staleAllowed) {
+        try {
+            return versionLookup.get();
+        } catch (RuntimeException ex) {
+            if (staleAllowed && StalePatientCache.isDatabaseUnavailable(ex)) {
+                return Optional.empty();
+            }
+            throw ex;
+        }
+    }
+
+    private static Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException ex) {
+            throw new InvalidRequestException("Invalid Last-Event-ID: " + lastEventId);
+        }
+    }
+
+    private static Set<PatientChangedEvent.Type> parseChangeTypes(String types) {
+        if (types == null || types.isBlank()) {
+            return EnumSet.allOf(PatientChangedEvent.Type.class);
+        }
+        Set<PatientChangedEvent.Type> parsed = EnumSet.noneOf(PatientChangedEvent.Type.class);
+        for (String type : types.split(",")) {
+            try {
+                parsed.add(PatientChangedEvent.Type.valueOf(type.trim().toUpperCase()));
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidRequestException("Unknown change type: " + type.trim());
+            }
+        }
+        return parsed;
     }
 }
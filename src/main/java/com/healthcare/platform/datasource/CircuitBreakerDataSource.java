@@ -0,0 +1,138 @@
+package com.healthcare.platform.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * DataSource wrapper that stops asking the pool for connections once the database looks unavailable.
+ * After {@code failureThreshold} consecutive failures to obtain a connection the circuit opens and
+ * {@link #getConnection()} fails immediately, instead of every request waiting out the pool's connection timeout.
+ * After {@code openDuration} a single trial request is let through; its outcome closes or re-opens the circuit.
+ * A {@link SQLTimeoutException}, which the {@link DeadlineAwareDataSource} inside it throws when a request's own
+ * deadline has passed, says nothing about the database and is not counted.
+ */
+@Slf4j
+public class CircuitBreakerDataSource extends DelegatingDataSource {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInProgress = new AtomicBoolean();
+    private volatile long openedAt;
+    private volatile State state = State.CLOSED;
+
+    public CircuitBreakerDataSource(DataSource target, int failureThreshold, Duration openDuration) {
+        this(target, failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreakerDataSource(DataSource target, int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        super(target);
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        boolean trial = acquirePermission();
+        try {
+            Connection connection = super.getConnection();
+            onSuccess(trial);
+            return connection;
+        } catch (SQLTimeoutException ex) {
+            onDeadlineExceeded(trial);
+            throw ex;
+        } catch (SQLException | RuntimeException ex) {
+            onFailure(trial, ex);
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        boolean trial = acquirePermission();
+        try {
+            Connection connection = super.getConnection(username, password);
+            onSuccess(trial);
+            return connection;
+        } catch (SQLTimeoutException ex) {
+            onDeadlineExceeded(trial);
+            throw ex;
+        } catch (SQLException | RuntimeException ex) {
+            onFailure(trial, ex);
+            throw ex;
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Whether a connection may be requested; returns {@code true} if this call is the half-open trial.
+     */
+    private boolean acquirePermission() throws SQLException {
+        State current = state;
+        if (current == State.CLOSED) {
+            return false;
+        }
+        if (current == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN && trialInProgress.compareAndSet(false, true)) {
+            return true;
+        }
+        throw new SQLTransientConnectionException("Database circuit breaker is open; not requesting a connection");
+    }
+
+    private void onSuccess(boolean trial) {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+        if (trial || state != State.CLOSED) {
+            log.info("Database connection succeeded; closing circuit breaker");
+            state = State.CLOSED;
+            trialInProgress.set(false);
+        }
+    }
+
+    private void onDeadlineExceeded(boolean trial) {
+        if (trial) {
+            // Let the next request make the trial
+            trialInProgress.set(false);
+        }
+    }
+
+    private void onFailure(boolean trial, Exception ex) {
+        if (trial) {
+            open("trial connection failed: " + ex.getMessage());
+            trialInProgress.set(false);
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold && state == State.CLOSED) {
+            open(consecutiveFailures.get() + " consecutive connection failures, last: " + ex.getMessage());
+        }
+    }
+
+    private void open(String reason) {
+        openedAt = nanoClock.getAsLong();
+        state = State.OPEN;
+        log.warn("Opening database circuit breaker for {} ms: {}", openDurationNanos / 1_000_000, reason);
+    }
+}
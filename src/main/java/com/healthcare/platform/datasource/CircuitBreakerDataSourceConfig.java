@@ -0,0 +1,43 @@
+package com.healthcare.platform.datasource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the application DataSource in a {@link CircuitBreakerDataSource} unless
+ * {@code app.datasource.circuit-breaker.enabled} is false (checked at runtime, so it also applies to AOT builds).
+ * Pool metrics and health checks still see the underlying pool, since Spring Boot unwraps delegating data sources.
+ */
+@Configuration
+public class CircuitBreakerDataSourceConfig {
+
+    static final int ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    @Bean
+    public static BeanPostProcessor circuitBreakerDataSourcePostProcessor(Environment environment) {
+        return new DataSourceWrapperPostProcessor() {
+            @Override
+            public int getOrder() {
+                return ORDER;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof CircuitBreakerDataSource)
+                        && environment.getProperty("app.datasource.circuit-breaker.enabled", Boolean.class, true)) {
+                    return new CircuitBreakerDataSource(dataSource,
+                            environment.getProperty("app.datasource.circuit-breaker.failure-threshold", Integer.class, 5),
+                            environment.getProperty("app.datasource.circuit-breaker.open-duration", Duration.class,
+                                    Duration.ofSeconds(10)));
+                }
+                return bean;
+            }
+        };
+    }
+}
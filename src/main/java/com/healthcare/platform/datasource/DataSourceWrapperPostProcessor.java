@@ -0,0 +1,11 @@
+package com.healthcare.platform.datasource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+/**
+ * Post-processor that wraps the application DataSource. Wrappers with a lower order are applied first and so sit
+ * closer to the pool.
+ */
+interface DataSourceWrapperPostProcessor extends BeanPostProcessor, Ordered {
+}
@@ -0,0 +1,118 @@
+package com.healthcare.platform.datasource;
+
+import com.healthcare.platform.filter.RequestDeadline;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * DataSource that bounds every JDBC statement by the current {@link RequestDeadline}.
+ * Statements get a query timeout of the time left (rounded up to whole seconds, the JDBC granularity), so the
+ * database cancels work the client has stopped waiting for; once the deadline has passed, creating a statement
+ * fails with {@link SQLTimeoutException} without contacting the database. Applying this at the JDBC level
+ * covers entity loads and flushes as well as queries. Connections obtained without a deadline are unchanged.
+ * <p>
+ * Obtaining a connection is bounded too: it fails the same way once the deadline has passed, and when the target is
+ * a Hikari pool, waiting for a free connection stops when the deadline does instead of after the pool's
+ * {@code connection-timeout}, failing with {@link SQLTimeoutException} as well.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    public DeadlineAwareDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Duration remaining = RequestDeadline.remaining().orElse(null);
+        if (remaining == null) {
+            return withDeadline(obtainTargetDataSource().getConnection());
+        }
+        checkNotExpired(remaining, "before a connection was obtained");
+        DataSource target = obtainTargetDataSource();
+        // The pool is created on the first getConnection; until then there is nothing to bound
+        if (target instanceof HikariDataSource hikari && hikari.getHikariPoolMXBean() instanceof HikariPool pool) {
+            long wait = Math.max(remaining.toMillis(), 1);
+            if (wait < hikari.getConnectionTimeout()) {
+                try {
+                    return withDeadline(pool.getConnection(wait));
+                } catch (SQLTransientConnectionException ex) {
+                    // The deadline ran out, not the pool's patience: report it as such, not as a pool failure
+                    SQLTimeoutException timeout = new SQLTimeoutException(
+                            "Request deadline exceeded while waiting for a connection");
+                    timeout.initCause(ex);
+                    throw timeout;
+                }
+            }
+        }
+        return withDeadline(target.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Duration remaining = RequestDeadline.remaining().orElse(null);
+        if (remaining != null) {
+            checkNotExpired(remaining, "before a connection was obtained");
+        }
+        return withDeadline(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection withDeadline(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(DeadlineAwareDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> invoke(connection, proxy, method, args));
+    }
+
+    private static Object invoke(Connection connection, Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                break;
+        }
+
+        boolean createsStatement = STATEMENT_FACTORIES.contains(method.getName());
+        Duration remaining = createsStatement ? RequestDeadline.remaining().orElse(null) : null;
+        if (remaining != null) {
+            checkNotExpired(remaining, "before the statement was sent");
+        }
+
+        Object result;
+        try {
+            result = method.invoke(connection, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+
+        if (remaining != null && result instanceof Statement statement) {
+            statement.setQueryTimeout(toQueryTimeoutSeconds(remaining));
+        }
+        return result;
+    }
+
+    private static void checkNotExpired(Duration remaining, String when) throws SQLTimeoutException {
+        if (remaining.isNegative() || remaining.isZero()) {
+            throw new SQLTimeoutException("Request deadline exceeded " + when);
+        }
+    }
+
+    static int toQueryTimeoutSeconds(Duration remaining) {
+        long seconds = (remaining.toMillis() + 999) / 1000;
+        return (int) Math.min(Math.max(seconds, 1), Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,41 @@
+package com.healthcare.platform.datasource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a {@link DeadlineAwareDataSource} unless {@code app.deadline.enabled} is false.
+ * The flag is checked when the DataSource is created rather than through a bean condition, so it can still be
+ * changed at runtime in an AOT-processed build.
+ */
+@Configuration
+public class DeadlineAwareDataSourceConfig {
+
+    /**
+     * Applied before the circuit breaker, so that it wraps the pool itself and can bound the wait for a connection.
+     */
+    static final int ORDER = CircuitBreakerDataSourceConfig.ORDER - 1;
+
+    @Bean
+    public static BeanPostProcessor deadlineAwareDataSourcePostProcessor(Environment environment) {
+        return new DataSourceWrapperPostProcessor() {
+            @Override
+            public int getOrder() {
+                return ORDER;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DeadlineAwareDataSource)
+                        && environment.getProperty("app.deadline.enabled", Boolean.class, true)) {
+                    return new DeadlineAwareDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a full-table duplicate scan.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Possible duplicate patients found by a full-table scan")
+public class DuplicateScanResponse {
+
+    @Schema(description = "Number of patients scanned", example = "1000000")
+    private long scanned;
+
+    @Schema(description = "Number of candidate pairs scored", example = "2450000")
+    private long comparisons;
+
+    @Schema(description = "Blocks skipped for holding more patients than app.patients.duplicates.max-block-size", example = "0")
+    private int oversizedBlocks;
+
+    @Schema(description = "Number of pairs scoring at or above the threshold", example = "1210")
+    private long matches;
+
+    @Schema(description = "Highest-scoring pairs, at most app.patients.duplicates.max-pairs")
+    private List<PatientDuplicatePair> pairs;
+
+    @Schema(description = "Time the scan took, in milliseconds", example = "4200")
+    private long durationMs;
+}
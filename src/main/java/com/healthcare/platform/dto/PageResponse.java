@@ -0,0 +1,59 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Compact pagination envelope.
+ * Replaces direct serialization of Spring's {@code PageImpl}, which also emits the
+ * {@code pageable} and {@code sort} object graphs on every response.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Paginated result")
+public class PageResponse<T> {
+
+    @Schema(description = "Items on this page")
+    private List<T> content;
+
+    @Schema(description = "Zero-based page number", example = "0")
+    private int number;
+
+    @Schema(description = "Requested page size", example = "20")
+    private int size;
+
+    @Schema(description = "Total number of matching items", example = "42")
+    private long totalElements;
+
+    @Schema(description = "Total number of pages", example = "3")
+    private int totalPages;
+
+    @Schema(description = "Whether this is the first page")
+    private boolean first;
+
+    @Schema(description = "Whether this is the last page")
+    private boolean last;
+
+    /**
+     * Convert a Spring Data page to the compact envelope.
+     */
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return PageResponse.<T>builder()
+                .content(page.getContent())
+                .number(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .first(page.isFirst())
+                .last(page.isLast())
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for looking up many patients at once, by ID or by medical record number.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch patient lookup request; provide either ids or mrns")
+public class PatientBatchRequest {
+
+    /**
+     * Maximum number of keys accepted in one request.
+     */
+    public static final int MAX_ITEMS = 500;
+
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " ids can be requested at once")
+    @Schema(description = "Patient IDs, in the order results should be returned")
+    private List<@NotNull(message = "ids must not contain null") UUID> ids;
+
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " MRNs can be requested at once")
+    @Schema(description = "Medical record numbers, in the order results should be returned")
+    private List<@NotBlank(message = "mrns must not contain blank values") String> mrns;
+}
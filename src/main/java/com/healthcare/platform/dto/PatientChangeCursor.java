@@ -0,0 +1,65 @@
+package com.healthcare.platform.dto;
+
+import com.healthcare.platform.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the patient change feed: the last patient a client has seen, ordered by {@code updatedAt} and then
+ * {@code id}. Clients treat the encoded form as opaque.
+ *
+ * @param updatedAt last modification time of the last patient seen; {@code null} for {@link #START}
+ * @param id        ID of the last patient seen; {@code null} for {@link #START}
+ */
+public record PatientChangeCursor(LocalDateTime updatedAt, UUID id) {
+
+    /**
+     * Before every patient; a client without a cursor starts with a full sync.
+     */
+    public static final PatientChangeCursor START = new PatientChangeCursor(null, null);
+
+    private static final char SEPARATOR = '|';
+
+    public static PatientChangeCursor after(PatientResponse patient) {
+        return new PatientChangeCursor(patient.getUpdatedAt(), patient.getId());
+    }
+
+    /**
+     * Decode a cursor returned by an earlier call. Blank input means {@link #START}.
+     */
+    public static PatientChangeCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid change cursor: " + cursor);
+            }
+            return new PatientChangeCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidRequestException("Invalid change cursor: " + cursor);
+        }
+    }
+
+    public boolean isStart() {
+        return updatedAt == null;
+    }
+
+    /**
+     * URL-safe form for the {@code cursor} parameter, or {@code null} for {@link #START}.
+     */
+    public String encode() {
+        if (isStart()) {
+            return null;
+        }
+        String raw = updatedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,25 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of a {@code patient} event on {@code GET /api/v1/patients/events}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Patient change pushed to event stream subscribers")
+public class PatientChangeNotification {
+
+    @Schema(description = "What happened; DELETED is a soft delete", example = "UPDATED")
+    private String type;
+
+    @Schema(description = "The patient after the change. Roles without access to patient details only receive " +
+            "id, version, status and updatedAt.")
+    private PatientResponse patient;
+}
@@ -0,0 +1,30 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the patient change feed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Patients changed since a cursor, oldest change first")
+public class PatientChangesResponse {
+
+    @Schema(description = "Changed patients, including soft-deleted ones (status INACTIVE)")
+    private List<PatientResponse> patients;
+
+    @Schema(description = "Cursor for the next call; store it once the page has been applied. " +
+            "Absent only if nothing has changed yet.", example = "MjAyNS0wMy0xMFQxMjowMDowMC4xMjM0NTZ8NTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAw")
+    private String nextCursor;
+
+    @Schema(description = "Whether more changes are available right away; if false, poll again later with nextCursor")
+    private boolean hasMore;
+}
@@ -0,0 +1,26 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * An existing patient that may be the same person as the one being created.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Existing patient that may be a duplicate")
+public class PatientDuplicate {
+
+    @Schema(description = "ID of the existing patient")
+    private UUID id;
+
+    @Schema(description = "Match score from 0 to 1, based on names, date of birth and contact details", example = "0.912")
+    private double score;
+}
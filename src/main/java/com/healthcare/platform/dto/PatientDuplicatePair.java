@@ -0,0 +1,29 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Two patients found by a duplicate scan that may be the same person.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Pair of patients that may be duplicates")
+public class PatientDuplicatePair {
+
+    @Schema(description = "ID of the first patient")
+    private UUID firstId;
+
+    @Schema(description = "ID of the second patient")
+    private UUID secondId;
+
+    @Schema(description = "Match score from 0 to 1, based on names, date of birth and contact details", example = "0.912")
+    private double score;
+}
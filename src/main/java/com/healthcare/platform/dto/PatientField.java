@@ -0,0 +1,62 @@
+package com.healthcare.platform.dto;
+
+import com.healthcare.platform.entity.Patient;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Selectable patient fields for sparse fieldsets ({@code ?fields=}).
+ * The JSON name of each field is also the {@link Patient} attribute it is selected from.
+ */
+public enum PatientField {
+
+    ID("id", (response, value) -> response.setId((UUID) value)),
+    FIRST_NAME("firstName", (response, value) -> response.setFirstName((String) value)),
+    LAST_NAME("lastName", (response, value) -> response.setLastName((String) value)),
+    DATE_OF_BIRTH("dateOfBirth", (response, value) -> response.setDateOfBirth((LocalDate) value)),
+    EMAIL("email", (response, value) -> response.setEmail((String) value)),
+    PHONE("phone", (response, value) -> response.setPhone((String) value)),
+    ADDRESS("address", (response, value) -> response.setAddress((String) value)),
+    MEDICAL_RECORD_NUMBER("medicalRecordNumber", (response, value) -> response.setMedicalRecordNumber((String) value)),
+    STATUS("status", (response, value) -> response.setStatus(value == null ? null : ((Patient.PatientStatus) value).name())),
+    CREATED_AT("createdAt", (response, value) -> response.setCreatedAt((LocalDateTime) value)),
+    UPDATED_AT("updatedAt", (response, value) -> response.setUpdatedAt((LocalDateTime) value)),
+    VERSION("version", (response, value) -> response.setVersion((Long) value));
+
+    private static final Map<String, PatientField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(PatientField::getName, Function.identity()));
+
+    private final String name;
+    private final BiConsumer<PatientResponse, Object> setter;
+
+    PatientField(String name, BiConsumer<PatientResponse, Object> setter) {
+        this.name = name;
+        this.setter = setter;
+    }
+
+    /**
+     * JSON property name, which is also the entity attribute name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Copy a selected column value onto a response.
+     */
+    public void apply(PatientResponse response, Object value) {
+        setter.accept(response, value);
+    }
+
+    public static Optional<PatientField> fromName(String name) {
+        return Optional.ofNullable(BY_NAME.get(name));
+    }
+}
@@ -0,0 +1,106 @@
+package com.healthcare.platform.dto;
+
+import com.healthcare.platform.exception.InvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable set of patient fields requested through {@code ?fields=}.
+ * {@code id} and {@code version} are always selected so that sparse responses stay
+ * addressable and can still be used for ETag / If-Match.
+ */
+public final class PatientFieldSet {
+
+    private static final Set<PatientField> ALWAYS_SELECTED = EnumSet.of(PatientField.ID, PatientField.VERSION);
+
+    /**
+     * Every field; equivalent to omitting {@code ?fields=}.
+     */
+    public static final PatientFieldSet ALL = new PatientFieldSet(EnumSet.allOf(PatientField.class));
+
+    private final Set<PatientField> fields;
+
+    private PatientFieldSet(EnumSet<PatientField> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * Parse a comma-separated field list. Blank input selects all fields; unknown names are rejected.
+     */
+    public static PatientFieldSet parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        EnumSet<PatientField> selected = EnumSet.copyOf(ALWAYS_SELECTED);
+        List<String> unknown = new ArrayList<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            PatientField.fromName(trimmed).ifPresentOrElse(selected::add, () -> unknown.add(trimmed));
+        }
+
+        if (!unknown.isEmpty()) {
+            throw new InvalidRequestException("Unknown patient field(s): " + String.join(", ", unknown)
+                    + ". Allowed: " + Arrays.stream(PatientField.values())
+                    .map(PatientField::getName)
+                    .collect(Collectors.joining(", ")));
+        }
+
+        return selected.size() == PatientField.values().length ? ALL : new PatientFieldSet(selected);
+    }
+
+    public static PatientFieldSet of(PatientField... fields) {
+        EnumSet<PatientField> selected = EnumSet.copyOf(ALWAYS_SELECTED);
+        selected.addAll(Arrays.asList(fields));
+        return new PatientFieldSet(selected);
+    }
+
+    /**
+     * This selection plus {@code extra}.
+     */
+    public PatientFieldSet with(PatientField... extra) {
+        EnumSet<PatientField> selected = EnumSet.copyOf(fields);
+        selected.addAll(Arrays.asList(extra));
+        return selected.size() == fields.size() ? this
+                : selected.size() == PatientField.values().length ? ALL : new PatientFieldSet(selected);
+    }
+
+    /**
+     * Selected fields in declaration order.
+     */
+    public Set<PatientField> fields() {
+        return fields;
+    }
+
+    public boolean contains(PatientField field) {
+        return fields.contains(field);
+    }
+
+    public boolean isAll() {
+        return fields.size() == PatientField.values().length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PatientFieldSet that && that.fields.equals(fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return fields.stream().map(PatientField::getName).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,35 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a batch lookup: the requested key and the patient, or a not-found marker.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result for a single key of a batch lookup")
+public class PatientLookupResult {
+
+    @Schema(description = "Requested ID or MRN", example = "MRN-1234567890")
+    private String key;
+
+    @Schema(description = "Whether a patient exists for the key")
+    private boolean found;
+
+    @Schema(description = "The patient, present only when found")
+    private PatientResponse patient;
+
+    public static PatientLookupResult found(String key, PatientResponse patient) {
+        return new PatientLookupResult(key, true, patient);
+    }
+
+    public static PatientLookupResult notFound(String key) {
+        return new PatientLookupResult(key, false, null);
+    }
+}
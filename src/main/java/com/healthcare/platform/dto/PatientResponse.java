@@ -1,5 +1,6 @@
 package com.healthcare.platform.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.healthcare.platform.entity.Patient;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -18,6 +19,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonSerialize(using = PatientResponseSerializer.class)
 @Schema(description = "Patient response")
 public class PatientResponse {
 
@@ -54,6 +56,9 @@ public class PatientResponse {
     @Schema(description = "Record last update timestamp")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "Record version, returned as the ETag and accepted in If-Match", example = "3")
+    private Long version;
+
     /**
      * Convert Patient entity to response DTO.
      */
@@ -70,6 +75,34 @@ public class PatientResponse {
                 .status(patient.getStatus().name())
                 .createdAt(patient.getCreatedAt())
                 .updatedAt(patient.getUpdatedAt())
+                .version(patient.getVersion())
                 .build();
     }
+
+    /**
+     * Copy of this response with only the {@code fields} set, as a projected read would return it.
+     */
+    public PatientResponse select(PatientFieldSet fields) {
+        if (fields.isAll()) {
+            return this;
+        }
+        PatientResponse selected = new PatientResponse();
+        for (PatientField field : fields.fields()) {
+            switch (field) {
+                case ID -> selected.setId(id);
+                case FIRST_NAME -> selected.setFirstName(firstName);
+                case LAST_NAME -> selected.setLastName(lastName);
+                case DATE_OF_BIRTH -> selected.setDateOfBirth(dateOfBirth);
+                case EMAIL -> selected.setEmail(email);
+                case PHONE -> selected.setPhone(phone);
+                case ADDRESS -> selected.setAddress(address);
+                case MEDICAL_RECORD_NUMBER -> selected.setMedicalRecordNumber(medicalRecordNumber);
+                case STATUS -> selected.setStatus(status);
+                case CREATED_AT -> selected.setCreatedAt(createdAt);
+                case UPDATED_AT -> selected.setUpdatedAt(updatedAt);
+                case VERSION -> selected.setVersion(version);
+            }
+        }
+        return selected;
+    }
 }
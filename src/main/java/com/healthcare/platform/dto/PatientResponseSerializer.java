@@ -0,0 +1,189 @@
+package com.healthcare.platform.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Hand-written Jackson serializer for {@link PatientResponse}.
+ * Writes fields straight to the generator with pre-encoded names, avoiding the reflective
+ * bean serializer's per-property lookups. UUIDs and ISO-8601 dates are formatted into a single
+ * per-object char buffer instead of intermediate strings. Null fields are omitted, matching the
+ * application's {@code non_null} inclusion; output is identical to the reflective serializer for that configuration.
+ */
+public class PatientResponseSerializer extends StdSerializer<PatientResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializableString LAST_NAME = new SerializedString("lastName");
+    private static final SerializableString DATE_OF_BIRTH = new SerializedString("dateOfBirth");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString PHONE = new SerializedString("phone");
+    private static final SerializableString ADDRESS = new SerializedString("address");
+    private static final SerializableString MEDICAL_RECORD_NUMBER = new SerializedString("medicalRecordNumber");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    /** Large enough for a UUID (36) and an ISO local date-time with nanoseconds (29). */
+    private static final int BUFFER_SIZE = 36;
+
+    public PatientResponseSerializer() {
+        super(PatientResponse.class);
+    }
+
+    @Override
+    public void serialize(PatientResponse patient, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        gen.writeStartObject(patient);
+
+        if (patient.getId() != null) {
+            gen.writeFieldName(ID);
+            gen.writeString(buffer, 0, formatUuid(patient.getId(), buffer));
+        }
+        writeString(gen, FIRST_NAME, patient.getFirstName());
+        writeString(gen, LAST_NAME, patient.getLastName());
+        writeDate(gen, provider, DATE_OF_BIRTH, patient.getDateOfBirth(), buffer);
+        writeString(gen, EMAIL, patient.getEmail());
+        writeString(gen, PHONE, patient.getPhone());
+        writeString(gen, ADDRESS, patient.getAddress());
+        writeString(gen, MEDICAL_RECORD_NUMBER, patient.getMedicalRecordNumber());
+        writeString(gen, STATUS, patient.getStatus());
+        writeDateTime(gen, provider, CREATED_AT, patient.getCreatedAt(), buffer);
+        writeDateTime(gen, provider, UPDATED_AT, patient.getUpdatedAt(), buffer);
+        if (patient.getVersion() != null) {
+            gen.writeFieldName(VERSION);
+            gen.writeNumber(patient.getVersion());
+        }
+
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeDate(JsonGenerator gen, SerializerProvider provider, SerializableString name,
+                                  LocalDate value, char[] buffer) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeField(name.getValue(), value, gen);
+            return;
+        }
+        gen.writeFieldName(name);
+        if (isFourDigitYear(value.getYear())) {
+            gen.writeString(buffer, 0, formatDate(value, buffer, 0));
+        } else {
+            gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE));
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, SerializerProvider provider, SerializableString name,
+                                      LocalDateTime value, char[] buffer) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeField(name.getValue(), value, gen);
+            return;
+        }
+        gen.writeFieldName(name);
+        if (isFourDigitYear(value.getYear())) {
+            gen.writeString(buffer, 0, formatDateTime(value, buffer));
+        } else {
+            gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+    }
+
+    /**
+     * Canonical 8-4-4-4-12 lowercase hex form, as {@link java.util.UUID#toString()}.
+     */
+    private static int formatUuid(UUID id, char[] buffer) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        hex(msb >>> 32, buffer, 0, 8);
+        buffer[8] = '-';
+        hex(msb >>> 16, buffer, 9, 4);
+        buffer[13] = '-';
+        hex(msb, buffer, 14, 4);
+        buffer[18] = '-';
+        hex(lsb >>> 48, buffer, 19, 4);
+        buffer[23] = '-';
+        hex(lsb, buffer, 24, 12);
+        return 36;
+    }
+
+    private static void hex(long value, char[] buffer, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * ISO_LOCAL_DATE for years 0000-9999: {@code yyyy-MM-dd}.
+     */
+    private static int formatDate(LocalDate value, char[] buffer, int offset) {
+        digits(value.getYear(), buffer, offset, 4);
+        buffer[offset + 4] = '-';
+        digits(value.getMonthValue(), buffer, offset + 5, 2);
+        buffer[offset + 7] = '-';
+        digits(value.getDayOfMonth(), buffer, offset + 8, 2);
+        return offset + 10;
+    }
+
+    /**
+     * ISO_LOCAL_DATE_TIME for years 0000-9999: seconds are always written, and the fraction
+     * is written only when non-zero, with trailing zeros removed.
+     */
+    private static int formatDateTime(LocalDateTime value, char[] buffer) {
+        int pos = formatDate(value.toLocalDate(), buffer, 0);
+        buffer[pos++] = 'T';
+        digits(value.getHour(), buffer, pos, 2);
+        buffer[pos + 2] = ':';
+        digits(value.getMinute(), buffer, pos + 3, 2);
+        buffer[pos + 5] = ':';
+        digits(value.getSecond(), buffer, pos + 6, 2);
+        pos += 8;
+
+        int nanos = value.getNano();
+        if (nanos > 0) {
+            buffer[pos++] = '.';
+            int width = 9;
+            while (nanos % 10 == 0) {
+                nanos /= 10;
+                width--;
+            }
+            digits(nanos, buffer, pos, width);
+            pos += width;
+        }
+        return pos;
+    }
+
+    private static void digits(int value, char[] buffer, int offset, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static boolean isFourDigitYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+}
@@ -0,0 +1,48 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Filters of a structured patient search. All given filters must match; at least one other than the first name is
+ * required.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Selects patients by name, date of birth, contact details, MRN and status; all given filters must match")
+public class PatientSearchCriteria {
+
+    @Schema(description = "Beginning of the last name, ignoring case", example = "Smi")
+    private String lastName;
+
+    @Schema(description = "Beginning of the first name, ignoring case; needs another filter", example = "Jo")
+    private String firstName;
+
+    @Schema(description = "Exact date of birth", example = "1985-03-15")
+    private LocalDate dateOfBirth;
+
+    @Schema(description = "Earliest date of birth, inclusive; not combined with dateOfBirth", example = "1980-01-01")
+    private LocalDate dateOfBirthFrom;
+
+    @Schema(description = "Latest date of birth, inclusive; not combined with dateOfBirth", example = "1989-12-31")
+    private LocalDate dateOfBirthTo;
+
+    @Schema(description = "Phone number in any format; its last ten digits are compared", example = "(415) 555-0142")
+    private String phone;
+
+    @Schema(description = "Email address, ignoring case", example = "john.smith@example.com")
+    private String email;
+
+    @Schema(description = "Medical record number", example = "MRN-1700000000000")
+    private String medicalRecordNumber;
+
+    @Schema(description = "Patient status", example = "ACTIVE")
+    private String status;
+}
@@ -0,0 +1,34 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a structured patient search.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Patients matching every given filter, in the order of the index the search was driven by")
+public class PatientSearchResponse {
+
+    @Schema(description = "Matching patients")
+    private List<PatientResponse> patients;
+
+    @Schema(description = "Cursor for the next page; absent on the last page",
+            example = "REFURV9PRl9CSVJUSHwxOTg1LTAzLTE1fDU1MGU4NDAwLWUyOWItNDFkNC1hNzE2LTQ0NjY1NTQ0MDAwMA")
+    private String nextCursor;
+
+    @Schema(description = "Whether another page follows")
+    private boolean hasMore;
+
+    @Schema(description = "Indexed filter the search was driven by; the other filters were checked on its rows",
+            example = "DATE_OF_BIRTH")
+    private String plan;
+}
@@ -0,0 +1,37 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Patient counts for dashboards, served from in-memory counters.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Patient statistics")
+public class PatientStatsResponse {
+
+    @Schema(description = "Total number of patients, including inactive ones", example = "1250")
+    private long total;
+
+    @Schema(description = "Number of patients per status", example = "{\"ACTIVE\": 1100, \"INACTIVE\": 140, \"DECEASED\": 10}")
+    private Map<String, Long> byStatus;
+
+    @Schema(description = "Number of patients per age band", example = "{\"0-17\": 210, \"18-34\": 300, \"35-49\": 280, \"50-64\": 250, \"65+\": 210}")
+    private Map<String, Long> byAge;
+
+    @Schema(description = "Patients created per day, oldest first, including days with none")
+    private Map<LocalDate, Long> createdPerDay;
+
+    @Schema(description = "When the counters were last checked against the database")
+    private Instant reconciledAt;
+}
@@ -0,0 +1,46 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for moving many patients to one status, selected by ID or by filter.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk status change; provide either ids or filter")
+public class PatientStatusChangeRequest {
+
+    /**
+     * Maximum number of IDs accepted in one request.
+     */
+    public static final int MAX_IDS = 10_000;
+
+    static final String STATUS_PATTERN = "ACTIVE|INACTIVE|DECEASED";
+
+    @NotBlank(message = "Status is required")
+    @Pattern(regexp = STATUS_PATTERN, message = "Status must be one of ACTIVE, INACTIVE, DECEASED")
+    @Schema(description = "Status to move the patients to; INACTIVE is a soft delete", example = "INACTIVE")
+    private String status;
+
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " ids can be changed at once")
+    @Schema(description = "Patient IDs to change; unknown IDs are ignored")
+    private List<@NotNull(message = "ids must not contain null") UUID> ids;
+
+    @Valid
+    @Schema(description = "Criteria selecting the patients to change")
+    private PatientStatusFilter filter;
+}
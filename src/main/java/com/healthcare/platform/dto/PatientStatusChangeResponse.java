@@ -0,0 +1,30 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk status change.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Patients moved to the requested status")
+public class PatientStatusChangeResponse {
+
+    @Schema(description = "Status the patients were moved to", example = "INACTIVE")
+    private String status;
+
+    @Schema(description = "Number of patients changed; patients already in the status are not counted", example = "1250")
+    private int updated;
+
+    @Schema(description = "IDs of the changed patients")
+    private List<UUID> ids;
+}
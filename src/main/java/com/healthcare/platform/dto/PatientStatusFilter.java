@@ -0,0 +1,38 @@
+package com.healthcare.platform.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criteria of a bulk status change. All given criteria must match; at least one is required.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Selects patients by current status, last update and name; all given criteria must match")
+public class PatientStatusFilter {
+
+    @Pattern(regexp = PatientStatusChangeRequest.STATUS_PATTERN,
+            message = "Current status must be one of ACTIVE, INACTIVE, DECEASED")
+    @Schema(description = "Only patients currently in this status", example = "ACTIVE")
+    private String currentStatus;
+
+    @Schema(description = "Only patients last updated before this time", example = "2020-01-01T00:00:00")
+    private LocalDateTime updatedBefore;
+
+    @Schema(description = "Only patients whose first or last name contains this term, ignoring case", example = "Smith")
+    private String search;
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return currentStatus == null && updatedBefore == null && (search == null || search.isBlank());
+    }
+}
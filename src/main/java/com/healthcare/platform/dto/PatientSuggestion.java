@@ -0,0 +1,39 @@
+package com.healthcare.platform.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Just enough of a patient to pick it from a type-ahead list.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Patient suggested while typing a name")
+public class PatientSuggestion {
+
+    @Schema(description = "Patient ID")
+    private UUID id;
+
+    @Schema(description = "First name", example = "John")
+    private String firstName;
+
+    @Schema(description = "Last name", example = "Doe")
+    private String lastName;
+
+    @Schema(description = "Date of birth", example = "1990-05-15")
+    private LocalDate dateOfBirth;
+
+    @Schema(description = "Medical record number", example = "MRN-1700000000000")
+    private String medicalRecordNumber;
+
+    @Schema(description = "Patient status", example = "ACTIVE")
+    private String status;
+}
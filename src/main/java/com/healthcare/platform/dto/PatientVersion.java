@@ -0,0 +1,11 @@
+package com.healthcare.platform.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight projection of a patient's version and last-modified timestamp.
+ * Used to answer conditional requests without loading the full entity.
+ */
+public record PatientVersion(UUID id, Long version, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,262 @@
+package com.healthcare.platform.duplicate;
+
+import com.healthcare.platform.archive.PatientsArchivedEvent;
+import com.healthcare.platform.dto.PatientDuplicate;
+import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.service.PatientChangedEvent;
+import com.healthcare.platform.service.PatientsChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory blocking index of every patient, for checking a new patient against existing ones as it is created.
+ * <p>
+ * Patients are grouped by the blocking keys of their {@link MatchRecord}, so a check scores only the few patients
+ * that share a block with the new one. The index is loaded in the background once the application is ready and is
+ * kept current from committed {@link PatientChangedEvent}s and {@link PatientsArchivedEvent}s; until it has loaded,
+ * checks only see the patients created since startup. Two patients created at the same moment do not see each other;
+ * the full-table {@link DuplicateScanner} finds those.
+ */
+@Component
+@Slf4j
+public class DuplicateIndex {
+
+    private static final MatchRecord[] EMPTY = new MatchRecord[0];
+
+    private final PatientRepository patientRepository;
+    private final boolean enabled;
+    private final double threshold;
+    private final int maxCandidates;
+    private final int pageSize;
+    private final Counter detected;
+
+    private final Map<String, MatchRecord[]> blocks = new ConcurrentHashMap<>();
+    private final Map<UUID, MatchRecord> records = new ConcurrentHashMap<>();
+    // Patients archived while loading, which a page read before their archival must not add back; guarded by this
+    private final Set<UUID> removedWhileLoading = new HashSet<>();
+    private boolean loading;
+    private volatile boolean ready;
+    private Thread loader;
+
+    @Autowired
+    public DuplicateIndex(PatientRepository patientRepository,
+                          @Value("${app.patients.duplicates.enabled:false}") boolean enabled,
+                          @Value("${app.patients.duplicates.threshold:0.88}") double threshold,
+                          @Value("${app.patients.duplicates.max-candidates:10}") int maxCandidates,
+                          @Value("${app.patients.duplicates.page-size:10000}") int pageSize,
+                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this(patientRepository, enabled, threshold, maxCandidates, pageSize,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public DuplicateIndex(PatientRepository patientRepository, boolean enabled, double threshold, int maxCandidates,
+                          int pageSize, MeterRegistry meterRegistry) {
+        this.patientRepository = patientRepository;
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.maxCandidates = maxCandidates;
+        this.pageSize = pageSize;
+        this.detected = meterRegistry.counter("patients.duplicates.detected");
+        Gauge.builder("patients.duplicates.indexed", records, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Existing patients scoring at least {@code app.patients.duplicates.threshold} against {@code patient}, best
+     * first; empty when the check is disabled.
+     */
+    public List<PatientDuplicate> findDuplicates(MatchRecord patient) {
+        if (!enabled) {
+            return List.of();
+        }
+        Map<UUID, MatchRecord> candidates = new LinkedHashMap<>();
+        for (int type = 0; type < MatchRecord.KEY_TYPES; type++) {
+            String key = patient.blockingKey(type);
+            if (key != null) {
+                for (MatchRecord candidate : blocks.getOrDefault(key, EMPTY)) {
+                    if (!candidate.id().equals(patient.id())) {
+                        candidates.putIfAbsent(candidate.id(), candidate);
+                    }
+                }
+            }
+        }
+        List<PatientDuplicate> duplicates = new ArrayList<>();
+        for (MatchRecord candidate : candidates.values()) {
+            double score = PatientMatcher.score(patient, candidate);
+            if (score >= threshold) {
+                duplicates.add(new PatientDuplicate(candidate.id(), round(score)));
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            detected.increment();
+        }
+        return duplicates.stream()
+                .sorted(Comparator.comparingDouble(PatientDuplicate::getScore).reversed())
+                .limit(maxCandidates)
+                .toList();
+    }
+
+    /**
+     * Add {@code patient}, replacing its previous version.
+     */
+    public synchronized void put(MatchRecord patient) {
+        unblock(records.put(patient.id(), patient));
+        for (int type = 0; type < MatchRecord.KEY_TYPES; type++) {
+            String key = patient.blockingKey(type);
+            if (key != null) {
+                blocks.merge(key, new MatchRecord[]{patient}, DuplicateIndex::concat);
+            }
+        }
+    }
+
+    /**
+     * Drop the patient with {@code id}, so that new patients are no longer checked against it.
+     */
+    public synchronized void remove(UUID id) {
+        unblock(records.remove(id));
+        if (loading) {
+            removedWhileLoading.add(id);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientChanged(PatientChangedEvent event) {
+        if (enabled) {
+            put(MatchRecord.of(event.after()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientsChanged(PatientsChangedEvent event) {
+        event.changes().forEach(this::onPatientChanged);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientsArchived(PatientsArchivedEvent event) {
+        if (enabled) {
+            event.patients().forEach(patient -> remove(patient.getId()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || loader != null) {
+            return;
+        }
+        Thread thread = new Thread(this::load, "duplicate-index-loader");
+        thread.setDaemon(true);
+        loader = thread;
+        thread.start();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    void load() {
+        long started = System.nanoTime();
+        synchronized (this) {
+            loading = true;
+        }
+        try {
+            readPatients(patientRepository, pageSize, page -> {
+                synchronized (this) {
+                    // A patient changed since the page was read is already indexed in its newer version
+                    page.forEach(patient -> {
+                        if (!records.containsKey(patient.id()) && !removedWhileLoading.contains(patient.id())) {
+                            put(patient);
+                        }
+                    });
+                }
+            });
+            ready = true;
+            log.info("Duplicate index loaded {} patients in {} blocks in {} ms", records.size(), blocks.size(),
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (RuntimeException ex) {
+            log.error("Could not load the duplicate index; new patients are only checked against recent ones", ex);
+        } finally {
+            synchronized (this) {
+                loading = false;
+                removedWhileLoading.clear();
+            }
+        }
+    }
+
+    /**
+     * Page through every patient in id order, reading only the fields duplicate detection compares.
+     */
+    static void readPatients(PatientRepository patientRepository, int pageSize, Consumer<List<MatchRecord>> pages) {
+        UUID after = new UUID(0, 0);
+        while (true) {
+            List<Object[]> rows = patientRepository.findMatchFields(after, Limit.of(pageSize));
+            List<MatchRecord> page = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                page.add(MatchRecord.of((UUID) row[0], (String) row[1], (String) row[2], (LocalDate) row[3],
+                        (String) row[4], (String) row[5]));
+            }
+            pages.accept(page);
+            if (rows.size() < pageSize) {
+                return;
+            }
+            after = (UUID) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    static double round(double score) {
+        return Math.round(score * 1000) / 1000.0;
+    }
+
+    private void unblock(MatchRecord previous) {
+        if (previous == null) {
+            return;
+        }
+        for (int type = 0; type < MatchRecord.KEY_TYPES; type++) {
+            String key = previous.blockingKey(type);
+            if (key != null) {
+                blocks.computeIfPresent(key, (k, block) -> without(block, previous.id()));
+            }
+        }
+    }
+
+    private static MatchRecord[] concat(MatchRecord[] block, MatchRecord[] added) {
+        MatchRecord[] merged = Arrays.copyOf(block, block.length + added.length);
+        System.arraycopy(added, 0, merged, block.length, added.length);
+        return merged;
+    }
+
+    private static MatchRecord[] without(MatchRecord[] block, UUID id) {
+        MatchRecord[] remaining = Arrays.stream(block)
+                .filter(record -> !record.id().equals(id))
+                .toArray(MatchRecord[]::new);
+        // Returning null removes the empty block
+        return remaining.length == 0 ? null : remaining;
+    }
+}
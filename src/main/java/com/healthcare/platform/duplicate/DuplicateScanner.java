@@ -0,0 +1,211 @@
+package com.healthcare.platform.duplicate;
+
+import com.healthcare.platform.dto.DuplicateScanResponse;
+import com.healthcare.platform.dto.PatientDuplicatePair;
+import com.healthcare.platform.repository.PatientRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Full-table duplicate detection.
+ * <p>
+ * A scan reads every patient's match fields, groups them into the blocks described in {@link MatchRecord} and scores
+ * every pair within a block. A pair sharing several blocks is only scored in the first. Blocks are scored in parallel
+ * on a pool of {@code app.patients.duplicates.scan-parallelism} threads created for the scan, so that a long scan does
+ * not occupy the common pool that request handling uses. Blocks larger than
+ * {@code app.patients.duplicates.max-block-size} are skipped and counted, as scoring them is quadratic in their size.
+ */
+@Component
+@Slf4j
+public class DuplicateScanner {
+
+    private final PatientRepository patientRepository;
+    private final double threshold;
+    private final int parallelism;
+    private final int maxBlockSize;
+    private final int maxPairs;
+    private final int pageSize;
+    private final Timer scans;
+
+    @Autowired
+    public DuplicateScanner(PatientRepository patientRepository,
+                            @Value("${app.patients.duplicates.threshold:0.88}") double threshold,
+                            @Value("${app.patients.duplicates.scan-parallelism:0}") int parallelism,
+                            @Value("${app.patients.duplicates.max-block-size:1000}") int maxBlockSize,
+                            @Value("${app.patients.duplicates.max-pairs:1000}") int maxPairs,
+                            @Value("${app.patients.duplicates.page-size:10000}") int pageSize,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(patientRepository, threshold, parallelism, maxBlockSize, maxPairs, pageSize,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /**
+     * @param parallelism scoring threads, or 0 for one per available processor
+     */
+    public DuplicateScanner(PatientRepository patientRepository, double threshold, int parallelism, int maxBlockSize,
+                            int maxPairs, int pageSize, MeterRegistry meterRegistry) {
+        this.patientRepository = patientRepository;
+        this.threshold = threshold;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.maxBlockSize = maxBlockSize;
+        this.maxPairs = maxPairs;
+        this.pageSize = pageSize;
+        this.scans = meterRegistry.timer("patients.duplicates.scan");
+    }
+
+    @Scheduled(cron = "${app.patients.duplicates.scan-cron:-}")
+    public void scheduledScan() {
+        try {
+            scan();
+        } catch (RuntimeException ex) {
+            log.error("Duplicate scan failed", ex);
+        }
+    }
+
+    /**
+     * Scan every patient in the database.
+     */
+    public DuplicateScanResponse scan() {
+        long started = System.nanoTime();
+        List<MatchRecord> patients = new ArrayList<>();
+        DuplicateIndex.readPatients(patientRepository, pageSize, patients::addAll);
+        log.info("Read {} patients for a duplicate scan in {} ms", patients.size(),
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return scan(patients);
+    }
+
+    /**
+     * Find the pairs among {@code patients} that score at least {@code app.patients.duplicates.threshold}.
+     */
+    public DuplicateScanResponse scan(List<MatchRecord> patients) {
+        long started = System.nanoTime();
+        List<Block> blocks = new ArrayList<>();
+        int oversized = 0;
+        for (int type = 0; type < MatchRecord.KEY_TYPES; type++) {
+            for (int[] members : group(patients, type)) {
+                if (members.length > maxBlockSize) {
+                    oversized++;
+                } else {
+                    blocks.add(new Block(type, members));
+                }
+            }
+        }
+
+        LongAdder comparisons = new LongAdder();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        List<PatientDuplicatePair> matches;
+        try {
+            matches = pool.submit(() -> blocks.parallelStream()
+                    .flatMap(block -> score(patients, block, comparisons).stream())
+                    .toList()).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Duplicate scan interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(ex);
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsed = System.nanoTime() - started;
+        scans.record(elapsed, TimeUnit.NANOSECONDS);
+        DuplicateScanResponse response = DuplicateScanResponse.builder()
+                .scanned(patients.size())
+                .comparisons(comparisons.sum())
+                .oversizedBlocks(oversized)
+                .matches(matches.size())
+                .pairs(matches.stream()
+                        .sorted(Comparator.comparingDouble(PatientDuplicatePair::getScore).reversed())
+                        .limit(maxPairs)
+                        .toList())
+                .durationMs(Duration.ofNanos(elapsed).toMillis())
+                .build();
+        log.info("Duplicate scan of {} patients scored {} pairs in {} ms and found {} possible duplicates{}",
+                response.getScanned(), response.getComparisons(), response.getDurationMs(), response.getMatches(),
+                oversized > 0 ? "; skipped " + oversized + " oversized blocks" : "");
+        return response;
+    }
+
+    private List<PatientDuplicatePair> score(List<MatchRecord> patients, Block block, LongAdder comparisons) {
+        List<PatientDuplicatePair> matches = new ArrayList<>();
+        int[] members = block.members();
+        long scored = 0;
+        for (int i = 0; i < members.length; i++) {
+            MatchRecord first = patients.get(members[i]);
+            for (int j = i + 1; j < members.length; j++) {
+                MatchRecord second = patients.get(members[j]);
+                if (sharesEarlierBlock(first, second, block.type())) {
+                    continue;
+                }
+                scored++;
+                double score = PatientMatcher.score(first, second);
+                if (score >= threshold) {
+                    matches.add(new PatientDuplicatePair(first.id(), second.id(), DuplicateIndex.round(score)));
+                }
+            }
+        }
+        comparisons.add(scored);
+        return matches;
+    }
+
+    private static boolean sharesEarlierBlock(MatchRecord first, MatchRecord second, int type) {
+        for (int earlier = 0; earlier < type; earlier++) {
+            if (first.sharesBlock(second, earlier)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Positions in {@code patients} of the members of each block of {@code type} with at least two members.
+     */
+    private static List<int[]> group(List<MatchRecord> patients, int type) {
+        // Each value holds its member count followed by the members, and doubles when full
+        Map<String, int[]> blocks = new HashMap<>();
+        for (int i = 0; i < patients.size(); i++) {
+            String key = patients.get(i).blockingKey(type);
+            if (key == null) {
+                continue;
+            }
+            int[] block = blocks.get(key);
+            if (block == null) {
+                block = new int[3];
+                blocks.put(key, block);
+            } else if (block[0] + 1 == block.length) {
+                block = Arrays.copyOf(block, block.length * 2);
+                blocks.put(key, block);
+            }
+            block[++block[0]] = i;
+        }
+        List<int[]> groups = new ArrayList<>();
+        for (int[] block : blocks.values()) {
+            if (block[0] > 1) {
+                groups.add(Arrays.copyOfRange(block, 1, block[0] + 1));
+            }
+        }
+        return groups;
+    }
+
+    private record Block(int type, int[] members) {
+    }
+}
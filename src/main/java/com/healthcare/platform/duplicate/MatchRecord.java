@@ -0,0 +1,82 @@
+package com.healthcare.platform.duplicate;
+
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.entity.Patient;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * The fields of a patient that duplicate detection compares, normalized once, with the Soundex codes of the names.
+ * <p>
+ * A record belongs to up to {@value #KEY_TYPES} blocks, and only records sharing a block are compared: same last-name
+ * code and date of birth, same first-name code and date of birth (a changed last name), and same name codes and birth
+ * year (a mistyped birth day or month). Names without Latin letters have no code and are never blocked on.
+ */
+public record MatchRecord(UUID id, String firstName, String lastName, LocalDate dateOfBirth, String email,
+                          String phone, String firstNameCode, String lastNameCode) {
+
+    static final int KEY_TYPES = 3;
+
+    public static MatchRecord of(UUID id, String firstName, String lastName, LocalDate dateOfBirth, String email,
+                                 String phone) {
+        String first = PatientMatcher.normalizeName(firstName);
+        String last = PatientMatcher.normalizeName(lastName);
+        return new MatchRecord(id, first, last, dateOfBirth, Patient.normalizeEmail(email),
+                PatientMatcher.normalizePhone(phone), PatientMatcher.soundex(first), PatientMatcher.soundex(last));
+    }
+
+    public static MatchRecord of(Patient patient) {
+        return of(patient.getId(), patient.getFirstName(), patient.getLastName(), patient.getDateOfBirth(),
+                patient.getEmail(), patient.getPhone());
+    }
+
+    public static MatchRecord of(PatientResponse patient) {
+        return of(patient.getId(), patient.getFirstName(), patient.getLastName(), patient.getDateOfBirth(),
+                patient.getEmail(), patient.getPhone());
+    }
+
+    /**
+     * A patient that is about to be created and has no id yet.
+     */
+    public static MatchRecord of(PatientRequest request) {
+        return of(null, request.getFirstName(), request.getLastName(), request.getDateOfBirth(), request.getEmail(),
+                request.getPhone());
+    }
+
+    /**
+     * Key of this record's block of {@code type}, or {@code null} if it has none.
+     */
+    String blockingKey(int type) {
+        if (dateOfBirth == null) {
+            return null;
+        }
+        return switch (type) {
+            case 0 -> lastNameCode.isEmpty() ? null : "L" + lastNameCode + dateOfBirth;
+            case 1 -> firstNameCode.isEmpty() ? null : "F" + firstNameCode + dateOfBirth;
+            case 2 -> firstNameCode.isEmpty() || lastNameCode.isEmpty() ? null
+                    : "N" + firstNameCode + lastNameCode + dateOfBirth.getYear();
+            default -> throw new IllegalArgumentException("Unknown blocking key type " + type);
+        };
+    }
+
+    /**
+     * Whether this record and {@code other} share their block of {@code type}; compares fields without building keys.
+     */
+    boolean sharesBlock(MatchRecord other, int type) {
+        if (dateOfBirth == null || other.dateOfBirth == null) {
+            return false;
+        }
+        return switch (type) {
+            case 0 -> !lastNameCode.isEmpty() && lastNameCode.equals(other.lastNameCode)
+                    && dateOfBirth.equals(other.dateOfBirth);
+            case 1 -> !firstNameCode.isEmpty() && firstNameCode.equals(other.firstNameCode)
+                    && dateOfBirth.equals(other.dateOfBirth);
+            case 2 -> !firstNameCode.isEmpty() && !lastNameCode.isEmpty()
+                    && firstNameCode.equals(other.firstNameCode) && lastNameCode.equals(other.lastNameCode)
+                    && dateOfBirth.getYear() == other.dateOfBirth.getYear();
+            default -> throw new IllegalArgumentException("Unknown blocking key type " + type);
+        };
+    }
+}
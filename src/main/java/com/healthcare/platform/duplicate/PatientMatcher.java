@@ -0,0 +1,155 @@
+package com.healthcare.platform.duplicate;
+
+import com.healthcare.platform.entity.Patient;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+
+/**
+ * Normalization, phonetic codes and similarity scoring for duplicate-patient detection.
+ * <p>
+ * A pair's score is a weighted sum of Jaro-Winkler similarities of the first and last names (0.3 each), date of birth
+ * agreement (0.3; a single differing field or swapped day and month counts as a likely typo) and contact agreement
+ * (0.1; a shared email or phone counts fully, missing contact details count half).
+ */
+final class PatientMatcher {
+
+    private static final String SOUNDEX_CODES = "01230120022455012623010202";
+
+    private PatientMatcher() {
+    }
+
+    /**
+     * Upper-case A-Z letters of {@code name}, with accents removed and everything else dropped.
+     */
+    static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = Character.toUpperCase(decomposed.charAt(i));
+            if (c >= 'A' && c <= 'Z') {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * The last ten digits of {@code phone}, or {@code null} if it has none.
+     */
+    static String normalizePhone(String phone) {
+        return Patient.normalizePhone(phone);
+    }
+
+    /**
+     * American Soundex code of a normalized name, e.g. {@code S530} for both SMITH and SMYTH; empty for an empty name.
+     */
+    static String soundex(String name) {
+        if (name.isEmpty()) {
+            return "";
+        }
+        StringBuilder code = new StringBuilder(4).append(name.charAt(0));
+        char previous = SOUNDEX_CODES.charAt(name.charAt(0) - 'A');
+        for (int i = 1; i < name.length() && code.length() < 4; i++) {
+            char c = name.charAt(i);
+            char digit = SOUNDEX_CODES.charAt(c - 'A');
+            if (digit != '0' && digit != previous) {
+                code.append(digit);
+            }
+            // H and W do not separate letters with the same code; vowels do
+            if (c != 'H' && c != 'W') {
+                previous = digit;
+            }
+        }
+        while (code.length() < 4) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    /**
+     * Jaro-Winkler similarity between 0 (nothing in common, or either string empty) and 1 (equal).
+     */
+    static double jaroWinkler(String a, String b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        if (a.equals(b)) {
+            return 1;
+        }
+        int window = Math.max(0, Math.max(a.length(), b.length()) / 2 - 1);
+        boolean[] matchedA = new boolean[a.length()];
+        boolean[] matchedB = new boolean[b.length()];
+        int matches = 0;
+        for (int i = 0; i < a.length(); i++) {
+            int end = Math.min(b.length() - 1, i + window);
+            for (int j = Math.max(0, i - window); j <= end; j++) {
+                if (!matchedB[j] && a.charAt(i) == b.charAt(j)) {
+                    matchedA[i] = true;
+                    matchedB[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0;
+        }
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < a.length(); i++) {
+            if (matchedA[i]) {
+                while (!matchedB[j]) {
+                    j++;
+                }
+                if (a.charAt(i) != b.charAt(j)) {
+                    transpositions++;
+                }
+                j++;
+            }
+        }
+        double m = matches;
+        double jaro = (m / a.length() + m / b.length() + (m - transpositions / 2.0) / m) / 3;
+        int prefix = 0;
+        int maxPrefix = Math.min(4, Math.min(a.length(), b.length()));
+        while (prefix < maxPrefix && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1 - jaro);
+    }
+
+    /**
+     * Likelihood between 0 and 1 that {@code a} and {@code b} are the same person.
+     */
+    static double score(MatchRecord a, MatchRecord b) {
+        return 0.3 * jaroWinkler(a.firstName(), b.firstName())
+                + 0.3 * jaroWinkler(a.lastName(), b.lastName())
+                + 0.3 * dateSimilarity(a.dateOfBirth(), b.dateOfBirth())
+                + 0.1 * contactSimilarity(a, b);
+    }
+
+    static double dateSimilarity(LocalDate a, LocalDate b) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        if (a.equals(b)) {
+            return 1;
+        }
+        int differing = (a.getYear() != b.getYear() ? 1 : 0) + (a.getMonthValue() != b.getMonthValue() ? 1 : 0)
+                + (a.getDayOfMonth() != b.getDayOfMonth() ? 1 : 0);
+        boolean swapped = a.getYear() == b.getYear() && a.getMonthValue() == b.getDayOfMonth()
+                && a.getDayOfMonth() == b.getMonthValue();
+        return differing == 1 || swapped ? 0.7 : 0;
+    }
+
+    static double contactSimilarity(MatchRecord a, MatchRecord b) {
+        boolean emails = a.email() != null && b.email() != null;
+        boolean phones = a.phone() != null && b.phone() != null;
+        if ((emails && a.email().equals(b.email())) || (phones && a.phone().equals(b.phone()))) {
+            return 1;
+        }
+        return emails || phones ? 0 : 0.5;
+    }
+}
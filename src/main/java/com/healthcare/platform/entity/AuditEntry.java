@@ -0,0 +1,48 @@
+package com.healthcare.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Append-only record of a read of patient data. Rows are inserted in batches by the audit writer and never updated.
+ */
+@Entity
+@Immutable
+@Table(name = "phi_access_audit", indexes = {
+        // "Who accessed this patient, and when?"
+        @Index(name = "idx_phi_access_audit_resource", columnList = "resource_id, occurred_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEntry {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "principal", nullable = false, length = 100)
+    private String principal;
+
+    @Column(name = "action", nullable = false, length = 20)
+    private String action;
+
+    @Column(name = "resource_type", nullable = false, length = 50)
+    private String resourceType;
+
+    @Column(name = "resource_id", length = 64)
+    private String resourceId;
+
+    @Column(name = "correlation_id", length = 64)
+    private String correlationId;
+}
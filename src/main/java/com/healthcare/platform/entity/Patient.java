@@ -6,23 +6,57 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Patient entity representing a healthcare patient record.
  * Demonstrates proper entity design with validation and auditing.
  */
 @Entity
-@Table(name = "patients")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Patient.CACHE_REGION)
+@NaturalIdCache(region = Patient.NATURAL_ID_CACHE_REGION)
+@Table(name = "patients", uniqueConstraints = {
+        @UniqueConstraint(name = Patient.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email_normalized")
+}, indexes = {
+        // Keyset order of the change feed (GET /api/v1/patients/changes)
+        @Index(name = "idx_patients_updated_at_id", columnList = "updated_at, id"),
+        // Driving indexes of the structured search (GET /api/v1/patients/search), each in its keyset order;
+        // email and MRN lookups use their unique constraints
+        @Index(name = "idx_patients_last_name_normalized_id", columnList = "last_name_normalized, id"),
+        @Index(name = "idx_patients_date_of_birth_id", columnList = "date_of_birth, id"),
+        @Index(name = "idx_patients_phone_normalized_id", columnList = "phone_normalized, id"),
+        @Index(name = "idx_patients_status_id", columnList = "status, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Patient {
 
+    /**
+     * Unique constraint on the case-normalized email; violations are reported as duplicate patients.
+     */
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_patients_email_normalized";
+
+    /** Second-level cache region for patient entities. */
+    public static final String CACHE_REGION = "patients";
+
+    /** Second-level cache region resolving medical record numbers to patient IDs. */
+    public static final String NATURAL_ID_CACHE_REGION = "patients-mrn";
+
+    /** Last generated MRN number; keeps generated MRNs unique when patients are created in the same millisecond. */
+    private static final AtomicLong LAST_MRN = new AtomicLong();
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -37,6 +71,13 @@ public class Patient {
     @Column(name = "last_name", nullable = false, length = 100)
     private String lastName;
 
+    /**
+     * Trimmed, lower-cased copy of {@link #lastName}, maintained by the entity lifecycle callbacks for indexed
+     * case-insensitive prefix search.
+     */
+    @Column(name = "last_name_normalized", length = 100)
+    private String lastNameNormalized;
+
     @NotNull(message = "Date of birth is required")
     @Past(message = "Date of birth must be in the past")
     @Column(name = "date_of_birth", nullable = false)
@@ -46,14 +87,28 @@ public class Patient {
     @Column(name = "email", length = 255)
     private String email;
 
+    /**
+     * Trimmed, lower-cased copy of {@link #email}, maintained by the entity lifecycle callbacks.
+     * Carries the unique constraint so that uniqueness is enforced by the database, case-insensitively.
+     */
+    @Column(name = "email_normalized", length = 255)
+    private String emailNormalized;
+
     @Pattern(regexp = "^\\+?[1-9]\\d{1,14}$", message = "Phone number must be valid E.164 format")
     @Column(name = "phone", length = 20)
     private String phone;
 
+    /**
+     * Digits of {@link #phone}, see {@link #normalizePhone}; maintained by the entity lifecycle callbacks.
+     */
+    @Column(name = "phone_normalized", length = 20)
+    private String phoneNormalized;
+
     @Size(max = 500, message = "Address must not exceed 500 characters")
     @Column(name = "address", length = 500)
     private String address;
 
+    @NaturalId
     @Column(name = "medical_record_number", unique = true, length = 50)
     private String medicalRecordNumber;
 
@@ -68,18 +123,72 @@ public class Patient {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic-locking version, also exposed to clients as the ETag.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        normalize();
         if (medicalRecordNumber == null) {
-            medicalRecordNumber = "MRN-" + System.currentTimeMillis();
+            long now = System.currentTimeMillis();
+            medicalRecordNumber = "MRN-" + LAST_MRN.updateAndGet(last -> Math.max(last + 1, now));
         }
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        normalize();
+    }
+
+    private void normalize() {
+        emailNormalized = normalizeEmail(email);
+        lastNameNormalized = normalizeName(lastName);
+        phoneNormalized = normalizePhone(phone);
+    }
+
+    /**
+     * Normalize an email for uniqueness checks: trimmed and lower-cased, or {@code null} if blank.
+     */
+    public static String normalizeEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalize a name for case-insensitive search: trimmed and lower-cased, or {@code null} if blank.
+     */
+    public static String normalizeName(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalize a phone number for search: its digits, keeping the last ten so that {@code +1 415 555 0142} and
+     * {@code (415) 555-0142} agree, or {@code null} if it has none.
+     */
+    public static String normalizePhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.isEmpty() ? null : digits.substring(Math.max(0, digits.length() - 10));
     }
 
     public enum PatientStatus {
@@ -0,0 +1,15 @@
+package com.healthcare.platform.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a read cannot be recorded in the access audit trail and is therefore refused.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class AuditUnavailableException extends RuntimeException {
+
+    public AuditUnavailableException(String message) {
+        super(message);
+    }
+}
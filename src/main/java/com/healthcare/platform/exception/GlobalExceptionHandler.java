@@ -1,12 +1,20 @@
 package com.healthcare.platform.exception;
 
 import com.healthcare.platform.dto.ApiResponse;
+import com.healthcare.platform.dto.PatientDuplicate;
+import com.healthcare.platform.filter.RequestDeadline;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -46,6 +54,103 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(PossibleDuplicatePatientException.class)
+    public ResponseEntity<ApiResponse<List<PatientDuplicate>>> handlePossibleDuplicatePatientException(
+            PossibleDuplicatePatientException ex, HttpServletRequest request) {
+        log.info("Possible duplicate patient: {} candidates - URI: {}", ex.getCandidates().size(),
+                request.getRequestURI());
+
+        ApiResponse<List<PatientDuplicate>> response = ApiResponse.error(ex.getMessage());
+        response.setData(ex.getCandidates());
+        response.setCorrelationId(getCorrelationId(request));
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePreconditionFailedException(
+            PreconditionFailedException ex, HttpServletRequest request) {
+        log.warn("Precondition failed: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
+        response.setCorrelationId(getCorrelationId(request));
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("Concurrent modification - URI: {}", request.getRequestURI());
+
+        ApiResponse<Void> response = ApiResponse.error("The resource was modified concurrently. Please reload and retry.");
+        response.setCorrelationId(getCorrelationId(request));
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, HttpServletRequest request) {
+        log.warn("Data integrity violation: {} - URI: {}", ex.getMostSpecificCause().getMessage(), request.getRequestURI());
+
+        ApiResponse<Void> response = ApiResponse.error("The request conflicts with existing data");
+        response.setCorrelationId(getCorrelationId(request));
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ApiResponse<Void>> handleDatabaseUnavailableException(
+            Exception ex, HttpServletRequest request) {
+        if (RequestDeadline.isExpired()) {
+            // No connection within the request's own deadline: the request timed out, the database may be fine
+            return deadlineExceeded(ex.getMessage(), request);
+        }
+        log.error("Database unavailable: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ApiResponse<Void> response = ApiResponse.error("The service is temporarily unavailable. Please retry shortly.");
+        response.setCorrelationId(getCorrelationId(request));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "10")
+                .body(response);
+    }
+
+    @ExceptionHandler(AuditUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAuditUnavailableException(
+            AuditUnavailableException ex, HttpServletRequest request) {
+        log.error("Read refused, access audit unavailable: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ApiResponse<Void> response = ApiResponse.error("The service is temporarily unavailable. Please retry shortly.");
+        response.setCorrelationId(getCorrelationId(request));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<ApiResponse<Void>> handleQueryTimeoutException(
+            QueryTimeoutException ex, HttpServletRequest request) {
+        return deadlineExceeded(ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(RequestDeadlineExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRequestDeadlineExceededException(
+            RequestDeadlineExceededException ex, HttpServletRequest request) {
+        return deadlineExceeded(ex.getMessage(), request);
+    }
+
+    private ResponseEntity<ApiResponse<Void>> deadlineExceeded(String message, HttpServletRequest request) {
+        log.warn("Query timed out: {} - URI: {}", message, request.getRequestURI());
+
+        ApiResponse<Void> response = ApiResponse.error("The request did not complete within its deadline");
+        response.setCorrelationId(getCorrelationId(request));
+
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidationException(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -76,6 +181,39 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidRequestException(
+            InvalidRequestException ex, HttpServletRequest request) {
+        log.warn("Invalid request: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
+        response.setCorrelationId(getCorrelationId(request));
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyKeyReuseException(
+            IdempotencyKeyReuseException ex, HttpServletRequest request) {
+        log.warn("Idempotency key reused: {} - URI: {}", ex.getMessage(), request.getRequestURI());
+
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
+        response.setCorrelationId(getCorrelationId(request));
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyKeyInProgressException(
+            IdempotencyKeyInProgressException ex, HttpServletRequest request) {
+        log.warn("Idempotent request still in progress - URI: {}", request.getRequestURI());
+
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
+        response.setCorrelationId(getCorrelationId(request));
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiResponse<Void>> handleBadCredentialsException(
             BadCredentialsException ex, HttpServletRequest request) {
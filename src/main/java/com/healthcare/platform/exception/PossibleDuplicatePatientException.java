@@ -0,0 +1,25 @@
+package com.healthcare.platform.exception;
+
+import com.healthcare.platform.dto.PatientDuplicate;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+
+/**
+ * Exception thrown when a new patient closely matches existing patients and the client has not confirmed the creation.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class PossibleDuplicatePatientException extends RuntimeException {
+
+    private final transient List<PatientDuplicate> candidates;
+
+    public PossibleDuplicatePatientException(List<PatientDuplicate> candidates) {
+        super("Patient may already exist; repeat the request with allowDuplicate=true to create it anyway");
+        this.candidates = List.copyOf(candidates);
+    }
+
+    public List<PatientDuplicate> getCandidates() {
+        return candidates;
+    }
+}
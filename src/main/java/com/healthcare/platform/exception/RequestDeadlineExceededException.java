@@ -0,0 +1,15 @@
+package com.healthcare.platform.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a request's deadline has passed before its handler could run.
+ */
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class RequestDeadlineExceededException extends RuntimeException {
+
+    public RequestDeadlineExceededException() {
+        super("Request deadline exceeded before the request was handled");
+    }
+}
@@ -0,0 +1,59 @@
+package com.healthcare.platform.filter;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Deadline of the request being handled on the current thread.
+ * Started by {@link RequestDeadlineFilter}; read by the data source layer to bound JDBC statement timeouts,
+ * so the deadline reaches every repository call without being passed through the service layer explicitly.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * Start a deadline {@code timeout} from now; closing the returned scope restores the previous one.
+     */
+    public static Scope start(Duration timeout) {
+        Long previous = DEADLINE_NANOS.get();
+        DEADLINE_NANOS.set(System.nanoTime() + timeout.toNanos());
+        return new Scope(previous);
+    }
+
+    /**
+     * Time left until the deadline, possibly negative; empty when no deadline is set.
+     */
+    public static Optional<Duration> remaining() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? Optional.empty() : Optional.of(Duration.ofNanos(deadline - System.nanoTime()));
+    }
+
+    public static boolean isExpired() {
+        return remaining().map(remaining -> remaining.isNegative() || remaining.isZero()).orElse(false);
+    }
+
+    /**
+     * Active deadline; {@link #close()} must be called on the thread that started it.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Long previous;
+
+        private Scope(Long previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                DEADLINE_NANOS.remove();
+            } else {
+                DEADLINE_NANOS.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.healthcare.platform.filter;
+
+import com.healthcare.platform.config.RequestDeadlineProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Filter that gives every request a deadline.
+ * The deadline comes from the {@code X-Request-Timeout-Ms} header (capped at {@code app.deadline.max-timeout}),
+ * or else from the first matching route in {@code app.deadline.routes}, or else {@code app.deadline.default-timeout}.
+ * Database statements issued while handling the request are bounded by it; requests that run out of time
+ * end with 504 and are counted in {@code http.server.requests.deadline.exceeded}.
+ */
+@Component
+@Order(2)
+@EnableConfigurationProperties(RequestDeadlineProperties.class)
+@Slf4j
+public class RequestDeadlineFilter implements Filter {
+
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+    public static final String DEADLINE_EXCEEDED_METRIC = "http.server.requests.deadline.exceeded";
+
+    private static final String DEFAULT_ROUTE = "default";
+    private static final String CLIENT_ROUTE = "client";
+
+    private final RequestDeadlineProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RequestDeadlineFilter(RequestDeadlineProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        if (!properties.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        String route = CLIENT_ROUTE;
+        Duration timeout = requestedTimeout(httpRequest);
+        if (timeout == null) {
+            RequestDeadlineProperties.Route match = matchRoute(httpRequest);
+            route = match != null ? match.getPattern() : DEFAULT_ROUTE;
+            timeout = match != null ? match.getTimeout() : properties.getDefaultTimeout();
+        }
+
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(timeout)) {
+            chain.doFilter(request, response);
+        } finally {
+            if (httpResponse.getStatus() == HttpStatus.GATEWAY_TIMEOUT.value()) {
+                log.warn("Request deadline of {}ms exceeded - path: {}", timeout.toMillis(), httpRequest.getServletPath());
+                Counter.builder(DEADLINE_EXCEEDED_METRIC)
+                        .description("Requests that ran out of time before completing")
+                        .tag("route", route)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+
+    private Duration requestedTimeout(HttpServletRequest request) {
+        String header = request.getHeader(REQUEST_TIMEOUT_HEADER);
+        if (!StringUtils.hasText(header)) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(header.trim());
+            if (millis > 0) {
+                Duration requested = Duration.ofMillis(millis);
+                return requested.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : requested;
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through to the route default
+        }
+        log.debug("Ignoring invalid {} header: {}", REQUEST_TIMEOUT_HEADER, header);
+        return null;
+    }
+
+    private RequestDeadlineProperties.Route matchRoute(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (RequestDeadlineProperties.Route route : properties.getRoutes()) {
+            if ((route.getMethod() == null || route.getMethod().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(route.getPattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.healthcare.platform.filter;
+
+import com.healthcare.platform.exception.RequestDeadlineExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Ends a request with 504 before its controller runs if the deadline started by {@link RequestDeadlineFilter} has
+ * already passed, for instance while the request waited behind authentication or rate limiting. The controller would
+ * only fail later, after taking a connection from the pool.
+ */
+@Component
+public class RequestDeadlineInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (RequestDeadline.isExpired()) {
+            throw new RequestDeadlineExceededException();
+        }
+        return true;
+    }
+}
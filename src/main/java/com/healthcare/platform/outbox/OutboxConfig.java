@@ -0,0 +1,27 @@
+package com.healthcare.platform.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+
+/**
+ * Built-in outbox sink, chosen by {@code app.outbox.sink} at runtime (so it also applies to AOT builds).
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    public OutboxSink outboxSink(Environment environment, ObjectMapper objectMapper) {
+        String sink = environment.getProperty("app.outbox.sink", "memory");
+        return switch (sink) {
+            case "memory" -> new InMemoryOutboxSink(
+                    environment.getProperty("app.outbox.memory.capacity", Integer.class, 10_000));
+            case "file" -> new FileOutboxSink(
+                    Path.of(environment.getProperty("app.outbox.file.path", "outbox-events.jsonl")), objectMapper);
+            default -> throw new IllegalStateException("Unknown app.outbox.sink: " + sink + " (expected memory or file)");
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.healthcare.platform.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.healthcare.platform.entity.OutboxEvent;
+
+import java.time.Instant;
+
+/**
+ * An outbox event as handed to an {@link OutboxSink}.
+ *
+ * @param id            unique and increasing; consumers should use it to discard redeliveries
+ * @param aggregateType kind of record that changed, e.g. {@code Patient}
+ * @param aggregateId   ID of the record that changed
+ * @param eventType     what happened, e.g. {@code UPDATED}
+ * @param payload       JSON document describing the change
+ * @param createdAt     when the change was written
+ */
+public record OutboxMessage(long id, String aggregateType, String aggregateId, String eventType,
+                            @JsonRawValue String payload, Instant createdAt) {
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+}
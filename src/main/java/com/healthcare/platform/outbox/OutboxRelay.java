@@ -0,0 +1,145 @@
+package com.healthcare.platform.outbox;
+
+import com.healthcare.platform.entity.OutboxEvent;
+import com.healthcare.platform.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox to the {@link OutboxSink} every {@code app.outbox.poll-interval}, in batches of
+ * {@code app.outbox.batch-size}. A batch is locked, delivered and deleted in one transaction; if delivery fails the
+ * transaction rolls back and the batch is retried on the next poll. Relays on several instances share the work
+ * because locked rows are skipped.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Clock clock;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter relayed;
+    private final Counter failures;
+    private final DistributionSummary batchSizes;
+    private final Timer batchDuration;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink sink,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.outbox.enabled:true}") boolean enabled,
+                       @Value("${app.outbox.batch-size:100}") int batchSize,
+                       @Value("${app.outbox.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                       ObjectProvider<MeterRegistry> meterRegistry) {
+        this(outboxEventRepository, sink, new TransactionTemplate(transactionManager), enabled, batchSize,
+                maxBatchesPerPoll, meterRegistry.getIfAvailable(SimpleMeterRegistry::new), Clock.systemUTC());
+    }
+
+    OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink sink, TransactionTemplate transactionTemplate,
+                boolean enabled, int batchSize, int maxBatchesPerPoll, MeterRegistry meterRegistry, Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerPoll = Math.max(1, maxBatchesPerPoll);
+        this.clock = clock;
+
+        TimeGauge.builder("outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest undelivered outbox event")
+                .register(meterRegistry);
+        this.relayed = Counter.builder("outbox.events.relayed")
+                .description("Outbox events delivered to the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.delivery.failures")
+                .description("Outbox batches that failed and will be retried")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("outbox.batch.size")
+                .description("Events per delivered outbox batch")
+                .register(meterRegistry);
+        this.batchDuration = Timer.builder("outbox.batch.duration")
+                .description("Time to lock, deliver and delete one outbox batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Relay up to {@code app.outbox.max-batches-per-poll} batches, stopping early when the outbox is drained or a
+     * delivery fails.
+     *
+     * @return number of events delivered
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}",
+            initialDelayString = "${app.outbox.poll-interval:PT1S}")
+    public int poll() {
+        if (!enabled) {
+            return 0;
+        }
+        int delivered = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                int count = relayBatch();
+                delivered += count;
+                if (count < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn("Outbox delivery failed, will retry: {}", ex.getMessage());
+        }
+        updateLag();
+        return delivered;
+    }
+
+    private int relayBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            long started = System.nanoTime();
+            List<OutboxEvent> batch = outboxEventRepository.lockOldest(Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            sink.publish(batch.stream().map(OutboxMessage::from).toList());
+            outboxEventRepository.deleteByIdIn(batch.stream().map(OutboxEvent::getId).toList());
+
+            relayed.increment(batch.size());
+            batchSizes.record(batch.size());
+            batchDuration.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return batch.size();
+        });
+        return count == null ? 0 : count;
+    }
+
+    private void updateLag() {
+        try {
+            lagMillis.set(outboxEventRepository.findFirstByOrderByIdAsc()
+                    .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), clock.instant()).toMillis()))
+                    .orElse(0L));
+        } catch (RuntimeException ex) {
+            log.debug("Could not measure outbox lag: {}", ex.getMessage());
+        }
+    }
+}
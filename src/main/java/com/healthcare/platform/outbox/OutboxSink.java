@@ -0,0 +1,18 @@
+package com.healthcare.platform.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events. Delivery is at-least-once: a batch is redelivered if the sink throws, or if
+ * the relay stops before it has removed the batch from the outbox, so implementations must tolerate duplicates.
+ * <p>
+ * The built-in sinks are meant for local testing ({@code app.outbox.sink}: {@code memory} or {@code file}); declare a
+ * {@code @Primary} {@code OutboxSink} bean to deliver to a real broker or service.
+ */
+public interface OutboxSink {
+
+    /**
+     * Deliver {@code messages} in order. Throwing leaves the whole batch in the outbox for the next poll.
+     */
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,81 @@
+package com.healthcare.platform.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.platform.dto.PatientChangeNotification;
+import com.healthcare.platform.entity.OutboxEvent;
+import com.healthcare.platform.repository.OutboxEventRepository;
+import com.healthcare.platform.service.PatientChangedEvent;
+import com.healthcare.platform.service.PatientsChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+
+/**
+ * Records every patient change in the outbox as part of the transaction that made it, so the event is stored if and
+ * only if the change commits. Delivery is left to {@link OutboxRelay}, so writers never wait on integrations.
+ */
+@Component
+public class OutboxWriter {
+
+    static final String PATIENT_AGGREGATE = "Patient";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Clock clock;
+
+    @Autowired
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                        @Value("${app.outbox.enabled:true}") boolean enabled) {
+        this(outboxEventRepository, objectMapper, enabled, Clock.systemUTC());
+    }
+
+    OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper, boolean enabled, Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.clock = clock;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPatientChanged(PatientChangedEvent event) {
+        if (enabled) {
+            outboxEventRepository.save(toOutboxEvent(event));
+        }
+    }
+
+    /**
+     * Records every change of a bulk write, one outbox event per patient as for single writes.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPatientsChanged(PatientsChangedEvent event) {
+        if (enabled) {
+            outboxEventRepository.saveAll(event.changes().stream().map(this::toOutboxEvent).toList());
+        }
+    }
+
+    private OutboxEvent toOutboxEvent(PatientChangedEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(
+                    new PatientChangeNotification(event.type().name(), event.after()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize outbox event for patient " + event.after().getId(), ex);
+        }
+        return OutboxEvent.builder()
+                .aggregateType(PATIENT_AGGREGATE)
+                .aggregateId(event.after().getId().toString())
+                .eventType(event.type().name())
+                .payload(payload)
+                .createdAt(clock.instant())
+                .build();
+    }
+}
@@ -1,13 +1,25 @@
 package com.healthcare.platform.repository;
 
+import com.healthcare.platform.dto.PatientVersion;
 import com.healthcare.platform.entity.Patient;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,7 +27,7 @@ import java.util.UUID;
  * Repository for Patient entity operations.
  */
 @Repository
-public interface PatientRepository extends JpaRepository<Patient, UUID> {
+public interface PatientRepository extends JpaRepository<Patient, UUID>, PatientRepositoryCustom {
 
     /**
      * Find patient by medical record number.
@@ -33,11 +45,13 @@ public interface PatientRepository extends JpaRepository<Patient, UUID> {
     @Query("SELECT p FROM Patient p WHERE " +
            "LOWER(p.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(p.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Page<Patient> searchByName(@Param("searchTerm") String searchTerm, Pageable pageable);
 
     /**
      * Find all active patients.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Page<Patient> findByStatus(Patient.PatientStatus status, Pageable pageable);
 
     /**
@@ -49,4 +63,106 @@ public interface PatientRepository extends JpaRepository<Patient, UUID> {
      * Check if medical record number already exists.
      */
     boolean existsByMedicalRecordNumber(String medicalRecordNumber);
+
+    /**
+     * Find only the version and last-modified timestamp of a patient (for conditional requests).
+     */
+    @Query("SELECT new com.healthcare.platform.dto.PatientVersion(p.id, p.version, p.updatedAt) " +
+           "FROM Patient p WHERE p.id = :id")
+    Optional<PatientVersion> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Find only the version and last-modified timestamp of a patient by medical record number.
+     */
+    @Query("SELECT new com.healthcare.platform.dto.PatientVersion(p.id, p.version, p.updatedAt) " +
+           "FROM Patient p WHERE p.medicalRecordNumber = :medicalRecordNumber")
+    Optional<PatientVersion> findVersionByMedicalRecordNumber(@Param("medicalRecordNumber") String medicalRecordNumber);
+
+    /**
+     * Lock the patients among {@code ids} that are not already in {@code status}, for a bulk status change.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Patient p WHERE p.id IN :ids AND p.status <> :status ORDER BY p.id")
+    List<Patient> lockForStatusChange(@Param("ids") Collection<UUID> ids, @Param("status") Patient.PatientStatus status);
+
+    /**
+     * Set the status of the patients with {@code ids} in one statement, bumping their version and update time as an
+     * entity update would. Evicts the patient second-level cache region.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Patient p SET p.status = :status, p.updatedAt = :updatedAt, p.version = p.version + 1 " +
+           "WHERE p.id IN :ids")
+    int updateStatus(@Param("ids") Collection<UUID> ids, @Param("status") Patient.PatientStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Lock up to {@code limit} patients in one of {@code statuses} that last changed before {@code cutoff}, for
+     * archival. Patients locked by another archiver are skipped.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT p FROM Patient p WHERE p.status IN :statuses AND p.updatedAt < :cutoff ORDER BY p.id")
+    List<Patient> lockArchivable(@Param("statuses") Collection<Patient.PatientStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    /**
+     * Delete the patients with {@code ids} in one statement. Evicts the patient second-level cache region.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Patient p WHERE p.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Up to {@code limit} patients created at or after {@code since} whose id sorts after {@code after}, in id order,
+     * as {@code [id, medicalRecordNumber]} rows; for keyset paging through the MRN index.
+     */
+    @Query("SELECT p.id, p.medicalRecordNumber FROM Patient p " +
+           "WHERE p.id > :after AND p.createdAt >= :since ORDER BY p.id")
+    List<Object[]> findMedicalRecordNumbers(@Param("after") UUID after, @Param("since") LocalDateTime since,
+                                            Limit limit);
+
+    /**
+     * Up to {@code limit} patients whose id sorts after {@code after}, in id order, as
+     * {@code [id, firstName, lastName, dateOfBirth, email, phone]} rows; for keyset paging through duplicate detection.
+     */
+    @Query("SELECT p.id, p.firstName, p.lastName, p.dateOfBirth, p.email, p.phone FROM Patient p " +
+           "WHERE p.id > :after ORDER BY p.id")
+    List<Object[]> findMatchFields(@Param("after") UUID after, Limit limit);
+
+    /**
+     * Up to {@code limit} patients whose id sorts after {@code after}, in id order, as
+     * {@code [id, firstName, lastName, dateOfBirth, medicalRecordNumber, status]} rows; for keyset paging through the
+     * name autocomplete index.
+     */
+    @Query("SELECT p.id, p.firstName, p.lastName, p.dateOfBirth, p.medicalRecordNumber, p.status FROM Patient p " +
+           "WHERE p.id > :after ORDER BY p.id")
+    List<Object[]> findSuggestionFields(@Param("after") UUID after, Limit limit);
+
+    /**
+     * Number of patients per status, as {@code [status, count]} rows.
+     */
+    @Query("SELECT p.status, COUNT(p) FROM Patient p GROUP BY p.status")
+    List<Object[]> countGroupedByStatus();
+
+    /**
+     * Number of patients per age band in one scan, as a single row: born after {@code under18},
+     * after {@code under35}, after {@code under50}, after {@code under65}, and on or before {@code under65}.
+     * Each parameter is the date of birth of someone turning that age today.
+     */
+    @Query("SELECT " +
+           "SUM(CASE WHEN p.dateOfBirth > :under18 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN p.dateOfBirth <= :under18 AND p.dateOfBirth > :under35 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN p.dateOfBirth <= :under35 AND p.dateOfBirth > :under50 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN p.dateOfBirth <= :under50 AND p.dateOfBirth > :under65 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN p.dateOfBirth <= :under65 THEN 1 ELSE 0 END) " +
+           "FROM Patient p")
+    List<Object[]> countByAgeBands(@Param("under18") LocalDate under18, @Param("under35") LocalDate under35,
+                                   @Param("under50") LocalDate under50, @Param("under65") LocalDate under65);
+
+    /**
+     * Number of patients created per day since {@code since}, as {@code [date, count]} rows.
+     */
+    @Query("SELECT CAST(p.createdAt AS LocalDate), COUNT(p) FROM Patient p " +
+           "WHERE p.createdAt >= :since GROUP BY CAST(p.createdAt AS LocalDate)")
+    List<Object[]> countCreatedPerDaySince(@Param("since") LocalDateTime since);
 }
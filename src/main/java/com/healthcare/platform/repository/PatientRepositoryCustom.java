@@ -0,0 +1,80 @@
+package com.healthcare.platform.repository;
+
+import com.healthcare.platform.dto.PatientChangeCursor;
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientStatusFilter;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.search.PatientSearchCursor;
+import com.healthcare.platform.search.PatientSearchHit;
+import com.healthcare.platform.search.PatientSearchPlan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Custom patient queries that select only the requested columns (sparse fieldsets).
+ */
+public interface PatientRepositoryCustom {
+
+    /**
+     * Find a patient by ID, selecting only the given fields.
+     */
+    Optional<PatientResponse> findProjectedById(UUID id, PatientFieldSet fields);
+
+    /**
+     * Find a patient by medical record number, selecting only the given fields.
+     */
+    Optional<PatientResponse> findProjectedByMedicalRecordNumber(String medicalRecordNumber, PatientFieldSet fields);
+
+    /**
+     * Page through all patients, selecting only the given fields.
+     */
+    Page<PatientResponse> findAllProjected(PatientFieldSet fields, Pageable pageable);
+
+    /**
+     * Search patients by name, selecting only the given fields.
+     */
+    Page<PatientResponse> searchByNameProjected(String searchTerm, PatientFieldSet fields, Pageable pageable);
+
+    /**
+     * Load many patients by ID in chunked {@code IN} queries, checking the persistence context and
+     * second-level cache first. The result is parallel to {@code ids}, with {@code null} for missing patients.
+     */
+    List<Patient> findAllByIdInOrder(List<UUID> ids, int batchSize);
+
+    /**
+     * Find a patient by medical record number through the natural-id cache, falling back to the database.
+     */
+    Optional<Patient> findByNaturalMedicalRecordNumber(String medicalRecordNumber);
+
+    /**
+     * Load many patients by medical record number, checking the natural-id and entity caches first.
+     * The result is parallel to {@code medicalRecordNumbers}, with {@code null} for missing patients.
+     */
+    List<Patient> findAllByMedicalRecordNumberInOrder(List<String> medicalRecordNumbers, int batchSize);
+
+    /**
+     * Up to {@code limit} patients changed after {@code after} and no later than {@code until}, ordered by
+     * {@code updatedAt} and then {@code id}, selecting only the given fields. Served by the
+     * {@code (updated_at, id)} index.
+     */
+    List<PatientResponse> findChangedAfter(PatientChangeCursor after, LocalDateTime until, PatientFieldSet fields,
+                                           int limit);
+
+    /**
+     * Lock up to {@code limit} patients matching {@code filter} that are not already in {@code status}, in ID order
+     * and starting after {@code after} (or from the first patient if {@code null}), for a bulk status change.
+     */
+    List<Patient> lockForStatusChange(PatientStatusFilter filter, Patient.PatientStatus status, UUID after, int limit);
+
+    /**
+     * Up to {@code limit} patients matching {@code plan}, in the order of its driving index and starting after
+     * {@code after} (or from the first match if {@code null}), selecting only the given fields.
+     */
+    List<PatientSearchHit> search(PatientSearchPlan plan, PatientSearchCursor after, PatientFieldSet fields, int limit);
+}
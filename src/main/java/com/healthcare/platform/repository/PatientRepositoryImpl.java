@@ -0,0 +1,239 @@
+package com.healthcare.platform.repository;
+
+import com.healthcare.platform.dto.PatientChangeCursor;
+import com.healthcare.platform.dto.PatientField;
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientStatusFilter;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.exception.InvalidRequestException;
+import com.healthcare.platform.search.PatientSearchCursor;
+import com.healthcare.platform.search.PatientSearchHit;
+import com.healthcare.platform.search.PatientSearchPlan;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse-fieldset queries for {@link PatientRepository}.
+ * Builds a JPQL select list from the requested fields so only those columns are read. The JPQL is the same string for
+ * the same fields and sort, so Hibernate's query plan cache ({@code hibernate.query.plan_cache_max_size}) parses each
+ * combination once.
+ */
+public class PatientRepositoryImpl implements PatientRepositoryCustom {
+
+    private static final String BY_ID = "WHERE p.id = :id";
+    private static final String BY_MRN = "WHERE p.medicalRecordNumber = :medicalRecordNumber";
+    private static final String BY_NAME = "WHERE LOWER(p.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+            "OR LOWER(p.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))";
+    private static final String CHANGED_UNTIL = "WHERE p.updatedAt <= :until";
+    // The redundant lower bound on updatedAt lets the database range-scan the index before applying the tiebreak
+    private static final String CHANGED_AFTER = "WHERE p.updatedAt >= :updatedAt AND p.updatedAt <= :until " +
+            "AND (p.updatedAt > :updatedAt OR p.id > :id)";
+    private static final Sort CHANGE_ORDER = Sort.by("updatedAt", "id");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<PatientResponse> findProjectedById(UUID id, PatientFieldSet fields) {
+        return selectQuery(BY_ID, fields, Sort.unsorted())
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(row -> toResponse(row, fields));
+    }
+
+    @Override
+    public Optional<PatientResponse> findProjectedByMedicalRecordNumber(String medicalRecordNumber, PatientFieldSet fields) {
+        return selectQuery(BY_MRN, fields, Sort.unsorted())
+                .setParameter("medicalRecordNumber", medicalRecordNumber)
+                .getResultStream()
+                .findFirst()
+                .map(row -> toResponse(row, fields));
+    }
+
+    @Override
+    public Page<PatientResponse> findAllProjected(PatientFieldSet fields, Pageable pageable) {
+        List<PatientResponse> content = page(selectQuery("", fields, pageable.getSort()), pageable)
+                .getResultList().stream()
+                .map(row -> toResponse(row, fields))
+                .collect(Collectors.toList());
+
+        return PageableExecutionUtils.getPage(content, pageable, () ->
+                entityManager.createQuery("SELECT COUNT(p) FROM Patient p", Long.class).getSingleResult());
+    }
+
+    @Override
+    public Page<PatientResponse> searchByNameProjected(String searchTerm, PatientFieldSet fields, Pageable pageable) {
+        List<PatientResponse> content = page(selectQuery(BY_NAME, fields, pageable.getSort()), pageable)
+                .setParameter("searchTerm", searchTerm)
+                .getResultList().stream()
+                .map(row -> toResponse(row, fields))
+                .collect(Collectors.toList());
+
+        return PageableExecutionUtils.getPage(content, pageable, () ->
+                entityManager.createQuery("SELECT COUNT(p) FROM Patient p " + BY_NAME, Long.class)
+                        .setParameter("searchTerm", searchTerm)
+                        .getSingleResult());
+    }
+
+    @Override
+    public List<PatientResponse> findChangedAfter(PatientChangeCursor after, LocalDateTime until,
+                                                  PatientFieldSet fields, int limit) {
+        TypedQuery<Object[]> query;
+        if (after.isStart()) {
+            query = selectQuery(CHANGED_UNTIL, fields, CHANGE_ORDER);
+        } else {
+            query = selectQuery(CHANGED_AFTER, fields, CHANGE_ORDER)
+                    .setParameter("updatedAt", after.updatedAt())
+                    .setParameter("id", after.id());
+        }
+        return query.setParameter("until", until)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(row -> toResponse(row, fields))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Patient> findAllByIdInOrder(List<UUID> ids, int batchSize) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Patient.class)
+                .enableSessionCheck(true)
+                .enableOrderedReturn(true)
+                .withBatchSize(batchSize)
+                .multiLoad(ids);
+    }
+
+    @Override
+    public Optional<Patient> findByNaturalMedicalRecordNumber(String medicalRecordNumber) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Patient.class)
+                .loadOptional(medicalRecordNumber);
+    }
+
+    @Override
+    public List<Patient> findAllByMedicalRecordNumberInOrder(List<String> medicalRecordNumbers, int batchSize) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleNaturalId(Patient.class)
+                .enableOrderedReturn(true)
+                .withBatchSize(batchSize)
+                .multiLoad(medicalRecordNumbers);
+    }
+
+    @Override
+    public List<Patient> lockForStatusChange(PatientStatusFilter filter, Patient.PatientStatus status, UUID after,
+                                             int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT p FROM Patient p WHERE p.status <> :status");
+        if (after != null) {
+            jpql.append(" AND p.id > :after");
+        }
+        if (filter.getCurrentStatus() != null) {
+            jpql.append(" AND p.status = :currentStatus");
+        }
+        if (filter.getUpdatedBefore() != null) {
+            jpql.append(" AND p.updatedAt < :updatedBefore");
+        }
+        boolean search = filter.getSearch() != null && !filter.getSearch().isBlank();
+        if (search) {
+            jpql.append(" AND (").append(BY_NAME.substring("WHERE ".length())).append(')');
+        }
+        jpql.append(" ORDER BY p.id");
+
+        TypedQuery<Patient> query = entityManager.createQuery(jpql.toString(), Patient.class)
+                .setParameter("status", status);
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        if (filter.getCurrentStatus() != null) {
+            query.setParameter("currentStatus", Patient.PatientStatus.valueOf(filter.getCurrentStatus()));
+        }
+        if (filter.getUpdatedBefore() != null) {
+            query.setParameter("updatedBefore", filter.getUpdatedBefore());
+        }
+        if (search) {
+            query.setParameter("searchTerm", filter.getSearch().trim());
+        }
+        return query.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<PatientSearchHit> search(PatientSearchPlan plan, PatientSearchCursor after, PatientFieldSet fields,
+                                         int limit) {
+        // The driving column is selected last, for the cursor; Hibernate's query plan cache parses the JPQL once
+        String jpql = "SELECT " + fields.fields().stream()
+                .map(field -> "p." + field.getName())
+                .collect(Collectors.joining(", "))
+                + ", p." + plan.drivingKey().getProperty()
+                + " FROM Patient p WHERE " + plan.where(after != null)
+                + " ORDER BY " + plan.orderBy();
+        int keyColumn = fields.fields().size();
+        return plan.bind(entityManager.createQuery(jpql, Object[].class), after)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(row -> {
+                    PatientResponse patient = toResponse(row, fields);
+                    return new PatientSearchHit(patient, plan.position(row[keyColumn], patient.getId()));
+                })
+                .collect(Collectors.toList());
+    }
+
+    private TypedQuery<Object[]> selectQuery(String where, PatientFieldSet fields, Sort sort) {
+        return entityManager.createQuery(buildJpql(where, fields, sort), Object[].class);
+    }
+
+    private static String buildJpql(String where, PatientFieldSet fields, Sort sort) {
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        jpql.append(fields.fields().stream()
+                .map(field -> "p." + field.getName())
+                .collect(Collectors.joining(", ")));
+        jpql.append(" FROM Patient p");
+        if (!where.isEmpty()) {
+            jpql.append(' ').append(where);
+        }
+        if (sort.isSorted()) {
+            jpql.append(" ORDER BY ");
+            jpql.append(sort.stream()
+                    .map(order -> "p." + sortableField(order.getProperty()).getName() + " " + order.getDirection().name())
+                    .collect(Collectors.joining(", ")));
+        }
+        return jpql.toString();
+    }
+
+    private static PatientField sortableField(String property) {
+        return PatientField.fromName(property)
+                .orElseThrow(() -> new InvalidRequestException("Cannot sort by unknown field: " + property));
+    }
+
+    private static <T> TypedQuery<T> page(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query;
+    }
+
+    private static PatientResponse toResponse(Object[] row, PatientFieldSet fields) {
+        PatientResponse response = new PatientResponse();
+        int column = 0;
+        for (PatientField field : fields.fields()) {
+            field.apply(response, row[column++]);
+        }
+        return response;
+    }
+}
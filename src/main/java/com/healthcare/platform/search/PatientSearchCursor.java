@@ -0,0 +1,53 @@
+package com.healthcare.platform.search;
+
+import com.healthcare.platform.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the results of a structured patient search: the last patient returned, in the {@code (key, id)} order
+ * of the search's driving {@link SearchKey}. Clients treat the encoded form as opaque.
+ *
+ * @param key   driving key of the search the cursor belongs to
+ * @param value driving column value of the last patient returned
+ * @param id    ID of the last patient returned
+ */
+public record PatientSearchCursor(SearchKey key, String value, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Decode a cursor returned by an earlier call, or {@code null} for blank input (the first page).
+     */
+    public static PatientSearchCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            // The value may itself contain the separator; the key and the id cannot
+            int first = decoded.indexOf(SEPARATOR);
+            int last = decoded.lastIndexOf(SEPARATOR);
+            if (first < 0 || first == last) {
+                throw new InvalidRequestException("Invalid search cursor: " + cursor);
+            }
+            SearchKey key = SearchKey.valueOf(decoded.substring(0, first));
+            String value = decoded.substring(first + 1, last);
+            key.parse(value);
+            return new PatientSearchCursor(key, value, UUID.fromString(decoded.substring(last + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidRequestException("Invalid search cursor: " + cursor);
+        }
+    }
+
+    /**
+     * URL-safe form for the {@code cursor} parameter.
+     */
+    public String encode() {
+        String raw = key.name() + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,9 @@
+package com.healthcare.platform.search;
+
+import com.healthcare.platform.dto.PatientResponse;
+
+/**
+ * A patient found by a structured search, with the cursor that continues the search after it.
+ */
+public record PatientSearchHit(PatientResponse patient, PatientSearchCursor position) {
+}
@@ -0,0 +1,121 @@
+package com.healthcare.platform.search;
+
+import com.healthcare.platform.exception.InvalidRequestException;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * How a structured patient search runs: its filters, most selective first. The first filter drives the search; its
+ * index is read in {@code (column, id)} order, which is also the order of the results and of their keyset pages, and
+ * the other filters are checked on the rows it finds. The other filters' columns are hidden from the database's own
+ * planner, which would otherwise drive some searches by a status index it takes for selective, scanning a large part
+ * of the table.
+ */
+public final class PatientSearchPlan {
+
+    private final List<Filter> filters;
+
+    PatientSearchPlan(List<Filter> filters) {
+        if (filters.isEmpty() || filters.get(0).key() == null) {
+            throw new IllegalArgumentException("A search plan must start with an indexed filter");
+        }
+        this.filters = List.copyOf(filters);
+    }
+
+    public SearchKey drivingKey() {
+        return filters.get(0).key();
+    }
+
+    /**
+     * Estimated share of patients the driving filter matches.
+     */
+    public double selectivity() {
+        return filters.get(0).selectivity();
+    }
+
+    public List<Filter> filters() {
+        return filters;
+    }
+
+    /**
+     * The JPQL condition on {@code Patient p}, continuing after a cursor if {@code resume} is set.
+     */
+    public String where(boolean resume) {
+        StringBuilder where = new StringBuilder(filters.get(0).jpql(true));
+        if (resume) {
+            // The redundant lower bound lets the database range-scan the index before applying the tiebreak
+            String column = "p." + drivingKey().getProperty();
+            where.append(" AND ").append(column).append(" >= :afterKey AND (").append(column)
+                    .append(" > :afterKey OR p.id > :afterId)");
+        }
+        for (Filter filter : filters.subList(1, filters.size())) {
+            where.append(" AND ").append(filter.jpql(false));
+        }
+        return where.toString();
+    }
+
+    /**
+     * The JPQL sort matching the driving index.
+     */
+    public String orderBy() {
+        return "p." + drivingKey().getProperty() + ", p.id";
+    }
+
+    /**
+     * Set the parameters of a query built from {@link #where}, continuing after {@code after} if it is not null.
+     */
+    public <T> TypedQuery<T> bind(TypedQuery<T> query, PatientSearchCursor after) {
+        for (Filter filter : filters) {
+            filter.parameters().forEach(query::setParameter);
+        }
+        if (after != null) {
+            if (after.key() != drivingKey()) {
+                throw new InvalidRequestException("Search cursor belongs to a search with different filters");
+            }
+            query.setParameter("afterKey", after.key().parse(after.value()));
+            query.setParameter("afterId", after.id());
+        }
+        return query;
+    }
+
+    /**
+     * The cursor after a result row with driving column value {@code key}.
+     */
+    public PatientSearchCursor position(Object key, UUID id) {
+        return new PatientSearchCursor(drivingKey(), drivingKey().format(key), id);
+    }
+
+    @Override
+    public String toString() {
+        return filters.stream().map(Filter::name).collect(Collectors.joining(" > "));
+    }
+
+    /**
+     * One filter of a plan.
+     *
+     * @param name        filter name, for logs
+     * @param key         the index that can drive the search on this filter, or {@code null} if none can
+     * @param selectivity estimated share of patients the filter matches
+     * @param condition   condition on {@code Patient p}, with {@code %1$s} standing for the key's column
+     * @param parameters  parameters of the condition
+     */
+    public record Filter(String name, SearchKey key, double selectivity, String condition,
+                         Map<String, Object> parameters) {
+
+        /**
+         * The condition as JPQL. Unless the filter drives the search, its column is wrapped in a {@code COALESCE}
+         * that changes nothing but keeps the database from matching it to an index.
+         */
+        public String jpql(boolean driving) {
+            if (key == null) {
+                return condition;
+            }
+            String column = "p." + key.getProperty();
+            return String.format(condition, driving ? column : "COALESCE(" + column + ", " + column + ")");
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.healthcare.platform.search;
+
+import com.healthcare.platform.dto.PatientSearchCriteria;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.exception.InvalidRequestException;
+import com.healthcare.platform.service.PatientStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Turns search criteria into a {@link PatientSearchPlan}, ordering the filters by estimated selectivity.
+ * <p>
+ * MRN and email are unique. A phone number is shared by a household at most. Dates of birth are taken to spread
+ * evenly over {@value #LIFESPAN_YEARS} years, and each letter of a last-name prefix to keep about one patient in
+ * seven. The share of each status comes from the live {@link PatientStatistics} counters. The first-name filter has
+ * no index and never drives a search, so a search needs at least one other filter.
+ */
+@Component
+public class PatientSearchPlanner {
+
+    static final int LIFESPAN_YEARS = 120;
+
+    private static final double UNIQUE = 1e-9;
+    private static final double PHONE = 1e-6;
+    private static final double NAME_LETTER = 0.15;
+    private static final double FULL_NAME = 1e-4;
+    private static final double UNINDEXED = 1.0;
+
+    private final PatientStatistics statistics;
+    private final Clock clock;
+
+    @Autowired
+    public PatientSearchPlanner(PatientStatistics statistics) {
+        this(statistics, Clock.systemDefaultZone());
+    }
+
+    PatientSearchPlanner(PatientStatistics statistics, Clock clock) {
+        this.statistics = statistics;
+        this.clock = clock;
+    }
+
+    public PatientSearchPlan plan(PatientSearchCriteria criteria) {
+        List<PatientSearchPlan.Filter> filters = new ArrayList<>();
+
+        String mrn = trimmed(criteria.getMedicalRecordNumber());
+        if (mrn != null) {
+            filters.add(filter("medicalRecordNumber", SearchKey.MEDICAL_RECORD_NUMBER, UNIQUE,
+                    "%s = :medicalRecordNumber", mrn));
+        }
+        String email = Patient.normalizeEmail(criteria.getEmail());
+        if (email != null) {
+            filters.add(filter("email", SearchKey.EMAIL, UNIQUE, "%s = :email", email));
+        }
+        if (trimmed(criteria.getPhone()) != null) {
+            String phone = Patient.normalizePhone(criteria.getPhone());
+            if (phone == null) {
+                throw new InvalidRequestException("Phone must contain digits: " + criteria.getPhone());
+            }
+            filters.add(filter("phone", SearchKey.PHONE, PHONE, "%s = :phone", phone));
+        }
+        addDateOfBirth(criteria, filters);
+        String lastName = Patient.normalizeName(criteria.getLastName());
+        if (lastName != null) {
+            filters.add(new PatientSearchPlan.Filter("lastName", SearchKey.LAST_NAME,
+                    Math.max(FULL_NAME, Math.pow(NAME_LETTER, lastName.length())),
+                    // The range uses the index under any collation; LIKE keeps the match exact
+                    "%1$s >= :lastNameFrom AND %1$s < :lastNameTo AND %1$s LIKE :lastNamePrefix ESCAPE '\\'",
+                    Map.of("lastNameFrom", lastName, "lastNameTo", successor(lastName),
+                            "lastNamePrefix", likePrefix(lastName))));
+        }
+        String status = trimmed(criteria.getStatus());
+        if (status != null) {
+            Patient.PatientStatus parsed = parseStatus(status);
+            filters.add(filter("status", SearchKey.STATUS, statistics.statusShare(parsed), "%s = :status",
+                    parsed));
+        }
+        String firstName = Patient.normalizeName(criteria.getFirstName());
+        if (firstName != null) {
+            filters.add(filter("firstName", null, UNINDEXED,
+                    "LOWER(p.firstName) LIKE :firstName ESCAPE '\\'", likePrefix(firstName)));
+        }
+
+        if (filters.stream().allMatch(filter -> filter.key() == null)) {
+            throw new InvalidRequestException("Search needs at least one of lastName, dateOfBirth, dateOfBirthFrom, " +
+                    "dateOfBirthTo, phone, email, medicalRecordNumber or status");
+        }
+        // Stable, so that equally selective filters keep the order above
+        filters.sort(Comparator.comparingDouble(PatientSearchPlan.Filter::selectivity));
+        return new PatientSearchPlan(filters);
+    }
+
+    private void addDateOfBirth(PatientSearchCriteria criteria, List<PatientSearchPlan.Filter> filters) {
+        LocalDate exact = criteria.getDateOfBirth();
+        LocalDate from = criteria.getDateOfBirthFrom();
+        LocalDate to = criteria.getDateOfBirthTo();
+        if (exact != null) {
+            if (from != null || to != null) {
+                throw new InvalidRequestException("Give either dateOfBirth or a dateOfBirthFrom/dateOfBirthTo range");
+            }
+            filters.add(filter("dateOfBirth", SearchKey.DATE_OF_BIRTH, days(1), "%s = :dateOfBirth", exact));
+            return;
+        }
+        if (from == null && to == null) {
+            return;
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("dateOfBirthFrom must not be after dateOfBirthTo");
+        }
+        LocalDate today = LocalDate.now(clock);
+        LocalDate earliest = from != null ? from : today.minusYears(LIFESPAN_YEARS);
+        LocalDate latest = to != null ? to : today;
+        double selectivity = Math.min(1.0, days(ChronoUnit.DAYS.between(earliest, latest) + 1));
+        if (from != null && to != null) {
+            filters.add(new PatientSearchPlan.Filter("dateOfBirthRange", SearchKey.DATE_OF_BIRTH, selectivity,
+                    "%1$s >= :dateOfBirthFrom AND %1$s <= :dateOfBirthTo",
+                    Map.of("dateOfBirthFrom", from, "dateOfBirthTo", to)));
+        } else if (from != null) {
+            filters.add(filter("dateOfBirthFrom", SearchKey.DATE_OF_BIRTH, selectivity,
+                    "%s >= :dateOfBirthFrom", from));
+        } else {
+            filters.add(filter("dateOfBirthTo", SearchKey.DATE_OF_BIRTH, selectivity,
+                    "%s <= :dateOfBirthTo", to));
+        }
+    }
+
+    /**
+     * A filter whose condition has a single parameter, named like the filter.
+     */
+    private static PatientSearchPlan.Filter filter(String name, SearchKey key, double selectivity, String jpql,
+                                                   Object value) {
+        return new PatientSearchPlan.Filter(name, key, selectivity, jpql, Map.of(name, value));
+    }
+
+    private static double days(long days) {
+        return days / (LIFESPAN_YEARS * 365.25);
+    }
+
+    private static Patient.PatientStatus parseStatus(String status) {
+        try {
+            return Patient.PatientStatus.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Status must be one of ACTIVE, INACTIVE, DECEASED");
+        }
+    }
+
+    private static String trimmed(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * The smallest string greater than every string starting with {@code prefix}.
+     */
+    static String successor(String prefix) {
+        char last = prefix.charAt(prefix.length() - 1);
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    }
+
+    static String likePrefix(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 1);
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
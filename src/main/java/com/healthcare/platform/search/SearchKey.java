@@ -0,0 +1,50 @@
+package com.healthcare.platform.search;
+
+import com.healthcare.platform.entity.Patient;
+
+import java.time.LocalDate;
+
+/**
+ * An indexed column that can drive a structured patient search. The search reads the column's index in
+ * {@code (column, id)} order, which is also the keyset order of its pages.
+ */
+public enum SearchKey {
+
+    MEDICAL_RECORD_NUMBER("medicalRecordNumber"),
+    EMAIL("emailNormalized"),
+    PHONE("phoneNormalized"),
+    DATE_OF_BIRTH("dateOfBirth"),
+    LAST_NAME("lastNameNormalized"),
+    STATUS("status");
+
+    private final String property;
+
+    SearchKey(String property) {
+        this.property = property;
+    }
+
+    /**
+     * The entity property this key reads, for JPQL.
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * The column value of a query row as a cursor string.
+     */
+    String format(Object value) {
+        return value instanceof Enum<?> status ? status.name() : value.toString();
+    }
+
+    /**
+     * The query parameter for a cursor string made by {@link #format}.
+     */
+    Object parse(String value) {
+        return switch (this) {
+            case DATE_OF_BIRTH -> LocalDate.parse(value);
+            case STATUS -> Patient.PatientStatus.valueOf(value);
+            default -> value;
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.healthcare.platform.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -52,6 +53,9 @@ public class SecurityConfig {
 
             // Configure endpoint authorization
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches resume requests that were already authorized (e.g. completed event streams)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Public endpoints
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/api/v1/health", "/api/v1/ready", "/api/v1/info").permitAll()
@@ -81,8 +85,11 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("http://localhost:3000", "http://localhost:8080"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Correlation-ID", "X-Request-ID"));
-        configuration.setExposedHeaders(Arrays.asList("X-Correlation-ID", "X-Request-ID"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Correlation-ID", "X-Request-ID",
+                "If-Match", "If-None-Match", "If-Modified-Since", "Idempotency-Key", "X-Request-Timeout-Ms",
+                "Last-Event-ID"));
+        configuration.setExposedHeaders(Arrays.asList("X-Correlation-ID", "X-Request-ID", "ETag", "Last-Modified",
+                "Idempotent-Replayed", "Warning", "Age"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
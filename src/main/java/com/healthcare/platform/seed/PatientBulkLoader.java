@@ -0,0 +1,133 @@
+package com.healthcare.platform.seed;
+
+import com.healthcare.platform.entity.Patient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads synthetic patients straight into the {@code patients} table with batched JDBC inserts.
+ * Index ranges are split across worker threads, each with its own connection. Rows bypass JPA entirely,
+ * so callers running inside the application must evict the Hibernate second-level cache afterwards.
+ * On PostgreSQL, add {@code reWriteBatchedInserts=true} to the JDBC URL to turn each batch into multi-row inserts.
+ */
+@Slf4j
+public class PatientBulkLoader {
+
+    static final String INSERT_SQL = "INSERT INTO patients (id, first_name, last_name, last_name_normalized, "
+            + "date_of_birth, email, email_normalized, phone, phone_normalized, address, medical_record_number, "
+            + "status, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int threads;
+
+    public PatientBulkLoader(DataSource dataSource, int batchSize, int threads) {
+        if (batchSize < 1 || threads < 1) {
+            throw new IllegalArgumentException("batchSize and threads must be positive");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchSize = batchSize;
+        this.threads = threads;
+    }
+
+    /**
+     * Insert records {@code firstIndex} to {@code firstIndex + count} (exclusive) of {@code generator}.
+     */
+    public LoadResult load(SyntheticPatientGenerator generator, long firstIndex, long count) {
+        long started = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        int workers = (int) Math.max(1, Math.min(threads, count / batchSize));
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "patient-bulk-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> partitions = new ArrayList<>(workers);
+            long perWorker = count / workers;
+            for (int worker = 0; worker < workers; worker++) {
+                long from = firstIndex + worker * perWorker;
+                long to = worker == workers - 1 ? firstIndex + count : from + perWorker;
+                partitions.add(executor.submit(() -> loadRange(generator, from, to, count, loaded, started)));
+            }
+            for (Future<?> partition : partitions) {
+                partition.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk load interrupted after " + loaded.get() + " rows", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Bulk load failed after " + loaded.get() + " rows", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LoadResult result = new LoadResult(loaded.get(), Duration.ofNanos(System.nanoTime() - started));
+        log.info("Loaded {} synthetic patients in {} ms ({} rows/s)",
+                result.rows(), result.elapsed().toMillis(), Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    private void loadRange(SyntheticPatientGenerator generator, long from, long to, long total,
+                           AtomicLong loaded, long started) {
+        List<Patient> batch = new ArrayList<>(batchSize);
+        for (long index = from; index < to; index += batchSize) {
+            batch.clear();
+            generator.stream(index, Math.min(batchSize, to - index)).forEach(batch::add);
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batchSize, PatientBulkLoader::bind);
+            reportProgress(loaded.addAndGet(batch.size()), batch.size(), total, started);
+        }
+    }
+
+    private static void reportProgress(long loaded, int justLoaded, long total, long started) {
+        long step = Math.max(1, total / 10);
+        if (loaded / step != (loaded - justLoaded) / step && loaded < total) {
+            double seconds = Math.max(1, System.nanoTime() - started) / 1e9;
+            log.info("Loaded {}/{} synthetic patients ({} rows/s)", loaded, total, Math.round(loaded / seconds));
+        }
+    }
+
+    private static void bind(PreparedStatement statement, Patient patient) throws SQLException {
+        statement.setObject(1, patient.getId());
+        statement.setString(2, patient.getFirstName());
+        statement.setString(3, patient.getLastName());
+        statement.setString(4, patient.getLastNameNormalized());
+        statement.setObject(5, patient.getDateOfBirth());
+        statement.setString(6, patient.getEmail());
+        statement.setString(7, patient.getEmailNormalized());
+        statement.setString(8, patient.getPhone());
+        statement.setString(9, patient.getPhoneNormalized());
+        statement.setString(10, patient.getAddress());
+        statement.setString(11, patient.getMedicalRecordNumber());
+        statement.setString(12, patient.getStatus().name());
+        statement.setObject(13, patient.getCreatedAt());
+        statement.setObject(14, patient.getUpdatedAt());
+        statement.setLong(15, patient.getVersion());
+    }
+
+    /**
+     * Outcome of a load, with the achieved insert rate.
+     */
+    public record LoadResult(long rows, Duration elapsed) {
+
+        public double rowsPerSecond() {
+            return rows / Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        }
+    }
+}
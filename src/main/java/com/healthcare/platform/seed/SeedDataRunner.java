@@ -0,0 +1,53 @@
+package com.healthcare.platform.seed;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Command-line seeding: starting the application with {@code --app.seed.patients=<count>} loads that many synthetic
+ * patients before serving traffic. Combine with {@code --spring.main.web-application-type=none} to load and exit.
+ * The runner is always registered and does nothing without the property, which keeps it usable in AOT builds.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeedDataRunner implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.seed.patients:0}")
+    private long patients;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${app.seed.first-index:0}")
+    private long firstIndex;
+
+    @Value("${app.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.seed.threads:4}")
+    private int threads;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (patients <= 0) {
+            return;
+        }
+        log.info("Seeding {} synthetic patients (seed {}, first index {})", patients, randomSeed, firstIndex);
+        new PatientBulkLoader(dataSource, batchSize, threads)
+                .load(new SyntheticPatientGenerator(randomSeed), firstIndex, patients);
+        // Rows were written behind Hibernate's back; drop cached entities and query results
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+}
@@ -0,0 +1,233 @@
+package com.healthcare.platform.seed;
+
+import com.healthcare.platform.entity.Patient;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic generator of realistic synthetic {@link Patient} records.
+ * Each record is a pure function of the seed and its index, so ranges can be generated in parallel and in any order
+ * and still reproduce the same dataset. Names follow common-name frequencies, ages follow a broad population curve,
+ * and emails and medical record numbers are unique per index so that rows load under the unique constraints.
+ */
+public final class SyntheticPatientGenerator {
+
+    /**
+     * Dates are relative to this fixed day, not today, so that a seed always produces the same records.
+     */
+    public static final LocalDate DEFAULT_REFERENCE_DATE = LocalDate.of(2025, 1, 1);
+
+    /**
+     * Synthetic MRNs start here; regular MRNs are derived from the current epoch millis and stay far below it.
+     */
+    static final long MRN_BASE = 9_000_000_000_000L;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final Weighted<String> FIRST_NAMES = new Weighted<>(
+            new String[]{"James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David",
+                    "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah",
+                    "Christopher", "Karen", "Charles", "Lisa", "Daniel", "Nancy", "Matthew", "Sandra", "Anthony",
+                    "Ashley", "Mark", "Emily", "Jose", "Maria", "Wei", "Mei", "Mohammed", "Fatima", "Oliver",
+                    "Sofia", "Liam", "Aaliyah"},
+            new int[]{33, 32, 31, 30, 30, 27, 26, 26, 24, 24, 23, 22, 21, 21, 20, 20, 19, 19, 18, 17, 17, 16, 16,
+                    15, 14, 14, 13, 13, 12, 12, 11, 11, 8, 7, 7, 6, 6, 6, 5, 4});
+
+    private static final Weighted<String> LAST_NAMES = new Weighted<>(
+            new String[]{"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez",
+                    "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore",
+                    "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark",
+                    "Ramirez", "Lewis", "Robinson", "Walker", "Young", "Nguyen", "Kim", "Patel", "Chen", "Wang",
+                    "Khan", "O'Brien", "Van der Berg"},
+            new int[]{24, 19, 16, 14, 14, 11, 11, 10, 10, 10, 10, 9, 9, 9, 8, 8, 8, 8, 7, 7, 7, 7, 6, 6, 6, 6, 5,
+                    5, 5, 5, 5, 5, 4, 4, 4, 4, 3, 3, 2, 1});
+
+    private static final Weighted<String> EMAIL_DOMAINS = new Weighted<>(
+            new String[]{"gmail.com", "yahoo.com", "outlook.com", "hotmail.com", "icloud.com", "example.org"},
+            new int[]{45, 15, 15, 10, 10, 5});
+
+    private static final Weighted<Patient.PatientStatus> STATUSES = new Weighted<>(
+            new Patient.PatientStatus[]{Patient.PatientStatus.ACTIVE, Patient.PatientStatus.INACTIVE,
+                    Patient.PatientStatus.DECEASED},
+            new int[]{85, 12, 3});
+
+    /** Email local parts for each name: lower-cased, letters only. */
+    private static final Map<String, String> LOCAL_PARTS = Stream.concat(
+                    Arrays.stream(FIRST_NAMES.values), Arrays.stream(LAST_NAMES.values))
+            .distinct()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), SyntheticPatientGenerator::localPart));
+
+    private static final String[] STREETS = {"Main", "Oak", "Pine", "Maple", "Cedar", "Elm", "Washington", "Lake",
+            "Hill", "Park", "Sunset", "River", "Highland", "Church", "Mill"};
+    private static final String[] STREET_SUFFIXES = {"St", "Ave", "Rd", "Blvd", "Ln", "Dr", "Way", "Ct"};
+    private static final String[] CITIES = {"Springfield", "Riverside", "Franklin", "Greenville", "Fairview",
+            "Madison", "Georgetown", "Salem", "Clinton", "Arlington", "Ashland", "Burlington"};
+    private static final String[] STATES = {"CA", "TX", "FL", "NY", "PA", "IL", "OH", "GA", "NC", "MI", "WA", "MA"};
+
+    private final long seed;
+    private final LocalDate referenceDate;
+
+    public SyntheticPatientGenerator(long seed) {
+        this(seed, DEFAULT_REFERENCE_DATE);
+    }
+
+    public SyntheticPatientGenerator(long seed, LocalDate referenceDate) {
+        this.seed = seed;
+        this.referenceDate = referenceDate;
+    }
+
+    /**
+     * The record at {@code index}; the same seed and index always give the same record.
+     */
+    public Patient generate(long index) {
+        SplittableRandom random = new SplittableRandom(mix64(seed + index * GOLDEN_GAMMA));
+
+        String firstName = FIRST_NAMES.pick(random);
+        String lastName = LAST_NAMES.pick(random);
+        String email = random.nextInt(100) < 90 ? email(random, firstName, lastName, index) : null;
+        String phone = random.nextInt(100) < 80 ? phone(random) : null;
+        String address = random.nextInt(100) < 85 ? address(random) : null;
+
+        LocalDateTime createdAt = referenceDate.minusDays(random.nextInt(5 * 365) + 1)
+                .atTime(LocalTime.ofSecondOfDay(random.nextInt(86_400)));
+        long secondsSinceCreated = Duration.between(createdAt, referenceDate.atStartOfDay()).getSeconds();
+        LocalDateTime updatedAt = random.nextInt(100) < 40
+                ? createdAt.plusSeconds(random.nextLong(secondsSinceCreated))
+                : createdAt;
+
+        return Patient.builder()
+                .id(new UUID((random.nextLong() & ~0xF000L) | 0x4000L,
+                        (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L))
+                .firstName(firstName)
+                .lastName(lastName)
+                .lastNameNormalized(Patient.normalizeName(lastName))
+                .dateOfBirth(dateOfBirth(random))
+                .email(email)
+                .emailNormalized(Patient.normalizeEmail(email))
+                .phone(phone)
+                .phoneNormalized(Patient.normalizePhone(phone))
+                .address(address)
+                .medicalRecordNumber("MRN-" + (MRN_BASE + index))
+                .status(STATUSES.pick(random))
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .version(0L)
+                .build();
+    }
+
+    /**
+     * Records {@code from} (inclusive) to {@code from + count} (exclusive), in index order.
+     */
+    public Stream<Patient> stream(long from, long count) {
+        return LongStream.range(from, from + count).mapToObj(this::generate);
+    }
+
+    /**
+     * Scrambles per-record seeds; consecutive {@code SplittableRandom} seeds one gamma apart would share output.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Ages between 0 and 104, most between 20 and 70, with a tail of newborns and the very old.
+     */
+    private LocalDate dateOfBirth(SplittableRandom random) {
+        int age = (int) Math.round(random.nextDouble() * 35 + random.nextDouble() * 35 + random.nextDouble() * 35);
+        return referenceDate.minusYears(age).minusDays(random.nextInt(1, 366));
+    }
+
+    private static String email(SplittableRandom random, String firstName, String lastName, long index) {
+        String first = LOCAL_PARTS.get(firstName);
+        String last = LOCAL_PARTS.get(lastName);
+        StringBuilder email = new StringBuilder(48);
+        switch (random.nextInt(4)) {
+            case 0 -> email.append(first).append('.').append(last);
+            case 1 -> email.append(first.charAt(0)).append(last);
+            case 2 -> email.append(first).append('_').append(last);
+            default -> email.append(last).append('.').append(first);
+        }
+        // The index suffix keeps addresses unique across the whole dataset
+        email.append(index).append('@').append(EMAIL_DOMAINS.pick(random));
+        return random.nextInt(10) == 0 ? email.toString().toUpperCase(Locale.ROOT) : email.toString();
+    }
+
+    private static String localPart(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+    }
+
+    /**
+     * North American E.164 number with valid area code and exchange.
+     */
+    private static String phone(SplittableRandom random) {
+        StringBuilder phone = new StringBuilder(12).append("+1")
+                .append(random.nextInt(201, 990))
+                .append(random.nextInt(200, 1000));
+        return zeroPadded(phone, random.nextInt(10_000), 4).toString();
+    }
+
+    private static String address(SplittableRandom random) {
+        StringBuilder address = new StringBuilder(64)
+                .append(random.nextInt(1, 9_999)).append(' ')
+                .append(STREETS[random.nextInt(STREETS.length)]).append(' ')
+                .append(STREET_SUFFIXES[random.nextInt(STREET_SUFFIXES.length)]).append(", ")
+                .append(CITIES[random.nextInt(CITIES.length)]).append(", ")
+                .append(STATES[random.nextInt(STATES.length)]).append(' ');
+        return zeroPadded(address, random.nextInt(1_000, 100_000), 5).toString();
+    }
+
+    private static StringBuilder zeroPadded(StringBuilder target, int value, int width) {
+        for (int digits = Integer.toString(value).length(); digits < width; digits++) {
+            target.append('0');
+        }
+        return target.append(value);
+    }
+
+    /**
+     * Values picked with probability proportional to their weights.
+     */
+    private static final class Weighted<T> {
+
+        private final T[] values;
+        private final int[] cumulative;
+
+        Weighted(T[] values, int[] weights) {
+            this.values = values;
+            this.cumulative = new int[weights.length];
+            int total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                total += weights[i];
+                cumulative[i] = total;
+            }
+        }
+
+        T pick(SplittableRandom random) {
+            int target = random.nextInt(cumulative[cumulative.length - 1]);
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] > target) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return values[low];
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.healthcare.platform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.platform.exception.IdempotencyKeyInProgressException;
+import com.healthcare.platform.exception.IdempotencyKeyReuseException;
+import com.healthcare.platform.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * In-memory store for {@code Idempotency-Key} handling on write endpoints.
+ * The first request for a key executes and its response is recorded together with a fingerprint of the
+ * request; retries with the same key replay the recorded response, and concurrent duplicates wait for the
+ * in-flight execution instead of running it again. Failed executions are not recorded, so they can be retried.
+ * Entries expire after a fixed TTL and the store is capped at a maximum size, evicting the oldest completed
+ * executions first; executions still running are kept, so their duplicates keep waiting instead of running again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Expiry> expiryQueue = new ConcurrentLinkedQueue<>();
+
+    @Value("${app.idempotency.ttl:PT1H}")
+    private Duration ttl = Duration.ofHours(1);
+
+    @Value("${app.idempotency.max-entries:10000}")
+    private int maxEntries = 10_000;
+
+    @Value("${app.idempotency.wait-timeout:PT30S}")
+    private Duration waitTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Execute {@code action} at most once per key. Keys are scoped to the current principal and the
+     * given operation, so different users (or endpoints) never see each other's responses.
+     *
+     * @param key       the client-supplied Idempotency-Key
+     * @param operation a stable name for the endpoint, e.g. {@code "POST /api/v1/patients"}
+     * @param request   the request payload, fingerprinted to detect key reuse with a different body
+     * @param action    produces the response on first execution
+     */
+    public <T> ResponseEntity<T> execute(String key, String operation, Object request,
+                                         Supplier<ResponseEntity<T>> action) {
+        validateKey(key);
+        String storeKey = currentPrincipal() + '\n' + operation + '\n' + key;
+        byte[] fingerprint = fingerprint(request);
+
+        CompletableFuture<ResponseEntity<?>> pending = new CompletableFuture<>();
+        Entry created = new Entry(fingerprint, pending, System.nanoTime() + ttl.toNanos());
+
+        while (true) {
+            evictExpired();
+            Entry existing = entries.putIfAbsent(storeKey, created);
+            if (existing == null) {
+                expiryQueue.add(new Expiry(storeKey, created));
+                evictOverflow();
+                return executeFirst(storeKey, created, action);
+            }
+            if (existing.isExpired(System.nanoTime())) {
+                remove(storeKey, existing);
+                continue;
+            }
+            if (!MessageDigest.isEqual(existing.fingerprint, fingerprint)) {
+                throw new IdempotencyKeyReuseException(
+                        "Idempotency-Key " + key + " was already used with a different request payload");
+            }
+            return replay(storeKey, existing);
+        }
+    }
+
+    /**
+     * Number of keys currently held (for diagnostics and tests).
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of keys waiting in the expiry queue (for tests).
+     */
+    int queued() {
+        return expiryQueue.size();
+    }
+
+    private <T> ResponseEntity<T> executeFirst(String storeKey, Entry entry, Supplier<ResponseEntity<T>> action) {
+        try {
+            ResponseEntity<T> response = action.get();
+            entry.response.complete(response);
+            return response;
+        } catch (RuntimeException | Error ex) {
+            // Don't remember failures: waiters see the same error, later retries execute again
+            remove(storeKey, entry);
+            entry.response.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> replay(String storeKey, Entry entry) {
+        ResponseEntity<?> stored;
+        try {
+            stored = entry.response.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Original request failed", ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new IdempotencyKeyInProgressException("A request with this Idempotency-Key is still in progress");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the original request", ex);
+        }
+
+        log.debug("Replaying stored response for idempotency key [{}]", storeKey.substring(storeKey.lastIndexOf('\n') + 1));
+        return (ResponseEntity<T>) ResponseEntity.status(stored.getStatusCode())
+                .headers(stored.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(stored.getBody());
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        Expiry head;
+        while ((head = expiryQueue.peek()) != null && head.entry.isExpired(now)) {
+            if (expiryQueue.remove(head)) {
+                entries.remove(head.storeKey, head.entry);
+            }
+        }
+    }
+
+    private void evictOverflow() {
+        for (Iterator<Expiry> it = expiryQueue.iterator(); entries.size() > maxEntries && it.hasNext(); ) {
+            Expiry oldest = it.next();
+            if (oldest.entry.response.isDone()) {
+                it.remove();
+                entries.remove(oldest.storeKey, oldest.entry);
+            }
+        }
+    }
+
+    /**
+     * Drop an entry outside of expiry and eviction, together with its place in the expiry queue, so that the queue
+     * stays bounded by the store.
+     */
+    private void remove(String storeKey, Entry entry) {
+        if (entries.remove(storeKey, entry)) {
+            expiryQueue.remove(new Expiry(storeKey, entry));
+        }
+    }
+
+    private byte[] fingerprint(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return digest.digest(request == null ? new byte[0] : objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Unable to fingerprint request", ex);
+        }
+    }
+
+    private static void validateKey(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException(
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "anonymous" : authentication.getName();
+    }
+
+    /**
+     * A recorded (or in-flight) execution. Compared by identity so that conditional removes
+     * never drop an entry that replaced this one.
+     */
+    private static final class Entry {
+
+        private final byte[] fingerprint;
+        private final CompletableFuture<ResponseEntity<?>> response;
+        private final long expiresAtNanos;
+
+        private Entry(byte[] fingerprint, CompletableFuture<ResponseEntity<?>> response, long expiresAtNanos) {
+            this.fingerprint = fingerprint;
+            this.response = response;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    private record Expiry(String storeKey, Entry entry) {
+    }
+}
@@ -0,0 +1,311 @@
+package com.healthcare.platform.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * Open-addressing hash table from string keys to UUIDs, stored in a memory-mapped file instead of on the heap.
+ * <p>
+ * Each slot holds the 64-bit hash of a key and the UUID, 24 bytes in all; keys themselves are not stored, so a
+ * lookup can return the UUID of a different key with the same hash (or of an entry that has since become stale) and
+ * callers must verify the result. Slots are found by linear probing. Readers take no lock: a slot's UUID is written
+ * before its hash is published with release semantics. Writers must be serialized by the caller.
+ * <p>
+ * The file keeps its header (capacity, size, whether it was closed cleanly and up to when it is known to be
+ * complete) so that a cleanly closed table can be reopened instead of rebuilt.
+ */
+final class MappedHashIndex implements Closeable {
+
+    private static final int MAGIC = 0x4d524e58;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_BYTES = 24;
+    private static final int SLOTS_PER_CHUNK_SHIFT = 20;
+    private static final int SLOTS_PER_CHUNK = 1 << SLOTS_PER_CHUNK_SHIFT;
+    private static final long CLEAN = 1;
+    private static final long DIRTY = 0;
+    private static final double MAX_LOAD = 0.7;
+
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+    private static final int STATE_OFFSET = 24;
+    private static final int COMPLETE_UNTIL_OFFSET = 32;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] chunks;
+    private final long capacity;
+    private final long mask;
+    private final long completeUntil;
+    private long size;
+
+    private MappedHashIndex(FileChannel channel, long capacity, boolean reopened) throws IOException {
+        this.channel = channel;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        int chunkCount = (int) ((capacity + SLOTS_PER_CHUNK - 1) >>> SLOTS_PER_CHUNK_SHIFT);
+        this.chunks = new MappedByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            long slots = Math.min(SLOTS_PER_CHUNK, capacity - ((long) i << SLOTS_PER_CHUNK_SHIFT));
+            chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE,
+                    HEADER_BYTES + ((long) i << SLOTS_PER_CHUNK_SHIFT) * SLOT_BYTES, slots * SLOT_BYTES);
+        }
+        this.completeUntil = reopened ? header.getLong(COMPLETE_UNTIL_OFFSET) : 0;
+        this.size = reopened ? header.getLong(SIZE_OFFSET) : 0;
+        // Until close() marks it clean again, a crash leaves a table that must be rebuilt
+        header.putLong(STATE_OFFSET, DIRTY);
+        header.force();
+    }
+
+    /**
+     * Create an empty table at {@code file}, replacing any existing file, with room for {@code expectedEntries}.
+     */
+    static MappedHashIndex create(Path file, long expectedEntries) throws IOException {
+        return allocate(file, Long.highestOneBit(Math.max(1024, (long) (expectedEntries / MAX_LOAD) + 1) - 1) << 1);
+    }
+
+    private static MappedHashIndex allocate(Path file, long capacity) throws IOException {
+        Files.deleteIfExists(file);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            // A sparse file: untouched slots read as zero, which marks them empty
+            channel.truncate(0);
+            channel.position(HEADER_BYTES + capacity * SLOT_BYTES - 1);
+            channel.write(ByteBuffer.wrap(new byte[1]));
+            MappedHashIndex index = new MappedHashIndex(channel, capacity, false);
+            index.header.putInt(0, MAGIC);
+            index.header.putInt(4, FORMAT_VERSION);
+            index.header.putLong(CAPACITY_OFFSET, capacity);
+            index.header.putLong(SIZE_OFFSET, 0);
+            return index;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Reopen the table at {@code file} if it was closed cleanly, or return {@code null} if it has to be rebuilt.
+     */
+    static MappedHashIndex reopen(Path file) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) < HEADER_BYTES) {
+            return null;
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // read the whole header
+            }
+            header.flip();
+            long capacity = header.getLong(CAPACITY_OFFSET);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION
+                    || header.getLong(STATE_OFFSET) != CLEAN || Long.bitCount(capacity) != 1
+                    || channel.size() != HEADER_BYTES + capacity * SLOT_BYTES) {
+                channel.close();
+                return null;
+            }
+            return new MappedHashIndex(channel, capacity, true);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * UUID stored for {@code key}, or {@code null}.
+     */
+    UUID get(String key) {
+        long hash = hash(key);
+        for (long slot = hash & mask, probes = 0; probes < capacity; slot = (slot + 1) & mask, probes++) {
+            MappedByteBuffer chunk = chunks[(int) (slot >>> SLOTS_PER_CHUNK_SHIFT)];
+            int offset = (int) (slot & (SLOTS_PER_CHUNK - 1)) * SLOT_BYTES;
+            long stored = (long) LONGS.getAcquire(chunk, offset);
+            if (stored == 0) {
+                return null;
+            }
+            if (stored == hash) {
+                return new UUID(chunk.getLong(offset + 8), chunk.getLong(offset + 16));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Store {@code id} for {@code key}. Callers serialize writes and {@link #grow(Path)} when {@link #isFull()}.
+     */
+    void put(String key, UUID id) {
+        long hash = hash(key);
+        for (long slot = hash & mask; ; slot = (slot + 1) & mask) {
+            MappedByteBuffer chunk = chunks[(int) (slot >>> SLOTS_PER_CHUNK_SHIFT)];
+            int offset = (int) (slot & (SLOTS_PER_CHUNK - 1)) * SLOT_BYTES;
+            long stored = (long) LONGS.getAcquire(chunk, offset);
+            if (stored == 0 || stored == hash) {
+                chunk.putLong(offset + 8, id.getMostSignificantBits());
+                chunk.putLong(offset + 16, id.getLeastSignificantBits());
+                if (stored == 0) {
+                    LONGS.setRelease(chunk, offset, hash);
+                    header.putLong(SIZE_OFFSET, ++size);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove the entry of {@code key} if it holds {@code id}, moving later entries of its probe sequence back into
+     * the freed slot. A concurrent lookup may miss an entry while it moves. Callers serialize writes.
+     *
+     * @return whether an entry was removed
+     */
+    boolean remove(String key, UUID id) {
+        long hash = hash(key);
+        long hole = hash & mask;
+        for (long probes = 0; ; hole = (hole + 1) & mask, probes++) {
+            long stored = slotHash(hole);
+            if (stored == 0 || probes == capacity) {
+                return false;
+            }
+            if (stored == hash) {
+                break;
+            }
+        }
+        MappedByteBuffer holeChunk = chunk(hole);
+        int holeOffset = offset(hole);
+        if (holeChunk.getLong(holeOffset + 8) != id.getMostSignificantBits()
+                || holeChunk.getLong(holeOffset + 16) != id.getLeastSignificantBits()) {
+            return false;
+        }
+        for (long slot = (hole + 1) & mask; ; slot = (slot + 1) & mask) {
+            long stored = slotHash(slot);
+            if (stored == 0) {
+                break;
+            }
+            // An entry can move back unless its home slot lies after the hole
+            if (((slot - (stored & mask)) & mask) >= ((slot - hole) & mask)) {
+                MappedByteBuffer chunk = chunk(slot);
+                int offset = offset(slot);
+                holeChunk = chunk(hole);
+                holeOffset = offset(hole);
+                holeChunk.putLong(holeOffset + 8, chunk.getLong(offset + 8));
+                holeChunk.putLong(holeOffset + 16, chunk.getLong(offset + 16));
+                LONGS.setRelease(holeChunk, holeOffset, stored);
+                hole = slot;
+            }
+        }
+        LONGS.setRelease(chunk(hole), offset(hole), 0L);
+        header.putLong(SIZE_OFFSET, --size);
+        return true;
+    }
+
+    boolean isFull() {
+        return size >= capacity * MAX_LOAD;
+    }
+
+    /**
+     * Copy this table into a new one of twice the capacity at {@code target}.
+     */
+    MappedHashIndex grow(Path target) throws IOException {
+        MappedHashIndex grown = allocate(target, capacity * 2);
+        for (MappedByteBuffer chunk : chunks) {
+            for (int offset = 0; offset < chunk.capacity(); offset += SLOT_BYTES) {
+                long hash = chunk.getLong(offset);
+                if (hash != 0) {
+                    grown.putHashed(hash, chunk.getLong(offset + 8), chunk.getLong(offset + 16));
+                }
+            }
+        }
+        return grown;
+    }
+
+    long size() {
+        return size;
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Epoch millisecond up to which the reopened table was known to hold every key; 0 for a new table.
+     */
+    long completeUntil() {
+        return completeUntil;
+    }
+
+    /**
+     * Flush the table and mark it reusable, holding every key written until {@code completeUntil}.
+     */
+    void closeClean(long completeUntil) throws IOException {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        header.putLong(COMPLETE_UNTIL_OFFSET, completeUntil);
+        header.putLong(STATE_OFFSET, CLEAN);
+        header.force();
+        close();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long slotHash(long slot) {
+        return (long) LONGS.getAcquire(chunk(slot), offset(slot));
+    }
+
+    private MappedByteBuffer chunk(long slot) {
+        return chunks[(int) (slot >>> SLOTS_PER_CHUNK_SHIFT)];
+    }
+
+    private static int offset(long slot) {
+        return (int) (slot & (SLOTS_PER_CHUNK - 1)) * SLOT_BYTES;
+    }
+
+    private void putHashed(long hash, long mostSignificantBits, long leastSignificantBits) {
+        for (long slot = hash & mask; ; slot = (slot + 1) & mask) {
+            MappedByteBuffer chunk = chunks[(int) (slot >>> SLOTS_PER_CHUNK_SHIFT)];
+            int offset = (int) (slot & (SLOTS_PER_CHUNK - 1)) * SLOT_BYTES;
+            if (chunk.getLong(offset) == 0) {
+                chunk.putLong(offset + 8, mostSignificantBits);
+                chunk.putLong(offset + 16, leastSignificantBits);
+                chunk.putLong(offset, hash);
+                header.putLong(SIZE_OFFSET, ++size);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a over the key's chars, finished with the MurmurHash3 mixer so that the low bits used for the slot
+     * are well spread. Never 0, which marks an empty slot. Works on chars to avoid allocating the encoded bytes.
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+}
@@ -0,0 +1,33 @@
+package com.healthcare.platform.service;
+
+import com.healthcare.platform.dto.PatientResponse;
+
+/**
+ * Published by {@link PatientService} for every patient write. Listeners that maintain derived state should use
+ * {@code @TransactionalEventListener} so that they only see changes that were committed.
+ *
+ * @param type   what happened
+ * @param before the patient before the change; {@code null} for {@link Type#CREATED}
+ * @param after  the patient after the change
+ */
+public record PatientChangedEvent(Type type, PatientResponse before, PatientResponse after) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        /** Soft delete: the patient still exists with status INACTIVE. */
+        DELETED
+    }
+
+    public static PatientChangedEvent created(PatientResponse patient) {
+        return new PatientChangedEvent(Type.CREATED, null, patient);
+    }
+
+    public static PatientChangedEvent updated(PatientResponse before, PatientResponse after) {
+        return new PatientChangedEvent(Type.UPDATED, before, after);
+    }
+
+    public static PatientChangedEvent deleted(PatientResponse before, PatientResponse after) {
+        return new PatientChangedEvent(Type.DELETED, before, after);
+    }
+}
@@ -0,0 +1,317 @@
+package com.healthcare.platform.service;
+
+import com.healthcare.platform.dto.PatientChangeNotification;
+import com.healthcare.platform.dto.PatientResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes committed {@link PatientChangedEvent}s to {@code GET /api/v1/patients/events} subscribers.
+ * <p>
+ * Every change gets an increasing event id and is kept in a ring of the last {@code app.patients.events.history-size}
+ * changes, so a client that reconnects with {@code Last-Event-ID} receives what it missed. When the missed changes are
+ * no longer in the ring, or the id is unknown (e.g. after a restart), the client gets a {@code reset} event and has to
+ * reload. Each subscriber has a queue of at most {@code app.patients.events.buffer-size} entries that is written to the
+ * connection by a small sender pool, so the committing request thread never blocks on a client. A subscriber whose
+ * queue is full is disconnected; it can then reconnect and resume from the ring. The changes of a
+ * {@link PatientsChangedEvent} take one entry, however many patients a bulk write changed, and are still sent as one
+ * event per patient.
+ * <p>
+ * Roles listed in {@code app.patients.events.full-payload-roles} receive the patient after the change; everyone else
+ * only receives its id, version, status and update time.
+ */
+@Service
+@Slf4j
+public class PatientEventBroadcaster {
+
+    static final String PATIENT_EVENT = "patient";
+    static final String READY_EVENT = "ready";
+    static final String RESET_EVENT = "reset";
+
+    private static final List<Entry> HEARTBEAT = List.of(new Entry(0, null, null, null, null));
+
+    private final int historySize;
+    private final int bufferSize;
+    private final Set<String> fullPayloadAuthorities;
+    private final Supplier<SseEmitter> emitterFactory;
+    private final Executor sender;
+    private final Counter slowConsumerDisconnects;
+
+    private final Object lock = new Object();
+    private final ArrayDeque<Entry> history = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long lastId;
+
+    @Autowired
+    public PatientEventBroadcaster(@Value("${app.patients.events.history-size:1000}") int historySize,
+                                   @Value("${app.patients.events.buffer-size:256}") int bufferSize,
+                                   @Value("${app.patients.events.timeout:PT30M}") Duration timeout,
+                                   @Value("${app.patients.events.sender-threads:2}") int senderThreads,
+                                   @Value("${app.patients.events.full-payload-roles:ADMIN,DOCTOR,NURSE}") List<String> fullPayloadRoles,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        this(historySize, bufferSize, fullPayloadRoles, () -> new SseEmitter(timeout.toMillis()),
+                Executors.newFixedThreadPool(senderThreads, runnable -> {
+                    Thread thread = new Thread(runnable, "patient-event-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                }), meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    PatientEventBroadcaster(int historySize, int bufferSize, List<String> fullPayloadRoles,
+                            Supplier<SseEmitter> emitterFactory, Executor sender, MeterRegistry meterRegistry) {
+        this.historySize = Math.max(1, historySize);
+        this.bufferSize = Math.max(1, bufferSize);
+        this.fullPayloadAuthorities = fullPayloadRoles.stream()
+                .map(role -> "ROLE_" + role.trim())
+                .collect(Collectors.toUnmodifiableSet());
+        this.emitterFactory = emitterFactory;
+        this.sender = sender;
+        this.slowConsumerDisconnects = Counter.builder("patients.events.slow.consumer.disconnects")
+                .description("Event stream subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+        meterRegistry.gauge("patients.events.subscribers", subscribers, List::size);
+    }
+
+    /**
+     * Open a stream for a caller with {@code authorities}.
+     *
+     * @param lastEventId id of the last event the client saw, or {@code null} for a new stream
+     * @param types       change types to deliver
+     */
+    public SseEmitter subscribe(Long lastEventId, Collection<? extends GrantedAuthority> authorities,
+                                Set<PatientChangedEvent.Type> types) {
+        boolean fullPayload = authorities.stream().map(GrantedAuthority::getAuthority)
+                .anyMatch(fullPayloadAuthorities::contains);
+        SseEmitter emitter = emitterFactory.get();
+        Subscriber subscriber = new Subscriber(emitter, fullPayload, types);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+
+        synchronized (lock) {
+            subscriber.enqueue(backlog(lastEventId));
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    /**
+     * Queue a committed change for every subscriber. Runs without a transaction too, for writes made outside one.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientChanged(PatientChangedEvent event) {
+        publish(List.of(event));
+    }
+
+    /**
+     * Queue the changes of a committed bulk write for every subscriber, as one entry of their queue.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientsChanged(PatientsChangedEvent event) {
+        if (!event.changes().isEmpty()) {
+            publish(event.changes());
+        }
+    }
+
+    private void publish(List<PatientChangedEvent> events) {
+        List<PatientChangeNotification> full = new ArrayList<>(events.size());
+        List<PatientChangeNotification> redacted = new ArrayList<>(events.size());
+        for (PatientChangedEvent event : events) {
+            String type = event.type().name();
+            PatientResponse patient = event.after();
+            full.add(new PatientChangeNotification(type, patient));
+            redacted.add(new PatientChangeNotification(type, PatientResponse.builder()
+                    .id(patient.getId())
+                    .version(patient.getVersion())
+                    .status(patient.getStatus())
+                    .updatedAt(patient.getUpdatedAt())
+                    .build()));
+        }
+
+        synchronized (lock) {
+            List<Entry> entries = new ArrayList<>(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                Entry entry = new Entry(++lastId, PATIENT_EVENT, events.get(i).type(), full.get(i), redacted.get(i));
+                if (history.size() == historySize) {
+                    history.removeFirst();
+                }
+                history.addLast(entry);
+                entries.add(entry);
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(entries);
+            }
+        }
+    }
+
+    /**
+     * Keep idle connections open through proxies and notice clients that went away without closing.
+     */
+    @Scheduled(fixedRateString = "${app.patients.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeat();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Events a new subscriber starts with. Must be called while holding {@link #lock}.
+     */
+    private List<Entry> backlog(Long lastEventId) {
+        if (lastEventId == null) {
+            return List.of(new Entry(lastId, READY_EVENT, null, Map.of(), Map.of()));
+        }
+        long oldest = history.isEmpty() ? lastId + 1 : history.getFirst().id();
+        if (lastEventId > lastId || lastEventId < oldest - 1 || lastId - lastEventId > bufferSize) {
+            return List.of(new Entry(lastId, RESET_EVENT, null, Map.of(), Map.of()));
+        }
+        List<Entry> missed = new ArrayList<>((int) (lastId - lastEventId));
+        for (Entry entry : history) {
+            if (entry.id() > lastEventId) {
+                missed.add(entry);
+            }
+        }
+        return missed;
+    }
+
+    /**
+     * A queued event. {@code name} is {@code null} for heartbeats and {@code type} is {@code null} for control events,
+     * which every subscriber receives.
+     */
+    private record Entry(long id, String name, PatientChangedEvent.Type type, Object full, Object redacted) {
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final boolean fullPayload;
+        private final Set<PatientChangedEvent.Type> types;
+        private final BlockingQueue<List<Entry>> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        private Subscriber(SseEmitter emitter, boolean fullPayload, Set<PatientChangedEvent.Type> types) {
+            this.emitter = emitter;
+            this.fullPayload = fullPayload;
+            this.types = types;
+        }
+
+        void enqueue(List<Entry> entries) {
+            if (overflowed) {
+                return;
+            }
+            List<Entry> wanted = entries.stream()
+                    .filter(entry -> entry.type() == null || types.contains(entry.type()))
+                    .toList();
+            if (wanted.isEmpty()) {
+                return;
+            }
+            if (!queue.offer(wanted)) {
+                // The connection is completed by the sender so that this thread never waits on the client
+                overflowed = true;
+                subscribers.remove(this);
+                slowConsumerDisconnects.increment();
+                log.warn("Disconnecting patient event subscriber: {} entries pending", queue.size());
+            }
+            schedule();
+        }
+
+        void heartbeat() {
+            if (!overflowed && queue.offer(HEARTBEAT)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this);
+                } catch (RejectedExecutionException ex) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                List<Entry> entries;
+                while (!overflowed && (entries = queue.poll()) != null) {
+                    for (Entry entry : entries) {
+                        emitter.send(toEvent(entry));
+                    }
+                }
+                if (overflowed) {
+                    queue.clear();
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client went away or the emitter already completed; the container reports the error
+                subscribers.remove(this);
+                overflowed = true;
+                queue.clear();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty() && !overflowed) {
+                schedule();
+            }
+        }
+
+        private SseEmitter.SseEventBuilder toEvent(Entry entry) {
+            if (entry.name() == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event()
+                    .id(Long.toString(entry.id()))
+                    .name(entry.name())
+                    .data(fullPayload ? entry.full() : entry.redacted(), MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.healthcare.platform.service;
+
+import com.healthcare.platform.archive.PatientsArchivedEvent;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.repository.PatientRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Medical record number to patient id index, kept off the heap in a {@link MappedHashIndex}.
+ * <p>
+ * The natural-id cache only holds the most recently used MRNs; this index holds every patient in 24 bytes of mapped
+ * memory, so a lookup by MRN can go straight to the entity cache by id. It is loaded in the background once the
+ * application is ready, by paging through the patients table or, when {@code app.patients.mrn-index.file} is set
+ * and the file was closed cleanly, by reopening the file and adding the patients created since. Patients created
+ * through {@link PatientService} are added as their creation commits and archived patients are removed as their batch
+ * commits; patients written any other way are added when they are first found in the database. Results are hints:
+ * callers must check the MRN of the patient they load.
+ */
+@Component
+@Slf4j
+public class PatientMrnIndex {
+
+    /**
+     * Patients created this long before the file was closed are read again on reopening, for transactions that were
+     * still committing then.
+     */
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+    private static final LocalDateTime EVERYTHING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final PatientRepository patientRepository;
+    private final boolean enabled;
+    private final Path file;
+    private final int pageSize;
+    private final Clock clock;
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile MappedHashIndex index;
+    private volatile boolean ready;
+    private Path path;
+    private Thread loader;
+
+    @Autowired
+    public PatientMrnIndex(PatientRepository patientRepository,
+                           @Value("${app.patients.mrn-index.enabled:true}") boolean enabled,
+                           @Value("${app.patients.mrn-index.file:}") String file,
+                           @Value("${app.patients.mrn-index.page-size:10000}") int pageSize,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this(patientRepository, enabled, file.isBlank() ? null : Path.of(file), pageSize,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /**
+     * @param file where to keep the index across restarts, or {@code null} to rebuild it into a temporary file
+     */
+    public PatientMrnIndex(PatientRepository patientRepository, boolean enabled, Path file, int pageSize,
+                           MeterRegistry meterRegistry) {
+        this(patientRepository, enabled, file, pageSize, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    PatientMrnIndex(PatientRepository patientRepository, boolean enabled, Path file, int pageSize,
+                    MeterRegistry meterRegistry, Clock clock) {
+        this.patientRepository = patientRepository;
+        this.enabled = enabled;
+        this.file = file;
+        this.pageSize = pageSize;
+        this.clock = clock;
+        this.hits = meterRegistry.counter("patients.mrn-index.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("patients.mrn-index.lookups", "result", "miss");
+        Gauge.builder("patients.mrn-index.entries", this, PatientMrnIndex::size).register(meterRegistry);
+    }
+
+    /**
+     * Id indexed for {@code mrn}; empty if there is none or the index is still loading.
+     */
+    public Optional<UUID> find(String mrn) {
+        MappedHashIndex current = index;
+        if (!ready || current == null) {
+            return Optional.empty();
+        }
+        UUID id = current.get(mrn);
+        (id != null ? hits : misses).increment();
+        return Optional.ofNullable(id);
+    }
+
+    /**
+     * Index {@code id} under {@code mrn}, replacing a stale entry.
+     */
+    public synchronized void put(String mrn, UUID id) {
+        if (index == null || mrn == null) {
+            return;
+        }
+        try {
+            if (index.isFull()) {
+                grow();
+            }
+            index.put(mrn, id);
+        } catch (IOException ex) {
+            log.warn("Could not grow the MRN index: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Drop the entry of {@code mrn} if it still points to {@code id}.
+     */
+    public synchronized void remove(String mrn, UUID id) {
+        if (index != null && mrn != null) {
+            index.remove(mrn, id);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientChanged(PatientChangedEvent event) {
+        if (event.type() == PatientChangedEvent.Type.CREATED) {
+            put(event.after().getMedicalRecordNumber(), event.after().getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientsChanged(PatientsChangedEvent event) {
+        event.changes().forEach(this::onPatientChanged);
+    }
+
+    /**
+     * Archived patients are looked up in the archive by MRN, so their entries would only send lookups to the table.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientsArchived(PatientsArchivedEvent event) {
+        for (PatientResponse patient : event.patients()) {
+            remove(patient.getMedicalRecordNumber(), patient.getId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || loader != null) {
+            return;
+        }
+        Thread thread = new Thread(this::load, "mrn-index-loader");
+        thread.setDaemon(true);
+        loader = thread;
+        thread.start();
+    }
+
+    /**
+     * Whether lookups are served from the index.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long size() {
+        MappedHashIndex current = index;
+        return current == null ? 0 : current.size();
+    }
+
+    /**
+     * Open or rebuild the index and start serving lookups from it.
+     */
+    void load() {
+        long started = System.nanoTime();
+        try {
+            MappedHashIndex reopened = file == null ? null : MappedHashIndex.reopen(file);
+            LocalDateTime since = EVERYTHING;
+            synchronized (this) {
+                if (reopened != null) {
+                    path = file;
+                    index = reopened;
+                    since = LocalDateTime.ofInstant(Instant.ofEpochMilli(reopened.completeUntil())
+                            .minus(CATCH_UP_MARGIN), clock.getZone());
+                } else {
+                    if (file != null) {
+                        Files.createDirectories(file.toAbsolutePath().getParent());
+                    }
+                    path = file != null ? file : Files.createTempFile("patient-mrn-index", ".idx");
+                    index = MappedHashIndex.create(path, patientRepository.count());
+                }
+            }
+            long added = addCreatedSince(since);
+            ready = true;
+            log.info("MRN index {} with {} patients in {} ms ({} entries)", reopened != null ? "reopened" : "built",
+                    added, Duration.ofNanos(System.nanoTime() - started).toMillis(), size());
+        } catch (IOException | RuntimeException ex) {
+            log.error("Could not load the MRN index; lookups by MRN will use the database", ex);
+        }
+    }
+
+    /**
+     * Stop serving lookups and release the index. A configured file is kept for the next start if the index had
+     * finished loading; otherwise it is rebuilt then.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        MappedHashIndex current = index;
+        if (current == null) {
+            return;
+        }
+        boolean keep = ready && path.equals(file);
+        ready = false;
+        index = null;
+        try {
+            if (keep) {
+                current.closeClean(clock.millis());
+            } else {
+                current.close();
+                if (file == null) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Could not close the MRN index: {}", ex.getMessage());
+        }
+    }
+
+    private long addCreatedSince(LocalDateTime since) {
+        long added = 0;
+        UUID after = FIRST_ID;
+        while (true) {
+            List<Object[]> rows = patientRepository.findMedicalRecordNumbers(after, since, Limit.of(pageSize));
+            synchronized (this) {
+                if (index == null) {
+                    return added;
+                }
+                for (Object[] row : rows) {
+                    put((String) row[1], (UUID) row[0]);
+                }
+            }
+            added += rows.size();
+            if (rows.size() < pageSize) {
+                return added;
+            }
+            after = (UUID) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    private void grow() throws IOException {
+        Path target = path.resolveSibling(path.getFileName() + ".grow");
+        MappedHashIndex grown = index.grow(target);
+        // Readers still holding the old table keep their mapping after the file is replaced
+        Files.move(target, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        MappedHashIndex previous = index;
+        index = grown;
+        previous.close();
+        log.debug("MRN index grown to {} slots", grown.capacity());
+    }
+}
@@ -0,0 +1,166 @@
+package com.healthcare.platform.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.healthcare.platform.archive.PatientsArchivedEvent;
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of patient list and name-search pages, so that popular searches do not run their page and count
+ * queries for every request.
+ * <p>
+ * Pages are keyed by query class, search term ignoring case, page, size, sort and fields, and kept for
+ * {@code app.patients.page-cache.ttl}, holding at most {@code app.patients.page-cache.max-patients} patients in all.
+ * Every committed {@link PatientChangedEvent} or {@link PatientsChangedEvent} bumps a generation counter, and pages
+ * loaded under an earlier generation are not served again, so a write made through {@link PatientService} shows up in
+ * the next request, and so does an archived batch, which publishes a {@link PatientsArchivedEvent}. Writes made around
+ * them, such as bulk loads, show up once the TTL has passed.
+ */
+@Service
+public class PatientPageCache {
+
+    /**
+     * The kind of query a page comes from, for the hit-ratio metrics.
+     */
+    public enum QueryClass {
+        LIST("list"),
+        NAME_SEARCH("name-search");
+
+        private final String tag;
+
+        QueryClass(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final boolean enabled;
+    private final Cache<Key, Entry> pages;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<QueryClass, Counter> hits = new EnumMap<>(QueryClass.class);
+    private final Map<QueryClass, Counter> misses = new EnumMap<>(QueryClass.class);
+
+    @Autowired
+    public PatientPageCache(@Value("${app.patients.page-cache.enabled:true}") boolean enabled,
+                            @Value("${app.patients.page-cache.max-patients:20000}") long maxPatients,
+                            @Value("${app.patients.page-cache.ttl:PT30S}") Duration ttl,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(enabled, maxPatients, ttl, meterRegistry.getIfAvailable(SimpleMeterRegistry::new), Ticker.systemTicker());
+    }
+
+    PatientPageCache(boolean enabled, long maxPatients, Duration ttl, MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = enabled;
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(maxPatients)
+                .<Key, Entry>weigher((key, entry) -> entry.page().getNumberOfElements() + 1)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build();
+
+        for (QueryClass queryClass : QueryClass.values()) {
+            hits.put(queryClass, Counter.builder("patients.page-cache.requests")
+                    .tag("class", queryClass.tag).tag("result", "hit")
+                    .register(meterRegistry));
+            misses.put(queryClass, Counter.builder("patients.page-cache.requests")
+                    .tag("class", queryClass.tag).tag("result", "miss")
+                    .register(meterRegistry));
+            Gauge.builder("patients.page-cache.hit.ratio", this, cache -> cache.hitRatio(queryClass))
+                    .tag("class", queryClass.tag)
+                    .description("Share of patient page requests served from the page cache")
+                    .register(meterRegistry);
+        }
+        FunctionCounter.builder("patients.page-cache.invalidations", generation, AtomicLong::get)
+                .description("Patient writes that invalidated the cached pages")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The cached page for the query, or the page {@code loader} reads. Pages are keyed by {@code term} in lower case,
+     * which the case-insensitive name search does not tell apart. Pages read within a read-write transaction are
+     * neither cached nor served from the cache, so that the transaction sees its own writes.
+     */
+    public Page<PatientResponse> read(QueryClass queryClass, String term, Pageable pageable, PatientFieldSet fields,
+                                      Supplier<Page<PatientResponse>> loader) {
+        if (!enabled || pageable.isUnpaged() || inReadWriteTransaction()) {
+            return loader.get();
+        }
+
+        Key key = new Key(queryClass, term == null ? null : term.toLowerCase(Locale.ROOT), pageable.getPageNumber(),
+                pageable.getPageSize(), pageable.getSort(), fields);
+        // Read before loading: a write committed while the page loads leaves it behind the current generation
+        long current = generation.get();
+        Entry entry = pages.getIfPresent(key);
+        if (entry != null && entry.generation() == current) {
+            hits.get(queryClass).increment();
+            return entry.page();
+        }
+
+        misses.get(queryClass).increment();
+        Page<PatientResponse> page = loader.get();
+        pages.put(key, new Entry(page, current));
+        return page;
+    }
+
+    /**
+     * Stop serving the pages cached so far. Runs without a transaction too, for writes made outside one.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientChanged(PatientChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Stop serving the pages cached so far, once for the whole bulk change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientsChanged(PatientsChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Stop serving pages that may list patients that were just archived.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientsArchived(PatientsArchivedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    double hitRatio(QueryClass queryClass) {
+        double hit = hits.get(queryClass).count();
+        double total = hit + misses.get(queryClass).count();
+        return total == 0 ? 0 : hit / total;
+    }
+
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private record Key(QueryClass queryClass, String term, int page, int size, Sort sort, PatientFieldSet fields) {
+    }
+
+    private record Entry(Page<PatientResponse> page, long generation) {
+    }
+}
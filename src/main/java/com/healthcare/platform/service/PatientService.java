@@ -1,23 +1,65 @@
 package com.healthcare.platform.service;
 
+import com.healthcare.platform.archive.PatientArchive;
+import com.healthcare.platform.duplicate.DuplicateIndex;
+import com.healthcare.platform.duplicate.MatchRecord;
+import com.healthcare.platform.dto.PatientBatchRequest;
+import com.healthcare.platform.dto.PatientChangeCursor;
+import com.healthcare.platform.dto.PatientChangesResponse;
+import com.healthcare.platform.dto.PatientDuplicate;
+import com.healthcare.platform.dto.PatientField;
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientLookupResult;
 import com.healthcare.platform.dto.PatientRequest;
 import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientSearchCriteria;
+import com.healthcare.platform.dto.PatientSearchResponse;
+import com.healthcare.platform.dto.PatientStatusChangeRequest;
+import com.healthcare.platform.dto.PatientStatusChangeResponse;
+import com.healthcare.platform.dto.PatientStatusFilter;
+import com.healthcare.platform.dto.PatientVersion;
 import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.exception.InvalidRequestException;
+import com.healthcare.platform.exception.PossibleDuplicatePatientException;
+import com.healthcare.platform.exception.PreconditionFailedException;
 import com.healthcare.platform.exception.ResourceNotFoundException;
 import com.healthcare.platform.exception.DuplicateResourceException;
 import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.search.PatientSearchCursor;
+import com.healthcare.platform.search.PatientSearchHit;
+import com.healthcare.platform.search.PatientSearchPlan;
+import com.healthcare.platform.search.PatientSearchPlanner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Service layer for patient operations.
- * Handles business logic and transaction management.
+ * Handles business logic and transaction management, and publishes a {@link PatientChangedEvent} for every write
+ * ({@link PatientsChangedEvent} for bulk writes).
+ * Reads by id or MRN fall back to the {@link PatientArchive} for patients that have been archived.
  */
 @Service
 @RequiredArgsConstructor
@@ -26,17 +68,49 @@ import java.util.UUID;
 public class PatientService {
 
     private final PatientRepository patientRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final PatientArchive patientArchive;
+    private final PatientMrnIndex mrnIndex;
+    private final DuplicateIndex duplicateIndex;
+    private final PatientSearchPlanner searchPlanner;
+
+    @Value("${app.patients.batch.chunk-size:100}")
+    private int batchChunkSize = 100;
+
+    @Value("${app.patients.changes.max-limit:1000}")
+    private int changesMaxLimit = 1000;
+
+    @Value("${app.patients.changes.settle-time:PT5S}")
+    private Duration changesSettleTime = Duration.ofSeconds(5);
+
+    @Value("${app.patients.bulk-status.chunk-size:500}")
+    private int statusChangeChunkSize = 500;
+
+    @Value("${app.patients.search.max-limit:100}")
+    private int searchMaxLimit = 100;
 
     /**
-     * Create a new patient.
+     * Create a new patient, unless it looks like a duplicate of an existing one.
      */
     @Transactional
     public PatientResponse createPatient(PatientRequest request) {
+        return createPatient(request, false);
+    }
+
+    /**
+     * Create a new patient. Unless {@code allowDuplicate} is set, a patient whose names, date of birth and contact
+     * details closely match existing patients is refused with the matching patients.
+     */
+    @Transactional
+    public PatientResponse createPatient(PatientRequest request, boolean allowDuplicate) {
         log.info("Creating new patient: {} {}", request.getFirstName(), request.getLastName());
 
-        // Check for duplicate email
-        if (request.getEmail() != null && patientRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateResourceException("Patient with email " + request.getEmail() + " already exists");
+        if (!allowDuplicate) {
+            List<PatientDuplicate> duplicates = duplicateIndex.findDuplicates(MatchRecord.of(request));
+            if (!duplicates.isEmpty()) {
+                throw new PossibleDuplicatePatientException(duplicates);
+            }
         }
 
         Patient patient = Patient.builder()
@@ -49,22 +123,39 @@ public class PatientService {
                 .status(Patient.PatientStatus.ACTIVE)
                 .build();
 
-        Patient savedPatient = patientRepository.save(patient);
+        // Email uniqueness is enforced by the unique index; flush so a violation surfaces here
+        Patient savedPatient = saveAndFlushUnique(patient, request.getEmail());
         log.info("Patient created with ID: {}", savedPatient.getId());
 
-        return PatientResponse.fromEntity(savedPatient);
+        PatientResponse response = PatientResponse.fromEntity(savedPatient);
+        eventPublisher.publishEvent(PatientChangedEvent.created(response));
+        return response;
     }
 
     /**
-     * Get patient by ID.
+     * Get patient by ID, from the archive if it is no longer in the database.
      */
     public PatientResponse getPatientById(UUID id) {
         log.debug("Fetching patient with ID: {}", id);
 
-        Patient patient = patientRepository.findById(id)
+        return patientRepository.findById(id)
+                .map(PatientResponse::fromEntity)
+                .or(() -> patientArchive.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Patient", "id", id.toString()));
+    }
+
+    /**
+     * Get patient by ID, reading only the requested fields.
+     */
+    public PatientResponse getPatientById(UUID id, PatientFieldSet fields) {
+        if (fields.isAll()) {
+            return getPatientById(id);
+        }
+        log.debug("Fetching patient with ID: {}, fields: {}", id, fields);
 
-        return PatientResponse.fromEntity(patient);
+        return patientRepository.findProjectedById(id, fields)
+                .or(() -> patientArchive.findById(id).map(patient -> patient.select(fields)))
+                .orElseThrow(() -> new ResourceNotFoundException("Patient", "id", id.toString()));
     }
 
     /**
@@ -77,6 +168,19 @@ public class PatientService {
                 .map(PatientResponse::fromEntity);
     }
 
+    /**
+     * Get all patients with pagination, reading only the requested fields.
+     */
+    public Page<PatientResponse> getAllPatients(Pageable pageable, PatientFieldSet fields) {
+        if (fields.isAll()) {
+            return getAllPatients(pageable);
+        }
+        log.debug("Fetching all patients, page: {}, size: {}, fields: {}",
+                pageable.getPageNumber(), pageable.getPageSize(), fields);
+
+        return patientRepository.findAllProjected(fields, pageable);
+    }
+
     /**
      * Search patients by name.
      */
@@ -87,22 +191,112 @@ public class PatientService {
                 .map(PatientResponse::fromEntity);
     }
 
+    /**
+     * Search patients by name, reading only the requested fields.
+     */
+    public Page<PatientResponse> searchPatients(String searchTerm, Pageable pageable, PatientFieldSet fields) {
+        if (fields.isAll()) {
+            return searchPatients(searchTerm, pageable);
+        }
+        log.debug("Searching patients with term: {}, fields: {}", searchTerm, fields);
+
+        return patientRepository.searchByNameProjected(searchTerm, fields, pageable);
+    }
+
+    /**
+     * Get patients changed after {@code cursor}, oldest change first, reading only the requested fields plus the
+     * status and last-modified time. Soft-deleted patients are included, so clients can drop them.
+     * Changes from the last {@code app.patients.changes.settle-time} are held back: {@code updatedAt} is taken before
+     * commit, so a transaction still in flight could otherwise commit a change behind a cursor that was already handed out.
+     */
+    public PatientChangesResponse getChanges(String cursor, int limit, PatientFieldSet fields) {
+        PatientChangeCursor after = PatientChangeCursor.parse(cursor);
+        int pageSize = Math.max(1, Math.min(limit, changesMaxLimit));
+        LocalDateTime until = LocalDateTime.now().minus(changesSettleTime);
+        log.debug("Fetching patient changes after {}, until: {}, limit: {}", after, until, pageSize);
+
+        List<PatientResponse> changed = patientRepository.findChangedAfter(after, until,
+                fields.with(PatientField.STATUS, PatientField.UPDATED_AT), pageSize + 1);
+        boolean hasMore = changed.size() > pageSize;
+        List<PatientResponse> page = hasMore ? changed.subList(0, pageSize) : changed;
+        PatientChangeCursor next = page.isEmpty() ? after : PatientChangeCursor.after(page.get(page.size() - 1));
+
+        return PatientChangesResponse.builder()
+                .patients(page)
+                .nextCursor(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Structured search: patients matching every filter of {@code criteria}, at most {@code limit} (capped at
+     * {@code app.patients.search.max-limit}) per page, in the order of the index the {@link PatientSearchPlanner}
+     * drives the search by. Archived patients are not searched.
+     */
+    public PatientSearchResponse findPatients(PatientSearchCriteria criteria, String cursor, int limit,
+                                              PatientFieldSet fields) {
+        PatientSearchPlan plan = searchPlanner.plan(criteria);
+        PatientSearchCursor after = PatientSearchCursor.parse(cursor);
+        int pageSize = Math.max(1, Math.min(limit, searchMaxLimit));
+        log.debug("Searching patients with plan {}, after: {}, limit: {}", plan, after, pageSize);
+
+        List<PatientSearchHit> hits = patientRepository.search(plan, after, fields, pageSize + 1);
+        boolean hasMore = hits.size() > pageSize;
+        List<PatientSearchHit> page = hasMore ? hits.subList(0, pageSize) : hits;
+
+        return PatientSearchResponse.builder()
+                .patients(page.stream().map(PatientSearchHit::patient).toList())
+                .nextCursor(hasMore ? page.get(page.size() - 1).position().encode() : null)
+                .hasMore(hasMore)
+                .plan(plan.drivingKey().name())
+                .build();
+    }
+
+    /**
+     * Get the version and last-modified timestamp of a patient without loading the full record.
+     */
+    public Optional<PatientVersion> getPatientVersion(UUID id) {
+        return patientRepository.findVersionById(id)
+                .or(() -> patientArchive.findById(id).map(PatientService::toVersion));
+    }
+
+    /**
+     * Get the version and last-modified timestamp of a patient by medical record number.
+     */
+    public Optional<PatientVersion> getPatientVersionByMrn(String mrn) {
+        return patientRepository.findVersionByMedicalRecordNumber(mrn)
+                .or(() -> patientArchive.findByMrn(mrn).map(PatientService::toVersion));
+    }
+
+    private static PatientVersion toVersion(PatientResponse patient) {
+        return new PatientVersion(patient.getId(), patient.getVersion(), patient.getUpdatedAt());
+    }
+
     /**
      * Update an existing patient.
      */
     @Transactional
     public PatientResponse updatePatient(UUID id, PatientRequest request) {
+        return updatePatient(id, request, null);
+    }
+
+    /**
+     * Update an existing patient, optionally requiring it to still be at the expected version.
+     * The check reuses the entity already loaded for the update, and the version column
+     * guards the write itself against concurrent modification.
+     */
+    @Transactional
+    public PatientResponse updatePatient(UUID id, PatientRequest request, Long expectedVersion) {
         log.info("Updating patient with ID: {}", id);
 
         Patient patient = patientRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Patient", "id", id.toString()));
 
-        // Check for duplicate email (excluding current patient)
-        if (request.getEmail() != null && !request.getEmail().equals(patient.getEmail())) {
-            if (patientRepository.existsByEmail(request.getEmail())) {
-                throw new DuplicateResourceException("Patient with email " + request.getEmail() + " already exists");
-            }
+        if (expectedVersion != null && !expectedVersion.equals(patient.getVersion())) {
+            throw new PreconditionFailedException("Patient " + id + " has been modified (current version "
+                    + patient.getVersion() + ", expected " + expectedVersion + ")");
         }
+        PatientResponse before = PatientResponse.fromEntity(patient);
 
         patient.setFirstName(request.getFirstName());
         patient.setLastName(request.getLastName());
@@ -111,10 +305,38 @@ public class PatientService {
         patient.setPhone(request.getPhone());
         patient.setAddress(request.getAddress());
 
-        Patient updatedPatient = patientRepository.save(patient);
+        // Flush so the response carries the incremented version and update timestamp,
+        // and so an email clash with another patient is reported by the unique index here
+        Patient updatedPatient = saveAndFlushUnique(patient, request.getEmail());
         log.info("Patient updated: {}", id);
 
-        return PatientResponse.fromEntity(updatedPatient);
+        PatientResponse response = PatientResponse.fromEntity(updatedPatient);
+        eventPublisher.publishEvent(PatientChangedEvent.updated(before, response));
+        return response;
+    }
+
+    /**
+     * Save and flush, translating a violation of the email unique constraint into a duplicate-resource error.
+     */
+    private Patient saveAndFlushUnique(Patient patient, String email) {
+        try {
+            return patientRepository.saveAndFlush(patient);
+        } catch (DataIntegrityViolationException ex) {
+            if (isEmailConflict(ex)) {
+                throw new DuplicateResourceException("Patient with email " + email + " already exists");
+            }
+            throw ex;
+        }
+    }
+
+    private static boolean isEmailConflict(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Patient.EMAIL_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -127,20 +349,201 @@ public class PatientService {
         Patient patient = patientRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Patient", "id", id.toString()));
 
+        PatientResponse before = PatientResponse.fromEntity(patient);
         patient.setStatus(Patient.PatientStatus.INACTIVE);
-        patientRepository.save(patient);
+        // Flush so the event carries the incremented version and update timestamp, like an update's
+        Patient deletedPatient = patientRepository.saveAndFlush(patient);
         log.info("Patient soft-deleted: {}", id);
+
+        eventPublisher.publishEvent(PatientChangedEvent.deleted(before, PatientResponse.fromEntity(deletedPatient)));
     }
 
     /**
-     * Get patient by medical record number.
+     * Move many patients to one status with set-based updates instead of loading and saving each patient.
+     * <p>
+     * Patients are processed in chunks of {@code app.patients.bulk-status.chunk-size}, each in its own transaction: the
+     * chunk is locked with one {@code SELECT ... FOR UPDATE}, changed with one {@code UPDATE} and one
+     * {@link PatientsChangedEvent} is published with the same {@link PatientChangedEvent}s single writes would publish,
+     * so listeners apply the chunk as one unit. Patients already in the target status are skipped. If a chunk fails,
+     * earlier chunks stay committed and repeating the request completes the change.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PatientStatusChangeResponse changeStatus(PatientStatusChangeRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasFilter = request.getFilter() != null;
+        if (hasIds == hasFilter) {
+            throw new InvalidRequestException("Provide either ids or filter (but not both)");
+        }
+        if (hasFilter && request.getFilter().isEmpty()) {
+            throw new InvalidRequestException("The filter needs at least one criterion");
+        }
+        Patient.PatientStatus status = Patient.PatientStatus.valueOf(request.getStatus());
+        log.info("Changing status of patients to {} by {}", status, hasIds ? request.getIds().size() + " ids" : "filter");
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<UUID> changed = new ArrayList<>();
+        if (hasIds) {
+            List<UUID> distinct = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+            for (int from = 0; from < distinct.size(); from += statusChangeChunkSize) {
+                List<UUID> chunk = distinct.subList(from, Math.min(from + statusChangeChunkSize, distinct.size()));
+                changed.addAll(transactionTemplate.execute(tx ->
+                        changeStatus(patientRepository.lockForStatusChange(chunk, status), status)));
+            }
+        } else {
+            PatientStatusFilter filter = request.getFilter();
+            List<UUID> chunk;
+            do {
+                UUID after = changed.isEmpty() ? null : changed.get(changed.size() - 1);
+                chunk = transactionTemplate.execute(tx -> changeStatus(
+                        patientRepository.lockForStatusChange(filter, status, after, statusChangeChunkSize), status));
+                changed.addAll(chunk);
+            } while (chunk.size() == statusChangeChunkSize);
+        }
+        log.info("Changed status of {} patients to {}", changed.size(), status);
+
+        return PatientStatusChangeResponse.builder()
+                .status(status.name())
+                .updated(changed.size())
+                .ids(changed)
+                .build();
+    }
+
+    /**
+     * Update the locked {@code patients} in one statement and publish their change events.
+     *
+     * @return IDs of the changed patients, in the order they were locked
+     */
+    private List<UUID> changeStatus(List<Patient> patients, Patient.PatientStatus status) {
+        if (patients.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = patients.stream().map(Patient::getId).toList();
+        LocalDateTime now = LocalDateTime.now();
+        patientRepository.updateStatus(ids, status, now);
+
+        // The update bypassed the entities, which are detached now; mirror it to build the events
+        List<PatientChangedEvent> changes = new ArrayList<>(patients.size());
+        for (Patient patient : patients) {
+            PatientResponse before = PatientResponse.fromEntity(patient);
+            patient.setStatus(status);
+            patient.setUpdatedAt(now);
+            patient.setVersion(patient.getVersion() + 1);
+            PatientResponse after = PatientResponse.fromEntity(patient);
+            changes.add(status == Patient.PatientStatus.INACTIVE
+                    ? PatientChangedEvent.deleted(before, after)
+                    : PatientChangedEvent.updated(before, after));
+        }
+        eventPublisher.publishEvent(new PatientsChangedEvent(changes));
+        return ids;
+    }
+
+    /**
+     * Get patient by medical record number, from the archive if it is no longer in the database.
      */
     public PatientResponse getPatientByMrn(String mrn) {
         log.debug("Fetching patient with MRN: {}", mrn);
 
-        Patient patient = patientRepository.findByMedicalRecordNumber(mrn)
+        return findByMrn(mrn)
+                .map(PatientResponse::fromEntity)
+                .or(() -> patientArchive.findByMrn(mrn))
+                .orElseThrow(() -> new ResourceNotFoundException("Patient", "medicalRecordNumber", mrn));
+    }
+
+    /**
+     * Resolve the MRN through the {@link PatientMrnIndex} so that the patient can come from the entity cache by id,
+     * falling back to the natural-id lookup when the index has no entry or a stale one.
+     */
+    private Optional<Patient> findByMrn(String mrn) {
+        Optional<Patient> indexed = mrnIndex.find(mrn)
+                .flatMap(patientRepository::findById)
+                .filter(patient -> mrn.equals(patient.getMedicalRecordNumber()));
+        if (indexed.isPresent()) {
+            return indexed;
+        }
+        Optional<Patient> patient = patientRepository.findByNaturalMedicalRecordNumber(mrn);
+        patient.ifPresent(found -> mrnIndex.put(mrn, found.getId()));
+        return patient;
+    }
+
+    /**
+     * Get patient by medical record number, reading only the requested fields.
+     */
+    public PatientResponse getPatientByMrn(String mrn, PatientFieldSet fields) {
+        if (fields.isAll()) {
+            return getPatientByMrn(mrn);
+        }
+        log.debug("Fetching patient with MRN: {}, fields: {}", mrn, fields);
+
+        return patientRepository.findProjectedByMedicalRecordNumber(mrn, fields)
+                .or(() -> patientArchive.findByMrn(mrn).map(patient -> patient.select(fields)))
                 .orElseThrow(() -> new ResourceNotFoundException("Patient", "medicalRecordNumber", mrn));
+    }
 
-        return PatientResponse.fromEntity(patient);
+    /**
+     * Look up many patients by ID or MRN in one call.
+     * Keys are de-duplicated and resolved in chunked {@code IN} queries; results follow the
+     * request order (including repeated keys) with a not-found marker for unknown keys.
+     * Keys missing from the database are looked up in the archive.
+     */
+    public List<PatientLookupResult> getPatientsBatch(PatientBatchRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasMrns = request.getMrns() != null && !request.getMrns().isEmpty();
+        if (hasIds == hasMrns) {
+            throw new InvalidRequestException("Provide either ids or mrns (but not both)");
+        }
+
+        return hasIds ? getPatientsByIds(request.getIds()) : getPatientsByMrns(request.getMrns());
+    }
+
+    private List<PatientLookupResult> getPatientsByIds(List<UUID> ids) {
+        List<UUID> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        log.debug("Batch fetching {} patients by ID ({} distinct)", ids.size(), distinct.size());
+
+        Map<UUID, PatientResponse> found = new HashMap<>();
+        List<Patient> loaded = patientRepository.findAllByIdInOrder(distinct, batchChunkSize);
+        for (Patient patient : loaded) {
+            if (patient != null) {
+                found.put(patient.getId(), PatientResponse.fromEntity(patient));
+            }
+        }
+        for (UUID id : distinct) {
+            if (!found.containsKey(id)) {
+                patientArchive.findById(id).ifPresent(patient -> found.put(id, patient));
+            }
+        }
+
+        return toResults(ids, found, UUID::toString);
+    }
+
+    private List<PatientLookupResult> getPatientsByMrns(List<String> mrns) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(mrns));
+        log.debug("Batch fetching {} patients by MRN ({} distinct)", mrns.size(), distinct.size());
+
+        Map<String, PatientResponse> found = new HashMap<>();
+        List<Patient> loaded = patientRepository.findAllByMedicalRecordNumberInOrder(distinct, batchChunkSize);
+        for (Patient patient : loaded) {
+            if (patient != null) {
+                found.put(patient.getMedicalRecordNumber(), PatientResponse.fromEntity(patient));
+            }
+        }
+        for (String mrn : distinct) {
+            if (!found.containsKey(mrn)) {
+                patientArchive.findByMrn(mrn).ifPresent(patient -> found.put(mrn, patient));
+            }
+        }
+
+        return toResults(mrns, found, Function.identity());
+    }
+
+    private static <K> List<PatientLookupResult> toResults(List<K> keys, Map<K, PatientResponse> found,
+                                                           Function<K, String> keyFormatter) {
+        List<PatientLookupResult> results = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            PatientResponse patient = found.get(key);
+            results.add(patient != null
+                    ? PatientLookupResult.found(keyFormatter.apply(key), patient)
+                    : PatientLookupResult.notFound(keyFormatter.apply(key)));
+        }
+        return results;
     }
 }
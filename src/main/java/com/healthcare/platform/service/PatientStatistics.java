@@ -0,0 +1,228 @@
+package com.healthcare.platform.service;
+
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientStatsResponse;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.repository.PatientRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-memory patient counters behind {@code GET /api/v1/patients/stats}.
+ * The counters are adjusted from committed {@link PatientChangedEvent}s, so reading them costs the same no matter
+ * how many patients there are. Writes that bypass {@link PatientService} (bulk loads, manual SQL), patients moving
+ * into an older age band, and changes that commit while a reconciliation is querying the database all make the
+ * counters drift. Drift is removed when the counters are recomputed from the database, at startup and then every
+ * {@code app.patients.stats.reconcile-interval}.
+ */
+@Service
+@Slf4j
+public class PatientStatistics {
+
+    /**
+     * Age bands, youngest first. The boundaries must match {@link PatientRepository#countByAgeBands}.
+     */
+    public enum AgeBand {
+        UNDER_18("0-17", 0),
+        FROM_18_TO_34("18-34", 18),
+        FROM_35_TO_49("35-49", 35),
+        FROM_50_TO_64("50-64", 50),
+        FROM_65("65+", 65);
+
+        private final String label;
+        private final int minAge;
+
+        AgeBand(String label, int minAge) {
+            this.label = label;
+            this.minAge = minAge;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public static AgeBand of(LocalDate dateOfBirth, LocalDate today) {
+            int age = Period.between(dateOfBirth, today).getYears();
+            AgeBand[] bands = values();
+            for (int i = bands.length - 1; i > 0; i--) {
+                if (age >= bands[i].minAge) {
+                    return bands[i];
+                }
+            }
+            return bands[0];
+        }
+    }
+
+    private static final Patient.PatientStatus[] STATUSES = Patient.PatientStatus.values();
+    private static final AgeBand[] AGE_BANDS = AgeBand.values();
+
+    private final PatientRepository patientRepository;
+    private final int days;
+    private final Clock clock;
+
+    private final long[] byStatus = new long[STATUSES.length];
+    private final long[] byAge = new long[AGE_BANDS.length];
+    private final TreeMap<LocalDate, Long> createdPerDay = new TreeMap<>();
+    private Instant reconciledAt;
+
+    @Autowired
+    public PatientStatistics(PatientRepository patientRepository,
+                             @Value("${app.patients.stats.days:30}") int days) {
+        this(patientRepository, days, Clock.systemDefaultZone());
+    }
+
+    PatientStatistics(PatientRepository patientRepository, int days, Clock clock) {
+        this.patientRepository = patientRepository;
+        this.days = days;
+        this.clock = clock;
+    }
+
+    /**
+     * Current counters. Creations are reported for the last {@code app.patients.stats.days} days, today included.
+     */
+    public synchronized PatientStatsResponse snapshot() {
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        long total = 0;
+        for (Patient.PatientStatus status : STATUSES) {
+            statuses.put(status.name(), byStatus[status.ordinal()]);
+            total += byStatus[status.ordinal()];
+        }
+
+        Map<String, Long> ages = new LinkedHashMap<>();
+        for (AgeBand band : AGE_BANDS) {
+            ages.put(band.getLabel(), byAge[band.ordinal()]);
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        Map<LocalDate, Long> perDay = new LinkedHashMap<>();
+        for (LocalDate day = firstDay(today); !day.isAfter(today); day = day.plusDays(1)) {
+            perDay.put(day, createdPerDay.getOrDefault(day, 0L));
+        }
+
+        return PatientStatsResponse.builder()
+                .total(total)
+                .byStatus(statuses)
+                .byAge(ages)
+                .createdPerDay(perDay)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    /**
+     * Share of patients in {@code status}, for estimating how many a status filter matches; an even share while no
+     * patient is counted.
+     */
+    public synchronized double statusShare(Patient.PatientStatus status) {
+        long total = Arrays.stream(byStatus).sum();
+        return total == 0 ? 1.0 / STATUSES.length : (double) byStatus[status.ordinal()] / total;
+    }
+
+    /**
+     * Apply a committed change. Runs without a transaction too, for writes made outside one.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPatientChanged(PatientChangedEvent event) {
+        apply(event, LocalDate.now(clock));
+    }
+
+    /**
+     * Apply the changes of a committed bulk write under one lock.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPatientsChanged(PatientsChangedEvent event) {
+        LocalDate today = LocalDate.now(clock);
+        for (PatientChangedEvent change : event.changes()) {
+            apply(change, today);
+        }
+    }
+
+    private void apply(PatientChangedEvent event, LocalDate today) {
+        if (event.before() != null) {
+            count(event.before(), today, -1);
+        }
+        count(event.after(), today, 1);
+
+        if (event.type() == PatientChangedEvent.Type.CREATED && event.after().getCreatedAt() != null) {
+            LocalDate day = event.after().getCreatedAt().toLocalDate();
+            if (!day.isBefore(firstDay(today))) {
+                createdPerDay.merge(day, 1L, Long::sum);
+            }
+            createdPerDay.headMap(firstDay(today)).clear();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Recompute every counter from the database and replace the in-memory values.
+     */
+    @Scheduled(fixedDelayString = "${app.patients.stats.reconcile-interval:PT15M}",
+            initialDelayString = "${app.patients.stats.reconcile-interval:PT15M}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now(clock);
+
+        long[] statuses = new long[STATUSES.length];
+        for (Object[] row : patientRepository.countGroupedByStatus()) {
+            statuses[((Patient.PatientStatus) row[0]).ordinal()] = ((Number) row[1]).longValue();
+        }
+
+        long[] ages = new long[AGE_BANDS.length];
+        List<Object[]> ageRows = patientRepository.countByAgeBands(today.minusYears(18), today.minusYears(35),
+                today.minusYears(50), today.minusYears(65));
+        if (!ageRows.isEmpty()) {
+            Object[] row = ageRows.get(0);
+            for (int i = 0; i < ages.length; i++) {
+                ages[i] = row[i] == null ? 0 : ((Number) row[i]).longValue();
+            }
+        }
+
+        TreeMap<LocalDate, Long> perDay = new TreeMap<>();
+        for (Object[] row : patientRepository.countCreatedPerDaySince(firstDay(today).atStartOfDay())) {
+            perDay.put((LocalDate) row[0], ((Number) row[1]).longValue());
+        }
+
+        synchronized (this) {
+            long drift = Math.abs(Arrays.stream(statuses).sum() - Arrays.stream(byStatus).sum());
+            if (reconciledAt != null && drift > 0) {
+                log.info("Patient statistics were off by {} patients; reconciled with the database", drift);
+            }
+            System.arraycopy(statuses, 0, byStatus, 0, statuses.length);
+            System.arraycopy(ages, 0, byAge, 0, ages.length);
+            createdPerDay.clear();
+            createdPerDay.putAll(perDay);
+            reconciledAt = clock.instant();
+        }
+    }
+
+    private void count(PatientResponse patient, LocalDate today, int delta) {
+        if (patient.getStatus() != null) {
+            byStatus[Patient.PatientStatus.valueOf(patient.getStatus()).ordinal()] += delta;
+        }
+        if (patient.getDateOfBirth() != null) {
+            byAge[AgeBand.of(patient.getDateOfBirth(), today).ordinal()] += delta;
+        }
+    }
+
+    private LocalDate firstDay(LocalDate today) {
+        return today.minusDays(days - 1L);
+    }
+}
@@ -0,0 +1,18 @@
+package com.healthcare.platform.service;
+
+import java.util.List;
+
+/**
+ * Published by {@link PatientService} instead of a {@link PatientChangedEvent} per patient when a bulk write changes
+ * many patients in one transaction, so that listeners can apply the changes as one unit: the page cache is invalidated
+ * once, the statistics are locked once, and event stream subscribers get the changes as one entry of their buffer.
+ * Listeners of {@link PatientChangedEvent} that keep derived state have to listen to this event too.
+ *
+ * @param changes the changes, in the order they were made
+ */
+public record PatientsChangedEvent(List<PatientChangedEvent> changes) {
+
+    public PatientsChangedEvent {
+        changes = List.copyOf(changes);
+    }
+}
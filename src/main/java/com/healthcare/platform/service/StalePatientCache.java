@@ -0,0 +1,224 @@
+package com.healthcare.platform.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.exception.ResourceNotFoundException;
+import com.healthcare.platform.filter.RequestDeadline;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Stale-if-error cache for single-patient reads.
+ * Every successful read is remembered; when a later read of the same patient fails because the database is
+ * unavailable (connection failures, timeouts, or an open circuit breaker), the last good response is served
+ * instead, together with its age, and a background refresh is attempted. Errors that are not caused by the
+ * database being unavailable, failures of requests that ran out of their own deadline, and reads of patients that
+ * were never served, are propagated as before.
+ */
+@Service
+@Slf4j
+public class StalePatientCache {
+
+    /**
+     * RFC 7234 warning code for stale responses.
+     */
+    public static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    private static final String ID_KEY_PREFIX = "id:";
+    private static final String MRN_KEY_PREFIX = "mrn:";
+
+    private final boolean enabled;
+    private final Cache<String, Entry> entries;
+    private final Executor refreshExecutor;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public StalePatientCache(@Value("${app.stale-reads.enabled:true}") boolean enabled,
+                             @Value("${app.stale-reads.max-size:10000}") long maxSize,
+                             @Value("${app.stale-reads.max-staleness:PT15M}") Duration maxStaleness) {
+        this(enabled, maxSize, maxStaleness, new ThreadPoolExecutor(1, 2, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(100), runnable -> {
+                    Thread thread = new Thread(runnable, "stale-patient-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy()));
+    }
+
+    StalePatientCache(boolean enabled, long maxSize, Duration maxStaleness, Executor refreshExecutor) {
+        this.enabled = enabled;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(maxStaleness)
+                .build();
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Load a patient, falling back to the last good response for {@code key} if the database is unavailable.
+     */
+    public Read read(String key, Supplier<PatientResponse> loader) {
+        if (!enabled) {
+            return new Read(loader.get(), null);
+        }
+
+        try {
+            PatientResponse patient = loader.get();
+            entries.put(key, new Entry(patient, System.nanoTime()));
+            return new Read(patient, null);
+        } catch (ResourceNotFoundException ex) {
+            entries.invalidate(key);
+            throw ex;
+        } catch (RuntimeException ex) {
+            Entry entry = isDatabaseUnavailable(ex) ? entries.getIfPresent(key) : null;
+            if (entry == null) {
+                throw ex;
+            }
+            Duration age = Duration.ofNanos(System.nanoTime() - entry.storedAt);
+            log.warn("Database unavailable, serving stale patient [{}] aged {}s: {}", key, age.toSeconds(), ex.getMessage());
+            refreshInBackground(key, loader);
+            return new Read(entry.patient, age);
+        }
+    }
+
+    /**
+     * Record a response produced outside {@link #read}.
+     */
+    public void put(String key, PatientResponse patient) {
+        if (enabled) {
+            entries.put(key, new Entry(patient, System.nanoTime()));
+        }
+    }
+
+    public void invalidate(String key) {
+        entries.invalidate(key);
+    }
+
+    /**
+     * Remember a committed write under both the patient's id and MRN, so that neither read serves the copy from
+     * before it. Runs without a transaction too, for writes made outside one.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientChanged(PatientChangedEvent event) {
+        PatientResponse patient = event.after();
+        put(idKey(patient.getId()), patient);
+        if (patient.getMedicalRecordNumber() != null) {
+            put(mrnKey(patient.getMedicalRecordNumber()), patient);
+        }
+    }
+
+    /**
+     * Replace the copies of patients changed by a committed bulk write under both keys. Copies that are not cached
+     * are not added, so that a large bulk write does not evict the patients that are actually being read.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientsChanged(PatientsChangedEvent event) {
+        for (PatientChangedEvent change : event.changes()) {
+            PatientResponse patient = change.after();
+            replace(idKey(patient.getId()), patient);
+            if (patient.getMedicalRecordNumber() != null) {
+                replace(mrnKey(patient.getMedicalRecordNumber()), patient);
+            }
+        }
+    }
+
+    private void replace(String key, PatientResponse patient) {
+        entries.asMap().computeIfPresent(key, (k, entry) -> new Entry(patient, System.nanoTime()));
+    }
+
+    public static String idKey(UUID id) {
+        return ID_KEY_PREFIX + id;
+    }
+
+    public static String mrnKey(String medicalRecordNumber) {
+        return MRN_KEY_PREFIX + medicalRecordNumber;
+    }
+
+    /**
+     * Whether a failure means the database could not be reached in time, as opposed to a bad request or a bug.
+     * A failure after the request's own deadline has passed is not: the request ran out of time, and answers 504
+     * rather than with a stale copy.
+     */
+    public static boolean isDatabaseUnavailable(Throwable failure) {
+        if (RequestDeadline.isExpired()) {
+            return false;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CannotCreateTransactionException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof TransientDataAccessException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException
+                    || cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void refreshInBackground(String key, Supplier<PatientResponse> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    entries.put(key, new Entry(loader.get(), System.nanoTime()));
+                    log.info("Refreshed stale patient [{}]", key);
+                } catch (ResourceNotFoundException ex) {
+                    entries.invalidate(key);
+                } catch (RuntimeException ex) {
+                    log.debug("Background refresh of patient [{}] failed: {}", key, ex.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(key);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Result of a read; {@code age} is {@code null} for fresh responses.
+     */
+    public record Read(PatientResponse patient, Duration age) {
+
+        public boolean isStale() {
+            return age != null;
+        }
+    }
+
+    private record Entry(PatientResponse patient, long storedAt) {
+    }
+}
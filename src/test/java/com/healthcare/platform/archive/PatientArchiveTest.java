@@ -0,0 +1,197 @@
+package com.healthcare.platform.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.healthcare.platform.dto.PatientResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Patient Archive Tests")
+class PatientArchiveTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path directory;
+
+    private PatientArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new PatientArchive(directory, 4, objectMapper, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        archive.close();
+    }
+
+    @Nested
+    @DisplayName("lookups")
+    class Lookups {
+
+        @Test
+        @DisplayName("should find every patient of a segment by id and MRN")
+        void shouldFindEveryPatient() {
+            List<PatientResponse> patients = patients(10);
+            archive.append(patients);
+
+            for (PatientResponse patient : patients) {
+                assertThat(archive.findById(patient.getId())).contains(patient);
+                assertThat(archive.findByMrn(patient.getMedicalRecordNumber())).contains(patient);
+            }
+            assertThat(archive.findById(UUID.randomUUID())).isEmpty();
+            assertThat(archive.findByMrn("MRN-unknown")).isEmpty();
+            assertThat(meterRegistry.get("patients.archive.lookup").tag("result", "found").timer().count())
+                    .isEqualTo(20);
+            assertThat(meterRegistry.get("patients.archive.lookup").tag("result", "missing").timer().count())
+                    .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should return the newest copy of a patient archived twice")
+        void shouldPreferNewestSegment() throws Exception {
+            PatientResponse first = patients(1).get(0);
+            PatientResponse second = copy(first);
+            second.setVersion(first.getVersion() + 1);
+            archive.append(List.of(first));
+            archive.append(List.of(second));
+
+            assertThat(archive.findById(first.getId())).contains(second);
+            assertThat(archive.findByMrn(first.getMedicalRecordNumber())).contains(second);
+        }
+
+        @Test
+        @DisplayName("should store patients compressed")
+        void shouldCompress() throws Exception {
+            List<PatientResponse> patients = patients(200);
+            long json = 0;
+            for (PatientResponse patient : patients) {
+                json += objectMapper.writeValueAsBytes(patient).length + 1;
+            }
+
+            archive.append(patients);
+
+            assertThat(meterRegistry.get("patients.archive.bytes").gauge().value()).isLessThan(json / 2.0);
+            assertThat(meterRegistry.get("patients.archive.patients").gauge().value()).isEqualTo(200);
+        }
+    }
+
+    @Nested
+    @DisplayName("segments")
+    class Segments {
+
+        @Test
+        @DisplayName("should reopen segments after a restart")
+        void shouldReopenSegments() {
+            List<PatientResponse> patients = patients(5);
+            archive.append(patients.subList(0, 2));
+            archive.append(patients.subList(2, 5));
+            archive.close();
+
+            archive = new PatientArchive(directory, 4, objectMapper, new SimpleMeterRegistry());
+
+            assertThat(archive.segmentCount()).isEqualTo(2);
+            assertThat(archive.patientCount()).isEqualTo(5);
+            assertThat(archive.findById(patients.get(4).getId())).contains(patients.get(4));
+        }
+
+        @Test
+        @DisplayName("should still return the newest copy of a patient archived twice after a restart")
+        void shouldPreferNewestSegmentAfterRestart() throws Exception {
+            PatientResponse first = patients(1).get(0);
+            PatientResponse second = copy(first);
+            second.setVersion(first.getVersion() + 1);
+            archive.append(List.of(first));
+            archive.append(List.of(second));
+            archive.close();
+
+            archive = new PatientArchive(directory, 4, objectMapper, new SimpleMeterRegistry());
+
+            assertThat(archive.findById(first.getId())).contains(second);
+            assertThat(archive.findByMrn(first.getMedicalRecordNumber())).contains(second);
+        }
+
+        @Test
+        @DisplayName("should pick up segments written by another instance on refresh")
+        void shouldRefresh() {
+            PatientArchive other = new PatientArchive(directory, 4, objectMapper, new SimpleMeterRegistry());
+            PatientResponse patient = patients(1).get(0);
+            other.append(List.of(patient));
+            other.close();
+            assertThat(archive.findById(patient.getId())).isEmpty();
+
+            archive.refresh();
+
+            assertThat(archive.findById(patient.getId())).contains(patient);
+        }
+
+        @Test
+        @DisplayName("should delete a discarded segment")
+        void shouldDiscard() throws Exception {
+            PatientResponse patient = patients(1).get(0);
+            String segment = archive.append(List.of(patient));
+
+            archive.discard(segment);
+
+            assertThat(archive.findById(patient.getId())).isEmpty();
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files).isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("should skip files that are not complete segments")
+        void shouldSkipBrokenSegments() throws Exception {
+            Files.write(directory.resolve(ArchiveSegment.PREFIX + "0000000000000-broken" + ArchiveSegment.SUFFIX),
+                    new byte[]{1, 2, 3});
+            Files.write(directory.resolve(ArchiveSegment.PREFIX + "0000000000001-partial.seg.tmp"), new byte[64]);
+
+            archive.refresh();
+
+            assertThat(archive.segmentCount()).isZero();
+        }
+    }
+
+    private static List<PatientResponse> patients(int count) {
+        List<PatientResponse> patients = new ArrayList<>(count);
+        IntStream.range(0, count).forEach(i -> patients.add(PatientResponse.builder()
+                .id(UUID.randomUUID())
+                .firstName("Archived" + i)
+                .lastName("Patient")
+                .dateOfBirth(LocalDate.of(1950, 1, 1).plusDays(i))
+                .email("archived" + i + "@example.com")
+                .phone("+14155550" + String.format("%03d", i))
+                .address(i + " Archive Road, Medical City")
+                .medicalRecordNumber("MRN-" + (1700000000000L + i))
+                .status(i % 2 == 0 ? "INACTIVE" : "DECEASED")
+                .createdAt(LocalDateTime.of(2020, 1, 1, 9, 0).plusHours(i))
+                .updatedAt(LocalDateTime.of(2021, 1, 1, 9, 0).plusHours(i))
+                .version(1L)
+                .build()));
+        return patients;
+    }
+
+    private PatientResponse copy(PatientResponse patient) throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(patient), PatientResponse.class);
+    }
+}
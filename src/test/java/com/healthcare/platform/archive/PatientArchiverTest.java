@@ -0,0 +1,141 @@
+package com.healthcare.platform.archive;
+
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.service.PatientStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Patient Archiver Tests")
+class PatientArchiverTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-10T12:00:00Z");
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private PatientArchive patientArchive;
+
+    @Mock
+    private PatientStatistics patientStatistics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("should archive and delete batches until no archivable patients are left")
+    void shouldArchiveInBatches() {
+        List<Patient> first = patients(2);
+        List<Patient> second = patients(1);
+        when(patientRepository.lockArchivable(PatientArchiver.ARCHIVABLE, CUTOFF, Limit.of(2)))
+                .thenReturn(first, second);
+        when(patientArchive.append(any())).thenReturn("first.seg", "second.seg");
+
+        assertThat(archiver(true).archive()).isEqualTo(3);
+
+        verify(patientRepository).deleteByIdIn(first.stream().map(Patient::getId).toList());
+        verify(patientRepository).deleteByIdIn(second.stream().map(Patient::getId).toList());
+        verify(eventPublisher).publishEvent(new PatientsArchivedEvent(
+                first.stream().map(PatientResponse::fromEntity).toList()));
+        verify(eventPublisher).publishEvent(new PatientsArchivedEvent(
+                second.stream().map(PatientResponse::fromEntity).toList()));
+        verify(transactionManager, times(2)).commit(any());
+        verify(patientStatistics).reconcile();
+        assertThat(meterRegistry.counter("patients.archive.archived").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should discard the segment of a batch that did not commit")
+    void shouldDiscardRolledBackSegment() {
+        when(patientRepository.lockArchivable(PatientArchiver.ARCHIVABLE, CUTOFF, Limit.of(2)))
+                .thenReturn(patients(2));
+        when(patientArchive.append(any())).thenReturn("failed.seg");
+        when(patientRepository.deleteByIdIn(any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThatThrownBy(() -> archiver(true).archive()).isInstanceOf(QueryTimeoutException.class);
+
+        verify(transactionManager).rollback(any());
+        verify(patientArchive).discard("failed.seg");
+        verifyNoInteractions(eventPublisher);
+        verifyNoInteractions(patientStatistics);
+        assertThat(meterRegistry.counter("patients.archive.archived").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should keep the segment of a batch whose commit failed")
+    void shouldKeepSegmentWhenCommitFails() {
+        when(patientRepository.lockArchivable(PatientArchiver.ARCHIVABLE, CUTOFF, Limit.of(2)))
+                .thenReturn(patients(2));
+        when(patientArchive.append(any())).thenReturn("uncertain.seg");
+        doThrow(new TransactionSystemException("connection lost during commit")).when(transactionManager).commit(any());
+
+        assertThatThrownBy(() -> archiver(true).archive()).isInstanceOf(TransactionSystemException.class);
+
+        verify(patientArchive, never()).discard(any());
+        assertThat(meterRegistry.counter("patients.archive.archived").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should only open new segments on scheduled runs when archiving is disabled")
+    void shouldOnlyRefreshWhenDisabled() {
+        archiver(false).scheduledRun();
+
+        verify(patientArchive).refresh();
+        verifyNoInteractions(patientRepository);
+    }
+
+    private PatientArchiver archiver(boolean enabled) {
+        return new PatientArchiver(patientRepository, patientArchive, patientStatistics, eventPublisher,
+                new TransactionTemplate(transactionManager), enabled, Duration.ofDays(365), 2, 10, meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static List<Patient> patients(int count) {
+        return IntStream.range(0, count).mapToObj(i -> Patient.builder()
+                        .id(UUID.randomUUID())
+                        .firstName("Archived")
+                        .lastName("Patient")
+                        .dateOfBirth(LocalDate.of(1940, 1, 1))
+                        .medicalRecordNumber("MRN-" + UUID.randomUUID())
+                        .status(Patient.PatientStatus.INACTIVE)
+                        .createdAt(CUTOFF.minusYears(5))
+                        .updatedAt(CUTOFF.minusDays(1))
+                        .version(1L)
+                        .build())
+                .toList();
+    }
+}
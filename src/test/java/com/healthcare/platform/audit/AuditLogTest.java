@@ -0,0 +1,222 @@
+package com.healthcare.platform.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.platform.exception.AuditUnavailableException;
+import com.healthcare.platform.filter.CorrelationIdFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Audit Log Tests")
+class AuditLogTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private final AuditStore store = mock(AuditStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("record")
+    class Record {
+
+        @Test
+        @DisplayName("should capture the user, patient, time and correlation ID of the request")
+        void shouldCaptureRequestContext() {
+            AuditLog auditLog = auditLog(10, 10, AuditLog.OverflowPolicy.REJECT, null);
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "doctor", null, AuthorityUtils.createAuthorityList("ROLE_DOCTOR")));
+            MDC.put(CorrelationIdFilter.MDC_CORRELATION_ID, "corr-1");
+            UUID patientId = UUID.randomUUID();
+
+            auditLog.record(AuditAction.READ, patientId);
+            auditLog.flush();
+
+            AuditEvent event = written().get(0);
+            assertThat(event.principal()).isEqualTo("doctor");
+            assertThat(event.action()).isEqualTo(AuditAction.READ);
+            assertThat(event.resourceType()).isEqualTo("Patient");
+            assertThat(event.resourceId()).isEqualTo(patientId.toString());
+            assertThat(event.occurredAt()).isEqualTo(NOW);
+            assertThat(event.correlationId()).isEqualTo("corr-1");
+            assertThat(event.id().version()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should record unauthenticated reads as anonymous")
+        void shouldRecordAnonymous() {
+            AuditLog auditLog = auditLog(10, 10, AuditLog.OverflowPolicy.REJECT, null);
+
+            auditLog.record(AuditAction.STREAM, (UUID) null);
+            auditLog.flush();
+
+            AuditEvent event = written().get(0);
+            assertThat(event.principal()).isEqualTo(AuditLog.ANONYMOUS);
+            assertThat(event.resourceId()).isNull();
+        }
+
+        @Test
+        @DisplayName("should refuse the read when the queue stays full and the policy is REJECT")
+        void shouldRejectWhenFull() {
+            AuditLog auditLog = auditLog(2, 10, AuditLog.OverflowPolicy.REJECT, null);
+            auditLog.record(AuditAction.SEARCH, List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+            assertThatThrownBy(() -> auditLog.record(AuditAction.READ, UUID.randomUUID()))
+                    .isInstanceOf(AuditUnavailableException.class);
+            assertThat(auditLog.pending()).isEqualTo(2);
+            assertThat(meterRegistry.counter("audit.events.rejected").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should count and drop events when the queue stays full and the policy is DROP")
+        void shouldDropWhenFull() {
+            AuditLog auditLog = auditLog(2, 10, AuditLog.OverflowPolicy.DROP, null);
+            auditLog.record(AuditAction.SEARCH, List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+            auditLog.record(AuditAction.READ, UUID.randomUUID());
+
+            assertThat(auditLog.pending()).isEqualTo(2);
+            assertThat(meterRegistry.counter("audit.events.dropped").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should do nothing when disabled")
+        void shouldIgnoreWhenDisabled() {
+            AuditLog auditLog = new AuditLog(store, null, false, 10, 10, Duration.ofMillis(10),
+                    AuditLog.OverflowPolicy.REJECT, Duration.ofMillis(1), Duration.ofSeconds(1), meterRegistry,
+                    Clock.fixed(NOW, ZoneOffset.UTC));
+
+            auditLog.record(AuditAction.READ, UUID.randomUUID());
+
+            assertThat(auditLog.pending()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("flush")
+    class Flush {
+
+        @Test
+        @DisplayName("should write at most one batch per call")
+        void shouldWriteInBatches() {
+            AuditLog auditLog = auditLog(10, 2, AuditLog.OverflowPolicy.REJECT, null);
+            auditLog.record(AuditAction.SEARCH, List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+            assertThat(auditLog.flush()).isTrue();
+
+            assertThat(written()).hasSize(2);
+            assertThat(auditLog.pending()).isEqualTo(1);
+            assertThat(meterRegistry.counter("audit.events.written").count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should keep a failed batch and retry it as a whole")
+        void shouldRetryFailedBatch() {
+            AuditLog auditLog = auditLog(10, 10, AuditLog.OverflowPolicy.REJECT, null);
+            doThrow(new IllegalStateException("database down")).doNothing().when(store).insert(anyList());
+            auditLog.record(AuditAction.BATCH_READ, List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+            assertThat(auditLog.flush()).isFalse();
+            assertThat(auditLog.pending()).isEqualTo(2);
+            auditLog.record(AuditAction.READ, UUID.randomUUID());
+            assertThat(auditLog.flush()).isTrue();
+
+            ArgumentCaptor<List<AuditEvent>> batches = batchCaptor();
+            verify(store, times(2)).insert(batches.capture());
+            assertThat(batches.getAllValues().get(1)).isEqualTo(batches.getAllValues().get(0));
+            assertThat(auditLog.pending()).isEqualTo(1);
+            assertThat(meterRegistry.counter("audit.write.failures").count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("write-ahead log")
+    class WriteAheadLog {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("should write the events of a crashed run on the next start")
+        void shouldRecoverAfterCrash() throws Exception {
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+            AuditWriteAheadLog crashed = new AuditWriteAheadLog(directory, 1 << 20, objectMapper);
+            AuditLog before = auditLog(10, 2, AuditLog.OverflowPolicy.REJECT, crashed);
+            List<UUID> patientIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+            before.record(AuditAction.SEARCH, patientIds);
+            before.flush();
+
+            AuditLog after = auditLog(10, 2, AuditLog.OverflowPolicy.REJECT,
+                    new AuditWriteAheadLog(directory, 1 << 20, objectMapper));
+            assertThat(after.recover()).isTrue();
+
+            ArgumentCaptor<List<AuditEvent>> recovered = batchCaptor();
+            verify(store).insertMissing(recovered.capture());
+            assertThat(recovered.getValue()).extracting(AuditEvent::resourceId)
+                    .containsExactlyElementsOf(patientIds.stream().map(UUID::toString).toList());
+            assertThat(recovered.getValue().get(0).occurredAt()).isEqualTo(NOW);
+            // Only the new run's segment is left
+            assertThat(directory.toFile().list()).hasSize(1);
+            crashed.close();
+        }
+
+        @Test
+        @DisplayName("should keep the previous run's events when recovery fails")
+        void shouldRetryRecovery() throws Exception {
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+            AuditWriteAheadLog crashed = new AuditWriteAheadLog(directory, 1 << 20, objectMapper);
+            auditLog(10, 2, AuditLog.OverflowPolicy.REJECT, crashed).record(AuditAction.READ, UUID.randomUUID());
+            doThrow(new IllegalStateException("database down")).when(store).insertMissing(anyList());
+
+            AuditLog after = auditLog(10, 2, AuditLog.OverflowPolicy.REJECT,
+                    new AuditWriteAheadLog(directory, 1 << 20, objectMapper));
+
+            assertThat(after.recover()).isFalse();
+            assertThat(directory.toFile().list()).hasSize(2);
+            crashed.close();
+        }
+    }
+
+    private AuditLog auditLog(int capacity, int batchSize, AuditLog.OverflowPolicy policy,
+                              AuditWriteAheadLog writeAheadLog) {
+        return new AuditLog(store, writeAheadLog, true, capacity, batchSize, Duration.ofMillis(10), policy,
+                Duration.ofMillis(1), Duration.ofSeconds(1), meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private List<AuditEvent> written() {
+        ArgumentCaptor<List<AuditEvent>> batch = batchCaptor();
+        verify(store).insert(batch.capture());
+        return batch.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<AuditEvent>> batchCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
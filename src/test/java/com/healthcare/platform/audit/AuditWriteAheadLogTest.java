@@ -0,0 +1,86 @@
+package com.healthcare.platform.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Audit Write-Ahead Log Tests")
+class AuditWriteAheadLogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("should delete full segments once all of their events are committed")
+    void shouldDeleteCommittedSegments() throws Exception {
+        AuditWriteAheadLog log = new AuditWriteAheadLog(directory, 1, objectMapper);
+
+        assertThat(log.append(List.of(event()))).isEqualTo(1);
+        assertThat(log.append(List.of(event(), event()))).isEqualTo(3);
+        assertThat(log.append(List.of(event()))).isEqualTo(4);
+        assertThat(segments()).hasSize(4);
+
+        log.committed(3);
+        assertThat(segments()).hasSize(2);
+
+        log.committed(4);
+        log.close();
+        assertThat(segments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should keep uncommitted events on close and replay them when reopened")
+    void shouldReplayUncommittedEvents() throws Exception {
+        AuditWriteAheadLog log = new AuditWriteAheadLog(directory, 1 << 20, objectMapper);
+        AuditEvent first = event();
+        AuditEvent second = event();
+        log.append(List.of(first, second));
+        log.committed(1);
+        log.close();
+
+        AuditWriteAheadLog reopened = new AuditWriteAheadLog(directory, 1 << 20, objectMapper);
+        assertThat(reopened.recover()).containsExactly(first, second);
+
+        reopened.discardRecovered();
+        assertThat(segments()).hasSize(1);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("should skip an entry cut short by a crash")
+    void shouldSkipTruncatedEntry() throws Exception {
+        AuditEvent event = event();
+        Files.writeString(directory.resolve("audit-000000000007.wal"),
+                objectMapper.writeValueAsString(event) + "\n{\"id\":\"", StandardCharsets.UTF_8);
+
+        AuditWriteAheadLog log = new AuditWriteAheadLog(directory, 1 << 20, objectMapper);
+
+        assertThat(log.recover()).containsExactly(event);
+        assertThat(segments()).contains("audit-000000000008.wal");
+        log.close();
+    }
+
+    private List<String> segments() throws Exception {
+        try (var files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static AuditEvent event() {
+        UUID patientId = UUID.randomUUID();
+        return new AuditEvent(UUID.randomUUID(), Instant.parse("2025-01-01T10:00:00Z"), "doctor", AuditAction.READ,
+                "Patient", patientId.toString(), "corr-1");
+    }
+}
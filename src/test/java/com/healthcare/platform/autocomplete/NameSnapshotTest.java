@@ -0,0 +1,127 @@
+package com.healthcare.platform.autocomplete;
+
+import com.healthcare.platform.dto.PatientSuggestion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Name Snapshot Tests")
+class NameSnapshotTest {
+
+    private static final LocalDate BIRTH = LocalDate.of(1980, 4, 12);
+
+    @Nested
+    @DisplayName("tokens")
+    class Tokens {
+
+        @Test
+        @DisplayName("should split names into lower-case words without accents")
+        void shouldNormalizeWords() {
+            assertThat(NameSnapshot.tokens("  José ", "Smith-Jones")).containsExactly("jose", "smith", "jones",
+                    "smithjones");
+            assertThat(NameSnapshot.tokens("O'Brien")).containsExactly("o", "brien", "obrien");
+            assertThat(NameSnapshot.tokens(" - ", null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should split queries into words without joining them")
+        void shouldSplitQueries() {
+            assertThat(NameSnapshot.prefixes("Jo  Smí jo")).containsExactly("jo", "smi");
+            assertThat(NameSnapshot.prefixes(" ")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should match tokens having one starting with every prefix")
+        void shouldMatchPrefixes() {
+            String[] tokens = NameSnapshot.tokens("John", "Van der Berg");
+
+            assertThat(NameSnapshot.matches(tokens, new String[]{"jo", "berg"})).isTrue();
+            assertThat(NameSnapshot.matches(tokens, new String[]{"vander"})).isTrue();
+            assertThat(NameSnapshot.matches(tokens, new String[]{"jo", "smi"})).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("find")
+    class Find {
+
+        @Test
+        @DisplayName("should find patients by the beginning of any name word, in last and first name order")
+        void shouldFindByPrefix() {
+            NameSnapshot snapshot = NameSnapshot.build(List.of(
+                    patient("Joanna", "Smithers"), patient("John", "Smith"), patient("Mary", "Johnson"),
+                    patient("Wei", "Zhang"), patient("Bob", "O'Brien")));
+
+            assertThat(names(snapshot.find(new String[]{"jo"}, 10)))
+                    .containsExactly("Mary Johnson", "John Smith", "Joanna Smithers");
+            assertThat(names(snapshot.find(new String[]{"jo", "sm"}, 10)))
+                    .containsExactly("John Smith", "Joanna Smithers");
+            assertThat(names(snapshot.find(new String[]{"smithers", "jo"}, 10))).containsExactly("Joanna Smithers");
+            assertThat(names(snapshot.find(new String[]{"obr"}, 10))).containsExactly("Bob O'Brien");
+            assertThat(snapshot.find(new String[]{"x"}, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should return each patient once even when several of its words match")
+        void shouldNotRepeatPatients() {
+            NameSnapshot snapshot = NameSnapshot.build(List.of(patient("Jo", "Johnson")));
+
+            assertThat(snapshot.find(new String[]{"jo"}, 10)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should stop at the limit with the first patients in name order")
+        void shouldStopAtLimit() {
+            List<PatientSuggestion> patients = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                patients.add(patient("Ann", String.format("Lee%03d", 99 - i)));
+                patients.add(patient("Ann", String.format("Kim%03d", i)));
+            }
+            NameSnapshot snapshot = NameSnapshot.build(patients);
+
+            assertThat(names(snapshot.find(new String[]{"ann"}, 3)))
+                    .containsExactly("Ann Kim000", "Ann Kim001", "Ann Kim002");
+            assertThat(names(snapshot.find(new String[]{"lee"}, 2))).containsExactly("Ann Lee000", "Ann Lee001");
+        }
+
+        @Test
+        @DisplayName("should return the fields of each patient")
+        void shouldReturnSummaries() {
+            PatientSuggestion patient = patient("John", "Smith");
+            PatientSuggestion noBirthDate = new PatientSuggestion(UUID.randomUUID(), "Jane", "Smith", null, null, null);
+            NameSnapshot snapshot = NameSnapshot.build(List.of(patient, noBirthDate));
+
+            assertThat(snapshot.find(new String[]{"smith"}, 10)).containsExactly(noBirthDate, patient);
+        }
+
+        @Test
+        @DisplayName("should skip superseded patients")
+        void shouldSkipSuperseded() {
+            PatientSuggestion john = patient("John", "Smith");
+            PatientSuggestion jane = patient("Jane", "Smith");
+            NameSnapshot snapshot = NameSnapshot.build(List.of(john, jane));
+
+            snapshot.supersede(john.getId());
+            snapshot.supersede(UUID.randomUUID());
+
+            assertThat(snapshot.find(new String[]{"smith"}, 10)).containsExactly(jane);
+            assertThat(snapshot.size()).isEqualTo(2);
+        }
+    }
+
+    private static PatientSuggestion patient(String firstName, String lastName) {
+        return new PatientSuggestion(UUID.randomUUID(), firstName, lastName, BIRTH,
+                "MRN-" + firstName + lastName, "ACTIVE");
+    }
+
+    private static List<String> names(List<PatientSuggestion> patients) {
+        return patients.stream().map(patient -> patient.getFirstName() + " " + patient.getLastName()).toList();
+    }
+}
@@ -0,0 +1,199 @@
+package com.healthcare.platform.autocomplete;
+
+import com.healthcare.platform.archive.PatientsArchivedEvent;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientSuggestion;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.service.PatientChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Patient Name Index Tests")
+class PatientNameIndexTest {
+
+    private static final LocalDate BIRTH = LocalDate.of(1980, 4, 12);
+    private static final UUID JOHN = new UUID(0, 1);
+    private static final UUID JOANNA = new UUID(0, 2);
+    private static final UUID MARY = new UUID(0, 3);
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("building")
+    class Building {
+
+        @Test
+        @DisplayName("should page through the patients table and then serve suggestions from memory")
+        void shouldBuildFromDatabase() {
+            PatientNameIndex index = builtIndex();
+
+            assertThat(index.isReady()).isTrue();
+            assertThat(index.size()).isEqualTo(3);
+            assertThat(index.suggest("jo", 10)).extracting(PatientSuggestion::getId).containsExactly(MARY, JOHN, JOANNA);
+            assertThat(index.suggest("Jo Sm", 10)).extracting(PatientSuggestion::getId).containsExactly(JOHN, JOANNA);
+            assertThat(index.suggest("  ", 10)).isEmpty();
+            verify(patientRepository, never()).searchByName(any(), any());
+            assertThat(meterRegistry.get("patients.autocomplete.lookups").tag("source", "index").timer().count())
+                    .isEqualTo(2);
+            assertThat(meterRegistry.get("patients.autocomplete.entries").gauge().value()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should search the database until built")
+        void shouldFallBackToDatabase() {
+            Patient john = Patient.builder().id(JOHN).firstName("John").lastName("Smith").dateOfBirth(BIRTH)
+                    .medicalRecordNumber("MRN-1").status(Patient.PatientStatus.ACTIVE).build();
+            Patient johanna = Patient.builder().id(JOANNA).firstName("Johanna").lastName("Jones").dateOfBirth(BIRTH)
+                    .medicalRecordNumber("MRN-2").status(Patient.PatientStatus.ACTIVE).build();
+            when(patientRepository.searchByName("smi", PageRequest.of(0, 5, Sort.by("lastName", "firstName", "id"))))
+                    .thenReturn(new PageImpl<>(List.of(john, johanna)));
+            PatientNameIndex index = index(true);
+
+            List<PatientSuggestion> suggestions = index.suggest("jo smi", 5);
+
+            assertThat(suggestions).containsExactly(
+                    new PatientSuggestion(JOHN, "John", "Smith", BIRTH, "MRN-1", "ACTIVE"));
+            assertThat(meterRegistry.get("patients.autocomplete.lookups").tag("source", "database").timer().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should not build when disabled")
+        void shouldNotBuildWhenDisabled() {
+            PatientNameIndex index = index(false);
+
+            index.rebuild();
+            index.start();
+
+            assertThat(index.isReady()).isFalse();
+            verifyNoInteractions(patientRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("writes")
+    class Writes {
+
+        @Test
+        @DisplayName("should suggest created patients before the next build")
+        void shouldSuggestCreatedPatients() {
+            PatientNameIndex index = builtIndex();
+            UUID created = new UUID(0, 4);
+
+            index.onPatientChanged(PatientChangedEvent.created(response(created, "Joe", "Adams")));
+
+            assertThat(index.suggest("jo", 10)).extracting(PatientSuggestion::getId)
+                    .containsExactly(created, MARY, JOHN, JOANNA);
+            assertThat(index.suggest("jo", 2)).extracting(PatientSuggestion::getId).containsExactly(created, MARY);
+        }
+
+        @Test
+        @DisplayName("should suggest updated patients under their new name only")
+        void shouldSuggestUpdatedPatients() {
+            PatientNameIndex index = builtIndex();
+
+            index.onPatientChanged(PatientChangedEvent.updated(null, response(JOHN, "Jack", "Smith")));
+
+            assertThat(index.suggest("jo", 10)).extracting(PatientSuggestion::getId).containsExactly(MARY, JOANNA);
+            assertThat(index.suggest("jac", 10)).extracting(PatientSuggestion::getFirstName).containsExactly("Jack");
+        }
+
+        @Test
+        @DisplayName("should keep changes made during a rebuild")
+        void shouldKeepChangesMadeDuringRebuild() {
+            PatientNameIndex index = index(true);
+            List<Object[]> rows = rows();
+            when(patientRepository.findSuggestionFields(new UUID(0, 0), Limit.of(10))).thenAnswer(invocation -> {
+                // Committed after the table was read
+                index.onPatientChanged(PatientChangedEvent.updated(null, response(JOHN, "Jack", "Smith")));
+                return rows;
+            });
+
+            index.rebuild();
+
+            assertThat(index.suggest("jo", 10)).extracting(PatientSuggestion::getId).containsExactly(MARY, JOANNA);
+            assertThat(index.suggest("jack", 10)).extracting(PatientSuggestion::getId).containsExactly(JOHN);
+        }
+
+        @Test
+        @DisplayName("should stop suggesting archived patients, whether built or changed since")
+        void shouldDropArchivedPatients() {
+            PatientNameIndex index = builtIndex();
+            UUID created = new UUID(0, 4);
+            index.onPatientChanged(PatientChangedEvent.created(response(created, "Joe", "Adams")));
+
+            index.onPatientsArchived(new PatientsArchivedEvent(List.of(response(created, "Joe", "Adams"),
+                    response(MARY, "Mary", "Johnson"))));
+
+            assertThat(index.suggest("jo", 10)).extracting(PatientSuggestion::getId).containsExactly(JOHN, JOANNA);
+        }
+
+        @Test
+        @DisplayName("should not bring back patients archived during a rebuild")
+        void shouldKeepArchivalsMadeDuringRebuild() {
+            PatientNameIndex index = index(true);
+            List<Object[]> rows = rows();
+            when(patientRepository.findSuggestionFields(new UUID(0, 0), Limit.of(10))).thenAnswer(invocation -> {
+                // Committed after the table was read
+                index.onPatientsArchived(new PatientsArchivedEvent(List.of(response(MARY, "Mary", "Johnson"))));
+                return rows;
+            });
+
+            index.rebuild();
+
+            assertThat(index.suggest("jo", 10)).extracting(PatientSuggestion::getId).containsExactly(JOHN, JOANNA);
+        }
+    }
+
+    private PatientNameIndex index(boolean enabled) {
+        return new PatientNameIndex(patientRepository, enabled, 10, meterRegistry);
+    }
+
+    private PatientNameIndex builtIndex() {
+        when(patientRepository.findSuggestionFields(new UUID(0, 0), Limit.of(10))).thenReturn(rows());
+        PatientNameIndex index = index(true);
+        index.rebuild();
+        return index;
+    }
+
+    private static List<Object[]> rows() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{JOHN, "John", "Smith", BIRTH, "MRN-1", Patient.PatientStatus.ACTIVE});
+        rows.add(new Object[]{JOANNA, "Joanna", "Smithers", null, "MRN-2", Patient.PatientStatus.INACTIVE});
+        rows.add(new Object[]{MARY, "Mary", "Johnson", BIRTH, "MRN-3", Patient.PatientStatus.ACTIVE});
+        return rows;
+    }
+
+    private static PatientResponse response(UUID id, String firstName, String lastName) {
+        return PatientResponse.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .dateOfBirth(BIRTH)
+                .status("ACTIVE")
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.healthcare.platform.autocomplete;
+
+import com.healthcare.platform.dto.PatientSuggestion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Pending Changes Tests")
+class PendingChangesTest {
+
+    private static final LocalDate BIRTH = LocalDate.of(1980, 4, 12);
+
+    private final PendingChanges changes = new PendingChanges();
+
+    @Test
+    @DisplayName("should find changed patients having a name word starting with every query word")
+    void shouldFindByPrefixes() {
+        PatientSuggestion john = patient(UUID.randomUUID(), "John", "Smith");
+        PatientSuggestion joanna = patient(UUID.randomUUID(), "Joanna", "Smithers");
+        changes.put(john);
+        changes.put(joanna);
+        changes.put(patient(UUID.randomUUID(), "Mary", "Jones"));
+
+        assertThat(changes.find(new String[]{"jo", "smith"}, 10)).containsExactlyInAnyOrder(john, joanna);
+        assertThat(changes.find(new String[]{"smithe"}, 10)).containsExactly(joanna);
+        assertThat(changes.find(new String[]{"zh"}, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should return at least the first patients in name order, up to the limit per word")
+    void shouldStopAtLimit() {
+        for (int i = 0; i < 20; i++) {
+            changes.put(patient(UUID.randomUUID(), "John", String.format("Smith%02d", i)));
+        }
+
+        assertThat(changes.find(new String[]{"john"}, 3)).extracting(PatientSuggestion::getLastName)
+                .containsExactly("Smith00", "Smith01", "Smith02");
+    }
+
+    @Test
+    @DisplayName("should return a patient once when several of its words start with the query")
+    void shouldNotRepeatPatients() {
+        PatientSuggestion patient = patient(UUID.randomUUID(), "Jo", "Johnson-Jones");
+        changes.put(patient);
+
+        assertThat(changes.find(new String[]{"jo"}, 10)).containsExactly(patient);
+    }
+
+    @Test
+    @DisplayName("should only find a patient changed twice by its latest name")
+    void shouldKeepLatestChange() {
+        UUID id = UUID.randomUUID();
+        changes.put(patient(id, "John", "Smith"));
+        PatientSuggestion renamed = patient(id, "John", "Baker");
+
+        changes.put(renamed);
+
+        assertThat(changes.find(new String[]{"smi"}, 10)).isEmpty();
+        assertThat(changes.find(new String[]{"bak"}, 10)).containsExactly(renamed);
+        assertThat(changes.find(new String[]{"jo"}, 10)).containsExactly(renamed);
+        assertThat(changes.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should drop a removed patient and still report it as changed")
+    void shouldRemovePatient() {
+        UUID id = UUID.randomUUID();
+        changes.put(patient(id, "John", "Smith"));
+
+        changes.remove(id);
+
+        assertThat(changes.find(new String[]{"jo"}, 10)).isEmpty();
+        assertThat(changes.ids()).containsExactly(id);
+        assertThat(changes.size()).isEqualTo(1);
+    }
+
+    private static PatientSuggestion patient(UUID id, String firstName, String lastName) {
+        return new PatientSuggestion(id, firstName, lastName, BIRTH, "MRN-" + id, "ACTIVE");
+    }
+}
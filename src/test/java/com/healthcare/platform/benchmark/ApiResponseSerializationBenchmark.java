@@ -0,0 +1,60 @@
+package com.healthcare.platform.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.healthcare.platform.dto.ApiResponse;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.seed.SyntheticPatientGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the {@link ApiResponse} envelope for the most common single-object responses:
+ * one patient, and a validation error. Configured like the application's mapper and written to a discarding
+ * stream, as the HTTP message converter writes to the response. Page responses are covered by
+ * {@link PatientPageSerializationBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper mapper;
+    private ApiResponse<PatientResponse> patientResponse;
+    private ApiResponse<Void> validationError;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+
+        patientResponse = ApiResponse.success(PatientResponse.fromEntity(new SyntheticPatientGenerator(42).generate(0)));
+        patientResponse.setCorrelationId("4f1c2a9e8b7d6c5a");
+
+        validationError = ApiResponse.error("Validation failed", List.of(
+                ApiResponse.FieldError.builder().field("email").message("Email must be valid").rejectedValue("x@").build(),
+                ApiResponse.FieldError.builder().field("firstName").message("First name is required").build()));
+        validationError.setCorrelationId("4f1c2a9e8b7d6c5a");
+    }
+
+    @Benchmark
+    public void patient() throws IOException {
+        mapper.writeValue(OutputStream.nullOutputStream(), patientResponse);
+    }
+
+    @Benchmark
+    public void validationError() throws IOException {
+        mapper.writeValue(OutputStream.nullOutputStream(), validationError);
+    }
+}
@@ -0,0 +1,151 @@
+package com.healthcare.platform.benchmark;
+
+import com.healthcare.platform.dto.DuplicateScanResponse;
+import com.healthcare.platform.dto.PatientDuplicate;
+import com.healthcare.platform.duplicate.DuplicateIndex;
+import com.healthcare.platform.duplicate.DuplicateScanner;
+import com.healthcare.platform.duplicate.MatchRecord;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.seed.SyntheticPatientGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duplicate detection over {@code patients} synthetic patients, 1% of which are followed by a copy with two letters
+ * of a name swapped or a mistyped date of birth, the way a patient registered twice tends to differ.
+ * <p>
+ * {@code scan} is one full-table {@link DuplicateScanner} pass over patients already in memory, so its time excludes
+ * reading the table; {@code check} is the online check of one new patient against a {@link DuplicateIndex} holding
+ * all of them.
+ */
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class DuplicateDetectionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Patients {
+
+        @Param({"1000000"})
+        public int patients;
+
+        List<MatchRecord> records;
+
+        @Setup
+        public void setUp() {
+            records = generate(patients);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Scan {
+
+        @Param({"1", "4"})
+        public int parallelism;
+
+        DuplicateScanner scanner;
+
+        @Setup
+        public void setUp() {
+            scanner = new DuplicateScanner(Mockito.mock(PatientRepository.class), 0.88, parallelism, 1000, 1000,
+                    10_000, new SimpleMeterRegistry());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Check {
+
+        private static final int SAMPLES = 1_024;
+
+        DuplicateIndex index;
+        MatchRecord[] created;
+        int next;
+
+        @Setup
+        public void setUp(Patients patients) {
+            index = new DuplicateIndex(Mockito.mock(PatientRepository.class), true, 0.88, 10, 10_000,
+                    new SimpleMeterRegistry());
+            patients.records.forEach(index::put);
+            SyntheticPatientGenerator generator = new SyntheticPatientGenerator(7);
+            created = new MatchRecord[SAMPLES];
+            for (int i = 0; i < SAMPLES; i++) {
+                Patient patient = generator.generate(i);
+                created[i] = MatchRecord.of(null, patient.getFirstName(), patient.getLastName(),
+                        patient.getDateOfBirth(), patient.getEmail(), patient.getPhone());
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public DuplicateScanResponse scan(Patients patients, Scan scan) {
+        DuplicateScanResponse response = scan.scanner.scan(patients.records);
+        System.out.printf("%n%,d pairs scored, %,d possible duplicates%n", response.getComparisons(),
+                response.getMatches());
+        return response;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public List<PatientDuplicate> check(Check check) {
+        return check.index.findDuplicates(check.created[check.next++ & (Check.SAMPLES - 1)]);
+    }
+
+    private static List<MatchRecord> generate(int count) {
+        SyntheticPatientGenerator generator = new SyntheticPatientGenerator(42);
+        SplittableRandom random = new SplittableRandom(42);
+        List<MatchRecord> records = new ArrayList<>(count + count / 50);
+        for (int i = 0; i < count; i++) {
+            Patient patient = generator.generate(i);
+            MatchRecord record = MatchRecord.of(patient);
+            records.add(record);
+            if (random.nextInt(100) == 0) {
+                records.add(typo(record, random));
+            }
+        }
+        return records;
+    }
+
+    private static MatchRecord typo(MatchRecord record, SplittableRandom random) {
+        UUID id = new UUID(random.nextLong(), random.nextLong());
+        return switch (random.nextInt(3)) {
+            case 0 -> MatchRecord.of(id, swapLetters(record.firstName(), random), record.lastName(),
+                    record.dateOfBirth(), null, record.phone());
+            case 1 -> MatchRecord.of(id, record.firstName(), swapLetters(record.lastName(), random),
+                    record.dateOfBirth(), record.email(), null);
+            default -> MatchRecord.of(id, record.firstName(), record.lastName(), swapDayAndMonth(record.dateOfBirth()),
+                    null, null);
+        };
+    }
+
+    private static LocalDate swapDayAndMonth(LocalDate date) {
+        return date.getDayOfMonth() <= 12
+                ? LocalDate.of(date.getYear(), date.getDayOfMonth(), date.getMonthValue())
+                : date.minusYears(1);
+    }
+
+    private static String swapLetters(String name, SplittableRandom random) {
+        if (name.length() < 3) {
+            return name;
+        }
+        int i = 1 + random.nextInt(name.length() - 2);
+        char[] letters = name.toCharArray();
+        char swapped = letters[i];
+        letters[i] = letters[i + 1];
+        letters[i + 1] = swapped;
+        return new String(letters);
+    }
+}
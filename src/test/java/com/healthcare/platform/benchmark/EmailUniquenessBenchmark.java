@@ -0,0 +1,120 @@
+package com.healthcare.platform.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares patient creation with the former {@code existsByEmail} pre-check against relying on the
+ * unique index on {@code email_normalized} alone. Runs plain JDBC against in-memory H2, so it measures the
+ * cost of the extra statement without network latency; against a remote PostgreSQL each saved
+ * statement is also a saved round trip.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class EmailUniquenessBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:email-uniqueness;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        final AtomicLong sequence = new AtomicLong();
+        private Connection keepAlive;
+
+        @Setup
+        public void setUp() throws SQLException {
+            keepAlive = DriverManager.getConnection(URL, "sa", "");
+            try (Statement statement = keepAlive.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS patients");
+                statement.execute("CREATE TABLE patients (id UUID PRIMARY KEY, first_name VARCHAR(100) NOT NULL, " +
+                        "email VARCHAR(255), email_normalized VARCHAR(255), " +
+                        "CONSTRAINT uk_patients_email_normalized UNIQUE (email_normalized))");
+            }
+        }
+
+        @TearDown
+        public void tearDown() throws SQLException {
+            try (Statement statement = keepAlive.createStatement()) {
+                statement.execute("DROP TABLE patients");
+            }
+            keepAlive.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        Connection connection;
+        PreparedStatement exists;
+        PreparedStatement insert;
+
+        /**
+         * Takes the database state so JMH creates the schema before opening per-thread connections.
+         */
+        @Setup
+        public void setUp(Database database) throws SQLException {
+            connection = DriverManager.getConnection(URL, "sa", "");
+            connection.setAutoCommit(false);
+            // Query the indexed column so the pre-check is measured at its cheapest
+            exists = connection.prepareStatement("SELECT COUNT(*) FROM patients WHERE email_normalized = ?");
+            insert = connection.prepareStatement(
+                    "INSERT INTO patients (id, first_name, email, email_normalized) VALUES (?, ?, ?, ?)");
+        }
+
+        @TearDown
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public boolean existsCheckThenInsert(Database database, Session session) throws SQLException {
+        String email = nextEmail(database);
+        session.exists.setString(1, email.toLowerCase());
+        try (ResultSet result = session.exists.executeQuery()) {
+            result.next();
+            if (result.getLong(1) > 0) {
+                session.connection.rollback();
+                return false;
+            }
+        }
+        return insert(session, email);
+    }
+
+    @Benchmark
+    public boolean uniqueIndexOnly(Database database, Session session) throws SQLException {
+        return insert(session, nextEmail(database));
+    }
+
+    private static boolean insert(Session session, String email) throws SQLException {
+        session.insert.setObject(1, UUID.randomUUID());
+        session.insert.setString(2, "Bench");
+        session.insert.setString(3, email);
+        session.insert.setString(4, email.toLowerCase());
+        try {
+            session.insert.executeUpdate();
+            session.connection.commit();
+            return true;
+        } catch (SQLException ex) {
+            session.connection.rollback();
+            return false;
+        }
+    }
+
+    private static String nextEmail(Database database) {
+        return "patient" + database.sequence.incrementAndGet() + "@example.com";
+    }
+}
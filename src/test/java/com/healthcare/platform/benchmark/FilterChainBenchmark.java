@@ -0,0 +1,103 @@
+package com.healthcare.platform.benchmark;
+
+import com.healthcare.platform.HealthcarePlatformApplication;
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.security.JwtTokenProvider;
+import com.healthcare.platform.service.PatientService;
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.AbstractFilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletContextInitializer;
+import org.springframework.boot.web.servlet.ServletContextInitializerBeans;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * End-to-end cost of a request through the complete servlet filter chain (security, JWT, correlation ID,
+ * rate limiting, deadline) and the dispatcher, without network I/O. Runs the real application context
+ * on the {@code test} profile; the filters are registered in the same order as in the embedded server.
+ * {@code health} is anonymous and skips rate limiting; {@code getPatient} is an authenticated read of a
+ * patient already in the second-level cache. Warm-up is longer than for the component benchmarks because
+ * the JIT has far more code to compile before the chain reaches steady state.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterChainBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private RequestBuilder health;
+    private RequestBuilder getPatient;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(HealthcarePlatformApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--app.rate-limit.enabled=true",
+                        "--app.rate-limit.requests-per-minute=" + Integer.MAX_VALUE,
+                        "--logging.level.root=ERROR",
+                        "--logging.level.com.healthcare.platform=ERROR");
+
+        List<Filter> filters = new ArrayList<>();
+        for (ServletContextInitializer initializer : new ServletContextInitializerBeans(context.getBeanFactory())) {
+            if (initializer instanceof AbstractFilterRegistrationBean<?> registration && registration.isEnabled()) {
+                filters.add(registration.getFilter());
+            }
+        }
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .addFilters(filters.toArray(Filter[]::new))
+                .build();
+
+        UUID patientId = context.getBean(PatientService.class).createPatient(PatientRequest.builder()
+                .firstName("Bench")
+                .lastName("Mark")
+                .dateOfBirth(LocalDate.of(1980, 1, 1))
+                .build()).getId();
+        String token = context.getBean(JwtTokenProvider.class).generateToken("clinician", List.of("USER"));
+
+        health = get("/api/v1/health");
+        getPatient = get("/api/v1/patients/{id}", patientId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header("X-Forwarded-For", "10.0.0.1");
+
+        for (RequestBuilder request : List.of(health, getPatient)) {
+            int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+            if (status != 200) {
+                throw new IllegalStateException("Benchmark request returned " + status);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int health() throws Exception {
+        return mockMvc.perform(health).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int getPatient() throws Exception {
+        return mockMvc.perform(getPatient).andReturn().getResponse().getStatus();
+    }
+}
@@ -0,0 +1,51 @@
+package com.healthcare.platform.benchmark;
+
+import com.healthcare.platform.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of issuing and checking JWTs. {@code authenticateRequest} mirrors what
+ * {@code JwtAuthenticationFilter} does for every authenticated request: validate, then build the authentication.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "benchmark-256-bit-secret-key-for-jwt-signing-which-should-be-at-least-256-bits-long");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 86_400_000L);
+        ReflectionTestUtils.setField(tokenProvider, "jwtIssuer", "healthcare-platform");
+        tokenProvider.init();
+        token = tokenProvider.generateToken("clinician", List.of("USER", "ADMIN"));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken("clinician", List.of("USER", "ADMIN"));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication authenticateRequest() {
+        return tokenProvider.validateToken(token) ? tokenProvider.getAuthentication(token) : null;
+    }
+}
@@ -0,0 +1,91 @@
+package com.healthcare.platform.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.healthcare.platform.archive.PatientArchive;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.seed.SyntheticPatientGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Latency of reading an archived patient by id and by MRN, and of missing the archive (the cost added to every
+ * 404). The archive holds {@code segments} segments of 1,000 patients each, as the archiver writes them; lookups
+ * touch the memory-mapped index of each segment and inflate one block.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatientArchiveLookupBenchmark {
+
+    private static final int PATIENTS_PER_SEGMENT = 1_000;
+    private static final int SAMPLES = 1_024;
+
+    @Param({"10", "100"})
+    public int segments;
+
+    private Path directory;
+    private PatientArchive archive;
+    private UUID[] ids;
+    private String[] mrns;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        directory = Files.createTempDirectory("patient-archive-benchmark");
+        archive = new PatientArchive(directory, 64, objectMapper, new SimpleMeterRegistry());
+
+        SyntheticPatientGenerator generator = new SyntheticPatientGenerator(42);
+        int total = segments * PATIENTS_PER_SEGMENT;
+        for (int from = 0; from < total; from += PATIENTS_PER_SEGMENT) {
+            archive.append(generator.stream(from, PATIENTS_PER_SEGMENT).map(PatientResponse::fromEntity).toList());
+        }
+
+        ids = new UUID[SAMPLES];
+        mrns = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            PatientResponse patient = PatientResponse.fromEntity(generator.generate((long) i * total / SAMPLES));
+            ids[i] = patient.getId();
+            mrns[i] = patient.getMedicalRecordNumber();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        archive.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<PatientResponse> findById() {
+        return archive.findById(ids[next++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public Optional<PatientResponse> findByMrn() {
+        return archive.findByMrn(mrns[next++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public Optional<PatientResponse> miss() {
+        return archive.findById(UUID.randomUUID());
+    }
+}
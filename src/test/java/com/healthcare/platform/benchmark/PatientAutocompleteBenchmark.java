@@ -0,0 +1,108 @@
+package com.healthcare.platform.benchmark;
+
+import com.healthcare.platform.autocomplete.PatientNameIndex;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientSuggestion;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.seed.SyntheticPatientGenerator;
+import com.healthcare.platform.service.PatientChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Limit;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type-ahead suggestions from {@link PatientNameIndex} over {@code patients} synthetic patients, {@code changes} of
+ * which were updated since the index was built; 10,000 is the backlog a few bulk status changes leave. Queries are what a clinician has typed so far: the first two or more
+ * letters of a first or last name, or of both. Sample mode reports the latency percentiles; setup prints the heap the
+ * index retains. The synthetic data set uses only 40 first and 40 last names, so every prefix matches tens of
+ * thousands of patients, which is harder on the index than real names.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class PatientAutocompleteBenchmark {
+
+    private static final int SAMPLES = 1_024;
+
+    @Param({"1000000"})
+    public int patients;
+
+    @Param({"1000", "10000"})
+    public int changes;
+
+    private PatientNameIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        long before = retainedHeap();
+        SyntheticPatientGenerator generator = new SyntheticPatientGenerator(42);
+        List<Object[]> rows = new ArrayList<>(patients);
+        for (int i = 0; i < patients; i++) {
+            Patient patient = generator.generate(i);
+            rows.add(new Object[]{patient.getId(), patient.getFirstName(), patient.getLastName(),
+                    patient.getDateOfBirth(), patient.getMedicalRecordNumber(), patient.getStatus()});
+        }
+        PatientRepository repository = Mockito.mock(PatientRepository.class);
+        Mockito.when(repository.findSuggestionFields(new UUID(0, 0), Limit.of(patients + 1))).thenReturn(rows);
+
+        index = new PatientNameIndex(repository, true, patients + 1, new SimpleMeterRegistry());
+        index.rebuild();
+        // The mocked repository keeps the rows
+        rows.clear();
+        System.out.printf("%nName index of %,d patients retains %,d MB of heap%n", index.size(),
+                (retainedHeap() - before) >> 20);
+
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < changes; i++) {
+            Patient patient = generator.generate(random.nextInt(patients));
+            index.onPatientChanged(PatientChangedEvent.updated(null, PatientResponse.builder()
+                    .id(patient.getId())
+                    .firstName(patient.getFirstName())
+                    .lastName(patient.getLastName() + "-Hale")
+                    .dateOfBirth(patient.getDateOfBirth())
+                    .medicalRecordNumber(patient.getMedicalRecordNumber())
+                    .status(patient.getStatus().name())
+                    .build()));
+        }
+
+        queries = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            Patient patient = generator.generate(random.nextInt(patients));
+            String first = prefix(patient.getFirstName(), random);
+            String last = prefix(patient.getLastName(), random);
+            queries[i] = switch (random.nextInt(3)) {
+                case 0 -> first;
+                case 1 -> last;
+                default -> first + " " + last;
+            };
+        }
+    }
+
+    @Benchmark
+    public List<PatientSuggestion> suggest() {
+        return index.suggest(queries[next++ & (SAMPLES - 1)], 10);
+    }
+
+    private static String prefix(String name, SplittableRandom random) {
+        return name.substring(0, Math.min(name.length(), 2 + random.nextInt(Math.max(1, name.length() - 1))));
+    }
+
+    private static long retainedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
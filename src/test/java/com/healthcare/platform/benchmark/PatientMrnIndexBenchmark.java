@@ -0,0 +1,88 @@
+package com.healthcare.platform.benchmark;
+
+import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.service.PatientMrnIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MRN to id lookups against {@link PatientMrnIndex} and against the on-heap map it avoids, with {@code entries}
+ * patients indexed. Setup prints the heap retained by each store after a full GC, which together with the GC
+ * profiler's allocation rate is the heap and GC cost of keeping every MRN in memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class PatientMrnIndexBenchmark {
+
+    private static final long MRN_BASE = 1_700_000_000_000L;
+    private static final int SAMPLES = 1_024;
+
+    @Param({"10000000"})
+    public int entries;
+
+    @Param({"offHeap", "onHeap"})
+    public String store;
+
+    private PatientMrnIndex index;
+    private Map<String, UUID> map;
+    private String[] mrns;
+    private int next;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        long before = retainedHeap();
+        if (store.equals("offHeap")) {
+            index = new PatientMrnIndex(Mockito.mock(PatientRepository.class), true, null, 10_000,
+                    new SimpleMeterRegistry());
+            index.start();
+            while (!index.isReady()) {
+                Thread.sleep(10);
+            }
+            for (int i = 0; i < entries; i++) {
+                index.put("MRN-" + (MRN_BASE + i), new UUID(i, i));
+            }
+        } else {
+            map = new ConcurrentHashMap<>(entries * 2);
+            for (int i = 0; i < entries; i++) {
+                map.put("MRN-" + (MRN_BASE + i), new UUID(i, i));
+            }
+        }
+        System.out.printf("%n%s store with %,d entries retains %,d MB of heap%n", store, entries,
+                (retainedHeap() - before) >> 20);
+
+        mrns = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            mrns[i] = "MRN-" + (MRN_BASE + (long) i * entries / SAMPLES);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (index != null) {
+            index.close();
+        }
+    }
+
+    @Benchmark
+    public Optional<UUID> find() {
+        String mrn = mrns[next++ & (SAMPLES - 1)];
+        return index != null ? index.find(mrn) : Optional.ofNullable(map.get(mrn));
+    }
+
+    private static long retainedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
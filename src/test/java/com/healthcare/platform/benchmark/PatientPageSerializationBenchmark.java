@@ -0,0 +1,122 @@
+package com.healthcare.platform.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.healthcare.platform.dto.ApiResponse;
+import com.healthcare.platform.dto.PageResponse;
+import com.healthcare.platform.dto.PatientResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the list endpoint's previous output ({@code ApiResponse<PageImpl>} with reflective
+ * {@link PatientResponse} serialization) against the compact {@link PageResponse} envelope with
+ * the hand-written serializer. Both write straight to an output stream, as the HTTP message converter does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatientPageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper mapper;
+    private ApiResponse<Page<PatientResponse>> pageImplResponse;
+    private ApiResponse<PageResponse<PatientResponse>> leanResponse;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        reflectiveMapper = mapper.copy().addMixIn(PatientResponse.class, ReflectiveSerialization.class);
+
+        List<PatientResponse> patients = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            patients.add(PatientResponse.builder()
+                    .id(UUID.randomUUID())
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .dateOfBirth(LocalDate.of(1950 + i % 50, 1 + i % 12, 1 + i % 28))
+                    .email("patient" + i + "@example.com")
+                    .phone("+1415555" + String.format("%04d", i))
+                    .address(i + " Healthcare Ave, Medical City, MC 12345")
+                    .medicalRecordNumber("MRN-" + (1700000000000L + i))
+                    .status("ACTIVE")
+                    .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30, 15))
+                    .updatedAt(LocalDateTime.of(2024, 2, 1, 8, 0, 0))
+                    .version((long) i)
+                    .build());
+        }
+
+        Page<PatientResponse> page = new PageImpl<>(patients,
+                PageRequest.of(0, pageSize, Sort.by("lastName")), 10_000);
+        pageImplResponse = ApiResponse.success(page);
+        leanResponse = ApiResponse.success(PageResponse.from(page));
+    }
+
+    @Benchmark
+    public void pageImplReflective(Blackhole blackhole) throws IOException {
+        BlackholeOutputStream out = new BlackholeOutputStream(blackhole);
+        reflectiveMapper.writeValue(out, pageImplResponse);
+    }
+
+    @Benchmark
+    public void leanEnvelopeCustomSerializer(Blackhole blackhole) throws IOException {
+        BlackholeOutputStream out = new BlackholeOutputStream(blackhole);
+        mapper.writeValue(out, leanResponse);
+    }
+
+    /**
+     * Mix-in that restores Jackson's default bean serializer for the "before" measurement.
+     */
+    @JsonSerialize(using = JsonSerializer.None.class)
+    abstract static class ReflectiveSerialization {
+    }
+
+    /**
+     * Output stream that hands every write to the blackhole so nothing is optimized away.
+     */
+    static final class BlackholeOutputStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+            blackhole.consume(len);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.healthcare.platform.benchmark;
+
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.seed.SyntheticPatientGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a {@link Patient} entity to its {@link PatientResponse}, as done for every patient returned.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatientResponseMappingBenchmark {
+
+    private static final int PATIENTS = 1_024;
+
+    private Patient[] patients;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        patients = new SyntheticPatientGenerator(42).stream(0, PATIENTS).toArray(Patient[]::new);
+    }
+
+    @Benchmark
+    public PatientResponse fromEntity() {
+        return PatientResponse.fromEntity(patients[next++ & (PATIENTS - 1)]);
+    }
+}
@@ -0,0 +1,109 @@
+package com.healthcare.platform.benchmark;
+
+import com.healthcare.platform.HealthcarePlatformApplication;
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientSearchCriteria;
+import com.healthcare.platform.dto.PatientSearchResponse;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.seed.PatientBulkLoader;
+import com.healthcare.platform.seed.SyntheticPatientGenerator;
+import com.healthcare.platform.service.PatientService;
+import com.healthcare.platform.service.PatientStatistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * First page (20 patients) of a structured search for each filter combination, over {@code patients} synthetic
+ * patients in in-memory H2 with the production schema and indexes. The filter values are taken from random synthetic
+ * patients, so every search matches at least one. The synthetic data set uses only 40 last names, so a last name alone
+ * matches about 2.5% of the patients; real last names are far more selective.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class PatientSearchBenchmark {
+
+    private static final int QUERIES = 256;
+
+    @Param({"200000"})
+    public int patients;
+
+    @Param({"mrn", "email", "phone", "dateOfBirth", "dateOfBirthRange", "lastName", "lastName+firstName",
+            "lastName+dateOfBirth", "status+dateOfBirthRange", "status"})
+    public String filters;
+
+    private ConfigurableApplicationContext context;
+    private PatientService patientService;
+    private PatientSearchCriteria[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(HealthcarePlatformApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--app.patients.autocomplete.enabled=false",
+                        "--logging.level.org.hibernate.SQL=WARN", "--logging.level.com.healthcare.platform=INFO",
+                        "--spring.datasource.url=jdbc:h2:mem:patient-search;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        SyntheticPatientGenerator generator = new SyntheticPatientGenerator(42);
+        new PatientBulkLoader(context.getBean(DataSource.class), 1_000, 1).load(generator, 0, patients);
+        // Counted before the load; the planner estimates status filters from these counters
+        context.getBean(PatientStatistics.class).reconcile();
+        patientService = context.getBean(PatientService.class);
+
+        Function<Patient, PatientSearchCriteria> criteria = criteria(filters);
+        SplittableRandom random = new SplittableRandom(7);
+        queries = new PatientSearchCriteria[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            Patient patient;
+            do {
+                patient = generator.generate(random.nextInt(patients));
+            } while (patient.getEmail() == null || patient.getPhone() == null);
+            queries[i] = criteria.apply(patient);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PatientSearchResponse firstPage() {
+        PatientSearchCriteria query = queries[next++ & (QUERIES - 1)];
+        return patientService.findPatients(query, null, 20, PatientFieldSet.ALL);
+    }
+
+    private static Function<Patient, PatientSearchCriteria> criteria(String filters) {
+        return switch (filters) {
+            case "mrn" -> patient -> PatientSearchCriteria.builder()
+                    .medicalRecordNumber(patient.getMedicalRecordNumber()).build();
+            case "email" -> patient -> PatientSearchCriteria.builder().email(patient.getEmail()).build();
+            case "phone" -> patient -> PatientSearchCriteria.builder().phone(patient.getPhone()).build();
+            case "dateOfBirth" -> patient -> PatientSearchCriteria.builder()
+                    .dateOfBirth(patient.getDateOfBirth()).build();
+            case "dateOfBirthRange" -> patient -> PatientSearchCriteria.builder()
+                    .dateOfBirthFrom(patient.getDateOfBirth().minusDays(15))
+                    .dateOfBirthTo(patient.getDateOfBirth().plusDays(15)).build();
+            case "lastName" -> patient -> PatientSearchCriteria.builder().lastName(patient.getLastName()).build();
+            case "lastName+firstName" -> patient -> PatientSearchCriteria.builder()
+                    .lastName(patient.getLastName()).firstName(patient.getFirstName().substring(0, 2)).build();
+            case "lastName+dateOfBirth" -> patient -> PatientSearchCriteria.builder()
+                    .lastName(patient.getLastName().substring(0, 3)).dateOfBirth(patient.getDateOfBirth()).build();
+            case "status+dateOfBirthRange" -> patient -> PatientSearchCriteria.builder()
+                    .status(patient.getStatus().name())
+                    .dateOfBirthFrom(patient.getDateOfBirth().withDayOfYear(1))
+                    .dateOfBirthTo(patient.getDateOfBirth().withDayOfYear(1).plusYears(1).minusDays(1)).build();
+            case "status" -> patient -> PatientSearchCriteria.builder().status(patient.getStatus().name()).build();
+            default -> throw new IllegalArgumentException("Unknown filter combination " + filters);
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.healthcare.platform.benchmark;
+
+import com.healthcare.platform.filter.CorrelationIdFilter;
+import com.healthcare.platform.filter.RateLimitFilter;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the application's own servlet filters in isolation.
+ * Every invocation builds a fresh mock request and response; {@code baseline} measures that overhead through a
+ * pass-through filter so it can be subtracted. {@code clients} controls how many distinct client addresses
+ * the rate limiter keeps buckets for.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestFilterBenchmark {
+
+    private static final FilterChain END_OF_CHAIN = (request, response) -> {
+    };
+
+    @Param({"1", "10000"})
+    private int clients;
+
+    private final Filter passThrough = (request, response, chain) -> chain.doFilter(request, response);
+    private CorrelationIdFilter correlationIdFilter;
+    private RateLimitFilter rateLimitFilter;
+    private String[] clientAddresses;
+    private int nextClient;
+
+    @Setup
+    public void setUp() {
+        correlationIdFilter = new CorrelationIdFilter();
+        rateLimitFilter = new RateLimitFilter();
+        ReflectionTestUtils.setField(rateLimitFilter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimitFilter, "requestsPerMinute", Integer.MAX_VALUE);
+
+        clientAddresses = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            clientAddresses[i] = "10." + (i >> 16 & 0xFF) + "." + (i >> 8 & 0xFF) + "." + (i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse baseline() throws IOException, ServletException {
+        return filter(passThrough);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse correlationIdFilter() throws IOException, ServletException {
+        return filter(correlationIdFilter);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse rateLimitFilter() throws IOException, ServletException {
+        return filter(rateLimitFilter);
+    }
+
+    private MockHttpServletResponse filter(Filter filter) throws IOException, ServletException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/patients");
+        request.setServletPath("/api/v1/patients");
+        request.setRemoteAddr(clientAddresses[nextClient++ % clients]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, END_OF_CHAIN);
+        return response;
+    }
+}
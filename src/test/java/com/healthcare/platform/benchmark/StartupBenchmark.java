@@ -0,0 +1,222 @@
+package com.healthcare.platform.benchmark;
+
+import com.healthcare.platform.HealthcarePlatformApplication;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Time from launching a new JVM until {@code /api/v1/ready} returns 200, for each startup mode:
+ * <ul>
+ *   <li>{@code eager}: every bean created at startup (springdoc included)</li>
+ *   <li>{@code lazy}: the default configuration, with {@code app.startup.lazy-packages} deferred</li>
+ *   <li>{@code cds}: {@code lazy} plus an AppCDS archive from a training run</li>
+ *   <li>{@code aot}: Spring AOT bean definitions</li>
+ *   <li>{@code aot-cds}: AOT plus AppCDS, as the Docker image runs</li>
+ * </ul>
+ * The application is run from the packaged jar, unpacked into a plain classpath (CDS cannot archive classes loaded
+ * by Spring Boot's nested-jar class loader), on the {@code dev} profile so no database server is needed.
+ * Package the application first; the AOT modes need the jar built with {@code -Paot}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    private static final Path WORK_DIRECTORY = Path.of("target", "startup-benchmark");
+    private static final String AOT_INITIALIZER =
+            HealthcarePlatformApplication.class.getName().replace('.', '/') + "__ApplicationContextInitializer.class";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    @Param({"eager", "lazy", "cds", "aot", "aot-cds"})
+    public String mode;
+
+    private Path applicationDirectory;
+    private HttpClient client;
+    private int port;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        applicationDirectory = WORK_DIRECTORY.resolve("app").toAbsolutePath();
+        boolean aotProcessed = unpack(findApplicationJar(), applicationDirectory);
+        if (mode.startsWith("aot") && !aotProcessed) {
+            throw new IllegalStateException("Mode '" + mode + "' needs an AOT-processed jar: package with -Paot");
+        }
+        if (mode.endsWith("cds")) {
+            createArchive();
+        }
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    }
+
+    @Setup(Level.Invocation)
+    public void choosePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+    }
+
+    @Benchmark
+    public int timeToReady() throws Exception {
+        process = launch(List.of(), "--server.port=" + port);
+        HttpRequest ready = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/ready")).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue()
+                        + "; see " + logFile().toAbsolutePath());
+            }
+            try {
+                HttpResponse<Void> response = client.send(ready, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (IOException notListeningYet) {
+                // fall through and poll again
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("Application was not ready within " + STARTUP_TIMEOUT);
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * Training run: start the application, stop it as soon as the context is refreshed and dump the classes it loaded.
+     */
+    private void createArchive() throws Exception {
+        Path archive = archiveFile();
+        Files.deleteIfExists(archive);
+        Process training = launch(List.of("-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh"),
+                "--server.port=0");
+        if (!training.waitFor(STARTUP_TIMEOUT.toSeconds(), TimeUnit.SECONDS) || !Files.exists(archive)) {
+            training.destroyForcibly();
+            throw new IllegalStateException("CDS training run failed; see " + logFile().toAbsolutePath());
+        }
+    }
+
+    private Process launch(List<String> extraJvmOptions, String portArgument) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(extraJvmOptions);
+        if (mode.endsWith("cds") && extraJvmOptions.isEmpty()) {
+            command.add("-XX:SharedArchiveFile=" + archiveFile());
+        }
+        if (mode.startsWith("aot")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.addAll(List.of("-cp", "application.jar" + File.pathSeparator + "lib/*",
+                HealthcarePlatformApplication.class.getName(),
+                portArgument,
+                "--spring.profiles.active=dev",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.healthcare.platform=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.hibernate.SQL=WARN"));
+        if (mode.equals("eager")) {
+            command.add("--app.startup.lazy-packages=");
+        }
+
+        return new ProcessBuilder(command)
+                .directory(applicationDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile().toFile())
+                .start();
+    }
+
+    private Path archiveFile() {
+        return WORK_DIRECTORY.resolve(mode + ".jsa").toAbsolutePath();
+    }
+
+    private Path logFile() {
+        return WORK_DIRECTORY.resolve(mode + ".log");
+    }
+
+    private static Path findApplicationJar() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of("target"))) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(
+                            "No application jar in target/: run ./mvnw package (or -Pbenchmark verify) first"));
+        }
+    }
+
+    /**
+     * Copy {@code BOOT-INF/lib} to {@code lib/} and repackage {@code BOOT-INF/classes} as {@code application.jar}.
+     *
+     * @return whether the jar contains Spring AOT output
+     */
+    private static boolean unpack(Path bootJar, Path target) throws IOException {
+        Path lib = target.resolve("lib");
+        Files.createDirectories(lib);
+        // Jars left over from an earlier build would otherwise join the classpath
+        try (Stream<Path> stale = Files.list(lib)) {
+            for (Path file : stale.toList()) {
+                Files.delete(file);
+            }
+        }
+        boolean aotProcessed = false;
+
+        try (JarFile jar = new JarFile(bootJar.toFile());
+             JarOutputStream application = new JarOutputStream(Files.newOutputStream(target.resolve("application.jar")))) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (name.startsWith("BOOT-INF/lib/") && !entry.isDirectory()) {
+                    try (InputStream in = jar.getInputStream(entry)) {
+                        Files.copy(in, lib.resolve(name.substring("BOOT-INF/lib/".length())),
+                                StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } else if (name.startsWith("BOOT-INF/classes/")) {
+                    String path = name.substring("BOOT-INF/classes/".length());
+                    if (path.isEmpty()) {
+                        continue;
+                    }
+                    aotProcessed |= path.equals(AOT_INITIALIZER);
+                    // Directory entries are kept: component scanning cannot find packages in a jar without them
+                    application.putNextEntry(new JarEntry(path));
+                    if (!entry.isDirectory()) {
+                        try (InputStream in = jar.getInputStream(entry)) {
+                            in.transferTo(application);
+                        }
+                    }
+                    application.closeEntry();
+                }
+            }
+        }
+        return aotProcessed;
+    }
+}
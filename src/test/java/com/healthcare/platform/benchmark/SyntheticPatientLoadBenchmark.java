@@ -0,0 +1,77 @@
+package com.healthcare.platform.benchmark;
+
+import com.healthcare.platform.seed.PatientBulkLoader;
+import com.healthcare.platform.seed.SyntheticPatientGenerator;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation and batched-insert rates of the synthetic patient loader, reported in rows per second.
+ * Loads into in-memory H2 with the production table layout, so it bounds the loader's own overhead;
+ * PostgreSQL rates depend mostly on the server and on {@code reWriteBatchedInserts}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SyntheticPatientLoadBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private final SyntheticPatientGenerator generator = new SyntheticPatientGenerator(42);
+
+    private JdbcDataSource dataSource;
+    private Connection keepAlive;
+    private PatientBulkLoader loader;
+    private long nextIndex;
+
+    @Setup
+    public void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:synthetic-load;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        dataSource.setUser("sa");
+        keepAlive = dataSource.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS patients");
+            statement.execute("CREATE TABLE patients (id UUID PRIMARY KEY, first_name VARCHAR(100) NOT NULL, "
+                    + "last_name VARCHAR(100) NOT NULL, last_name_normalized VARCHAR(100), "
+                    + "date_of_birth DATE NOT NULL, email VARCHAR(255), email_normalized VARCHAR(255), "
+                    + "phone VARCHAR(20), phone_normalized VARCHAR(20), address VARCHAR(500), "
+                    + "medical_record_number VARCHAR(50) UNIQUE, status VARCHAR(255) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, version BIGINT NOT NULL, "
+                    + "CONSTRAINT uk_patients_email_normalized UNIQUE (email_normalized))");
+        }
+        loader = new PatientBulkLoader(dataSource, 1_000, 1);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("DROP TABLE patients");
+        }
+        keepAlive.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void generate(Blackhole blackhole) {
+        generator.stream(nextIndex, ROWS).forEach(blackhole::consume);
+        nextIndex += ROWS;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long generateAndLoad() {
+        long rows = loader.load(generator, nextIndex, ROWS).rows();
+        nextIndex += ROWS;
+        return rows;
+    }
+}
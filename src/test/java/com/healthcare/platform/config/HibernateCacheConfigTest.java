@@ -0,0 +1,45 @@
+package com.healthcare.platform.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Hibernate Cache Config Tests")
+class HibernateCacheConfigTest {
+
+    private final HibernateCacheConfig config = new HibernateCacheConfig();
+
+    @Test
+    @DisplayName("should give every context its own cache manager, leaving the others open when it closes")
+    void shouldCreateManagerPerContext() {
+        HibernateCacheProperties properties = new HibernateCacheProperties();
+        HibernateCacheProperties.Region region = new HibernateCacheProperties.Region();
+        region.setMaxSize(100L);
+        region.setTtl(Duration.ofMinutes(5));
+        properties.getRegions().put("patients", region);
+        CacheManager defaultManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        CacheManager first = config.hibernateCacheManager(properties);
+        CacheManager second = config.hibernateCacheManager(properties);
+        try {
+            assertThat(first).isNotSameAs(second).isNotSameAs(defaultManager);
+            assertThat(first.getCache("patients")).isNotSameAs(second.getCache("patients"));
+
+            first.close();
+
+            assertThat(second.isClosed()).isFalse();
+            assertThat(second.getCache("patients")).isNotNull();
+            assertThat(defaultManager.isClosed()).isFalse();
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+}
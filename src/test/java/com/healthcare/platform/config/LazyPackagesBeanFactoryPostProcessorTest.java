@@ -0,0 +1,89 @@
+package com.healthcare.platform.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Lazy Packages Bean Factory Post Processor Tests")
+class LazyPackagesBeanFactoryPostProcessorTest {
+
+    private DefaultListableBeanFactory beanFactory;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+    }
+
+    @Test
+    @DisplayName("should make beans from listed packages lazy")
+    void shouldMakeListedPackagesLazy() {
+        beanFactory.registerBeanDefinition("list", new RootBeanDefinition(ArrayList.class));
+        beanFactory.registerBeanDefinition("builder", new RootBeanDefinition(StringBuilder.class));
+
+        new LazyPackagesBeanFactoryPostProcessor(List.of("java.util")).postProcessBeanFactory(beanFactory);
+
+        assertThat(beanFactory.getBeanDefinition("list").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("builder").isLazyInit()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should match @Bean methods by their configuration class")
+    void shouldMatchFactoryMethodsByDeclaringClass() {
+        beanFactory.registerBeanDefinition("factory", new RootBeanDefinition(Factory.class));
+        RootBeanDefinition produced = new RootBeanDefinition();
+        produced.setFactoryBeanName("factory");
+        produced.setFactoryMethodName("create");
+        beanFactory.registerBeanDefinition("produced", produced);
+
+        new LazyPackagesBeanFactoryPostProcessor(List.of("com.healthcare.platform.config")).postProcessBeanFactory(beanFactory);
+
+        assertThat(beanFactory.getBeanDefinition("produced").isLazyInit()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should not match packages by partial name")
+    void shouldMatchWholePackageNames() {
+        beanFactory.registerBeanDefinition("list", new RootBeanDefinition(ArrayList.class));
+
+        new LazyPackagesBeanFactoryPostProcessor(List.of("java.ut")).postProcessBeanFactory(beanFactory);
+
+        assertThat(beanFactory.getBeanDefinition("list").isLazyInit()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should keep explicit settings and smart initializing singletons eager")
+    void shouldLeaveExplicitAndSmartInitializingBeansAlone() {
+        RootBeanDefinition explicit = new RootBeanDefinition(ArrayList.class);
+        explicit.setLazyInit(false);
+        beanFactory.registerBeanDefinition("explicit", explicit);
+        beanFactory.registerBeanDefinition("smart", new RootBeanDefinition(SmartBean.class));
+
+        new LazyPackagesBeanFactoryPostProcessor(List.of("java.util", "com.healthcare.platform.config"))
+                .postProcessBeanFactory(beanFactory);
+
+        assertThat(beanFactory.getBeanDefinition("explicit").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("smart").isLazyInit()).isFalse();
+    }
+
+    static class Factory {
+
+        StringBuilder create() {
+            return new StringBuilder();
+        }
+    }
+
+    static class SmartBean implements SmartInitializingSingleton {
+
+        @Override
+        public void afterSingletonsInstantiated() {
+        }
+    }
+}
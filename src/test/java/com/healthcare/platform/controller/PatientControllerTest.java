@@ -1,15 +1,45 @@
 package com.healthcare.platform.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.platform.audit.AuditAction;
+import com.healthcare.platform.audit.AuditLog;
+import com.healthcare.platform.autocomplete.PatientNameIndex;
+import com.healthcare.platform.dto.DuplicateScanResponse;
+import com.healthcare.platform.dto.PatientBatchRequest;
+import com.healthcare.platform.dto.PatientChangesResponse;
+import com.healthcare.platform.dto.PatientDuplicate;
+import com.healthcare.platform.dto.PatientDuplicatePair;
+import com.healthcare.platform.dto.PatientField;
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientLookupResult;
 import com.healthcare.platform.dto.PatientRequest;
 import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientSearchCriteria;
+import com.healthcare.platform.dto.PatientSearchResponse;
+import com.healthcare.platform.dto.PatientStatsResponse;
+import com.healthcare.platform.dto.PatientStatusChangeRequest;
+import com.healthcare.platform.dto.PatientStatusChangeResponse;
+import com.healthcare.platform.dto.PatientSuggestion;
+import com.healthcare.platform.dto.PatientVersion;
+import com.healthcare.platform.duplicate.DuplicateScanner;
+import com.healthcare.platform.exception.AuditUnavailableException;
 import com.healthcare.platform.exception.GlobalExceptionHandler;
+import com.healthcare.platform.exception.InvalidRequestException;
+import com.healthcare.platform.exception.PossibleDuplicatePatientException;
+import com.healthcare.platform.exception.PreconditionFailedException;
 import com.healthcare.platform.exception.ResourceNotFoundException;
+import com.healthcare.platform.filter.RequestDeadlineFilter;
 import com.healthcare.platform.security.JwtAuthenticationEntryPoint;
 import com.healthcare.platform.security.JwtAuthenticationFilter;
 import com.healthcare.platform.security.JwtTokenProvider;
 import com.healthcare.platform.security.SecurityConfig;
+import com.healthcare.platform.service.IdempotencyService;
+import com.healthcare.platform.service.PatientChangedEvent;
+import com.healthcare.platform.service.PatientEventBroadcaster;
+import com.healthcare.platform.service.PatientPageCache;
 import com.healthcare.platform.service.PatientService;
+import com.healthcare.platform.service.PatientStatistics;
+import com.healthcare.platform.service.StalePatientCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,28 +48,40 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(PatientController.class)
-@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtAuthenticationEntryPoint.class, GlobalExceptionHandler.class})
+@WebMvcTest(controllers = PatientController.class, properties = "app.patients.page-cache.enabled=false")
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtAuthenticationEntryPoint.class, GlobalExceptionHandler.class,
+        IdempotencyService.class, StalePatientCache.class, PatientPageCache.class})
 @DisplayName("Patient Controller Tests")
 class PatientControllerTest {
 
@@ -55,6 +97,21 @@ class PatientControllerTest {
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockBean
+    private PatientStatistics patientStatistics;
+
+    @MockBean
+    private PatientEventBroadcaster patientEventBroadcaster;
+
+    @MockBean
+    private AuditLog auditLog;
+
+    @MockBean
+    private DuplicateScanner duplicateScanner;
+
+    @MockBean
+    private PatientNameIndex patientNameIndex;
+
     private PatientRequest validRequest;
     private PatientResponse sampleResponse;
     private UUID patientId;
@@ -84,6 +141,7 @@ class PatientControllerTest {
                 .status("ACTIVE")
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
+                .version(3L)
                 .build();
     }
 
@@ -95,7 +153,7 @@ class PatientControllerTest {
         @WithMockUser(roles = "USER")
         @DisplayName("should create patient successfully")
         void shouldCreatePatientSuccessfully() throws Exception {
-            when(patientService.createPatient(any(PatientRequest.class)))
+            when(patientService.createPatient(any(PatientRequest.class), eq(false)))
                     .thenReturn(sampleResponse);
 
             mockMvc.perform(post("/api/v1/patients")
@@ -107,7 +165,61 @@ class PatientControllerTest {
                     .andExpect(jsonPath("$.data.firstName").value("John"))
                     .andExpect(jsonPath("$.data.lastName").value("Doe"));
 
-            verify(patientService).createPatient(any(PatientRequest.class));
+            verify(patientService).createPatient(any(PatientRequest.class), eq(false));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should replay the original response for a repeated Idempotency-Key")
+        void shouldReplayForRepeatedIdempotencyKey() throws Exception {
+            when(patientService.createPatient(any(PatientRequest.class), eq(false)))
+                    .thenReturn(sampleResponse);
+            String body = objectMapper.writeValueAsString(validRequest);
+
+            mockMvc.perform(post("/api/v1/patients")
+                            .with(csrf())
+                            .header("Idempotency-Key", "create-john-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+            mockMvc.perform(post("/api/v1/patients")
+                            .with(csrf())
+                            .header("Idempotency-Key", "create-john-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string("Idempotent-Replayed", "true"))
+                    .andExpect(jsonPath("$.data.id").value(patientId.toString()));
+
+            verify(patientService, times(1)).createPatient(any(PatientRequest.class), eq(false));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 422 when an Idempotency-Key is reused with a different payload")
+        void shouldReturn422ForReusedIdempotencyKey() throws Exception {
+            when(patientService.createPatient(any(PatientRequest.class), eq(false)))
+                    .thenReturn(sampleResponse);
+
+            mockMvc.perform(post("/api/v1/patients")
+                            .with(csrf())
+                            .header("Idempotency-Key", "create-john-2")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isCreated());
+
+            validRequest.setFirstName("Johnny");
+            mockMvc.perform(post("/api/v1/patients")
+                            .with(csrf())
+                            .header("Idempotency-Key", "create-john-2")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.success").value(false));
+
+            verify(patientService, times(1)).createPatient(any(PatientRequest.class), eq(false));
         }
 
         @Test
@@ -127,7 +239,42 @@ class PatientControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.success").value(false));
 
-            verify(patientService, never()).createPatient(any());
+            verify(patientService, never()).createPatient(any(), anyBoolean());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 409 with the matching patients for a possible duplicate")
+        void shouldReturn409ForPossibleDuplicate() throws Exception {
+            UUID existingId = UUID.randomUUID();
+            when(patientService.createPatient(any(PatientRequest.class), eq(false)))
+                    .thenThrow(new PossibleDuplicatePatientException(List.of(new PatientDuplicate(existingId, 0.95))));
+
+            mockMvc.perform(post("/api/v1/patients")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.data[0].id").value(existingId.toString()))
+                    .andExpect(jsonPath("$.data[0].score").value(0.95));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should create a possible duplicate when allowDuplicate is set")
+        void shouldCreateAllowedDuplicate() throws Exception {
+            when(patientService.createPatient(any(PatientRequest.class), eq(true)))
+                    .thenReturn(sampleResponse);
+
+            mockMvc.perform(post("/api/v1/patients")
+                            .param("allowDuplicate", "true")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isCreated());
+
+            verify(patientService).createPatient(any(PatientRequest.class), eq(true));
         }
 
         @Test
@@ -149,7 +296,7 @@ class PatientControllerTest {
         @WithMockUser(roles = "USER")
         @DisplayName("should return patient by ID")
         void shouldReturnPatientById() throws Exception {
-            when(patientService.getPatientById(patientId)).thenReturn(sampleResponse);
+            when(patientService.getPatientById(patientId, PatientFieldSet.ALL)).thenReturn(sampleResponse);
 
             mockMvc.perform(get("/api/v1/patients/{id}", patientId))
                     .andExpect(status().isOk())
@@ -157,7 +304,23 @@ class PatientControllerTest {
                     .andExpect(jsonPath("$.data.id").value(patientId.toString()))
                     .andExpect(jsonPath("$.data.firstName").value("John"));
 
-            verify(patientService).getPatientById(patientId);
+            verify(patientService).getPatientById(patientId, PatientFieldSet.ALL);
+            verify(auditLog).record(AuditAction.READ, patientId);
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 503 when the read cannot be audited")
+        void shouldReturn503WhenAuditUnavailable() throws Exception {
+            when(patientService.getPatientById(patientId, PatientFieldSet.ALL)).thenReturn(sampleResponse);
+            doThrow(new AuditUnavailableException("audit queue is full"))
+                    .when(auditLog).record(AuditAction.READ, patientId);
+
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.data").doesNotExist());
         }
 
         @Test
@@ -165,13 +328,164 @@ class PatientControllerTest {
         @DisplayName("should return 404 for non-existent patient")
         void shouldReturn404ForNonExistentPatient() throws Exception {
             UUID nonExistentId = UUID.randomUUID();
-            when(patientService.getPatientById(nonExistentId))
+            when(patientService.getPatientById(nonExistentId, PatientFieldSet.ALL))
                     .thenThrow(new ResourceNotFoundException("Patient", "id", nonExistentId.toString()));
 
             mockMvc.perform(get("/api/v1/patients/{id}", nonExistentId))
                     .andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.success").value(false));
         }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return ETag and Last-Modified validators")
+        void shouldReturnValidators() throws Exception {
+            when(patientService.getPatientById(patientId, PatientFieldSet.ALL)).thenReturn(sampleResponse);
+
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+
+            verify(patientService, never()).getPatientVersion(any());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 304 from version lookup when ETag matches")
+        void shouldReturn304WhenETagMatches() throws Exception {
+            when(patientService.getPatientVersion(patientId))
+                    .thenReturn(Optional.of(new PatientVersion(patientId, 3L, LocalDateTime.now())));
+
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                    .andExpect(content().string(""));
+
+            verify(patientService, never()).getPatientById(any(), any());
+            verifyNoInteractions(auditLog);
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return full body when ETag is stale")
+        void shouldReturnBodyWhenETagIsStale() throws Exception {
+            when(patientService.getPatientVersion(patientId))
+                    .thenReturn(Optional.of(new PatientVersion(patientId, 3L, LocalDateTime.now())));
+            when(patientService.getPatientById(patientId, PatientFieldSet.ALL)).thenReturn(sampleResponse);
+
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                    .andExpect(jsonPath("$.data.version").value(3));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 304 when not modified since Last-Modified")
+        void shouldReturn304WhenNotModifiedSince() throws Exception {
+            LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 15, 10, 30, 0);
+            when(patientService.getPatientVersion(patientId))
+                    .thenReturn(Optional.of(new PatientVersion(patientId, 3L, updatedAt)));
+
+            HttpHeaders conditional = new HttpHeaders();
+            conditional.setIfModifiedSince(updatedAt.atZone(java.time.ZoneId.systemDefault()).plusMinutes(1));
+
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId).headers(conditional))
+                    .andExpect(status().isNotModified());
+
+            verify(patientService, never()).getPatientById(any(), any());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should pass requested fields to the service")
+        void shouldPassRequestedFields() throws Exception {
+            PatientResponse sparse = PatientResponse.builder()
+                    .id(patientId)
+                    .firstName("John")
+                    .version(3L)
+                    .build();
+            when(patientService.getPatientById(patientId, PatientFieldSet.of(PatientField.FIRST_NAME)))
+                    .thenReturn(sparse);
+
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId)
+                            .param("fields", "firstName"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.firstName").value("John"))
+                    .andExpect(jsonPath("$.data.lastName").doesNotExist())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 400 for unknown field")
+        void shouldReturn400ForUnknownField() throws Exception {
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId)
+                            .param("fields", "firstName,ssn"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false));
+
+            verify(patientService, never()).getPatientById(any(), any());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should serve the last good copy with a Warning when the database is unavailable")
+        void shouldServeStaleWhenDatabaseUnavailable() throws Exception {
+            when(patientService.getPatientById(patientId, PatientFieldSet.ALL)).thenReturn(sampleResponse);
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.WARNING));
+
+            when(patientService.getPatientById(patientId, PatientFieldSet.ALL))
+                    .thenThrow(new CannotCreateTransactionException("Connection is not available"));
+
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.WARNING, StalePatientCache.STALE_WARNING))
+                    .andExpect(header().exists(HttpHeaders.AGE))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                    .andExpect(jsonPath("$.data.firstName").value("John"));
+
+            // Wait for the background refresh so that it does not reach the mock during a later test
+            verify(patientService, timeout(5000).times(3)).getPatientById(patientId, PatientFieldSet.ALL);
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 504 rather than a stale copy when the request ran out of time")
+        void shouldReturn504InsteadOfStaleAfterDeadline() throws Exception {
+            when(patientService.getPatientById(patientId, PatientFieldSet.ALL)).thenReturn(sampleResponse);
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId))
+                    .andExpect(status().isOk());
+
+            when(patientService.getPatientById(patientId, PatientFieldSet.ALL)).thenAnswer(invocation -> {
+                Thread.sleep(100);
+                throw new CannotCreateTransactionException("Connection is not available");
+            });
+
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId)
+                            .header(RequestDeadlineFilter.REQUEST_TIMEOUT_HEADER, "20"))
+                    .andExpect(status().isGatewayTimeout())
+                    .andExpect(header().doesNotExist(HttpHeaders.WARNING))
+                    .andExpect(jsonPath("$.success").value(false));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 503 when the database is unavailable and nothing was cached")
+        void shouldReturn503WithoutCachedCopy() throws Exception {
+            when(patientService.getPatientById(patientId, PatientFieldSet.ALL))
+                    .thenThrow(new CannotCreateTransactionException("Connection is not available"));
+
+            mockMvc.perform(get("/api/v1/patients/{id}", patientId))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+                    .andExpect(jsonPath("$.success").value(false));
+        }
     }
 
     @Nested
@@ -183,7 +497,7 @@ class PatientControllerTest {
         @DisplayName("should return paginated patients")
         void shouldReturnPaginatedPatients() throws Exception {
             Page<PatientResponse> page = new PageImpl<>(List.of(sampleResponse), PageRequest.of(0, 20), 1);
-            when(patientService.getAllPatients(any(Pageable.class))).thenReturn(page);
+            when(patientService.getAllPatients(any(Pageable.class), eq(PatientFieldSet.ALL))).thenReturn(page);
 
             mockMvc.perform(get("/api/v1/patients")
                             .param("page", "0")
@@ -193,7 +507,22 @@ class PatientControllerTest {
                     .andExpect(jsonPath("$.data.content").isArray())
                     .andExpect(jsonPath("$.data.content[0].firstName").value("John"));
 
-            verify(patientService).getAllPatients(any(Pageable.class));
+            verify(patientService).getAllPatients(any(Pageable.class), eq(PatientFieldSet.ALL));
+            verify(auditLog).record(AuditAction.SEARCH, List.of(patientId));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 504 when the search runs past its deadline")
+        void shouldReturn504WhenDeadlineExceeded() throws Exception {
+            when(patientService.searchPatients(eq("John"), any(Pageable.class), eq(PatientFieldSet.ALL)))
+                    .thenThrow(new QueryTimeoutException("Request deadline exceeded"));
+
+            mockMvc.perform(get("/api/v1/patients")
+                            .param("search", "John")
+                            .header(RequestDeadlineFilter.REQUEST_TIMEOUT_HEADER, "250"))
+                    .andExpect(status().isGatewayTimeout())
+                    .andExpect(jsonPath("$.success").value(false));
         }
 
         @Test
@@ -201,14 +530,365 @@ class PatientControllerTest {
         @DisplayName("should search patients by name")
         void shouldSearchPatientsByName() throws Exception {
             Page<PatientResponse> page = new PageImpl<>(List.of(sampleResponse), PageRequest.of(0, 20), 1);
-            when(patientService.searchPatients(eq("John"), any(Pageable.class))).thenReturn(page);
+            when(patientService.searchPatients(eq("John"), any(Pageable.class), eq(PatientFieldSet.ALL))).thenReturn(page);
 
             mockMvc.perform(get("/api/v1/patients")
                             .param("search", "John"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true));
 
-            verify(patientService).searchPatients(eq("John"), any(Pageable.class));
+            verify(patientService).searchPatients(eq("John"), any(Pageable.class), eq(PatientFieldSet.ALL));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/patients/stats")
+    class GetPatientStats {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return the current counters")
+        void shouldReturnCounters() throws Exception {
+            when(patientStatistics.snapshot()).thenReturn(PatientStatsResponse.builder()
+                    .total(3)
+                    .byStatus(Map.of("ACTIVE", 2L, "INACTIVE", 1L))
+                    .byAge(Map.of("18-34", 3L))
+                    .createdPerDay(Map.of(LocalDate.of(2025, 1, 1), 3L))
+                    .build());
+
+            mockMvc.perform(get("/api/v1/patients/stats"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.total").value(3))
+                    .andExpect(jsonPath("$.data.byStatus.ACTIVE").value(2))
+                    .andExpect(jsonPath("$.data.createdPerDay['2025-01-01']").value(3));
+
+            verifyNoInteractions(patientService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/patients/changes")
+    class GetPatientChanges {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return the page of changes and the next cursor")
+        void shouldReturnChanges() throws Exception {
+            when(patientService.getChanges(eq("abc"), eq(50), eq(PatientFieldSet.of(PatientField.LAST_NAME))))
+                    .thenReturn(PatientChangesResponse.builder()
+                            .patients(List.of(sampleResponse))
+                            .nextCursor("def")
+                            .hasMore(true)
+                            .build());
+
+            mockMvc.perform(get("/api/v1/patients/changes")
+                            .param("cursor", "abc")
+                            .param("limit", "50")
+                            .param("fields", "lastName"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.patients[0].id").value(patientId.toString()))
+                    .andExpect(jsonPath("$.data.nextCursor").value("def"))
+                    .andExpect(jsonPath("$.data.hasMore").value(true));
+
+            verify(auditLog).record(AuditAction.SYNC, List.of(patientId));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should start a full sync with the default limit")
+        void shouldDefaultToFullSync() throws Exception {
+            when(patientService.getChanges(isNull(), eq(500), eq(PatientFieldSet.ALL)))
+                    .thenReturn(PatientChangesResponse.builder().patients(List.of()).build());
+
+            mockMvc.perform(get("/api/v1/patients/changes"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.hasMore").value(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/patients/events")
+    class StreamPatientEvents {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should subscribe with the Last-Event-ID, the caller's roles and the requested types")
+        void shouldSubscribe() throws Exception {
+            when(patientEventBroadcaster.subscribe(any(), any(), any())).thenReturn(new SseEmitter());
+
+            mockMvc.perform(get("/api/v1/patients/events")
+                            .param("types", "created, deleted")
+                            .header("Last-Event-ID", "41")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(status().isOk())
+                    .andExpect(request().asyncStarted());
+
+            verify(patientEventBroadcaster).subscribe(eq(41L),
+                    argThat(authorities -> authorities.stream().anyMatch(a -> a.getAuthority().equals("ROLE_USER"))),
+                    eq(EnumSet.of(PatientChangedEvent.Type.CREATED, PatientChangedEvent.Type.DELETED)));
+
+            verify(auditLog).record(AuditAction.STREAM, (UUID) null);
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should subscribe to every change type from the start by default")
+        void shouldDefaultToAllTypes() throws Exception {
+            when(patientEventBroadcaster.subscribe(any(), any(), any())).thenReturn(new SseEmitter());
+
+            mockMvc.perform(get("/api/v1/patients/events"))
+                    .andExpect(request().asyncStarted());
+
+            verify(patientEventBroadcaster).subscribe(isNull(), any(),
+                    eq(EnumSet.allOf(PatientChangedEvent.Type.class)));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 400 for an unknown change type")
+        void shouldRejectUnknownType() throws Exception {
+            mockMvc.perform(get("/api/v1/patients/events").param("types", "MERGED"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(patientEventBroadcaster);
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 400 for a non-numeric Last-Event-ID")
+        void shouldRejectInvalidLastEventId() throws Exception {
+            mockMvc.perform(get("/api/v1/patients/events").header("Last-Event-ID", "abc"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(patientEventBroadcaster);
+        }
+
+        @Test
+        @DisplayName("should return 401 when not authenticated")
+        void shouldRequireAuthentication() throws Exception {
+            mockMvc.perform(get("/api/v1/patients/events"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/patients/batch")
+    class GetPatientsBatch {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return lookup results in request order")
+        void shouldReturnLookupResults() throws Exception {
+            UUID missingId = UUID.randomUUID();
+            PatientBatchRequest request = PatientBatchRequest.builder()
+                    .ids(List.of(patientId, missingId))
+                    .build();
+            when(patientService.getPatientsBatch(any(PatientBatchRequest.class))).thenReturn(List.of(
+                    PatientLookupResult.found(patientId.toString(), sampleResponse),
+                    PatientLookupResult.notFound(missingId.toString())));
+
+            mockMvc.perform(post("/api/v1/patients/batch")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].key").value(patientId.toString()))
+                    .andExpect(jsonPath("$.data[0].found").value(true))
+                    .andExpect(jsonPath("$.data[0].patient.firstName").value("John"))
+                    .andExpect(jsonPath("$.data[1].found").value(false))
+                    .andExpect(jsonPath("$.data[1].patient").doesNotExist());
+
+            verify(auditLog).record(AuditAction.BATCH_READ, List.of(patientId));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 400 when too many keys are requested")
+        void shouldReturn400WhenTooManyKeys() throws Exception {
+            List<String> mrns = Collections.nCopies(PatientBatchRequest.MAX_ITEMS + 1, "MRN-1");
+
+            mockMvc.perform(post("/api/v1/patients/batch")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(PatientBatchRequest.builder().mrns(mrns).build())))
+                    .andExpect(status().isBadRequest());
+
+            verify(patientService, never()).getPatientsBatch(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/patients/status")
+    class ChangePatientStatus {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("should report the number of changed patients")
+        void shouldChangeStatus() throws Exception {
+            when(patientService.changeStatus(any(PatientStatusChangeRequest.class)))
+                    .thenReturn(PatientStatusChangeResponse.builder()
+                            .status("INACTIVE")
+                            .updated(1)
+                            .ids(List.of(patientId))
+                            .build());
+
+            mockMvc.perform(post("/api/v1/patients/status")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"status\":\"INACTIVE\",\"filter\":{\"currentStatus\":\"ACTIVE\"," +
+                                    "\"updatedBefore\":\"2020-01-01T00:00:00\"}}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.updated").value(1))
+                    .andExpect(jsonPath("$.data.ids[0]").value(patientId.toString()));
+
+            verify(patientService).changeStatus(argThat(request -> request.getFilter() != null
+                    && request.getFilter().getUpdatedBefore().equals(LocalDateTime.of(2020, 1, 1, 0, 0))));
+        }
+
+        @Test
+        @WithMockUser(roles = {"DOCTOR", "USER"})
+        @DisplayName("should return 403 for non-administrators")
+        void shouldRequireAdmin() throws Exception {
+            mockMvc.perform(post("/api/v1/patients/status")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"status\":\"INACTIVE\",\"ids\":[\"" + patientId + "\"]}"))
+                    .andExpect(status().isForbidden());
+
+            verifyNoInteractions(patientService);
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("should return 400 for an unknown status")
+        void shouldRejectUnknownStatus() throws Exception {
+            mockMvc.perform(post("/api/v1/patients/status")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"status\":\"ARCHIVED\",\"ids\":[\"" + patientId + "\"]}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(patientService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/patients/search")
+    class SearchPatients {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should pass the filters to the search and audit the results")
+        void shouldSearch() throws Exception {
+            PatientSearchCriteria criteria = PatientSearchCriteria.builder()
+                    .lastName("Do")
+                    .dateOfBirthFrom(LocalDate.of(1990, 1, 1))
+                    .phone("(415) 555-0142")
+                    .build();
+            when(patientService.findPatients(criteria, "abc", 5, PatientFieldSet.ALL))
+                    .thenReturn(PatientSearchResponse.builder()
+                            .patients(List.of(sampleResponse))
+                            .nextCursor("next")
+                            .hasMore(true)
+                            .plan("PHONE")
+                            .build());
+
+            mockMvc.perform(get("/api/v1/patients/search")
+                            .param("lastName", "Do")
+                            .param("dateOfBirthFrom", "1990-01-01")
+                            .param("phone", "(415) 555-0142")
+                            .param("cursor", "abc")
+                            .param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.patients[0].id").value(patientId.toString()))
+                    .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                    .andExpect(jsonPath("$.data.hasMore").value(true))
+                    .andExpect(jsonPath("$.data.plan").value("PHONE"));
+
+            verify(auditLog).record(AuditAction.SEARCH, List.of(patientId));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 400 for a search the planner rejects or a malformed date")
+        void shouldRejectInvalidSearch() throws Exception {
+            when(patientService.findPatients(any(), any(), anyInt(), any()))
+                    .thenThrow(new InvalidRequestException("Search needs at least one filter"));
+
+            mockMvc.perform(get("/api/v1/patients/search").param("firstName", "Jo"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/patients/search").param("dateOfBirth", "15/03/1985"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/patients/autocomplete")
+    class SuggestPatients {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return suggestions and audit them")
+        void shouldReturnSuggestions() throws Exception {
+            when(patientNameIndex.suggest("jo do", 10)).thenReturn(List.of(new PatientSuggestion(patientId, "John",
+                    "Doe", LocalDate.of(1990, 5, 15), "MRN-123456", "ACTIVE")));
+
+            mockMvc.perform(get("/api/v1/patients/autocomplete").param("q", "jo do"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].id").value(patientId.toString()))
+                    .andExpect(jsonPath("$.data[0].lastName").value("Doe"))
+                    .andExpect(jsonPath("$.data[0].medicalRecordNumber").value("MRN-123456"));
+
+            verify(auditLog).record(AuditAction.SUGGEST, List.of(patientId));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should cap the number of suggestions")
+        void shouldCapLimit() throws Exception {
+            when(patientNameIndex.suggest(any(), anyInt())).thenReturn(List.of());
+
+            mockMvc.perform(get("/api/v1/patients/autocomplete").param("q", "jo").param("limit", "1000"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/v1/patients/autocomplete").param("q", "jo").param("limit", "0"))
+                    .andExpect(status().isOk());
+
+            verify(patientNameIndex).suggest("jo", 25);
+            verify(patientNameIndex).suggest("jo", 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/patients/duplicates/scan")
+    class ScanDuplicates {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("should return the scan result")
+        void shouldReturnScanResult() throws Exception {
+            UUID otherId = UUID.randomUUID();
+            when(duplicateScanner.scan()).thenReturn(DuplicateScanResponse.builder()
+                    .scanned(2)
+                    .comparisons(1)
+                    .matches(1)
+                    .pairs(List.of(new PatientDuplicatePair(patientId, otherId, 0.97)))
+                    .build());
+
+            mockMvc.perform(post("/api/v1/patients/duplicates/scan").with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.matches").value(1))
+                    .andExpect(jsonPath("$.data.pairs[0].firstId").value(patientId.toString()))
+                    .andExpect(jsonPath("$.data.pairs[0].secondId").value(otherId.toString()));
+        }
+
+        @Test
+        @WithMockUser(roles = {"DOCTOR", "USER"})
+        @DisplayName("should return 403 for non-administrators")
+        void shouldRequireAdmin() throws Exception {
+            mockMvc.perform(post("/api/v1/patients/duplicates/scan").with(csrf()))
+                    .andExpect(status().isForbidden());
+
+            verifyNoInteractions(duplicateScanner);
         }
     }
 
@@ -228,7 +908,7 @@ class PatientControllerTest {
                     .status("ACTIVE")
                     .build();
 
-            when(patientService.updatePatient(eq(patientId), any(PatientRequest.class)))
+            when(patientService.updatePatient(eq(patientId), any(PatientRequest.class), isNull()))
                     .thenReturn(updatedResponse);
 
             PatientRequest updateRequest = PatientRequest.builder()
@@ -245,7 +925,53 @@ class PatientControllerTest {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.firstName").value("Jane"));
 
-            verify(patientService).updatePatient(eq(patientId), any(PatientRequest.class));
+            verify(patientService).updatePatient(eq(patientId), any(PatientRequest.class), isNull());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should pass If-Match version to the service")
+        void shouldPassIfMatchVersion() throws Exception {
+            when(patientService.updatePatient(eq(patientId), any(PatientRequest.class), eq(3L)))
+                    .thenReturn(sampleResponse);
+
+            mockMvc.perform(put("/api/v1/patients/{id}", patientId)
+                            .with(csrf())
+                            .header(HttpHeaders.IF_MATCH, "\"3\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 412 when If-Match is stale")
+        void shouldReturn412WhenIfMatchIsStale() throws Exception {
+            when(patientService.updatePatient(eq(patientId), any(PatientRequest.class), eq(2L)))
+                    .thenThrow(new PreconditionFailedException("Patient has been modified"));
+
+            mockMvc.perform(put("/api/v1/patients/{id}", patientId)
+                            .with(csrf())
+                            .header(HttpHeaders.IF_MATCH, "\"2\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.success").value(false));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return 412 for weak If-Match")
+        void shouldReturn412ForWeakIfMatch() throws Exception {
+            mockMvc.perform(put("/api/v1/patients/{id}", patientId)
+                            .with(csrf())
+                            .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isPreconditionFailed());
+
+            verify(patientService, never()).updatePatient(any(), any(), any());
         }
     }
 
@@ -0,0 +1,118 @@
+package com.healthcare.platform.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Circuit Breaker DataSource Tests")
+class CircuitBreakerDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreakerDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new CircuitBreakerDataSource(target, 3, Duration.ofSeconds(10), clock::get);
+    }
+
+    @Test
+    @DisplayName("should open after consecutive failures and then fail fast")
+    void shouldOpenAfterConsecutiveFailures() throws Exception {
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("timeout");
+        }
+        assertThat(dataSource.getState()).isEqualTo(CircuitBreakerDataSource.State.OPEN);
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("circuit breaker is open");
+        verify(target, times(3)).getConnection();
+    }
+
+    @Test
+    @DisplayName("should reset the failure count after a success")
+    void shouldResetFailuresAfterSuccess() throws Exception {
+        when(target.getConnection())
+                .thenThrow(new SQLTransientConnectionException("timeout"))
+                .thenThrow(new SQLTransientConnectionException("timeout"))
+                .thenReturn(connection)
+                .thenThrow(new SQLTransientConnectionException("timeout"));
+
+        assertThatThrownBy(() -> dataSource.getConnection());
+        assertThatThrownBy(() -> dataSource.getConnection());
+        assertThat(dataSource.getConnection()).isSameAs(connection);
+        assertThatThrownBy(() -> dataSource.getConnection());
+
+        assertThat(dataSource.getState()).isEqualTo(CircuitBreakerDataSource.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("should let one trial through after the open duration and close on success")
+    void shouldCloseAfterSuccessfulTrial() throws Exception {
+        when(target.getConnection())
+                .thenThrow(new SQLTransientConnectionException("timeout"))
+                .thenThrow(new SQLTransientConnectionException("timeout"))
+                .thenThrow(new SQLTransientConnectionException("timeout"))
+                .thenReturn(connection);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> dataSource.getConnection());
+        }
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(dataSource.getConnection()).isSameAs(connection);
+        assertThat(dataSource.getState()).isEqualTo(CircuitBreakerDataSource.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("should re-open when the trial fails")
+    void shouldReopenWhenTrialFails() throws Exception {
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> dataSource.getConnection());
+        }
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("timeout");
+
+        assertThat(dataSource.getState()).isEqualTo(CircuitBreakerDataSource.State.OPEN);
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessageContaining("circuit breaker is open");
+        verify(target, times(4)).getConnection();
+    }
+
+    @Test
+    @DisplayName("should not count requests that ran out of their own deadline")
+    void shouldIgnoreDeadlineTimeouts() throws Exception {
+        when(target.getConnection()).thenThrow(new SQLTimeoutException("Request deadline exceeded"));
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLTimeoutException.class);
+        }
+
+        assertThat(dataSource.getState()).isEqualTo(CircuitBreakerDataSource.State.CLOSED);
+        verify(target, times(5)).getConnection();
+    }
+}
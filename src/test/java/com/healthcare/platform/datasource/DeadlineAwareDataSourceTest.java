@@ -0,0 +1,138 @@
+package com.healthcare.platform.datasource;
+
+import com.healthcare.platform.filter.RequestDeadline;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Deadline Aware DataSource Tests")
+class DeadlineAwareDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private DeadlineAwareDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(target.getConnection()).thenReturn(connection);
+        dataSource = new DeadlineAwareDataSource(target);
+    }
+
+    @Test
+    @DisplayName("should apply the remaining time as query timeout")
+    void shouldApplyRemainingTimeAsQueryTimeout() throws Exception {
+        when(connection.prepareStatement("select 1")).thenReturn(statement);
+
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(Duration.ofMillis(4500))) {
+            assertThat(dataSource.getConnection().prepareStatement("select 1")).isSameAs(statement);
+        }
+
+        verify(statement).setQueryTimeout(5);
+    }
+
+    @Test
+    @DisplayName("should leave statements untouched without a deadline")
+    void shouldNotTouchStatementsWithoutDeadline() throws Exception {
+        when(connection.prepareStatement("select 1")).thenReturn(statement);
+
+        dataSource.getConnection().prepareStatement("select 1");
+
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    @DisplayName("should fail without reaching the database once the deadline has passed")
+    void shouldFailFastWhenDeadlineExpired() throws Exception {
+        Connection proxy = dataSource.getConnection();
+
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(Duration.ZERO)) {
+            assertThatThrownBy(() -> proxy.prepareStatement("select 1"))
+                    .isInstanceOf(SQLTimeoutException.class);
+        }
+
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    @DisplayName("should not ask for a connection once the deadline has passed")
+    void shouldNotObtainConnectionWhenDeadlineExpired() throws Exception {
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(Duration.ZERO)) {
+            assertThatThrownBy(() -> dataSource.getConnection())
+                    .isInstanceOf(SQLTimeoutException.class)
+                    .hasMessageContaining("before a connection was obtained");
+        }
+
+        verify(target, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("should stop waiting for a pooled connection when the deadline does")
+    void shouldBoundPoolWaitByDeadline() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:deadline-pool");
+        config.setMaximumPoolSize(1);
+        config.setConnectionTimeout(10_000);
+        try (HikariDataSource pool = new HikariDataSource(config);
+             Connection held = new DeadlineAwareDataSource(pool).getConnection()) {
+            DeadlineAwareDataSource bounded = new DeadlineAwareDataSource(pool);
+            long start = System.nanoTime();
+
+            try (RequestDeadline.Scope ignored = RequestDeadline.start(Duration.ofMillis(300))) {
+                assertThatThrownBy(bounded::getConnection)
+                        .isInstanceOf(SQLTimeoutException.class)
+                        .hasMessageContaining("while waiting for a connection");
+            }
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+            assertThat(held.isValid(1)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("should delegate other calls and restore the previous deadline")
+    void shouldDelegateOtherCalls() throws Exception {
+        Connection proxy = dataSource.getConnection();
+
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(Duration.ZERO)) {
+            proxy.commit();
+            proxy.close();
+        }
+
+        verify(connection).commit();
+        verify(connection).close();
+        assertThat(RequestDeadline.remaining()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should round query timeouts up to whole seconds")
+    void shouldRoundQueryTimeoutsUp() {
+        assertThat(DeadlineAwareDataSource.toQueryTimeoutSeconds(Duration.ofMillis(1))).isEqualTo(1);
+        assertThat(DeadlineAwareDataSource.toQueryTimeoutSeconds(Duration.ofSeconds(2))).isEqualTo(2);
+        assertThat(DeadlineAwareDataSource.toQueryTimeoutSeconds(Duration.ofMillis(2001))).isEqualTo(3);
+    }
+}
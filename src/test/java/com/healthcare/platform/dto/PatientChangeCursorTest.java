@@ -0,0 +1,47 @@
+package com.healthcare.platform.dto;
+
+import com.healthcare.platform.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Patient Change Cursor Tests")
+class PatientChangeCursorTest {
+
+    @Test
+    @DisplayName("should round-trip through its URL-safe encoding with full timestamp precision")
+    void shouldRoundTrip() {
+        PatientChangeCursor cursor = new PatientChangeCursor(LocalDateTime.of(2025, 3, 10, 12, 0, 0, 123456000),
+                UUID.fromString("550e8400-e29b-41d4-a716-446655440000"));
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(PatientChangeCursor.parse(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("should start from the beginning without a cursor")
+    void shouldStartWithoutCursor() {
+        assertThat(PatientChangeCursor.parse(null)).isSameAs(PatientChangeCursor.START);
+        assertThat(PatientChangeCursor.parse(" ").isStart()).isTrue();
+        assertThat(PatientChangeCursor.START.encode()).isNull();
+    }
+
+    @Test
+    @DisplayName("should reject cursors it did not issue")
+    void shouldRejectInvalidCursors() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2025-03-10T12:00".getBytes());
+        String badId = Base64.getUrlEncoder().encodeToString("2025-03-10T12:00|nope".getBytes());
+
+        assertThatThrownBy(() -> PatientChangeCursor.parse("not base64!")).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PatientChangeCursor.parse(noSeparator)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PatientChangeCursor.parse(badId)).isInstanceOf(InvalidRequestException.class);
+    }
+}
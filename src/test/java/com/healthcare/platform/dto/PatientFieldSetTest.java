@@ -0,0 +1,58 @@
+package com.healthcare.platform.dto;
+
+import com.healthcare.platform.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Patient Field Set Tests")
+class PatientFieldSetTest {
+
+    @Test
+    @DisplayName("should select all fields for blank input")
+    void shouldSelectAllForBlankInput() {
+        assertThat(PatientFieldSet.parse(null)).isSameAs(PatientFieldSet.ALL);
+        assertThat(PatientFieldSet.parse("  ")).isSameAs(PatientFieldSet.ALL);
+        assertThat(PatientFieldSet.ALL.isAll()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should always include id and version")
+    void shouldAlwaysIncludeIdAndVersion() {
+        PatientFieldSet fields = PatientFieldSet.parse("lastName, firstName,");
+
+        assertThat(fields.fields()).containsExactly(
+                PatientField.ID, PatientField.FIRST_NAME, PatientField.LAST_NAME, PatientField.VERSION);
+        assertThat(fields.isAll()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should treat equal selections as the same cache key")
+    void shouldCompareBySelectedFields() {
+        PatientFieldSet first = PatientFieldSet.parse("email,phone");
+        PatientFieldSet second = PatientFieldSet.of(PatientField.PHONE, PatientField.EMAIL);
+
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+        assertThat(first).isNotEqualTo(PatientFieldSet.parse("email"));
+    }
+
+    @Test
+    @DisplayName("should add fields to a selection")
+    void shouldAddFields() {
+        PatientFieldSet fields = PatientFieldSet.parse("email").with(PatientField.STATUS, PatientField.EMAIL);
+
+        assertThat(fields).isEqualTo(PatientFieldSet.of(PatientField.EMAIL, PatientField.STATUS));
+        assertThat(PatientFieldSet.ALL.with(PatientField.STATUS)).isSameAs(PatientFieldSet.ALL);
+    }
+
+    @Test
+    @DisplayName("should reject unknown fields")
+    void shouldRejectUnknownFields() {
+        assertThatThrownBy(() -> PatientFieldSet.parse("firstName,ssn,password"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("ssn, password")
+                .hasMessageContaining("Allowed: id, firstName");
+    }
+}
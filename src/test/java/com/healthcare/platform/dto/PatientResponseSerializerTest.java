@@ -0,0 +1,117 @@
+package com.healthcare.platform.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Patient Response Serializer Tests")
+class PatientResponseSerializerTest {
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper reflectiveMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        reflectiveMapper = objectMapper.copy().addMixIn(PatientResponse.class, ReflectiveSerialization.class);
+    }
+
+    @Test
+    @DisplayName("should produce the same JSON as reflective serialization")
+    void shouldMatchReflectiveSerialization() throws Exception {
+        PatientResponse patient = PatientResponse.builder()
+                .id(UUID.randomUUID())
+                .firstName("John \"Johnny\"")
+                .lastName("Doe")
+                .dateOfBirth(LocalDate.of(1990, 5, 15))
+                .email("john.doe@example.com")
+                .phone("+14155551234")
+                .address("123 Healthcare Ave\nSuite 4")
+                .medicalRecordNumber("MRN-123456")
+                .status("ACTIVE")
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, 15, 10, 30, 15, 123_456_000))
+                .version(3L)
+                .build();
+
+        assertThat(objectMapper.writeValueAsString(patient))
+                .isEqualTo(reflectiveMapper.writeValueAsString(patient));
+    }
+
+    @Test
+    @DisplayName("should format date-time fractions and edge dates like Jackson")
+    void shouldFormatTemporalEdgeCases() throws Exception {
+        List<LocalDateTime> timestamps = List.of(
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0),
+                LocalDateTime.of(2024, 12, 31, 23, 59, 59, 100_000_000),
+                LocalDateTime.of(999, 3, 4, 5, 6, 7, 1),
+                LocalDateTime.of(2024, 6, 30, 12, 0, 0, 120_000));
+
+        for (LocalDateTime timestamp : timestamps) {
+            PatientResponse patient = PatientResponse.builder()
+                    .id(new UUID(0x0123456789abcdefL, 0xfedcba9876543210L))
+                    .dateOfBirth(timestamp.toLocalDate())
+                    .createdAt(timestamp)
+                    .build();
+
+            assertThat(objectMapper.writeValueAsString(patient))
+                    .isEqualTo(reflectiveMapper.writeValueAsString(patient));
+        }
+    }
+
+    @Test
+    @DisplayName("should omit null fields")
+    void shouldOmitNullFields() throws Exception {
+        PatientResponse patient = PatientResponse.builder()
+                .id(UUID.randomUUID())
+                .firstName("Jane")
+                .lastName("Smith")
+                .build();
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(patient));
+
+        assertThat(json.size()).isEqualTo(3);
+        assertThat(json.has("email")).isFalse();
+        assertThat(objectMapper.writeValueAsString(patient))
+                .isEqualTo(reflectiveMapper.writeValueAsString(patient));
+    }
+
+    @Test
+    @DisplayName("should emit only compact page fields")
+    void shouldEmitCompactPageEnvelope() throws Exception {
+        PageResponse<String> page = PageResponse.from(new PageImpl<>(List.of("a", "b"), PageRequest.of(1, 2), 5));
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(page));
+
+        assertThat(json.has("pageable")).isFalse();
+        assertThat(json.has("sort")).isFalse();
+        assertThat(json.get("number").asInt()).isEqualTo(1);
+        assertThat(json.get("totalElements").asLong()).isEqualTo(5);
+        assertThat(json.get("totalPages").asInt()).isEqualTo(3);
+        assertThat(json.get("first").asBoolean()).isFalse();
+        assertThat(json.get("last").asBoolean()).isFalse();
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    abstract static class ReflectiveSerialization {
+    }
+}
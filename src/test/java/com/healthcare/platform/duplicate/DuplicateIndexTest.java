@@ -0,0 +1,193 @@
+package com.healthcare.platform.duplicate;
+
+import com.healthcare.platform.archive.PatientsArchivedEvent;
+import com.healthcare.platform.dto.PatientDuplicate;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.service.PatientChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Duplicate Index Tests")
+class DuplicateIndexTest {
+
+    private static final LocalDate BIRTH = LocalDate.of(1980, 4, 12);
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("findDuplicates")
+    class FindDuplicates {
+
+        @Test
+        @DisplayName("should find a misspelled patient with the same birth date, best match first")
+        void shouldFindMisspelledPatient() {
+            DuplicateIndex index = index(true);
+            MatchRecord smith = record("John", "Smith", BIRTH, "+14155551234");
+            MatchRecord smyth = record("Jon", "Smyth", BIRTH, null);
+            index.put(smith);
+            index.put(smyth);
+            index.put(record("Maria", "Garcia", BIRTH, null));
+
+            List<PatientDuplicate> duplicates = index.findDuplicates(
+                    MatchRecord.of(null, "John", "Smith", BIRTH, null, "415-555-1234"));
+
+            assertThat(duplicates).extracting(PatientDuplicate::getId).containsExactly(smith.id(), smyth.id());
+            assertThat(duplicates.get(0).getScore()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("patients.duplicates.detected").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should find a patient whose last name changed through the first-name block")
+        void shouldFindChangedLastName() {
+            DuplicateIndex index = index(true);
+            MatchRecord married = record("Elisabeth", "Johnson", BIRTH, "+14155551234");
+            index.put(married);
+
+            List<PatientDuplicate> duplicates = index.findDuplicates(
+                    MatchRecord.of(null, "Elisabeth", "Johnston", BIRTH, null, "+1 415 555 1234"));
+
+            assertThat(duplicates).extracting(PatientDuplicate::getId).containsExactly(married.id());
+        }
+
+        @Test
+        @DisplayName("should not report namesakes with different birth dates, or the patient itself")
+        void shouldIgnoreNamesakesAndSelf() {
+            DuplicateIndex index = index(true);
+            MatchRecord smith = record("John", "Smith", BIRTH, null);
+            index.put(smith);
+            index.put(record("John", "Smith", LocalDate.of(1991, 7, 30), null));
+
+            assertThat(index.findDuplicates(smith)).isEmpty();
+            assertThat(meterRegistry.get("patients.duplicates.detected").counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("should find nothing when disabled")
+        void shouldFindNothingWhenDisabled() {
+            DuplicateIndex index = index(false);
+            index.put(record("John", "Smith", BIRTH, null));
+
+            assertThat(index.findDuplicates(MatchRecord.of(null, "John", "Smith", BIRTH, null, null))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("maintenance")
+    class Maintenance {
+
+        @Test
+        @DisplayName("should page through the patients table on load")
+        void shouldLoadFromDatabase() {
+            UUID first = new UUID(0, 1);
+            UUID second = new UUID(0, 2);
+            UUID third = new UUID(0, 3);
+            when(patientRepository.findMatchFields(new UUID(0, 0), Limit.of(2))).thenReturn(List.of(
+                    new Object[]{first, "John", "Smith", BIRTH, null, null},
+                    new Object[]{second, "Maria", "Garcia", BIRTH, "maria@example.com", null}));
+            when(patientRepository.findMatchFields(second, Limit.of(2))).thenReturn(List.<Object[]>of(
+                    new Object[]{third, "Wei", "Zhang", null, null, "+14155550000"}));
+            DuplicateIndex index = index(true);
+
+            index.load();
+
+            assertThat(index.isReady()).isTrue();
+            assertThat(index.size()).isEqualTo(3);
+            assertThat(meterRegistry.get("patients.duplicates.indexed").gauge().value()).isEqualTo(3);
+            assertThat(index.findDuplicates(MatchRecord.of(null, "Jon", "Smith", BIRTH, null, null)))
+                    .extracting(PatientDuplicate::getId).containsExactly(first);
+        }
+
+        @Test
+        @DisplayName("should keep the version of a patient changed while loading")
+        void shouldKeepNewerVersionOnLoad() {
+            UUID id = new UUID(0, 1);
+            when(patientRepository.findMatchFields(new UUID(0, 0), Limit.of(2))).thenReturn(List.<Object[]>of(
+                    new Object[]{id, "John", "Smith", BIRTH, null, null}));
+            DuplicateIndex index = index(true);
+            index.put(MatchRecord.of(id, "John", "Smith", LocalDate.of(1975, 1, 1), null, null));
+
+            index.load();
+
+            assertThat(index.findDuplicates(MatchRecord.of(null, "John", "Smith", BIRTH, null, null))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should move an updated patient to its new blocks")
+        void shouldReindexUpdatedPatient() {
+            DuplicateIndex index = index(true);
+            UUID id = UUID.randomUUID();
+            index.onPatientChanged(PatientChangedEvent.created(response(id, "John", "Smith", BIRTH)));
+            index.onPatientChanged(PatientChangedEvent.updated(null,
+                    response(id, "John", "Smith", LocalDate.of(1975, 1, 1))));
+
+            assertThat(index.size()).isEqualTo(1);
+            assertThat(index.findDuplicates(MatchRecord.of(null, "John", "Smith", BIRTH, null, null))).isEmpty();
+            assertThat(index.findDuplicates(MatchRecord.of(null, "John", "Smith", LocalDate.of(1975, 1, 1), null,
+                    null))).extracting(PatientDuplicate::getId).containsExactly(id);
+        }
+
+        @Test
+        @DisplayName("should drop archived patients")
+        void shouldDropArchivedPatients() {
+            DuplicateIndex index = index(true);
+            UUID id = UUID.randomUUID();
+            index.onPatientChanged(PatientChangedEvent.created(response(id, "John", "Smith", BIRTH)));
+
+            index.onPatientsArchived(new PatientsArchivedEvent(List.of(response(id, "John", "Smith", BIRTH))));
+
+            assertThat(index.size()).isZero();
+            assertThat(index.findDuplicates(MatchRecord.of(null, "John", "Smith", BIRTH, null, null))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should not add back a patient archived while loading")
+        void shouldKeepArchivalMadeWhileLoading() {
+            UUID id = new UUID(0, 1);
+            DuplicateIndex index = index(true);
+            when(patientRepository.findMatchFields(new UUID(0, 0), Limit.of(2))).thenAnswer(invocation -> {
+                // Committed after the page was read
+                index.onPatientsArchived(new PatientsArchivedEvent(List.of(response(id, "John", "Smith", BIRTH))));
+                return List.<Object[]>of(new Object[]{id, "John", "Smith", BIRTH, null, null});
+            });
+
+            index.load();
+
+            assertThat(index.size()).isZero();
+        }
+    }
+
+    private DuplicateIndex index(boolean enabled) {
+        return new DuplicateIndex(patientRepository, enabled, 0.88, 10, 2, meterRegistry);
+    }
+
+    private static MatchRecord record(String firstName, String lastName, LocalDate dateOfBirth, String phone) {
+        return MatchRecord.of(UUID.randomUUID(), firstName, lastName, dateOfBirth, null, phone);
+    }
+
+    private static PatientResponse response(UUID id, String firstName, String lastName, LocalDate dateOfBirth) {
+        return PatientResponse.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .dateOfBirth(dateOfBirth)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.healthcare.platform.duplicate;
+
+import com.healthcare.platform.dto.DuplicateScanResponse;
+import com.healthcare.platform.dto.PatientDuplicatePair;
+import com.healthcare.platform.repository.PatientRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Duplicate Scanner Tests")
+class DuplicateScannerTest {
+
+    private static final LocalDate BIRTH = LocalDate.of(1980, 4, 12);
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("should report each duplicate pair once, best match first")
+    void shouldReportEachPairOnce() {
+        MatchRecord smith = record("John", "Smith", BIRTH, "+14155551234");
+        MatchRecord smithCopy = record("John", "Smith", BIRTH, "415 555 1234");
+        MatchRecord smyth = record("Jon", "Smyth", BIRTH, null);
+        MatchRecord garcia = record("Maria", "Garcia", BIRTH, null);
+        MatchRecord namesake = record("John", "Smith", LocalDate.of(1991, 7, 30), "+14155559999");
+
+        DuplicateScanResponse response = scanner(1000, 1000).scan(List.of(smith, smithCopy, smyth, garcia, namesake));
+
+        assertThat(response.getScanned()).isEqualTo(5);
+        assertThat(response.getMatches()).isEqualTo(3);
+        assertThat(response.getPairs()).extracting(PatientDuplicatePair::getScore).isSortedAccordingTo(
+                (a, b) -> Double.compare(b, a));
+        assertThat(response.getPairs().get(0)).isEqualTo(new PatientDuplicatePair(smith.id(), smithCopy.id(), 1.0));
+        // The Smith pairs share all three blocks but are scored once each; the namesake shares no block
+        assertThat(response.getComparisons()).isEqualTo(3);
+        assertThat(meterRegistry.get("patients.duplicates.scan").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should skip oversized blocks and limit the returned pairs")
+    void shouldSkipOversizedBlocks() {
+        List<MatchRecord> patients = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            patients.add(record("John", "Smith", BIRTH, null));
+        }
+
+        DuplicateScanResponse response = scanner(3, 2).scan(patients);
+
+        assertThat(response.getOversizedBlocks()).isEqualTo(3);
+        assertThat(response.getComparisons()).isZero();
+        assertThat(response.getMatches()).isZero();
+
+        response = scanner(4, 2).scan(patients);
+
+        assertThat(response.getMatches()).isEqualTo(6);
+        assertThat(response.getPairs()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should scan every patient in the database")
+    void shouldScanDatabase() {
+        UUID first = new UUID(0, 1);
+        UUID second = new UUID(0, 2);
+        when(patientRepository.findMatchFields(new UUID(0, 0), Limit.of(2))).thenReturn(List.of(
+                new Object[]{first, "John", "Smith", BIRTH, null, null},
+                new Object[]{second, "Maria", "Garcia", BIRTH, null, null}));
+        when(patientRepository.findMatchFields(second, Limit.of(2))).thenReturn(List.<Object[]>of(
+                new Object[]{new UUID(0, 3), "Jon", "Smith", BIRTH, null, null}));
+
+        DuplicateScanResponse response = scanner(1000, 1000).scan();
+
+        assertThat(response.getScanned()).isEqualTo(3);
+        assertThat(response.getPairs()).extracting(PatientDuplicatePair::getFirstId).containsExactly(first);
+    }
+
+    private DuplicateScanner scanner(int maxBlockSize, int maxPairs) {
+        return new DuplicateScanner(patientRepository, 0.88, 2, maxBlockSize, maxPairs, 2, meterRegistry);
+    }
+
+    private static MatchRecord record(String firstName, String lastName, LocalDate dateOfBirth, String phone) {
+        return MatchRecord.of(UUID.randomUUID(), firstName, lastName, dateOfBirth, null, phone);
+    }
+}
@@ -0,0 +1,120 @@
+package com.healthcare.platform.duplicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Patient Matcher Tests")
+class PatientMatcherTest {
+
+    private static final LocalDate BIRTH = LocalDate.of(1980, 4, 12);
+
+    @Nested
+    @DisplayName("normalization")
+    class Normalization {
+
+        @Test
+        @DisplayName("should keep upper-case Latin letters and strip accents")
+        void shouldNormalizeNames() {
+            assertThat(PatientMatcher.normalizeName("  José-María O'Neil ")).isEqualTo("JOSEMARIAONEIL");
+            assertThat(PatientMatcher.normalizeName(null)).isEmpty();
+            assertThat(PatientMatcher.normalizeName("李")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should compare phones by their last ten digits")
+        void shouldNormalizePhones() {
+            assertThat(PatientMatcher.normalizePhone("+1 (415) 555-1234")).isEqualTo("4155551234");
+            assertThat(PatientMatcher.normalizePhone("415.555.1234")).isEqualTo("4155551234");
+            assertThat(PatientMatcher.normalizePhone("n/a")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("soundex")
+    class Soundex {
+
+        @Test
+        @DisplayName("should give names that sound alike the same code")
+        void shouldCodeAlikeNames() {
+            assertThat(PatientMatcher.soundex("SMITH")).isEqualTo("S530");
+            assertThat(PatientMatcher.soundex("SMYTH")).isEqualTo("S530");
+            assertThat(PatientMatcher.soundex("ROBERT")).isEqualTo("R163");
+            assertThat(PatientMatcher.soundex("RUPERT")).isEqualTo("R163");
+            assertThat(PatientMatcher.soundex("LEE")).isEqualTo("L000");
+            assertThat(PatientMatcher.soundex("")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should not separate letters with the same code by H or W")
+        void shouldSkipHAndW() {
+            assertThat(PatientMatcher.soundex("ASHCRAFT")).isEqualTo("A261");
+            assertThat(PatientMatcher.soundex("TYMCZAK")).isEqualTo("T522");
+            assertThat(PatientMatcher.soundex("PFISTER")).isEqualTo("P236");
+        }
+    }
+
+    @Nested
+    @DisplayName("jaroWinkler")
+    class JaroWinkler {
+
+        @Test
+        @DisplayName("should match the published reference values")
+        void shouldMatchReferenceValues() {
+            assertThat(PatientMatcher.jaroWinkler("MARTHA", "MARHTA")).isCloseTo(0.961, within(0.001));
+            assertThat(PatientMatcher.jaroWinkler("DWAYNE", "DUANE")).isCloseTo(0.840, within(0.001));
+            assertThat(PatientMatcher.jaroWinkler("DIXON", "DICKSONX")).isCloseTo(0.813, within(0.001));
+        }
+
+        @Test
+        @DisplayName("should be 1 for equal and 0 for disjoint or empty names")
+        void shouldHandleEdgeCases() {
+            assertThat(PatientMatcher.jaroWinkler("ANNA", "ANNA")).isEqualTo(1);
+            assertThat(PatientMatcher.jaroWinkler("ABC", "XYZ")).isZero();
+            assertThat(PatientMatcher.jaroWinkler("", "ANNA")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("score")
+    class Score {
+
+        @Test
+        @DisplayName("should score a misspelled name with the same birth date and phone above the default threshold")
+        void shouldScoreMisspellingHigh() {
+            MatchRecord existing = record("John", "Smith", BIRTH, "john.smith@example.com", "+14155551234");
+            MatchRecord created = record("Jon", "Smyth", BIRTH, null, "(415) 555-1234");
+
+            assertThat(PatientMatcher.score(existing, created)).isGreaterThanOrEqualTo(0.88);
+        }
+
+        @Test
+        @DisplayName("should score a swapped day and month as a likely typo")
+        void shouldTolerateSwappedDayAndMonth() {
+            MatchRecord existing = record("Maria", "Garcia", BIRTH, null, null);
+            MatchRecord created = record("Maria", "Garcia", LocalDate.of(1980, 12, 4), null, null);
+
+            assertThat(PatientMatcher.score(existing, created)).isCloseTo(0.3 + 0.3 + 0.21 + 0.05, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("should score namesakes with different birth dates and contact details low")
+        void shouldScoreNamesakesLow() {
+            MatchRecord existing = record("John", "Smith", BIRTH, "john@example.com", null);
+            MatchRecord other = record("John", "Smith", LocalDate.of(1991, 7, 30), "jsmith@example.org", null);
+
+            assertThat(PatientMatcher.score(existing, other)).isCloseTo(0.6, within(1e-9));
+        }
+    }
+
+    private static MatchRecord record(String firstName, String lastName, LocalDate dateOfBirth, String email,
+                                      String phone) {
+        return MatchRecord.of(UUID.randomUUID(), firstName, lastName, dateOfBirth, email, phone);
+    }
+}
@@ -0,0 +1,104 @@
+package com.healthcare.platform.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.platform.dto.AuthRequest;
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.filter.CorrelationIdFilter;
+import com.healthcare.platform.service.PatientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the asynchronous access audit trail.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Access Audit Integration Tests")
+class AuditIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("DELETE FROM patients WHERE email LIKE 'audit-%@example.com'");
+    }
+
+    @Test
+    @DisplayName("Should write who read which patient, with the correlation ID, in the background")
+    void shouldAuditReads() throws Exception {
+        UUID id = patientService.createPatient(PatientRequest.builder()
+                .firstName("Audit")
+                .lastName("Patient")
+                .dateOfBirth(LocalDate.of(1975, 3, 3))
+                .email("audit-" + UUID.randomUUID() + "@example.com")
+                .build()).getId();
+        String correlationId = "audit-" + UUID.randomUUID();
+
+        mockMvc.perform(get("/api/v1/patients/{id}", id)
+                        .header("Authorization", "Bearer " + login())
+                        .header(CorrelationIdFilter.CORRELATION_ID_HEADER, correlationId))
+                .andExpect(status().isOk());
+
+        List<Map<String, Object>> rows = awaitAuditRows(correlationId);
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0))
+                .containsEntry("PRINCIPAL", "doctor")
+                .containsEntry("ACTION", "READ")
+                .containsEntry("RESOURCE_TYPE", "Patient")
+                .containsEntry("RESOURCE_ID", id.toString());
+        assertThat(rows.get(0).get("OCCURRED_AT")).isNotNull();
+    }
+
+    private List<Map<String, Object>> awaitAuditRows(String correlationId) throws InterruptedException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        List<Map<String, Object>> rows;
+        do {
+            rows = jdbcTemplate.queryForList("SELECT * FROM phi_access_audit WHERE correlation_id = ?", correlationId);
+            if (!rows.isEmpty()) {
+                return rows;
+            }
+            Thread.sleep(50);
+        } while (System.nanoTime() < deadline);
+        return rows;
+    }
+
+    private String login() throws Exception {
+        String response = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest("doctor", "doctor123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).path("data").path("accessToken").asText();
+    }
+}
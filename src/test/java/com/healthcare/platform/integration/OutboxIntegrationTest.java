@@ -0,0 +1,84 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.exception.DuplicateResourceException;
+import com.healthcare.platform.outbox.InMemoryOutboxSink;
+import com.healthcare.platform.outbox.OutboxMessage;
+import com.healthcare.platform.outbox.OutboxRelay;
+import com.healthcare.platform.outbox.OutboxSink;
+import com.healthcare.platform.repository.OutboxEventRepository;
+import com.healthcare.platform.service.PatientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for writing patient changes to the outbox and relaying them to the in-memory sink.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Outbox Integration Tests")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxSink outboxSink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("DELETE FROM patients WHERE email LIKE 'outbox-%@example.com'");
+    }
+
+    @Test
+    @DisplayName("Should relay committed changes in order and nothing for rolled-back writes")
+    void shouldRelayCommittedChanges() {
+        String email = "outbox-" + UUID.randomUUID() + "@example.com";
+        UUID id = patientService.createPatient(request(email, "Original")).getId();
+        patientService.updatePatient(id, request(email, "Renamed"));
+        assertThatThrownBy(() -> patientService.createPatient(request(email.toUpperCase(), "Duplicate")))
+                .isInstanceOf(DuplicateResourceException.class);
+        patientService.deletePatient(id);
+
+        outboxRelay.poll();
+
+        assertThat(((InMemoryOutboxSink) outboxSink).messages())
+                .filteredOn(message -> message.aggregateId().equals(id.toString()))
+                .extracting(OutboxMessage::eventType)
+                .containsExactly("CREATED", "UPDATED", "DELETED");
+        assertThat(((InMemoryOutboxSink) outboxSink).messages())
+                .filteredOn(message -> message.payload().contains("Duplicate"))
+                .isEmpty();
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    private static PatientRequest request(String email, String firstName) {
+        return PatientRequest.builder()
+                .firstName(firstName)
+                .lastName("Outbox")
+                .dateOfBirth(LocalDate.of(1970, 2, 3))
+                .email(email)
+                .build();
+    }
+}
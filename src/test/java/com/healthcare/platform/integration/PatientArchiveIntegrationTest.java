@@ -0,0 +1,121 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.archive.PatientArchiver;
+import com.healthcare.platform.autocomplete.PatientNameIndex;
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientSuggestion;
+import com.healthcare.platform.exception.ResourceNotFoundException;
+import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.service.PatientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for archiving long-inactive patients and reading them back from the archive.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Patient Archive Integration Tests")
+class PatientArchiveIntegrationTest {
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private PatientArchiver patientArchiver;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private PatientNameIndex nameIndex;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @AfterEach
+    void tearDown() {
+        PatientIndexes.deletePatients(context, "email LIKE 'archive-%@example.com'");
+    }
+
+    @Test
+    @DisplayName("Should move long-inactive patients out of the table and keep serving them by id and MRN")
+    void shouldArchiveAndServeFromArchive() {
+        PatientResponse inactive = create();
+        PatientResponse active = create();
+        patientService.deletePatient(inactive.getId());
+        age(inactive.getId());
+        age(active.getId());
+        // Load into the second-level cache, which must not keep serving the archived row
+        PatientResponse beforeArchival = patientService.getPatientById(inactive.getId());
+
+        assertThat(patientArchiver.archive()).isPositive();
+
+        assertThat(patientRepository.findById(inactive.getId())).isEmpty();
+        assertThat(patientRepository.findById(active.getId())).isPresent();
+        PatientResponse archived = patientService.getPatientById(inactive.getId());
+        assertThat(archived.getStatus()).isEqualTo("INACTIVE");
+        assertThat(archived.getFirstName()).isEqualTo("Archive");
+        assertThat(archived.getVersion()).isEqualTo(beforeArchival.getVersion());
+        assertThat(patientService.getPatientByMrn(inactive.getMedicalRecordNumber()).getId())
+                .isEqualTo(inactive.getId());
+        assertThat(patientService.getPatientVersion(inactive.getId())).isPresent();
+        assertThatThrownBy(() -> patientService.updatePatient(inactive.getId(), PatientRequest.builder()
+                .firstName("Changed")
+                .lastName("Patient")
+                .dateOfBirth(LocalDate.of(1940, 1, 1))
+                .build()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should stop suggesting archived patients")
+    void shouldStopSuggestingArchivedPatients() throws InterruptedException {
+        PatientIndexes.awaitReady(nameIndex::isReady);
+        PatientResponse inactive = create("Archibald", "Quenneville");
+        patientService.deletePatient(inactive.getId());
+        age(inactive.getId());
+        assertThat(nameIndex.suggest("archib quenn", 10)).extracting(PatientSuggestion::getId)
+                .containsExactly(inactive.getId());
+
+        assertThat(patientArchiver.archive()).isPositive();
+
+        assertThat(nameIndex.suggest("archib quenn", 10)).isEmpty();
+    }
+
+    private PatientResponse create() {
+        return create("Archive", "Patient");
+    }
+
+    private PatientResponse create(String firstName, String lastName) {
+        return patientService.createPatient(PatientRequest.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .dateOfBirth(LocalDate.of(1940, 1, 1))
+                .email("archive-" + UUID.randomUUID() + "@example.com")
+                .build());
+    }
+
+    private void age(UUID id) {
+        new JdbcTemplate(dataSource).update("UPDATE patients SET updated_at = ? WHERE id = ?",
+                LocalDateTime.now().minusYears(3), id);
+    }
+}
@@ -0,0 +1,101 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.autocomplete.PatientNameIndex;
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientSuggestion;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.seed.PatientBulkLoader;
+import com.healthcare.platform.seed.SyntheticPatientGenerator;
+import com.healthcare.platform.service.PatientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for type-ahead suggestions from the in-memory patient name index.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Patient Autocomplete Integration Tests")
+class PatientAutocompleteIntegrationTest {
+
+    private static final long FIRST_INDEX = 4_000_000;
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private PatientNameIndex nameIndex;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private final SyntheticPatientGenerator generator = new SyntheticPatientGenerator(13);
+
+    @BeforeEach
+    void awaitIndex() throws InterruptedException {
+        PatientIndexes.awaitReady(nameIndex::isReady);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PatientIndexes.deletePatients(context, "email LIKE 'autocomplete-%@example.com'");
+        PatientIndexes.deletePatients(context, "medical_record_number = ?",
+                generator.generate(FIRST_INDEX).getMedicalRecordNumber());
+    }
+
+    @Test
+    @DisplayName("Should suggest patients as soon as they are created and updated")
+    void shouldSuggestWrittenPatients() {
+        PatientResponse created = patientService.createPatient(request("Evangeline", "Thistlewood"));
+
+        assertThat(nameIndex.suggest("evan thist", 10)).extracting(PatientSuggestion::getId)
+                .containsExactly(created.getId());
+
+        patientService.updatePatient(created.getId(), request("Evangeline", "Marchbanks"));
+
+        assertThat(nameIndex.suggest("thist", 10)).isEmpty();
+        assertThat(nameIndex.suggest("marchb", 10)).extracting(PatientSuggestion::getLastName)
+                .containsExactly("Marchbanks");
+    }
+
+    @Test
+    @DisplayName("Should suggest patients written around the service after the next rebuild")
+    void shouldSuggestBulkLoadedPatientsAfterRebuild() {
+        new PatientBulkLoader(dataSource, 10, 1).load(generator, FIRST_INDEX, 1);
+        Patient loaded = generator.generate(FIRST_INDEX);
+        new JdbcTemplate(dataSource).update("UPDATE patients SET first_name = 'Quillon', last_name = 'Farthingale' " +
+                "WHERE id = ?", loaded.getId());
+        assertThat(nameIndex.suggest("quil farth", 10)).isEmpty();
+
+        nameIndex.rebuild();
+
+        assertThat(nameIndex.suggest("quil farth", 10)).extracting(PatientSuggestion::getId)
+                .containsExactly(loaded.getId());
+    }
+
+    private static PatientRequest request(String firstName, String lastName) {
+        return PatientRequest.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .dateOfBirth(LocalDate.of(1971, 8, 19))
+                .email("autocomplete-" + UUID.randomUUID() + "@example.com")
+                .build();
+    }
+}
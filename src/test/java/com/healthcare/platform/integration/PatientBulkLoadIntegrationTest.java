@@ -0,0 +1,63 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.seed.PatientBulkLoader;
+import com.healthcare.platform.seed.SyntheticPatientGenerator;
+import com.healthcare.platform.service.PatientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for loading synthetic patients through batched JDBC.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Patient Bulk Load Integration Tests")
+class PatientBulkLoadIntegrationTest {
+
+    private static final long FIRST_INDEX = 1_000_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PatientService patientService;
+
+    private final SyntheticPatientGenerator generator = new SyntheticPatientGenerator(7);
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("DELETE FROM patients WHERE medical_record_number >= ?",
+                generator.generate(FIRST_INDEX).getMedicalRecordNumber());
+    }
+
+    @Test
+    @DisplayName("Should load generated patients readable through the service")
+    void shouldLoadReadablePatients() {
+        PatientBulkLoader.LoadResult result = new PatientBulkLoader(dataSource, 500, 3)
+                .load(generator, FIRST_INDEX, 5_000);
+
+        assertThat(result.rows()).isEqualTo(5_000);
+        assertThat(result.rowsPerSecond()).isPositive();
+        assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM patients WHERE medical_record_number >= ?", Long.class,
+                generator.generate(FIRST_INDEX).getMedicalRecordNumber())).isEqualTo(5_000);
+
+        Patient expected = generator.generate(FIRST_INDEX + 4_321);
+        PatientResponse loaded = patientService.getPatientById(expected.getId());
+        assertThat(loaded.getMedicalRecordNumber()).isEqualTo(expected.getMedicalRecordNumber());
+        assertThat(loaded.getEmail()).isEqualTo(expected.getEmail());
+        assertThat(loaded.getStatus()).isEqualTo(expected.getStatus().name());
+        assertThat(loaded.getVersion()).isZero();
+    }
+}
@@ -0,0 +1,103 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.dto.PatientStatusChangeRequest;
+import com.healthcare.platform.dto.PatientStatusChangeResponse;
+import com.healthcare.platform.dto.PatientStatusFilter;
+import com.healthcare.platform.service.PatientService;
+import com.healthcare.platform.service.PatientStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for set-based bulk status changes, with chunks small enough to need several transactions.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Patient Bulk Status Integration Tests")
+class PatientBulkStatusIntegrationTest {
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private PatientStatistics patientStatistics;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Object chunkSize;
+
+    @BeforeEach
+    void setUp() {
+        Object target = AopTestUtils.getTargetObject(patientService);
+        chunkSize = ReflectionTestUtils.getField(target, "statusChangeChunkSize");
+        ReflectionTestUtils.setField(target, "statusChangeChunkSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Object target = AopTestUtils.getTargetObject(patientService);
+        ReflectionTestUtils.setField(target, "statusChangeChunkSize", chunkSize);
+        new JdbcTemplate(dataSource).update("DELETE FROM patients WHERE email LIKE 'bulk-%@example.com'");
+        patientStatistics.reconcile();
+    }
+
+    @Test
+    @DisplayName("Should change matching patients chunk by chunk and keep caches and counters current")
+    void shouldChangeMatchingPatients() {
+        String clinic = "Bulk" + UUID.randomUUID().toString().substring(0, 8);
+        List<UUID> active = List.of(create(clinic), create(clinic), create(clinic));
+        UUID alreadyInactive = create(clinic);
+        patientService.deletePatient(alreadyInactive);
+        UUID other = create("Other");
+        // Load into the second-level cache, which the bulk update must not leave stale
+        patientService.getPatientById(active.get(0));
+        patientStatistics.reconcile();
+        long inactiveBefore = patientStatistics.snapshot().getByStatus().get("INACTIVE");
+
+        PatientStatusChangeResponse response = patientService.changeStatus(PatientStatusChangeRequest.builder()
+                .status("INACTIVE")
+                .filter(PatientStatusFilter.builder().search(clinic.toLowerCase()).build())
+                .build());
+
+        assertThat(response.getUpdated()).isEqualTo(3);
+        assertThat(response.getIds()).containsExactlyInAnyOrderElementsOf(active);
+        assertThat(patientService.getPatientById(active.get(0)).getStatus()).isEqualTo("INACTIVE");
+        assertThat(patientService.getPatientById(active.get(0)).getVersion()).isEqualTo(1L);
+        assertThat(patientService.getPatientById(alreadyInactive, PatientFieldSet.ALL).getVersion()).isEqualTo(1L);
+        assertThat(patientService.getPatientById(other).getStatus()).isEqualTo("ACTIVE");
+        assertThat(patientStatistics.snapshot().getByStatus().get("INACTIVE")).isEqualTo(inactiveBefore + 3);
+
+        PatientStatusChangeResponse repeated = patientService.changeStatus(PatientStatusChangeRequest.builder()
+                .status("INACTIVE")
+                .ids(active)
+                .build());
+        assertThat(repeated.getUpdated()).isZero();
+    }
+
+    private UUID create(String lastName) {
+        return patientService.createPatient(PatientRequest.builder()
+                .firstName("Status")
+                .lastName(lastName)
+                .dateOfBirth(LocalDate.of(1960, 4, 4))
+                .email("bulk-" + UUID.randomUUID() + "@example.com")
+                .build()).getId();
+    }
+}
@@ -0,0 +1,113 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.service.PatientService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the Patient second-level and natural-id caches.
+ * Uses Hibernate statistics to count the statements each read actually sends to the database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Patient Cache Integration Tests")
+class PatientCacheIntegrationTest {
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private PatientResponse patient;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        patient = patientService.createPatient(PatientRequest.builder()
+                .firstName("Cached")
+                .lastName("Patient")
+                .dateOfBirth(LocalDate.of(1975, 3, 3))
+                .build());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Should serve repeat reads by ID without SQL")
+    void shouldServeRepeatReadsByIdFromCache() {
+        statistics.clear();
+        patientService.getPatientById(patient.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        PatientResponse cached = patientService.getPatientById(patient.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(Patient.CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(cached.getFirstName()).isEqualTo("Cached");
+    }
+
+    @Test
+    @DisplayName("Should serve repeat reads by MRN without SQL")
+    void shouldServeRepeatReadsByMrnFromCache() {
+        statistics.clear();
+        patientService.getPatientByMrn(patient.getMedicalRecordNumber());
+        assertThat(statistics.getPrepareStatementCount()).isPositive();
+
+        statistics.clear();
+        PatientResponse cached = patientService.getPatientByMrn(patient.getMedicalRecordNumber());
+
+        // Resolved through the MRN index, or the natural-id cache while the index is loading
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(Patient.CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(cached.getId()).isEqualTo(patient.getId());
+    }
+
+    @Test
+    @DisplayName("Should see updates after a cached read")
+    void shouldSeeUpdatesAfterCachedRead() {
+        patientService.getPatientById(patient.getId());
+
+        patientService.updatePatient(patient.getId(), PatientRequest.builder()
+                .firstName("Updated")
+                .lastName("Patient")
+                .dateOfBirth(LocalDate.of(1975, 3, 3))
+                .build());
+
+        statistics.clear();
+        PatientResponse reread = patientService.getPatientById(patient.getId());
+
+        assertThat(reread.getFirstName()).isEqualTo("Updated");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should export cache statistics to Micrometer")
+    void shouldExportCacheMetrics() {
+        patientService.getPatientById(patient.getId());
+        patientService.getPatientById(patient.getId());
+
+        assertThat(meterRegistry.get("hibernate.second.level.cache.hit.ratio").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", Patient.CACHE_REGION).functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests").meters()).isNotEmpty();
+    }
+}
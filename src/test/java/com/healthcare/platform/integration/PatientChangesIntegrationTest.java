@@ -0,0 +1,98 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.dto.PatientChangeCursor;
+import com.healthcare.platform.dto.PatientChangesResponse;
+import com.healthcare.platform.dto.PatientField;
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.service.PatientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the keyset-paged patient change feed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Patient Changes Integration Tests")
+class PatientChangesIntegrationTest {
+
+    private static final LocalDateTime EARLY = LocalDateTime.of(2000, 1, 1, 8, 0);
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("DELETE FROM patients WHERE email LIKE 'changes-%@example.com'");
+    }
+
+    @Test
+    @DisplayName("Should page through changes in (updatedAt, id) order, including soft-deleted patients")
+    void shouldPageInKeysetOrder() {
+        UUID first = create();
+        UUID tiedA = create();
+        UUID tiedB = create();
+        patientService.deletePatient(first);
+        touch(first, EARLY);
+        touch(tiedA, EARLY.plusMinutes(1));
+        touch(tiedB, EARLY.plusMinutes(1));
+        List<UUID> tied = Stream.of(tiedA, tiedB).sorted(Comparator.comparing(UUID::toString)).toList();
+
+        String cursor = new PatientChangeCursor(EARLY.minusDays(1), new UUID(0, 0)).encode();
+        PatientFieldSet fields = PatientFieldSet.of(PatientField.EMAIL);
+        PatientChangesResponse page1 = patientService.getChanges(cursor, 2, fields);
+        PatientChangesResponse page2 = patientService.getChanges(page1.getNextCursor(), 2, fields);
+
+        assertThat(page1.isHasMore()).isTrue();
+        assertThat(page1.getPatients()).extracting(PatientResponse::getId).containsExactly(first, tied.get(0));
+        assertThat(page1.getPatients().get(0).getStatus()).isEqualTo("INACTIVE");
+        assertThat(page1.getPatients().get(0).getUpdatedAt()).isEqualTo(EARLY);
+        assertThat(page1.getPatients().get(0).getFirstName()).isNull();
+        assertThat(page2.getPatients()).extracting(PatientResponse::getId).startsWith(tied.get(1));
+    }
+
+    @Test
+    @DisplayName("Should hold back changes that have not settled yet")
+    void shouldHoldBackRecentChanges() {
+        UUID recent = create();
+        String cursor = new PatientChangeCursor(LocalDateTime.now().minusSeconds(1), new UUID(0, 0)).encode();
+
+        PatientChangesResponse changes = patientService.getChanges(cursor, 100, PatientFieldSet.ALL);
+
+        assertThat(changes.getPatients()).extracting(PatientResponse::getId).doesNotContain(recent);
+        assertThat(changes.getNextCursor()).isEqualTo(cursor);
+    }
+
+    private UUID create() {
+        return patientService.createPatient(PatientRequest.builder()
+                .firstName("Changes")
+                .lastName("Patient")
+                .dateOfBirth(LocalDate.of(1975, 4, 2))
+                .email("changes-" + UUID.randomUUID() + "@example.com")
+                .build()).getId();
+    }
+
+    private void touch(UUID id, LocalDateTime updatedAt) {
+        new JdbcTemplate(dataSource).update("UPDATE patients SET updated_at = ? WHERE id = ?", updatedAt, id);
+    }
+}
@@ -0,0 +1,98 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.dto.DuplicateScanResponse;
+import com.healthcare.platform.dto.PatientDuplicate;
+import com.healthcare.platform.dto.PatientDuplicatePair;
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.duplicate.DuplicateIndex;
+import com.healthcare.platform.duplicate.DuplicateScanner;
+import com.healthcare.platform.exception.PossibleDuplicatePatientException;
+import com.healthcare.platform.service.PatientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for refusing likely duplicate patients on create and finding them with a full-table scan.
+ */
+@SpringBootTest(properties = "app.patients.duplicates.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("Patient Duplicate Integration Tests")
+class PatientDuplicateIntegrationTest {
+
+    private static final LocalDate BIRTH = LocalDate.of(1962, 11, 3);
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private DuplicateIndex duplicateIndex;
+
+    @Autowired
+    private DuplicateScanner duplicateScanner;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @BeforeEach
+    void awaitIndex() throws InterruptedException {
+        PatientIndexes.awaitReady(duplicateIndex::isReady);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PatientIndexes.deletePatients(context, "email LIKE 'duplicate-%@example.com'");
+    }
+
+    @Test
+    @DisplayName("Should refuse a misspelled copy of a patient unless duplicates are allowed, and scan it as a pair")
+    void shouldRefuseAndScanDuplicates() {
+        PatientResponse original = patientService.createPatient(request("Bartholomew", "Quiggley", "+14155550142"));
+        PatientRequest misspelled = request("Bartholemew", "Quigley", "4155550142");
+
+        assertThatThrownBy(() -> patientService.createPatient(misspelled))
+                .isInstanceOfSatisfying(PossibleDuplicatePatientException.class, ex ->
+                        assertThat(ex.getCandidates()).extracting(PatientDuplicate::getId)
+                                .containsExactly(original.getId()));
+
+        PatientResponse copy = patientService.createPatient(misspelled, true);
+
+        DuplicateScanResponse scan = duplicateScanner.scan();
+        assertThat(scan.getPairs()).anySatisfy(pair -> assertThat(pair)
+                .extracting(PatientDuplicatePair::getFirstId, PatientDuplicatePair::getSecondId)
+                .containsExactlyInAnyOrder(original.getId(), copy.getId()));
+    }
+
+    @Test
+    @DisplayName("Should create patients that only share a name")
+    void shouldCreateNamesakes() {
+        patientService.createPatient(request("Cornelius", "Vandergrift", null));
+
+        PatientRequest namesake = request("Cornelius", "Vandergrift", null);
+        namesake.setDateOfBirth(LocalDate.of(1994, 2, 17));
+
+        assertThat(patientService.createPatient(namesake).getId()).isNotNull();
+    }
+
+    private static PatientRequest request(String firstName, String lastName, String phone) {
+        return PatientRequest.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .dateOfBirth(BIRTH)
+                .email("duplicate-" + UUID.randomUUID() + "@example.com")
+                .phone(phone)
+                .build();
+    }
+}
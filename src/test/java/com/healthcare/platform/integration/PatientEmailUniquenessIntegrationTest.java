@@ -0,0 +1,118 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.exception.DuplicateResourceException;
+import com.healthcare.platform.repository.PatientRepository;
+import com.healthcare.platform.service.PatientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for database-enforced email uniqueness.
+ * Runs concurrent creates against the real schema to show that the unique index, not a pre-check, decides.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Patient Email Uniqueness Integration Tests")
+class PatientEmailUniquenessIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    private final List<String> emails = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        patientRepository.findAll().stream()
+                .filter(patient -> emails.contains(patient.getEmailNormalized()))
+                .forEach(patientRepository::delete);
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent creates with the same email succeed")
+    void shouldAllowOnlyOneConcurrentCreate() throws Exception {
+        emails.add("race@example.com");
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                // Vary the case so only the normalized index can catch the clash
+                String email = i % 2 == 0 ? "race@example.com" : "Race@Example.COM";
+                results.add(executor.submit(() -> {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    return patientService.createPatient(request(email));
+                }));
+            }
+
+            int created = 0;
+            int duplicates = 0;
+            for (Future<?> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    created++;
+                } catch (ExecutionException ex) {
+                    assertThat(ex.getCause()).isInstanceOf(DuplicateResourceException.class);
+                    duplicates++;
+                }
+            }
+
+            assertThat(created).isEqualTo(1);
+            assertThat(duplicates).isEqualTo(THREADS - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(patientRepository.findAll())
+                .filteredOn(patient -> "race@example.com".equals(patient.getEmailNormalized()))
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject updating a patient to another patient's email regardless of case")
+    void shouldRejectUpdateToExistingEmail() {
+        emails.add("first@example.com");
+        emails.add("second@example.com");
+        patientService.createPatient(request("first@example.com"));
+        var second = patientService.createPatient(request("second@example.com"));
+
+        assertThatThrownBy(() -> patientService.updatePatient(second.getId(), request("FIRST@Example.com")))
+                .isInstanceOf(DuplicateResourceException.class);
+
+        Patient unchanged = patientRepository.findById(second.getId()).orElseThrow();
+        assertThat(unchanged.getEmailNormalized()).isEqualTo("second@example.com");
+    }
+
+    private static PatientRequest request(String email) {
+        return PatientRequest.builder()
+                .firstName("Race")
+                .lastName("Condition")
+                .dateOfBirth(LocalDate.of(1980, 1, 1))
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.healthcare.platform.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.service.PatientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@code GET /api/v1/patients/events} over a real connection.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Patient Event Stream Integration Tests")
+class PatientEventStreamIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("DELETE FROM patients WHERE email LIKE 'events-%@example.com'");
+    }
+
+    @Test
+    @DisplayName("Should push committed changes and resume from Last-Event-ID")
+    void shouldPushAndResume() throws Exception {
+        String token = login();
+
+        HttpResponse<InputStream> stream = open(token, null);
+        assertThat(stream.statusCode()).isEqualTo(200);
+        assertThat(stream.headers().firstValue("Content-Type")).hasValueSatisfying(
+                contentType -> assertThat(contentType).startsWith("text/event-stream"));
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream.body(), StandardCharsets.UTF_8));
+        List<String> ready = readEvent(reader);
+        assertThat(ready).contains("event:ready");
+
+        UUID id = patientService.createPatient(PatientRequest.builder()
+                .firstName("Events")
+                .lastName("Patient")
+                .dateOfBirth(LocalDate.of(1980, 1, 1))
+                .email("events-" + UUID.randomUUID() + "@example.com")
+                .build()).getId();
+        patientService.deletePatient(id);
+
+        List<String> created = readEvent(reader);
+        assertThat(created).contains("event:patient");
+        assertThat(created).anyMatch(line -> line.startsWith("data:") && line.contains("\"CREATED\"")
+                && line.contains("\"firstName\":\"Events\""));
+        String createdId = created.stream().filter(line -> line.startsWith("id:")).findFirst().orElseThrow()
+                .substring(3);
+        stream.body().close();
+
+        HttpResponse<InputStream> resumed = open(token, createdId);
+        reader = new BufferedReader(new InputStreamReader(resumed.body(), StandardCharsets.UTF_8));
+        List<String> deleted = readEvent(reader);
+        assertThat(deleted).anyMatch(line -> line.startsWith("data:") && line.contains("\"DELETED\"")
+                && line.contains("\"status\":\"INACTIVE\""));
+        resumed.body().close();
+    }
+
+    @Test
+    @DisplayName("Should reject unauthenticated subscribers")
+    void shouldRequireAuthentication() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/api/v1/patients/events")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(401);
+    }
+
+    private String login() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/api/v1/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"doctor\",\"password\":\"doctor123\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body()).path("data").path("accessToken").asText();
+    }
+
+    private HttpResponse<InputStream> open(String token, String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/api/v1/patients/events"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    /**
+     * Read the lines of the next event, skipping heartbeat comments.
+     */
+    private static List<String> readEvent(BufferedReader reader) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> lines = new ArrayList<>();
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        if (!lines.isEmpty()) {
+                            return lines;
+                        }
+                    } else if (!line.startsWith(":")) {
+                        lines.add(line);
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return lines;
+        }).get(10, TimeUnit.SECONDS);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
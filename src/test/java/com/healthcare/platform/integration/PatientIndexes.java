@@ -0,0 +1,59 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.autocomplete.PatientNameIndex;
+import com.healthcare.platform.duplicate.DuplicateIndex;
+import com.healthcare.platform.service.PatientMrnIndex;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Helpers for integration tests that use the in-memory patient indexes, which load in the background and only learn
+ * of the patients that tests delete with plain SQL from being told.
+ */
+final class PatientIndexes {
+
+    private static final long LOAD_TIMEOUT_NANOS = 10_000_000_000L;
+
+    private PatientIndexes() {
+    }
+
+    /**
+     * Wait for an index that loads once the application is ready, failing the test if it has not loaded in time.
+     */
+    static void awaitReady(BooleanSupplier ready) throws InterruptedException {
+        long deadline = System.nanoTime() + LOAD_TIMEOUT_NANOS;
+        while (!ready.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(ready.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * Delete the patients matching {@code where} from the table and from the indexes of {@code context}, so that later
+     * tests sharing the context do not find them there.
+     */
+    static void deletePatients(ApplicationContext context, String where, Object... args) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        List<Object[]> patients = jdbcTemplate.query("SELECT id, medical_record_number FROM patients WHERE " + where,
+                (rs, row) -> new Object[]{rs.getObject("id", UUID.class), rs.getString("medical_record_number")},
+                args);
+        jdbcTemplate.update("DELETE FROM patients WHERE " + where, args);
+
+        PatientNameIndex nameIndex = context.getBean(PatientNameIndex.class);
+        DuplicateIndex duplicateIndex = context.getBean(DuplicateIndex.class);
+        PatientMrnIndex mrnIndex = context.getBean(PatientMrnIndex.class);
+        for (Object[] patient : patients) {
+            UUID id = (UUID) patient[0];
+            nameIndex.remove(id);
+            duplicateIndex.remove(id);
+            mrnIndex.remove((String) patient[1], id);
+        }
+    }
+}
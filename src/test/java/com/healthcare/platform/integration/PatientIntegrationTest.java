@@ -15,6 +15,7 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -216,4 +217,128 @@ class PatientIntegrationTest {
         mockMvc.perform(get("/api/v1/patients"))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @Order(10)
+    @DisplayName("Should serve 304 for current ETag and reject stale If-Match")
+    void shouldHandleConditionalRequests() throws Exception {
+        Assumptions.assumeTrue(createdPatientId != null, "Patient must be created first");
+
+        MvcResult result = mockMvc.perform(get("/api/v1/patients/{id}", createdPatientId)
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn();
+        String etag = result.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/patients/{id}", createdPatientId)
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        PatientRequest updateRequest = PatientRequest.builder()
+                .firstName("Conditional")
+                .lastName("Patient")
+                .dateOfBirth(LocalDate.of(1985, 6, 15))
+                .build();
+
+        mockMvc.perform(put("/api/v1/patients/{id}", createdPatientId)
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-Match", "\"999\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/v1/patients/{id}", createdPatientId)
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Should return only requested fields")
+    void shouldReturnSparseFieldsets() throws Exception {
+        Assumptions.assumeTrue(createdPatientId != null, "Patient must be created first");
+
+        mockMvc.perform(get("/api/v1/patients/{id}", createdPatientId)
+                        .header("Authorization", "Bearer " + authToken)
+                        .param("fields", "firstName,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(createdPatientId))
+                .andExpect(jsonPath("$.data.firstName").exists())
+                .andExpect(jsonPath("$.data.status").exists())
+                .andExpect(jsonPath("$.data.version").exists())
+                .andExpect(jsonPath("$.data.lastName").doesNotExist())
+                .andExpect(jsonPath("$.data.email").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/patients")
+                        .header("Authorization", "Bearer " + authToken)
+                        .param("fields", "lastName")
+                        .param("sort", "lastName,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].lastName").exists())
+                .andExpect(jsonPath("$.data.content[0].firstName").doesNotExist())
+                .andExpect(jsonPath("$.data.totalElements").isNumber());
+
+        mockMvc.perform(get("/api/v1/patients")
+                        .header("Authorization", "Bearer " + authToken)
+                        .param("fields", "lastName")
+                        .param("sort", "ssn"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Should resolve a batch of IDs in request order")
+    void shouldResolveBatchOfIds() throws Exception {
+        Assumptions.assumeTrue(createdPatientId != null, "Patient must be created first");
+        String missingId = "00000000-0000-0000-0000-000000000000";
+
+        mockMvc.perform(post("/api/v1/patients/batch")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"" + missingId + "\", \"" + createdPatientId + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].key").value(missingId))
+                .andExpect(jsonPath("$.data[0].found").value(false))
+                .andExpect(jsonPath("$.data[1].key").value(createdPatientId))
+                .andExpect(jsonPath("$.data[1].found").value(true))
+                .andExpect(jsonPath("$.data[1].patient.id").value(createdPatientId));
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Should show a new patient in a search served from the page cache")
+    void shouldRefreshCachedSearchAfterWrite() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/patients")
+                            .header("Authorization", "Bearer " + authToken)
+                            .param("search", "Cachewright"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.totalElements").value(0));
+        }
+
+        PatientRequest request = PatientRequest.builder()
+                .firstName("Page")
+                .lastName("Cachewright")
+                .dateOfBirth(LocalDate.of(1979, 4, 2))
+                .email("page.cachewright@example.com")
+                .build();
+        mockMvc.perform(post("/api/v1/patients")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/patients")
+                        .header("Authorization", "Bearer " + authToken)
+                        .param("search", "cachewright"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.content[0].lastName").value("Cachewright"));
+    }
 }
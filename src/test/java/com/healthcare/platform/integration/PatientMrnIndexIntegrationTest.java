@@ -0,0 +1,88 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.seed.PatientBulkLoader;
+import com.healthcare.platform.seed.SyntheticPatientGenerator;
+import com.healthcare.platform.service.PatientMrnIndex;
+import com.healthcare.platform.service.PatientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for resolving medical record numbers through the off-heap MRN index.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Patient MRN Index Integration Tests")
+class PatientMrnIndexIntegrationTest {
+
+    private static final long FIRST_INDEX = 3_000_000;
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private PatientMrnIndex mrnIndex;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private final SyntheticPatientGenerator generator = new SyntheticPatientGenerator(11);
+
+    @BeforeEach
+    void awaitIndex() throws InterruptedException {
+        PatientIndexes.awaitReady(mrnIndex::isReady);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PatientIndexes.deletePatients(context, "email LIKE 'mrn-index-%@example.com'");
+        PatientIndexes.deletePatients(context, "medical_record_number = ?",
+                generator.generate(FIRST_INDEX).getMedicalRecordNumber());
+    }
+
+    @Test
+    @DisplayName("Should index patients as they are created")
+    void shouldIndexCreatedPatients() {
+        PatientResponse created = patientService.createPatient(PatientRequest.builder()
+                .firstName("Indexed")
+                .lastName("Patient")
+                .dateOfBirth(LocalDate.of(1985, 6, 1))
+                .email("mrn-index-" + UUID.randomUUID() + "@example.com")
+                .build());
+
+        assertThat(mrnIndex.find(created.getMedicalRecordNumber())).contains(created.getId());
+        assertThat(patientService.getPatientByMrn(created.getMedicalRecordNumber()).getId())
+                .isEqualTo(created.getId());
+    }
+
+    @Test
+    @DisplayName("Should index patients written around the service when they are first read")
+    void shouldIndexBulkLoadedPatientsOnRead() {
+        new PatientBulkLoader(dataSource, 10, 1).load(generator, FIRST_INDEX, 1);
+        Patient loaded = generator.generate(FIRST_INDEX);
+        assertThat(mrnIndex.find(loaded.getMedicalRecordNumber())).isEmpty();
+
+        assertThat(patientService.getPatientByMrn(loaded.getMedicalRecordNumber()).getId())
+                .isEqualTo(loaded.getId());
+
+        assertThat(mrnIndex.find(loaded.getMedicalRecordNumber())).contains(loaded.getId());
+    }
+}
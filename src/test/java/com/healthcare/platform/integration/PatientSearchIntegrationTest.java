@@ -0,0 +1,129 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.dto.PatientField;
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientSearchCriteria;
+import com.healthcare.platform.dto.PatientSearchResponse;
+import com.healthcare.platform.exception.InvalidRequestException;
+import com.healthcare.platform.service.PatientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the structured patient search against the database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Patient Search Integration Tests")
+class PatientSearchIntegrationTest {
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("DELETE FROM patients WHERE email LIKE 'search-%@example.com'");
+    }
+
+    @Test
+    @DisplayName("Should find a patient by phone written in another format")
+    void shouldFindByNormalizedPhone() {
+        UUID patient = create("Quentin", "Quellwater", LocalDate.of(1961, 7, 4), "+14155550177");
+
+        PatientSearchResponse found = patientService.findPatients(
+                PatientSearchCriteria.builder().phone("(415) 555-0177").build(), null, 20, PatientFieldSet.ALL);
+
+        assertThat(found.getPlan()).isEqualTo("PHONE");
+        assertThat(found.getPatients()).extracting(PatientResponse::getId).containsExactly(patient);
+        assertThat(found.isHasMore()).isFalse();
+        assertThat(found.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should page through combined filters in the driving index order")
+    void shouldPageInDrivingOrder() {
+        LocalDate born = LocalDate.of(1958, 2, 11);
+        UUID a = create("Josefa", "Wexcombe", born, null);
+        UUID b = create("Jonah", "Wexcombe", born, null);
+        UUID c = create("Joline", "Wexcombe", born, null);
+        create("Mirela", "Wexcombe", born, null);
+        create("Jolyon", "Wexcombe", born.plusDays(1), null);
+        List<UUID> expected = Stream.of(a, b, c).sorted(Comparator.comparing(UUID::toString)).toList();
+        PatientSearchCriteria criteria = PatientSearchCriteria.builder()
+                .lastName("wexc").firstName("JO").dateOfBirth(born).build();
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        PatientSearchResponse page;
+        do {
+            page = patientService.findPatients(criteria, cursor, 2, PatientFieldSet.of(PatientField.FIRST_NAME));
+            assertThat(page.getPlan()).isEqualTo("DATE_OF_BIRTH");
+            page.getPatients().forEach(patient -> seen.add(patient.getId()));
+            cursor = page.getNextCursor();
+        } while (page.isHasMore());
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should combine a status filter with a date of birth range")
+    void shouldFilterByStatusAndRange() {
+        UUID active = create("Harriet", "Ollerenshaw", LocalDate.of(1944, 5, 1), null);
+        UUID inactive = create("Harold", "Ollerenshaw", LocalDate.of(1944, 6, 1), null);
+        patientService.deletePatient(inactive);
+
+        PatientSearchResponse found = patientService.findPatients(PatientSearchCriteria.builder()
+                        .lastName("Ollerenshaw").status("INACTIVE")
+                        .dateOfBirthFrom(LocalDate.of(1944, 1, 1)).dateOfBirthTo(LocalDate.of(1944, 12, 31))
+                        .build(),
+                null, 20, PatientFieldSet.ALL);
+
+        assertThat(found.getPatients()).extracting(PatientResponse::getId).containsExactly(inactive)
+                .doesNotContain(active);
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor from a search driven by another index")
+    void shouldRejectForeignCursor() {
+        LocalDate born = LocalDate.of(1970, 9, 9);
+        create("Ada", "Pennyfeather", born, null);
+        create("Abe", "Pennyfeather", born, null);
+        String cursor = patientService.findPatients(PatientSearchCriteria.builder().dateOfBirth(born).build(),
+                null, 1, PatientFieldSet.ALL).getNextCursor();
+
+        assertThatThrownBy(() -> patientService.findPatients(
+                PatientSearchCriteria.builder().lastName("Pennyfeather").build(), cursor, 1, PatientFieldSet.ALL))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private UUID create(String firstName, String lastName, LocalDate dateOfBirth, String phone) {
+        return patientService.createPatient(PatientRequest.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .dateOfBirth(dateOfBirth)
+                .phone(phone)
+                .email("search-" + UUID.randomUUID() + "@example.com")
+                .build(), true).getId();
+    }
+}
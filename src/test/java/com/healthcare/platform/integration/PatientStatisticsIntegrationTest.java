@@ -0,0 +1,78 @@
+package com.healthcare.platform.integration;
+
+import com.healthcare.platform.dto.PatientRequest;
+import com.healthcare.platform.dto.PatientStatsResponse;
+import com.healthcare.platform.service.PatientService;
+import com.healthcare.platform.service.PatientStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the incrementally maintained patient statistics and their reconciliation queries.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Patient Statistics Integration Tests")
+class PatientStatisticsIntegrationTest {
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private PatientStatistics patientStatistics;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("DELETE FROM patients WHERE email LIKE 'stats-%@example.com'");
+        patientStatistics.reconcile();
+    }
+
+    @Test
+    @DisplayName("Should keep counters in step with committed writes and agree with the database")
+    void shouldMatchDatabaseAfterWrites() {
+        patientStatistics.reconcile();
+        PatientStatsResponse before = patientStatistics.snapshot();
+
+        UUID child = create(LocalDate.now().minusYears(9));
+        create(LocalDate.now().minusYears(70));
+        patientService.deletePatient(child);
+
+        PatientStatsResponse incremental = patientStatistics.snapshot();
+        assertThat(incremental.getTotal()).isEqualTo(before.getTotal() + 2);
+        assertThat(incremental.getByStatus().get("ACTIVE")).isEqualTo(before.getByStatus().get("ACTIVE") + 1);
+        assertThat(incremental.getByStatus().get("INACTIVE")).isEqualTo(before.getByStatus().get("INACTIVE") + 1);
+        assertThat(incremental.getByAge().get("0-17")).isEqualTo(before.getByAge().get("0-17") + 1);
+        assertThat(incremental.getByAge().get("65+")).isEqualTo(before.getByAge().get("65+") + 1);
+        assertThat(incremental.getCreatedPerDay().get(LocalDate.now()))
+                .isEqualTo(before.getCreatedPerDay().get(LocalDate.now()) + 2);
+
+        patientStatistics.reconcile();
+        PatientStatsResponse reconciled = patientStatistics.snapshot();
+        assertThat(reconciled.getByStatus()).isEqualTo(incremental.getByStatus());
+        assertThat(reconciled.getByAge()).isEqualTo(incremental.getByAge());
+        assertThat(reconciled.getCreatedPerDay()).isEqualTo(incremental.getCreatedPerDay());
+    }
+
+    private UUID create(LocalDate dateOfBirth) {
+        return patientService.createPatient(PatientRequest.builder()
+                .firstName("Stats")
+                .lastName("Patient")
+                .dateOfBirth(dateOfBirth)
+                .email("stats-" + UUID.randomUUID() + "@example.com")
+                .build()).getId();
+    }
+}
@@ -0,0 +1,105 @@
+package com.healthcare.platform.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms, status counts and error counts.
+ * Latency is measured from each request's scheduled start, not from when it was actually sent, so time spent
+ * queued behind a slow server is included (no coordinated omission).
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    /**
+     * Record a completed request; {@code status} is -1 when no response was received.
+     */
+    void record(Operation operation, long latencyNanos, int status) {
+        Stats operationStats = stats.get(operation);
+        operationStats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        operationStats.statuses.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+        if (status < 200 || status >= 400) {
+            operationStats.errors.increment();
+        }
+    }
+
+    void print(PrintStream out, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        out.printf(Locale.ROOT, "%n%-30s %8s %9s %7s %7s %9s %9s %9s %9s %9s%n", "Endpoint", "Requests", "Req/s",
+                "Errors", "Err %", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Histogram latency = entry.getValue().latency.copy();
+            if (latency.getTotalCount() == 0) {
+                continue;
+            }
+            long errors = entry.getValue().errors.sum();
+            printRow(out, entry.getKey().endpoint(), latency, errors, seconds);
+            out.printf("%-30s statuses %s%n", "", new TreeMap<>(entry.getValue().statuses));
+            total.add(latency);
+            totalErrors += errors;
+        }
+        printRow(out, "TOTAL", total, totalErrors, seconds);
+    }
+
+    /**
+     * Write each operation's percentile distribution (in milliseconds) as an {@code .hgrm} file for plotting.
+     */
+    void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Histogram latency = entry.getValue().latency.copy();
+            if (latency.getTotalCount() == 0) {
+                continue;
+            }
+            Path file = directory.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram latency, long errors, double seconds) {
+        long count = latency.getTotalCount();
+        out.printf(Locale.ROOT, "%-30s %8d %9.1f %7d %6.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, count,
+                count / seconds, errors, count == 0 ? 0.0 : errors * 100.0 / count,
+                millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Stats {
+
+        final ConcurrentHistogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        final LongAdder errors = new LongAdder();
+    }
+}
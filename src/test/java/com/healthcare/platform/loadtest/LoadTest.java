@@ -0,0 +1,149 @@
+package com.healthcare.platform.loadtest;
+
+import com.healthcare.platform.HealthcarePlatformApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load test of the patient API.
+ * Logs in through the auth endpoint, seeds some patients, then starts requests at a fixed arrival rate drawn from
+ * the configured operation mix, without waiting for earlier responses, as independent clients would. Prints
+ * latency percentiles, error rates and throughput per endpoint at the end; see {@link LoadTestConfig} for settings.
+ * Without {@code loadtest.base-url}, the application is started in-process on the dev profile (in-memory H2),
+ * with rate limiting and request logging turned off.
+ */
+public final class LoadTest {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ConfigurableApplicationContext application = null;
+        String baseUrl = config.baseUrl();
+        if (baseUrl.isBlank()) {
+            application = startApplication();
+            baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            run(config, baseUrl);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext startApplication() {
+        return new SpringApplicationBuilder(HealthcarePlatformApplication.class)
+                .profiles("dev")
+                // Arguments rather than default properties, which application.yml would override
+                .run("--server.port=0",
+                        "--app.rate-limit.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--logging.level.com.healthcare.platform=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.hibernate=WARN");
+    }
+
+    private static void run(LoadTestConfig config, String baseUrl) throws Exception {
+        PatientApiClient client = new PatientApiClient(baseUrl);
+        client.login(config.username(), config.password());
+        client.seed(config.seedPatients());
+
+        System.out.printf("Load test against %s: %d req/s for %s after %s warm-up, mix %s%n",
+                baseUrl, config.rate(), config.duration(), config.warmup(), config.mix());
+
+        LatencyReport report = new LatencyReport();
+        AtomicInteger inFlight = new AtomicInteger();
+        OperationMix mix = new OperationMix(config.mix());
+        SplittableRandom random = new SplittableRandom(42);
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        long late = 0;
+
+        for (long scheduled = start; scheduled < end; scheduled += interval) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else if (wait < -interval) {
+                late++;
+            }
+
+            PatientApiClient.Prepared prepared = client.prepare(mix.next(random), random);
+            boolean measured = scheduled >= measureFrom;
+            long intendedStart = scheduled;
+            inFlight.incrementAndGet();
+            client.send(prepared).whenComplete((response, failure) -> {
+                if (measured) {
+                    report.record(prepared.operation(), System.nanoTime() - intendedStart,
+                            response != null ? response.statusCode() : -1);
+                }
+                inFlight.decrementAndGet();
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+
+        report.print(System.out, config.duration());
+        if (late > 0) {
+            System.out.printf("%nThe load generator fell behind schedule for %d requests; "
+                    + "their latency includes the delay.%n", late);
+        }
+        if (inFlight.get() > 0) {
+            System.out.printf("%d requests were still in flight after %s and are not reported.%n",
+                    inFlight.get(), DRAIN_TIMEOUT);
+        }
+        if (config.output() != null) {
+            report.writeDistributions(config.output());
+            System.out.println("Percentile distributions written to " + config.output());
+        }
+    }
+
+    /**
+     * Weighted random choice of the next operation.
+     */
+    private static final class OperationMix {
+
+        private final Operation[] operations;
+        private final int[] cumulative;
+
+        OperationMix(Map<Operation, Integer> weights) {
+            operations = weights.keySet().toArray(Operation[]::new);
+            cumulative = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += weights.get(operations[i]);
+                cumulative[i] = total;
+            }
+        }
+
+        Operation next(SplittableRandom random) {
+            int target = random.nextInt(cumulative[cumulative.length - 1]);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (target < cumulative[i]) {
+                    return operations[i];
+                }
+            }
+            throw new IllegalStateException("unreachable");
+        }
+    }
+}
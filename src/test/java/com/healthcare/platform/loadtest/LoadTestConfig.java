@@ -0,0 +1,58 @@
+package com.healthcare.platform.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ *
+ * @param baseUrl      application to test; blank to start one in-process on the dev profile
+ * @param rate         requests started per second, independent of how fast responses arrive
+ * @param duration     measured period
+ * @param warmup       period before it whose requests are sent but not recorded
+ * @param mix          relative weight of each operation
+ * @param seedPatients patients created before the run so reads have something to hit
+ * @param output       directory for HdrHistogram percentile files; none when {@code null}
+ */
+record LoadTestConfig(String baseUrl, int rate, Duration duration, Duration warmup, Map<Operation, Integer> mix,
+                      String username, String password, int seedPatients, Path output) {
+
+    static LoadTestConfig fromSystemProperties() {
+        String output = System.getProperty("loadtest.output", "");
+        return new LoadTestConfig(
+                System.getProperty("loadtest.base-url", ""),
+                Integer.getInteger("loadtest.rate", 100),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT15S")),
+                parseMix(System.getProperty("loadtest.mix", "create=10,get=50,search=20,update=15,delete=5")),
+                System.getProperty("loadtest.username", "admin"),
+                System.getProperty("loadtest.password", "admin123"),
+                Integer.getInteger("loadtest.seed-patients", 200),
+                output.isBlank() ? null : Path.of(output));
+    }
+
+    /**
+     * Parse {@code create=10,get=50,...}; operations not listed get no traffic.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in loadtest.mix: " + entry);
+            }
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("loadtest.mix selects no operations");
+        }
+        return weights;
+    }
+}
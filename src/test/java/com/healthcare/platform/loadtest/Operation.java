@@ -0,0 +1,30 @@
+package com.healthcare.platform.loadtest;
+
+/**
+ * Patient API operations driven by the load test.
+ */
+enum Operation {
+
+    CREATE("POST /api/v1/patients"),
+    GET("GET /api/v1/patients/{id}"),
+    SEARCH("GET /api/v1/patients?search="),
+    UPDATE("PUT /api/v1/patients/{id}"),
+    DELETE("DELETE /api/v1/patients/{id}");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Whether the operation needs an existing patient.
+     */
+    boolean needsPatient() {
+        return this == GET || this == UPDATE || this == DELETE;
+    }
+}
@@ -0,0 +1,190 @@
+package com.healthcare.platform.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.seed.SyntheticPatientGenerator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Builds and sends patient API requests, keeping track of the patients that exist so that reads, updates and
+ * deletes target real records. Request bodies come from {@link SyntheticPatientGenerator}, starting at an index
+ * derived from the clock so that repeated runs against the same database do not collide on unique emails.
+ */
+final class PatientApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SyntheticPatientGenerator generator = new SyntheticPatientGenerator(System.nanoTime());
+    private final AtomicLong nextIndex = new AtomicLong(System.currentTimeMillis() * 1_000L);
+    private final PatientPool patients = new PatientPool();
+    private final String baseUrl;
+    private String authorization;
+
+    PatientApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * Log in through {@code POST /api/v1/auth/login} and use the token for all further requests.
+     */
+    void login(String username, String password) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode().put("username", username).put("password", password);
+        HttpResponse<String> response = httpClient.send(json(HttpRequest.newBuilder(uri("/api/v1/auth/login")))
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString())).build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+        }
+        authorization = "Bearer " + objectMapper.readTree(response.body()).path("data").path("accessToken").asText();
+    }
+
+    /**
+     * Create patients synchronously so the run starts with records to read.
+     */
+    void seed(int count) throws IOException, InterruptedException {
+        for (int i = 0; i < count; i++) {
+            Prepared create = prepare(Operation.CREATE, new SplittableRandom(i));
+            HttpResponse<String> response = httpClient.send(create.request(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode() + ": " + response.body());
+            }
+            create.onResponse().accept(response);
+        }
+    }
+
+    /**
+     * Build the request for {@code operation}. Operations that need an existing patient fall back to
+     * {@link Operation#CREATE} while none is known, so the arrival rate is kept.
+     */
+    Prepared prepare(Operation operation, SplittableRandom random) {
+        UUID id = null;
+        if (operation.needsPatient()) {
+            id = operation == Operation.DELETE ? patients.take(random) : patients.pick(random);
+            if (id == null) {
+                operation = Operation.CREATE;
+            }
+        }
+
+        return switch (operation) {
+            case CREATE -> new Prepared(Operation.CREATE,
+                    json(HttpRequest.newBuilder(uri("/api/v1/patients")))
+                            .POST(body(generator.generate(nextIndex.getAndIncrement()))).build(),
+                    this::rememberCreated);
+            case GET -> new Prepared(operation, authorized(HttpRequest.newBuilder(uri("/api/v1/patients/" + id)))
+                    .GET().build(), response -> {
+            });
+            case SEARCH -> new Prepared(operation, authorized(HttpRequest.newBuilder(uri("/api/v1/patients?size=20&search="
+                    + URLEncoder.encode(generator.generate(random.nextLong()).getLastName(), StandardCharsets.UTF_8))))
+                    .GET().build(), response -> {
+            });
+            case UPDATE -> new Prepared(operation, json(HttpRequest.newBuilder(uri("/api/v1/patients/" + id)))
+                    .PUT(body(generator.generate(nextIndex.getAndIncrement()))).build(), response -> {
+            });
+            case DELETE -> {
+                UUID deleted = id;
+                yield new Prepared(operation, authorized(HttpRequest.newBuilder(uri("/api/v1/patients/" + id)))
+                        .DELETE().build(), response -> {
+                    if (response.statusCode() >= 400 && response.statusCode() != 404) {
+                        patients.add(deleted);
+                    }
+                });
+            }
+        };
+    }
+
+    CompletableFuture<HttpResponse<String>> send(Prepared prepared) {
+        return httpClient.sendAsync(prepared.request(), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, failure) -> {
+                    if (response != null) {
+                        prepared.onResponse().accept(response);
+                    }
+                });
+    }
+
+    private void rememberCreated(HttpResponse<String> response) {
+        if (response.statusCode() == 201) {
+            try {
+                patients.add(UUID.fromString(objectMapper.readTree(response.body()).path("data").path("id").asText()));
+            } catch (IOException | IllegalArgumentException ignored) {
+                // counted through the status; nothing to remember
+            }
+        }
+    }
+
+    private HttpRequest.BodyPublisher body(Patient patient) {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("firstName", patient.getFirstName())
+                .put("lastName", patient.getLastName())
+                .put("dateOfBirth", patient.getDateOfBirth().toString())
+                .put("email", patient.getEmail())
+                .put("phone", patient.getPhone())
+                .put("address", patient.getAddress());
+        return HttpRequest.BodyPublishers.ofString(body.toString());
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder builder) {
+        builder.header("Content-Type", "application/json");
+        return authorization == null ? builder.timeout(REQUEST_TIMEOUT) : authorized(builder);
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder builder) {
+        return builder.header("Authorization", authorization).timeout(REQUEST_TIMEOUT);
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    /**
+     * A request ready to send, and what to do with its response.
+     */
+    record Prepared(Operation operation, HttpRequest request, Consumer<HttpResponse<String>> onResponse) {
+    }
+
+    /**
+     * IDs of patients known to exist, with O(1) random pick and removal.
+     */
+    private static final class PatientPool {
+
+        private final List<UUID> ids = new ArrayList<>();
+
+        synchronized void add(UUID id) {
+            ids.add(id);
+        }
+
+        synchronized UUID pick(SplittableRandom random) {
+            return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+        }
+
+        synchronized UUID take(SplittableRandom random) {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int index = random.nextInt(ids.size());
+            UUID id = ids.get(index);
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return id;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.healthcare.platform.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("File Outbox Sink Tests")
+class FileOutboxSinkTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("should append one JSON line per message with the payload embedded as JSON")
+    void shouldAppendJsonLines() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Path file = directory.resolve("events/outbox.jsonl");
+        FileOutboxSink sink = new FileOutboxSink(file, objectMapper);
+        Instant createdAt = Instant.parse("2025-03-10T12:00:00Z");
+
+        sink.publish(List.of(new OutboxMessage(1, "Patient", "a", "CREATED", "{\"type\":\"CREATED\"}", createdAt)));
+        sink.publish(List.of(new OutboxMessage(2, "Patient", "a", "DELETED", "{\"type\":\"DELETED\"}", createdAt)));
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(1)).path("payload").path("type").asText()).isEqualTo("DELETED");
+        assertThat(objectMapper.readTree(lines.get(0)).path("id").asLong()).isEqualTo(1);
+    }
+}
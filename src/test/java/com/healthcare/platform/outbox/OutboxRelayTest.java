@@ -0,0 +1,110 @@
+package com.healthcare.platform.outbox;
+
+import com.healthcare.platform.entity.OutboxEvent;
+import com.healthcare.platform.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Outbox Relay Tests")
+class OutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-10T12:00:00Z");
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final InMemoryOutboxSink sink = new InMemoryOutboxSink(100);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("should deliver and delete batches until the outbox is drained")
+    void shouldDrainInBatches() {
+        OutboxRelay relay = relay(sink, true);
+        when(outboxEventRepository.lockOldest(Limit.of(2)))
+                .thenReturn(events(1, 2), events(3, 3));
+        when(outboxEventRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.empty());
+
+        assertThat(relay.poll()).isEqualTo(3);
+
+        assertThat(sink.messages()).extracting(OutboxMessage::id).containsExactly(1L, 2L, 3L);
+        verify(outboxEventRepository).deleteByIdIn(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteByIdIn(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(meterRegistry.counter("outbox.events.relayed").count()).isEqualTo(3);
+        assertThat(meterRegistry.summary("outbox.batch.size").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should keep a batch whose delivery failed and report the lag")
+    void shouldRetryFailedBatch() {
+        OutboxSink failing = messages -> {
+            throw new IllegalStateException("billing is down");
+        };
+        OutboxRelay relay = relay(failing, true);
+        List<OutboxEvent> pending = events(1, 2);
+        when(outboxEventRepository.lockOldest(Limit.of(2))).thenReturn(pending);
+        when(outboxEventRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.of(pending.get(0)));
+
+        assertThat(relay.poll()).isZero();
+
+        verify(outboxEventRepository, never()).deleteByIdIn(any());
+        verify(transactionManager).rollback(any());
+        assertThat(meterRegistry.counter("outbox.delivery.failures").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox.lag").timeGauge().value(TimeUnit.SECONDS)).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("should do nothing when disabled")
+    void shouldSkipWhenDisabled() {
+        OutboxRelay relay = relay(sink, false);
+
+        assertThat(relay.poll()).isZero();
+
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    private OutboxRelay relay(OutboxSink target, boolean enabled) {
+        if (enabled) {
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        }
+        return new OutboxRelay(outboxEventRepository, target, new TransactionTemplate(transactionManager), enabled, 2, 5,
+                meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static List<OutboxEvent> events(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> OutboxEvent.builder()
+                        .id(id)
+                        .aggregateType("Patient")
+                        .aggregateId("p-" + id)
+                        .eventType("CREATED")
+                        .payload("{}")
+                        .createdAt(NOW.minusSeconds(30))
+                        .build())
+                .toList();
+    }
+}
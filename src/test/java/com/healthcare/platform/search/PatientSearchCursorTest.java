@@ -0,0 +1,46 @@
+package com.healthcare.platform.search;
+
+import com.healthcare.platform.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Patient Search Cursor Tests")
+class PatientSearchCursorTest {
+
+    private static final UUID ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    @Test
+    @DisplayName("should round-trip through its URL-safe encoding, even with the separator in the value")
+    void shouldRoundTrip() {
+        PatientSearchCursor cursor = new PatientSearchCursor(SearchKey.EMAIL, "a|b@example.com", ID);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(PatientSearchCursor.parse(encoded)).isEqualTo(cursor);
+        assertThat(PatientSearchCursor.parse(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("should reject cursors it did not issue")
+    void shouldRejectInvalidCursors() {
+        String unknownKey = encode("ADDRESS|x|" + ID);
+        String badDate = encode("DATE_OF_BIRTH|yesterday|" + ID);
+        String noValue = encode("STATUS|" + ID);
+
+        assertThatThrownBy(() -> PatientSearchCursor.parse("not base64!")).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PatientSearchCursor.parse(unknownKey)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PatientSearchCursor.parse(badDate)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> PatientSearchCursor.parse(noValue)).isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes());
+    }
+}
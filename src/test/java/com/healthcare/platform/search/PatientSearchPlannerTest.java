@@ -0,0 +1,150 @@
+package com.healthcare.platform.search;
+
+import com.healthcare.platform.dto.PatientSearchCriteria;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.exception.InvalidRequestException;
+import com.healthcare.platform.service.PatientStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Patient Search Planner Tests")
+class PatientSearchPlannerTest {
+
+    @Mock
+    private PatientStatistics statistics;
+
+    private PatientSearchPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        planner = new PatientSearchPlanner(statistics,
+                Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Nested
+    @DisplayName("Driving filter")
+    class DrivingFilter {
+
+        @Test
+        @DisplayName("should drive by a unique key and check the other filters on its rows")
+        void shouldPreferUniqueKeys() {
+            PatientSearchPlan plan = planner.plan(PatientSearchCriteria.builder()
+                    .lastName("Smith")
+                    .dateOfBirth(LocalDate.of(1985, 3, 15))
+                    .email(" John.Smith@Example.com ")
+                    .build());
+
+            assertThat(plan.drivingKey()).isEqualTo(SearchKey.EMAIL);
+            assertThat(plan).hasToString("email > dateOfBirth > lastName");
+            assertThat(plan.where(false)).startsWith("p.emailNormalized = :email " +
+                    "AND COALESCE(p.dateOfBirth, p.dateOfBirth) = :dateOfBirth " +
+                    "AND COALESCE(p.lastNameNormalized, p.lastNameNormalized) >= :lastNameFrom");
+            assertThat(plan.filters().get(0).parameters()).containsEntry("email", "john.smith@example.com");
+        }
+
+        @Test
+        @DisplayName("should prefer a date of birth over a short last-name prefix, and a long prefix over a wide range")
+        void shouldCompareDateOfBirthAndName() {
+            PatientSearchPlan exactDate = planner.plan(PatientSearchCriteria.builder()
+                    .lastName("Sm").dateOfBirth(LocalDate.of(1985, 3, 15)).build());
+            PatientSearchPlan wideRange = planner.plan(PatientSearchCriteria.builder()
+                    .lastName("Smithers")
+                    .dateOfBirthFrom(LocalDate.of(1950, 1, 1)).dateOfBirthTo(LocalDate.of(1990, 1, 1))
+                    .build());
+
+            assertThat(exactDate.drivingKey()).isEqualTo(SearchKey.DATE_OF_BIRTH);
+            assertThat(wideRange.drivingKey()).isEqualTo(SearchKey.LAST_NAME);
+            assertThat(wideRange.orderBy()).isEqualTo("p.lastNameNormalized, p.id");
+        }
+
+        @Test
+        @DisplayName("should estimate a status filter from the live counters")
+        void shouldUseStatusShare() {
+            when(statistics.statusShare(Patient.PatientStatus.DECEASED)).thenReturn(0.00001);
+            when(statistics.statusShare(Patient.PatientStatus.ACTIVE)).thenReturn(0.9);
+            PatientSearchCriteria.PatientSearchCriteriaBuilder criteria = PatientSearchCriteria.builder()
+                    .dateOfBirthFrom(LocalDate.of(2000, 1, 1));
+
+            assertThat(planner.plan(criteria.status("deceased").build()).drivingKey()).isEqualTo(SearchKey.STATUS);
+            assertThat(planner.plan(criteria.status("ACTIVE").build()).drivingKey())
+                    .isEqualTo(SearchKey.DATE_OF_BIRTH);
+        }
+
+        @Test
+        @DisplayName("should compare phones by their last ten digits")
+        void shouldNormalizePhone() {
+            PatientSearchPlan plan = planner.plan(PatientSearchCriteria.builder().phone("+1 (415) 555-0142").build());
+
+            assertThat(plan.drivingKey()).isEqualTo(SearchKey.PHONE);
+            assertThat(plan.filters().get(0).parameters()).containsEntry("phone", "4155550142");
+        }
+    }
+
+    @Nested
+    @DisplayName("Name prefixes")
+    class NamePrefixes {
+
+        @Test
+        @DisplayName("should bound a last-name prefix by a range and escape LIKE wildcards")
+        void shouldRangeAndEscape() {
+            PatientSearchPlan plan = planner.plan(PatientSearchCriteria.builder()
+                    .lastName("O_Br%").firstName("Jo").build());
+
+            assertThat(plan.filters().get(0).parameters())
+                    .containsEntry("lastNameFrom", "o_br%")
+                    .containsEntry("lastNameTo", "o_br&")
+                    .containsEntry("lastNamePrefix", "o\\_br\\%%");
+            assertThat(plan.filters().get(1).parameters()).containsEntry("firstName", "jo%");
+        }
+
+        @Test
+        @DisplayName("should not let the unindexed first name drive a search")
+        void shouldRejectFirstNameOnly() {
+            assertThatThrownBy(() -> planner.plan(PatientSearchCriteria.builder().firstName("Jo").build()))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("at least one of");
+            assertThatThrownBy(() -> planner.plan(PatientSearchCriteria.builder().lastName(" ").build()))
+                    .isInstanceOf(InvalidRequestException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("should reject an exact date of birth combined with a range, and an inverted range")
+        void shouldRejectInvalidDates() {
+            assertThatThrownBy(() -> planner.plan(PatientSearchCriteria.builder()
+                    .dateOfBirth(LocalDate.of(1985, 3, 15)).dateOfBirthTo(LocalDate.of(1990, 1, 1)).build()))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> planner.plan(PatientSearchCriteria.builder()
+                    .dateOfBirthFrom(LocalDate.of(1990, 1, 1)).dateOfBirthTo(LocalDate.of(1985, 1, 1)).build()))
+                    .isInstanceOf(InvalidRequestException.class);
+        }
+
+        @Test
+        @DisplayName("should reject a phone without digits and an unknown status")
+        void shouldRejectInvalidValues() {
+            assertThatThrownBy(() -> planner.plan(PatientSearchCriteria.builder().phone("n/a").build()))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> planner.plan(PatientSearchCriteria.builder().status("ARCHIVED").build()))
+                    .isInstanceOf(InvalidRequestException.class);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.healthcare.platform.seed;
+
+import com.healthcare.platform.entity.Patient;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Synthetic Patient Generator Tests")
+class SyntheticPatientGeneratorTest {
+
+    private final SyntheticPatientGenerator generator = new SyntheticPatientGenerator(42);
+
+    @Test
+    @DisplayName("should generate the same record for the same seed and index")
+    void shouldBeDeterministic() {
+        Patient first = generator.generate(1234);
+        Patient second = new SyntheticPatientGenerator(42).generate(1234);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(new SyntheticPatientGenerator(43).generate(1234)).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("should generate unique ids, emails and MRNs")
+    void shouldGenerateUniqueKeys() {
+        List<Patient> patients = generator.stream(0, 20_000).toList();
+
+        assertThat(patients).extracting(Patient::getId).doesNotHaveDuplicates();
+        assertThat(patients).extracting(Patient::getMedicalRecordNumber).doesNotHaveDuplicates();
+        assertThat(patients.stream().map(Patient::getEmailNormalized).filter(Objects::nonNull).toList())
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("should generate records that pass entity validation")
+    void shouldPassValidation() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        generator.stream(0, 2_000).forEach(patient ->
+                assertThat(validator.validate(patient)).as(patient.toString()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should follow the configured status mix")
+    void shouldFollowStatusMix() {
+        Map<Patient.PatientStatus, Long> statuses = generator.stream(0, 20_000)
+                .collect(Collectors.groupingBy(Patient::getStatus, Collectors.counting()));
+
+        assertThat(statuses.get(Patient.PatientStatus.ACTIVE)).isBetween(16_500L, 17_500L);
+        assertThat(statuses.get(Patient.PatientStatus.INACTIVE)).isBetween(2_000L, 2_800L);
+        assertThat(statuses.get(Patient.PatientStatus.DECEASED)).isBetween(400L, 800L);
+    }
+
+    @Test
+    @DisplayName("should favour common names")
+    void shouldFavourCommonNames() {
+        Map<String, Long> lastNames = generator.stream(0, 20_000)
+                .collect(Collectors.groupingBy(Patient::getLastName, Collectors.counting()));
+
+        assertThat(lastNames.get("Smith")).isGreaterThan(lastNames.get("Khan") * 4);
+        assertThat(lastNames.keySet()).hasSizeGreaterThan(30);
+    }
+
+    @Test
+    @DisplayName("should spread dates of birth across all ages")
+    void shouldSpreadDatesOfBirth() {
+        Map<Integer, Long> byDecade = generator.stream(0, 20_000)
+                .map(patient -> (SyntheticPatientGenerator.DEFAULT_REFERENCE_DATE.getYear()
+                        - patient.getDateOfBirth().getYear()) / 10)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertThat(byDecade.keySet()).contains(0, 5, 9);
+        assertThat(byDecade.get(5)).isGreaterThan(byDecade.get(0));
+        assertThat(byDecade.get(5)).isGreaterThan(byDecade.get(9));
+    }
+}
@@ -0,0 +1,214 @@
+package com.healthcare.platform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.platform.exception.IdempotencyKeyReuseException;
+import com.healthcare.platform.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Idempotency Service Tests")
+class IdempotencyServiceTest {
+
+    private static final String OPERATION = "POST /api/v1/patients";
+
+    private IdempotencyService idempotencyService;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(new ObjectMapper());
+        executions = new AtomicInteger();
+    }
+
+    private ResponseEntity<String> create() {
+        return ResponseEntity.status(HttpStatus.CREATED).body("created-" + executions.incrementAndGet());
+    }
+
+    @Nested
+    @DisplayName("execute")
+    class Execute {
+
+        @Test
+        @DisplayName("should replay the stored response for a repeated key")
+        void shouldReplayStoredResponse() {
+            ResponseEntity<String> first = idempotencyService.execute("key-1", OPERATION, Map.of("a", 1), () -> create());
+            ResponseEntity<String> second = idempotencyService.execute("key-1", OPERATION, Map.of("a", 1), () -> create());
+
+            assertThat(executions).hasValue(1);
+            assertThat(second.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(second.getBody()).isEqualTo(first.getBody());
+            assertThat(second.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(first.getHeaders().containsKey(IdempotencyService.REPLAYED_HEADER)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reject a repeated key with a different payload")
+        void shouldRejectDifferentPayload() {
+            idempotencyService.execute("key-1", OPERATION, Map.of("a", 1), () -> create());
+
+            assertThatThrownBy(() -> idempotencyService.execute("key-1", OPERATION, Map.of("a", 2), () -> create()))
+                    .isInstanceOf(IdempotencyKeyReuseException.class);
+            assertThat(executions).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should scope keys by operation")
+        void shouldScopeKeysByOperation() {
+            idempotencyService.execute("key-1", OPERATION, null, () -> create());
+            idempotencyService.execute("key-1", "POST /api/v1/other", null, () -> create());
+
+            assertThat(executions).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("should not remember failed executions")
+        void shouldNotRememberFailures() {
+            assertThatThrownBy(() -> idempotencyService.execute("key-1", OPERATION, null, () -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+
+            ResponseEntity<String> retry = idempotencyService.execute("key-1", OPERATION, null, () -> create());
+
+            assertThat(retry.getBody()).isEqualTo("created-1");
+            assertThat(idempotencyService.queued()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should reject blank or oversized keys")
+        void shouldRejectInvalidKeys() {
+            assertThatThrownBy(() -> idempotencyService.execute(" ", OPERATION, null, () -> create()))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> idempotencyService.execute("k".repeat(256), OPERATION, null, () -> create()))
+                    .isInstanceOf(InvalidRequestException.class);
+        }
+
+        @Test
+        @DisplayName("should make concurrent duplicates wait for the in-flight execution")
+        void shouldWaitForInFlightExecution() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                Future<ResponseEntity<String>> first = executor.submit(() ->
+                        idempotencyService.execute("key-1", OPERATION, null, () -> {
+                            started.countDown();
+                            await(release);
+                            return create();
+                        }));
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+                List<Future<ResponseEntity<String>>> duplicates = List.of(
+                        executor.submit(() -> idempotencyService.execute("key-1", OPERATION, null, () -> create())),
+                        executor.submit(() -> idempotencyService.execute("key-1", OPERATION, null, () -> create())));
+                release.countDown();
+
+                assertThat(first.get(5, TimeUnit.SECONDS).getBody()).isEqualTo("created-1");
+                for (Future<ResponseEntity<String>> duplicate : duplicates) {
+                    assertThat(duplicate.get(5, TimeUnit.SECONDS).getBody()).isEqualTo("created-1");
+                }
+                assertThat(executions).hasValue(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("should evict the oldest keys beyond the maximum size")
+        void shouldEvictOldestBeyondMaxEntries() {
+            ReflectionTestUtils.setField(idempotencyService, "maxEntries", 2);
+
+            idempotencyService.execute("key-1", OPERATION, null, () -> create());
+            idempotencyService.execute("key-2", OPERATION, null, () -> create());
+            idempotencyService.execute("key-3", OPERATION, null, () -> create());
+            assertThat(idempotencyService.size()).isEqualTo(2);
+
+            idempotencyService.execute("key-1", OPERATION, null, () -> create());
+            assertThat(executions).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("should not evict executions that are still running")
+        void shouldNotEvictInFlightExecutions() throws Exception {
+            ReflectionTestUtils.setField(idempotencyService, "maxEntries", 1);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<ResponseEntity<String>> first = executor.submit(() ->
+                        idempotencyService.execute("key-1", OPERATION, null, () -> {
+                            started.countDown();
+                            await(release);
+                            return create();
+                        }));
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+                idempotencyService.execute("key-2", OPERATION, null, () -> create());
+                Future<ResponseEntity<String>> duplicate = executor.submit(() ->
+                        idempotencyService.execute("key-1", OPERATION, null, () -> create()));
+                release.countDown();
+
+                assertThat(duplicate.get(5, TimeUnit.SECONDS).getBody())
+                        .isEqualTo(first.get(5, TimeUnit.SECONDS).getBody());
+                assertThat(executions).hasValue(2);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("should not keep failed executions in the expiry queue")
+        void shouldNotQueueFailures() {
+            for (int i = 0; i < 100; i++) {
+                String key = "key-" + i;
+                assertThatThrownBy(() -> idempotencyService.execute(key, OPERATION, null, () -> {
+                    throw new IllegalStateException("boom");
+                })).isInstanceOf(IllegalStateException.class);
+            }
+
+            assertThat(idempotencyService.size()).isZero();
+            assertThat(idempotencyService.queued()).isZero();
+        }
+
+        @Test
+        @DisplayName("should execute again once the key has expired")
+        void shouldExecuteAgainAfterTtl() {
+            ReflectionTestUtils.setField(idempotencyService, "ttl", Duration.ZERO);
+
+            idempotencyService.execute("key-1", OPERATION, null, () -> create());
+            idempotencyService.execute("key-1", OPERATION, null, () -> create());
+
+            assertThat(executions).hasValue(2);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.healthcare.platform.service;
+
+import com.healthcare.platform.dto.PatientChangeNotification;
+import com.healthcare.platform.dto.PatientResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Patient Event Broadcaster Tests")
+class PatientEventBroadcasterTest {
+
+    private static final List<GrantedAuthority> DOCTOR = AuthorityUtils.createAuthorityList("ROLE_DOCTOR", "ROLE_USER");
+    private static final List<GrantedAuthority> USER = AuthorityUtils.createAuthorityList("ROLE_USER");
+    private static final Set<PatientChangedEvent.Type> ALL_TYPES = EnumSet.allOf(PatientChangedEvent.Type.class);
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private final List<Runnable> pendingSends = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private boolean sendImmediately;
+    private PatientEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        sendImmediately = true;
+        Executor sender = task -> {
+            if (sendImmediately) {
+                task.run();
+            } else {
+                pendingSends.add(task);
+            }
+        };
+        broadcaster = new PatientEventBroadcaster(3, 2, List.of("ADMIN", "DOCTOR", "NURSE"), () -> {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        }, sender, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("subscribe")
+    class Subscribe {
+
+        @Test
+        @DisplayName("should start a new stream with a ready event carrying the current event id")
+        void shouldSendReadyEvent() {
+            broadcaster.onPatientChanged(PatientChangedEvent.created(patient("ACTIVE")));
+
+            broadcaster.subscribe(null, USER, ALL_TYPES);
+
+            assertThat(emitters.get(0).events).containsExactly("1:ready");
+        }
+
+        @Test
+        @DisplayName("should replay the changes after Last-Event-ID")
+        void shouldReplayMissedChanges() {
+            publish(3);
+
+            broadcaster.subscribe(1L, DOCTOR, ALL_TYPES);
+
+            assertThat(emitters.get(0).events).containsExactly("2:patient:CREATED", "3:patient:CREATED");
+        }
+
+        @Test
+        @DisplayName("should send reset when the missed changes have left the ring")
+        void shouldResetWhenHistoryIsGone() {
+            publish(5);
+
+            broadcaster.subscribe(1L, DOCTOR, ALL_TYPES);
+
+            assertThat(emitters.get(0).events).containsExactly("5:reset");
+        }
+
+        @Test
+        @DisplayName("should send reset for ids the server never issued")
+        void shouldResetForUnknownIds() {
+            publish(1);
+
+            broadcaster.subscribe(42L, DOCTOR, ALL_TYPES);
+
+            assertThat(emitters.get(0).events).containsExactly("1:reset");
+        }
+    }
+
+    @Nested
+    @DisplayName("onPatientChanged")
+    class OnPatientChanged {
+
+        @Test
+        @DisplayName("should send full patients to clinical roles and only identifiers to others")
+        void shouldFilterPayloadByRole() {
+            RecordingEmitter doctor = subscribe(DOCTOR, ALL_TYPES);
+            RecordingEmitter user = subscribe(USER, ALL_TYPES);
+
+            broadcaster.onPatientChanged(PatientChangedEvent.created(patient("ACTIVE")));
+
+            PatientResponse full = ((PatientChangeNotification) doctor.lastData).getPatient();
+            PatientResponse redacted = ((PatientChangeNotification) user.lastData).getPatient();
+            assertThat(full.getFirstName()).isEqualTo("John");
+            assertThat(redacted.getFirstName()).isNull();
+            assertThat(redacted.getEmail()).isNull();
+            assertThat(redacted.getId()).isEqualTo(full.getId());
+            assertThat(redacted.getStatus()).isEqualTo("ACTIVE");
+        }
+
+        @Test
+        @DisplayName("should only deliver the requested change types")
+        void shouldFilterByType() {
+            RecordingEmitter emitter = subscribe(DOCTOR, EnumSet.of(PatientChangedEvent.Type.DELETED));
+            PatientResponse active = patient("ACTIVE");
+
+            broadcaster.onPatientChanged(PatientChangedEvent.created(active));
+            broadcaster.onPatientChanged(PatientChangedEvent.deleted(active, patient("INACTIVE")));
+
+            assertThat(emitter.events).containsExactly("0:ready", "2:patient:DELETED");
+        }
+
+        @Test
+        @DisplayName("should disconnect a subscriber whose buffer is full")
+        void shouldDisconnectSlowConsumer() {
+            RecordingEmitter slow = subscribe(DOCTOR, ALL_TYPES);
+            sendImmediately = false;
+
+            publish(3);
+            assertThat(broadcaster.subscriberCount()).isZero();
+
+            pendingSends.forEach(Runnable::run);
+            assertThat(slow.completed).isTrue();
+            assertThat(slow.events).containsExactly("0:ready");
+            assertThat(meterRegistry.counter("patients.events.slow.consumer.disconnects").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should drop a subscriber whose connection failed")
+        void shouldDropBrokenSubscriber() {
+            RecordingEmitter broken = subscribe(DOCTOR, ALL_TYPES);
+            broken.failing = true;
+
+            publish(1);
+            broadcaster.heartbeat();
+
+            assertThat(broadcaster.subscriberCount()).isZero();
+            assertThat(broken.sendAttempts).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("onPatientsChanged")
+    class OnPatientsChanged {
+
+        @Test
+        @DisplayName("should queue a bulk change as one entry and send it as one event per patient")
+        void shouldQueueBulkChangeAsOneEntry() {
+            RecordingEmitter emitter = subscribe(DOCTOR, EnumSet.of(PatientChangedEvent.Type.DELETED));
+            sendImmediately = false;
+            PatientResponse active = patient("ACTIVE");
+
+            broadcaster.onPatientsChanged(new PatientsChangedEvent(List.of(
+                    PatientChangedEvent.deleted(active, patient("INACTIVE")),
+                    PatientChangedEvent.updated(active, patient("DECEASED")),
+                    PatientChangedEvent.deleted(active, patient("INACTIVE")),
+                    PatientChangedEvent.deleted(active, patient("INACTIVE")))));
+            publish(1);
+            pendingSends.forEach(Runnable::run);
+
+            assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+            assertThat(emitter.events).containsExactly("0:ready", "1:patient:DELETED", "3:patient:DELETED",
+                    "4:patient:DELETED");
+            assertThat(meterRegistry.counter("patients.events.slow.consumer.disconnects").count()).isZero();
+        }
+    }
+
+    private RecordingEmitter subscribe(List<GrantedAuthority> authorities, Set<PatientChangedEvent.Type> types) {
+        broadcaster.subscribe(null, authorities, types);
+        return emitters.get(emitters.size() - 1);
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            broadcaster.onPatientChanged(PatientChangedEvent.created(patient("ACTIVE")));
+        }
+    }
+
+    private static PatientResponse patient(String status) {
+        return PatientResponse.builder()
+                .id(UUID.randomUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .status(status)
+                .version(0L)
+                .build();
+    }
+
+    /**
+     * Records sent events as {@code id:name[:type]} instead of writing them to a response.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private Object lastData;
+        private boolean completed;
+        private boolean failing;
+        private int sendAttempts;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendAttempts++;
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder text = new StringBuilder();
+            Object data = null;
+            for (var part : builder.build()) {
+                if (part.getData() instanceof String string) {
+                    text.append(string);
+                } else {
+                    data = part.getData();
+                }
+            }
+            if (text.toString().startsWith(":")) {
+                return;
+            }
+            String id = text.substring(text.indexOf("id:") + 3, text.indexOf("\n"));
+            String name = text.substring(text.indexOf("event:") + 6, text.indexOf("\n", text.indexOf("event:")));
+            if (data instanceof PatientChangeNotification notification) {
+                events.add(id + ":" + name + ":" + notification.getType());
+            } else {
+                events.add(id + ":" + name);
+            }
+            lastData = data;
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
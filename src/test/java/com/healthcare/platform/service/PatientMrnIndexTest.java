@@ -0,0 +1,228 @@
+package com.healthcare.platform.service;
+
+import com.healthcare.platform.archive.PatientsArchivedEvent;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.repository.PatientRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Patient MRN Index Tests")
+class PatientMrnIndexTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-10T12:00:00Z");
+    private static final LocalDateTime EVERYTHING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PatientMrnIndex> indexes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        indexes.forEach(PatientMrnIndex::close);
+    }
+
+    @Nested
+    @DisplayName("loading")
+    class Loading {
+
+        @Test
+        @DisplayName("should page through the patients table and serve lookups once loaded")
+        void shouldBuildFromDatabase() {
+            List<Object[]> rows = rows(5);
+            when(patientRepository.count()).thenReturn(5L);
+            when(patientRepository.findMedicalRecordNumbers(new UUID(0, 0), EVERYTHING, Limit.of(3)))
+                    .thenReturn(rows.subList(0, 3));
+            when(patientRepository.findMedicalRecordNumbers((UUID) rows.get(2)[0], EVERYTHING, Limit.of(3)))
+                    .thenReturn(rows.subList(3, 5));
+            PatientMrnIndex index = index(null);
+            assertThat(index.find("MRN-0")).isEmpty();
+
+            index.load();
+
+            assertThat(index.isReady()).isTrue();
+            for (Object[] row : rows) {
+                assertThat(index.find((String) row[1])).contains((UUID) row[0]);
+            }
+            assertThat(index.find("MRN-unknown")).isEmpty();
+            assertThat(meterRegistry.get("patients.mrn-index.entries").gauge().value()).isEqualTo(5);
+            assertThat(meterRegistry.get("patients.mrn-index.lookups").tag("result", "hit").counter().count())
+                    .isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("should reopen a cleanly closed file and only read patients created since")
+        void shouldReopenCleanFile() {
+            Path file = directory.resolve("mrn.idx");
+            List<Object[]> rows = rows(2);
+            when(patientRepository.findMedicalRecordNumbers(eq(new UUID(0, 0)), any(), any()))
+                    .thenReturn(rows.subList(0, 1), rows.subList(1, 2));
+            PatientMrnIndex first = index(file);
+            first.load();
+            first.close();
+
+            PatientMrnIndex second = index(file);
+            second.load();
+
+            verify(patientRepository).findMedicalRecordNumbers(new UUID(0, 0), LocalDateTime.of(2025, 3, 10, 11, 55),
+                    Limit.of(3));
+            verify(patientRepository, times(1)).count();
+            assertThat(second.find("MRN-0")).contains((UUID) rows.get(0)[0]);
+            assertThat(second.find("MRN-1")).contains((UUID) rows.get(1)[0]);
+        }
+
+        @Test
+        @DisplayName("should rebuild a file that was not closed cleanly")
+        void shouldRebuildDirtyFile() {
+            Path file = directory.resolve("mrn.idx");
+            List<Object[]> rows = rows(1);
+            when(patientRepository.findMedicalRecordNumbers(new UUID(0, 0), EVERYTHING, Limit.of(3)))
+                    .thenReturn(rows, List.of());
+            PatientMrnIndex crashed = index(file);
+            crashed.load();
+
+            PatientMrnIndex restarted = index(file);
+            restarted.load();
+
+            verify(patientRepository, times(2)).count();
+            assertThat(restarted.find("MRN-0")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should delete the file of an index without a configured file on close")
+        void shouldDeleteTemporaryFile() {
+            PatientMrnIndex index = index(null);
+            index.load();
+            Path temporary = (Path) ReflectionTestUtils.getField(index, "path");
+
+            index.close();
+
+            assertThat(Files.exists(temporary)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("writes")
+    class Writes {
+
+        @Test
+        @DisplayName("should index created patients and grow past the initial capacity")
+        void shouldIndexCreatedPatients() {
+            PatientMrnIndex index = index(directory.resolve("mrn.idx"));
+            index.load();
+            List<UUID> ids = new ArrayList<>();
+
+            for (int i = 0; i < 5_000; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                index.onPatientChanged(PatientChangedEvent.created(PatientResponse.builder()
+                        .id(id)
+                        .medicalRecordNumber("MRN-" + i)
+                        .build()));
+            }
+
+            assertThat(index.size()).isEqualTo(5_000);
+            for (int i = 0; i < 5_000; i++) {
+                assertThat(index.find("MRN-" + i)).contains(ids.get(i));
+            }
+        }
+
+        @Test
+        @DisplayName("should replace the entry of an MRN that is indexed again")
+        void shouldReplaceEntry() {
+            PatientMrnIndex index = index(null);
+            index.load();
+            UUID replacement = UUID.randomUUID();
+
+            index.put("MRN-1", UUID.randomUUID());
+            index.put("MRN-1", replacement);
+
+            assertThat(index.find("MRN-1")).contains(replacement);
+            assertThat(index.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should remove archived patients and keep finding the others")
+        void shouldRemoveArchivedPatients() {
+            PatientMrnIndex index = index(null);
+            index.load();
+            List<PatientResponse> patients = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                PatientResponse patient = PatientResponse.builder()
+                        .id(UUID.randomUUID())
+                        .medicalRecordNumber("MRN-" + i)
+                        .build();
+                patients.add(patient);
+                index.onPatientChanged(PatientChangedEvent.created(patient));
+            }
+
+            index.onPatientsArchived(new PatientsArchivedEvent(patients.subList(0, 1_000)));
+
+            assertThat(index.size()).isEqualTo(1_000);
+            for (int i = 0; i < 2_000; i++) {
+                if (i < 1_000) {
+                    assertThat(index.find("MRN-" + i)).isEmpty();
+                } else {
+                    assertThat(index.find("MRN-" + i)).contains(patients.get(i).getId());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should keep the entry of an MRN that was indexed again for another patient")
+        void shouldKeepReplacedEntry() {
+            PatientMrnIndex index = index(null);
+            index.load();
+            UUID current = UUID.randomUUID();
+            index.put("MRN-1", current);
+
+            index.remove("MRN-1", UUID.randomUUID());
+
+            assertThat(index.find("MRN-1")).contains(current);
+        }
+    }
+
+    private PatientMrnIndex index(Path file) {
+        PatientMrnIndex index = new PatientMrnIndex(patientRepository, true, file, 3, meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        indexes.add(index);
+        return index;
+    }
+
+    private static List<Object[]> rows(int count) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{UUID.randomUUID(), "MRN-" + i});
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,171 @@
+package com.healthcare.platform.service;
+
+import com.healthcare.platform.dto.PatientField;
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.service.PatientPageCache.QueryClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Patient Page Cache Tests")
+class PatientPageCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by("lastName"));
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private PatientPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PatientPageCache(true, 1000, Duration.ofSeconds(30), meterRegistry, nanos::get);
+    }
+
+    private Supplier<Page<PatientResponse>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            PatientResponse patient = PatientResponse.builder().id(UUID.randomUUID()).lastName("Smith").build();
+            return new PageImpl<>(List.of(patient), FIRST_PAGE, 1);
+        };
+    }
+
+    private Page<PatientResponse> search(String term) {
+        return cache.read(QueryClass.NAME_SEARCH, term, FIRST_PAGE, PatientFieldSet.ALL, loader());
+    }
+
+    private static PatientChangedEvent write() {
+        return PatientChangedEvent.created(PatientResponse.builder().id(UUID.randomUUID()).build());
+    }
+
+    @Test
+    @DisplayName("should serve a repeated search from the cache, ignoring the case of the term")
+    void shouldServeRepeatedSearch() {
+        Page<PatientResponse> first = search("Smith");
+
+        assertThat(search("smith")).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should keep pages of other query classes, pages, sorts and fields apart")
+    void shouldKeyByQuery() {
+        search("smith");
+        cache.read(QueryClass.LIST, null, FIRST_PAGE, PatientFieldSet.ALL, loader());
+        cache.read(QueryClass.NAME_SEARCH, "smith", PageRequest.of(1, 20, Sort.by("lastName")), PatientFieldSet.ALL,
+                loader());
+        cache.read(QueryClass.NAME_SEARCH, "smith", PageRequest.of(0, 20, Sort.by("createdAt")), PatientFieldSet.ALL,
+                loader());
+        cache.read(QueryClass.NAME_SEARCH, "smith", FIRST_PAGE, PatientFieldSet.of(PatientField.LAST_NAME), loader());
+
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("should read the database again after a patient write")
+    void shouldInvalidateOnWrite() {
+        Page<PatientResponse> first = search("smith");
+
+        cache.onPatientChanged(write());
+
+        assertThat(search("smith")).isNotSameAs(first);
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("patients.page-cache.invalidations").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should invalidate once for a bulk write")
+    void shouldInvalidateOnceForBulkWrite() {
+        Page<PatientResponse> first = search("smith");
+
+        cache.onPatientsChanged(new PatientsChangedEvent(List.of(write(), write(), write())));
+
+        assertThat(search("smith")).isNotSameAs(first);
+        assertThat(meterRegistry.get("patients.page-cache.invalidations").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not serve a page that was loading while a write committed")
+    void shouldNotServePageLoadedDuringWrite() {
+        cache.read(QueryClass.NAME_SEARCH, "smith", FIRST_PAGE, PatientFieldSet.ALL, () -> {
+            Page<PatientResponse> page = loader().get();
+            cache.onPatientChanged(write());
+            return page;
+        });
+
+        search("smith");
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should expire pages after the TTL")
+    void shouldExpire() {
+        search("smith");
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        search("smith");
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should bypass the cache within a read-write transaction")
+    void shouldBypassReadWriteTransactions() {
+        search("smith");
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            search("smith");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should report the hit ratio per query class")
+    void shouldReportHitRatio() {
+        search("smith");
+        search("smith");
+        search("smith");
+        search("jones");
+        cache.read(QueryClass.LIST, null, FIRST_PAGE, PatientFieldSet.ALL, loader());
+
+        assertThat(meterRegistry.get("patients.page-cache.hit.ratio").tag("class", "name-search").gauge().value())
+                .isEqualTo(0.5);
+        assertThat(meterRegistry.get("patients.page-cache.hit.ratio").tag("class", "list").gauge().value())
+                .isZero();
+        assertThat(meterRegistry.get("patients.page-cache.requests").tags("class", "name-search", "result", "hit")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should always load when disabled")
+    void shouldPassThroughWhenDisabled() {
+        cache = new PatientPageCache(false, 1000, Duration.ofSeconds(30), meterRegistry, nanos::get);
+
+        search("smith");
+        search("smith");
+
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -1,11 +1,28 @@
 package com.healthcare.platform.service;
 
+import com.healthcare.platform.archive.PatientArchive;
+import com.healthcare.platform.dto.PatientBatchRequest;
+import com.healthcare.platform.dto.PatientChangeCursor;
+import com.healthcare.platform.dto.PatientChangesResponse;
+import com.healthcare.platform.dto.PatientDuplicate;
+import com.healthcare.platform.dto.PatientField;
+import com.healthcare.platform.dto.PatientFieldSet;
+import com.healthcare.platform.dto.PatientLookupResult;
 import com.healthcare.platform.dto.PatientRequest;
 import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientStatusChangeRequest;
+import com.healthcare.platform.dto.PatientStatusChangeResponse;
+import com.healthcare.platform.dto.PatientStatusFilter;
+import com.healthcare.platform.duplicate.DuplicateIndex;
+import com.healthcare.platform.duplicate.MatchRecord;
 import com.healthcare.platform.entity.Patient;
 import com.healthcare.platform.exception.DuplicateResourceException;
+import com.healthcare.platform.exception.InvalidRequestException;
+import com.healthcare.platform.exception.PossibleDuplicatePatientException;
+import com.healthcare.platform.exception.PreconditionFailedException;
 import com.healthcare.platform.exception.ResourceNotFoundException;
 import com.healthcare.platform.repository.PatientRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,13 +32,19 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,7 +52,9 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +64,21 @@ class PatientServiceTest {
     @Mock
     private PatientRepository patientRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PatientArchive patientArchive;
+
+    @Mock
+    private PatientMrnIndex mrnIndex;
+
+    @Mock
+    private DuplicateIndex duplicateIndex;
+
     @InjectMocks
     private PatientService patientService;
 
@@ -71,9 +111,15 @@ class PatientServiceTest {
                 .status(Patient.PatientStatus.ACTIVE)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
+                .version(3L)
                 .build();
     }
 
+    private static DataIntegrityViolationException emailConstraintViolation() {
+        return new DataIntegrityViolationException("duplicate email", new ConstraintViolationException(
+                "duplicate email", new SQLException(), "PUBLIC.UK_PATIENTS_EMAIL_NORMALIZED_INDEX_D"));
+    }
+
     @Nested
     @DisplayName("createPatient")
     class CreatePatient {
@@ -81,8 +127,7 @@ class PatientServiceTest {
         @Test
         @DisplayName("should create patient successfully")
         void shouldCreatePatientSuccessfully() {
-            when(patientRepository.existsByEmail(anyString())).thenReturn(false);
-            when(patientRepository.save(any(Patient.class))).thenReturn(samplePatient);
+            when(patientRepository.saveAndFlush(any(Patient.class))).thenReturn(samplePatient);
 
             PatientResponse result = patientService.createPatient(validRequest);
 
@@ -92,7 +137,8 @@ class PatientServiceTest {
             assertThat(result.getEmail()).isEqualTo("john.doe@example.com");
 
             ArgumentCaptor<Patient> patientCaptor = ArgumentCaptor.forClass(Patient.class);
-            verify(patientRepository).save(patientCaptor.capture());
+            verify(patientRepository).saveAndFlush(patientCaptor.capture());
+            verify(patientRepository, never()).existsByEmail(anyString());
 
             Patient savedPatient = patientCaptor.getValue();
             assertThat(savedPatient.getFirstName()).isEqualTo("John");
@@ -100,15 +146,49 @@ class PatientServiceTest {
         }
 
         @Test
-        @DisplayName("should throw DuplicateResourceException for existing email")
+        @DisplayName("should throw DuplicateResourceException when the email unique index is violated")
         void shouldThrowExceptionForDuplicateEmail() {
-            when(patientRepository.existsByEmail("john.doe@example.com")).thenReturn(true);
+            when(patientRepository.saveAndFlush(any(Patient.class))).thenThrow(emailConstraintViolation());
 
             assertThatThrownBy(() -> patientService.createPatient(validRequest))
                     .isInstanceOf(DuplicateResourceException.class)
                     .hasMessageContaining("john.doe@example.com");
+        }
 
-            verify(patientRepository, never()).save(any());
+        @Test
+        @DisplayName("should refuse a patient matching existing patients")
+        void shouldRefusePossibleDuplicate() {
+            PatientDuplicate duplicate = new PatientDuplicate(UUID.randomUUID(), 0.95);
+            when(duplicateIndex.findDuplicates(any(MatchRecord.class))).thenReturn(List.of(duplicate));
+
+            assertThatThrownBy(() -> patientService.createPatient(validRequest))
+                    .isInstanceOfSatisfying(PossibleDuplicatePatientException.class,
+                            ex -> assertThat(ex.getCandidates()).containsExactly(duplicate));
+            verify(duplicateIndex).findDuplicates(argThat(record -> record.id() == null
+                    && record.lastName().equals("DOE") && record.dateOfBirth().equals(LocalDate.of(1990, 5, 15))));
+            verify(patientRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("should create a possible duplicate when allowed")
+        void shouldCreateAllowedDuplicate() {
+            when(patientRepository.saveAndFlush(any(Patient.class))).thenReturn(samplePatient);
+
+            PatientResponse result = patientService.createPatient(validRequest, true);
+
+            assertThat(result.getId()).isEqualTo(patientId);
+            verifyNoInteractions(duplicateIndex);
+        }
+
+        @Test
+        @DisplayName("should propagate other integrity violations")
+        void shouldPropagateOtherIntegrityViolations() {
+            DataIntegrityViolationException other = new DataIntegrityViolationException("mrn clash",
+                    new ConstraintViolationException("mrn clash", new SQLException(), "uk_patients_mrn"));
+            when(patientRepository.saveAndFlush(any(Patient.class))).thenThrow(other);
+
+            assertThatThrownBy(() -> patientService.createPatient(validRequest))
+                    .isSameAs(other);
         }
 
         @Test
@@ -130,7 +210,7 @@ class PatientServiceTest {
                     .updatedAt(LocalDateTime.now())
                     .build();
 
-            when(patientRepository.save(any(Patient.class))).thenReturn(patientWithoutEmail);
+            when(patientRepository.saveAndFlush(any(Patient.class))).thenReturn(patientWithoutEmail);
 
             PatientResponse result = patientService.createPatient(requestWithoutEmail);
 
@@ -167,6 +247,70 @@ class PatientServiceTest {
                     .hasMessageContaining("Patient")
                     .hasMessageContaining("id");
         }
+
+        @Test
+        @DisplayName("should fall back to the archive for patients no longer in the database")
+        void shouldFallBackToArchive() {
+            PatientResponse archived = PatientResponse.fromEntity(samplePatient);
+            archived.setStatus("INACTIVE");
+            when(patientRepository.findById(patientId)).thenReturn(Optional.empty());
+            when(patientRepository.findProjectedById(eq(patientId), any())).thenReturn(Optional.empty());
+            when(patientRepository.findVersionById(patientId)).thenReturn(Optional.empty());
+            when(patientArchive.findById(patientId)).thenReturn(Optional.of(archived));
+
+            assertThat(patientService.getPatientById(patientId)).isEqualTo(archived);
+            PatientResponse projected = patientService.getPatientById(patientId, PatientFieldSet.of(PatientField.STATUS));
+            assertThat(projected.getStatus()).isEqualTo("INACTIVE");
+            assertThat(projected.getVersion()).isEqualTo(3L);
+            assertThat(projected.getFirstName()).isNull();
+            assertThat(patientService.getPatientVersion(patientId))
+                    .hasValueSatisfying(version -> assertThat(version.version()).isEqualTo(3L));
+        }
+    }
+
+    @Nested
+    @DisplayName("getPatientByMrn")
+    class GetPatientByMrn {
+
+        @Test
+        @DisplayName("should load an indexed patient by id")
+        void shouldLoadIndexedPatientById() {
+            when(mrnIndex.find("MRN-123456")).thenReturn(Optional.of(patientId));
+            when(patientRepository.findById(patientId)).thenReturn(Optional.of(samplePatient));
+
+            assertThat(patientService.getPatientByMrn("MRN-123456").getId()).isEqualTo(patientId);
+
+            verify(patientRepository, never()).findByNaturalMedicalRecordNumber(anyString());
+            verify(mrnIndex, never()).put(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("should fall back to the natural id and fix the index when the indexed patient does not match")
+        void shouldRepairStaleEntry() {
+            UUID staleId = UUID.randomUUID();
+            when(mrnIndex.find("MRN-123456")).thenReturn(Optional.of(staleId));
+            when(patientRepository.findById(staleId)).thenReturn(Optional.of(Patient.builder()
+                    .id(staleId)
+                    .medicalRecordNumber("MRN-999999")
+                    .build()));
+            when(patientRepository.findByNaturalMedicalRecordNumber("MRN-123456"))
+                    .thenReturn(Optional.of(samplePatient));
+
+            assertThat(patientService.getPatientByMrn("MRN-123456").getId()).isEqualTo(patientId);
+
+            verify(mrnIndex).put("MRN-123456", patientId);
+        }
+
+        @Test
+        @DisplayName("should throw ResourceNotFoundException for an unknown MRN")
+        void shouldThrowForUnknownMrn() {
+            when(patientRepository.findByNaturalMedicalRecordNumber("MRN-unknown")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> patientService.getPatientByMrn("MRN-unknown"))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessageContaining("medicalRecordNumber");
+            verify(mrnIndex, never()).put(anyString(), any());
+        }
     }
 
     @Nested
@@ -189,6 +333,49 @@ class PatientServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getChanges")
+    class GetChanges {
+
+        @Test
+        @DisplayName("should return one page and a cursor after its last patient")
+        void shouldReturnPageWithCursor() {
+            LocalDateTime now = LocalDateTime.now();
+            PatientResponse first = changed(now.minusMinutes(2));
+            PatientResponse second = changed(now.minusMinutes(1));
+            when(patientRepository.findChangedAfter(eq(PatientChangeCursor.START), any(),
+                    eq(PatientFieldSet.of(PatientField.FIRST_NAME, PatientField.STATUS, PatientField.UPDATED_AT)), eq(3)))
+                    .thenReturn(List.of(first, second, changed(now)));
+
+            PatientChangesResponse changes = patientService.getChanges(null, 2,
+                    PatientFieldSet.of(PatientField.FIRST_NAME));
+
+            assertThat(changes.getPatients()).containsExactly(first, second);
+            assertThat(changes.isHasMore()).isTrue();
+            assertThat(PatientChangeCursor.parse(changes.getNextCursor()))
+                    .isEqualTo(new PatientChangeCursor(second.getUpdatedAt(), second.getId()));
+        }
+
+        @Test
+        @DisplayName("should keep the cursor and hold back recent changes when nothing has settled")
+        void shouldKeepCursorWhenEmpty() {
+            PatientChangeCursor cursor = new PatientChangeCursor(LocalDateTime.now().minusHours(1), UUID.randomUUID());
+            when(patientRepository.findChangedAfter(eq(cursor), any(), any(), anyInt())).thenReturn(List.of());
+
+            PatientChangesResponse changes = patientService.getChanges(cursor.encode(), 100, PatientFieldSet.ALL);
+
+            assertThat(changes.getPatients()).isEmpty();
+            assertThat(changes.isHasMore()).isFalse();
+            assertThat(changes.getNextCursor()).isEqualTo(cursor.encode());
+            verify(patientRepository).findChangedAfter(eq(cursor),
+                    argThat(until -> until.isBefore(LocalDateTime.now().minusSeconds(4))), eq(PatientFieldSet.ALL), eq(101));
+        }
+
+        private PatientResponse changed(LocalDateTime updatedAt) {
+            return PatientResponse.builder().id(UUID.randomUUID()).updatedAt(updatedAt).status("ACTIVE").build();
+        }
+    }
+
     @Nested
     @DisplayName("updatePatient")
     class UpdatePatient {
@@ -215,8 +402,7 @@ class PatientServiceTest {
                     .build();
 
             when(patientRepository.findById(patientId)).thenReturn(Optional.of(samplePatient));
-            when(patientRepository.existsByEmail("jane.doe@example.com")).thenReturn(false);
-            when(patientRepository.save(any(Patient.class))).thenReturn(updatedPatient);
+            when(patientRepository.saveAndFlush(any(Patient.class))).thenReturn(updatedPatient);
 
             PatientResponse result = patientService.updatePatient(patientId, updateRequest);
 
@@ -235,10 +421,34 @@ class PatientServiceTest {
                     .build();
 
             when(patientRepository.findById(patientId)).thenReturn(Optional.of(samplePatient));
-            when(patientRepository.existsByEmail("existing@example.com")).thenReturn(true);
+            when(patientRepository.saveAndFlush(any(Patient.class))).thenThrow(emailConstraintViolation());
 
             assertThatThrownBy(() -> patientService.updatePatient(patientId, updateRequest))
-                    .isInstanceOf(DuplicateResourceException.class);
+                    .isInstanceOf(DuplicateResourceException.class)
+                    .hasMessageContaining("existing@example.com");
+        }
+
+        @Test
+        @DisplayName("should reject update when expected version is stale")
+        void shouldRejectUpdateWhenVersionIsStale() {
+            when(patientRepository.findById(patientId)).thenReturn(Optional.of(samplePatient));
+
+            assertThatThrownBy(() -> patientService.updatePatient(patientId, validRequest, 2L))
+                    .isInstanceOf(PreconditionFailedException.class)
+                    .hasMessageContaining("current version 3");
+
+            verify(patientRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("should update when expected version matches")
+        void shouldUpdateWhenVersionMatches() {
+            when(patientRepository.findById(patientId)).thenReturn(Optional.of(samplePatient));
+            when(patientRepository.saveAndFlush(any(Patient.class))).thenReturn(samplePatient);
+
+            PatientResponse result = patientService.updatePatient(patientId, validRequest, 3L);
+
+            assertThat(result.getVersion()).isEqualTo(3L);
         }
     }
 
@@ -250,14 +460,205 @@ class PatientServiceTest {
         @DisplayName("should soft delete patient")
         void shouldSoftDeletePatient() {
             when(patientRepository.findById(patientId)).thenReturn(Optional.of(samplePatient));
-            when(patientRepository.save(any(Patient.class))).thenReturn(samplePatient);
+            when(patientRepository.saveAndFlush(any(Patient.class))).thenReturn(samplePatient);
 
             patientService.deletePatient(patientId);
 
             ArgumentCaptor<Patient> patientCaptor = ArgumentCaptor.forClass(Patient.class);
-            verify(patientRepository).save(patientCaptor.capture());
+            verify(patientRepository).saveAndFlush(patientCaptor.capture());
 
             assertThat(patientCaptor.getValue().getStatus()).isEqualTo(Patient.PatientStatus.INACTIVE);
         }
+
+        @Test
+        @DisplayName("should publish the status change with the version and timestamp written by the flush")
+        void shouldPublishStatusChange() {
+            LocalDateTime flushedAt = LocalDateTime.now();
+            when(patientRepository.findById(patientId)).thenReturn(Optional.of(samplePatient));
+            when(patientRepository.saveAndFlush(any(Patient.class))).thenAnswer(invocation -> {
+                Patient patient = invocation.getArgument(0);
+                patient.setVersion(patient.getVersion() + 1);
+                patient.setUpdatedAt(flushedAt);
+                return patient;
+            });
+
+            patientService.deletePatient(patientId);
+
+            ArgumentCaptor<PatientChangedEvent> eventCaptor = ArgumentCaptor.forClass(PatientChangedEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().type()).isEqualTo(PatientChangedEvent.Type.DELETED);
+            assertThat(eventCaptor.getValue().before().getStatus()).isEqualTo("ACTIVE");
+            assertThat(eventCaptor.getValue().after().getStatus()).isEqualTo("INACTIVE");
+            assertThat(eventCaptor.getValue().before().getVersion()).isEqualTo(3L);
+            assertThat(eventCaptor.getValue().after().getVersion()).isEqualTo(4L);
+            assertThat(eventCaptor.getValue().after().getUpdatedAt()).isEqualTo(flushedAt);
+        }
+    }
+
+    @Nested
+    @DisplayName("getPatientsBatch")
+    class GetPatientsBatch {
+
+        @Test
+        @DisplayName("should return results in request order with not-found markers")
+        void shouldReturnResultsInRequestOrder() {
+            UUID missingId = UUID.randomUUID();
+            when(patientRepository.findAllByIdInOrder(eq(List.of(missingId, patientId)), anyInt()))
+                    .thenReturn(Arrays.asList(null, samplePatient));
+
+            List<PatientLookupResult> results = patientService.getPatientsBatch(PatientBatchRequest.builder()
+                    .ids(List.of(missingId, patientId, missingId))
+                    .build());
+
+            assertThat(results).extracting(PatientLookupResult::getKey)
+                    .containsExactly(missingId.toString(), patientId.toString(), missingId.toString());
+            assertThat(results).extracting(PatientLookupResult::isFound).containsExactly(false, true, false);
+            assertThat(results.get(1).getPatient().getFirstName()).isEqualTo("John");
+            assertThat(results.get(0).getPatient()).isNull();
+        }
+
+        @Test
+        @DisplayName("should resolve each distinct MRN once")
+        void shouldResolveDistinctMrnsOnce() {
+            when(patientRepository.findAllByMedicalRecordNumberInOrder(eq(List.of("MRN-123456", "MRN-missing")), anyInt()))
+                    .thenReturn(Arrays.asList(samplePatient, null));
+
+            List<PatientLookupResult> results = patientService.getPatientsBatch(PatientBatchRequest.builder()
+                    .mrns(List.of("MRN-123456", "MRN-missing", "MRN-123456"))
+                    .build());
+
+            assertThat(results).extracting(PatientLookupResult::isFound).containsExactly(true, false, true);
+            assertThat(results.get(2).getPatient().getId()).isEqualTo(patientId);
+        }
+
+        @Test
+        @DisplayName("should look up keys missing from the database in the archive")
+        void shouldFallBackToArchive() {
+            UUID archivedId = UUID.randomUUID();
+            PatientResponse archived = PatientResponse.builder().id(archivedId).status("DECEASED").version(1L).build();
+            when(patientRepository.findAllByIdInOrder(eq(List.of(patientId, archivedId)), anyInt()))
+                    .thenReturn(Arrays.asList(samplePatient, null));
+            when(patientArchive.findById(archivedId)).thenReturn(Optional.of(archived));
+
+            List<PatientLookupResult> results = patientService.getPatientsBatch(PatientBatchRequest.builder()
+                    .ids(List.of(patientId, archivedId))
+                    .build());
+
+            assertThat(results).extracting(PatientLookupResult::isFound).containsExactly(true, true);
+            assertThat(results.get(1).getPatient()).isEqualTo(archived);
+            verify(patientArchive, never()).findById(patientId);
+        }
+
+        @Test
+        @DisplayName("should reject requests with both or neither key type")
+        void shouldRejectAmbiguousRequests() {
+            assertThatThrownBy(() -> patientService.getPatientsBatch(new PatientBatchRequest()))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> patientService.getPatientsBatch(PatientBatchRequest.builder()
+                    .ids(List.of(patientId))
+                    .mrns(List.of("MRN-123456"))
+                    .build()))
+                    .isInstanceOf(InvalidRequestException.class);
+
+            verifyNoInteractions(patientRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("changeStatus")
+    class ChangeStatus {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(patientService, "statusChangeChunkSize", 1);
+        }
+
+        @Test
+        @DisplayName("should update each chunk of IDs in one statement and skip patients already in the status")
+        void shouldUpdateChunksOfIds() {
+            UUID alreadyInactive = UUID.randomUUID();
+            when(patientRepository.lockForStatusChange(List.of(patientId), Patient.PatientStatus.INACTIVE))
+                    .thenReturn(List.of(samplePatient));
+            when(patientRepository.lockForStatusChange(List.of(alreadyInactive), Patient.PatientStatus.INACTIVE))
+                    .thenReturn(List.of());
+
+            PatientStatusChangeResponse response = patientService.changeStatus(PatientStatusChangeRequest.builder()
+                    .status("INACTIVE")
+                    .ids(List.of(patientId, alreadyInactive, patientId))
+                    .build());
+
+            assertThat(response.getUpdated()).isEqualTo(1);
+            assertThat(response.getIds()).containsExactly(patientId);
+            verify(patientRepository).updateStatus(eq(List.of(patientId)), eq(Patient.PatientStatus.INACTIVE),
+                    any(LocalDateTime.class));
+            verify(patientRepository, never()).findById(any());
+            verify(patientRepository, never()).save(any());
+            verify(transactionManager, times(2)).commit(any());
+        }
+
+        @Test
+        @DisplayName("should publish the same change events as single writes, one batch per chunk")
+        void shouldPublishChangeEvents() {
+            when(patientRepository.lockForStatusChange(List.of(patientId), Patient.PatientStatus.DECEASED))
+                    .thenReturn(List.of(samplePatient));
+
+            patientService.changeStatus(PatientStatusChangeRequest.builder()
+                    .status("DECEASED")
+                    .ids(List.of(patientId))
+                    .build());
+
+            ArgumentCaptor<PatientsChangedEvent> eventCaptor = ArgumentCaptor.forClass(PatientsChangedEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().changes()).hasSize(1);
+            PatientChangedEvent event = eventCaptor.getValue().changes().get(0);
+            assertThat(event.type()).isEqualTo(PatientChangedEvent.Type.UPDATED);
+            assertThat(event.before().getStatus()).isEqualTo("ACTIVE");
+            assertThat(event.before().getVersion()).isEqualTo(3L);
+            assertThat(event.after().getStatus()).isEqualTo("DECEASED");
+            assertThat(event.after().getVersion()).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("should walk the filter matches in ID order until a chunk comes back short")
+        void shouldWalkFilterMatches() {
+            PatientStatusFilter filter = PatientStatusFilter.builder().search("Doe").build();
+            when(patientRepository.lockForStatusChange(filter, Patient.PatientStatus.INACTIVE, null, 1))
+                    .thenReturn(List.of(samplePatient));
+            when(patientRepository.lockForStatusChange(filter, Patient.PatientStatus.INACTIVE, patientId, 1))
+                    .thenReturn(List.of());
+
+            PatientStatusChangeResponse response = patientService.changeStatus(PatientStatusChangeRequest.builder()
+                    .status("INACTIVE")
+                    .filter(filter)
+                    .build());
+
+            assertThat(response.getUpdated()).isEqualTo(1);
+            ArgumentCaptor<PatientsChangedEvent> eventCaptor = ArgumentCaptor.forClass(PatientsChangedEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().changes()).singleElement()
+                    .extracting(PatientChangedEvent::type).isEqualTo(PatientChangedEvent.Type.DELETED);
+        }
+
+        @Test
+        @DisplayName("should reject requests with both or neither selection, or an empty filter")
+        void shouldRejectInvalidSelections() {
+            assertThatThrownBy(() -> patientService.changeStatus(PatientStatusChangeRequest.builder()
+                    .status("INACTIVE")
+                    .build()))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> patientService.changeStatus(PatientStatusChangeRequest.builder()
+                    .status("INACTIVE")
+                    .ids(List.of(patientId))
+                    .filter(PatientStatusFilter.builder().currentStatus("ACTIVE").build())
+                    .build()))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> patientService.changeStatus(PatientStatusChangeRequest.builder()
+                    .status("INACTIVE")
+                    .filter(PatientStatusFilter.builder().search(" ").build())
+                    .build()))
+                    .isInstanceOf(InvalidRequestException.class);
+
+            verifyNoInteractions(patientRepository);
+        }
     }
 }
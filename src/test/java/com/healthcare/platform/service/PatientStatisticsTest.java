@@ -0,0 +1,157 @@
+package com.healthcare.platform.service;
+
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.dto.PatientStatsResponse;
+import com.healthcare.platform.entity.Patient;
+import com.healthcare.platform.repository.PatientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Patient Statistics Tests")
+class PatientStatisticsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    private PatientStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(TODAY.atTime(12, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        statistics = new PatientStatistics(patientRepository, 7, clock);
+    }
+
+    @Nested
+    @DisplayName("AgeBand")
+    class AgeBands {
+
+        @Test
+        @DisplayName("should move into the next band on the birthday")
+        void shouldUseBirthdayAsBoundary() {
+            assertThat(PatientStatistics.AgeBand.of(TODAY.minusYears(18).plusDays(1), TODAY))
+                    .isEqualTo(PatientStatistics.AgeBand.UNDER_18);
+            assertThat(PatientStatistics.AgeBand.of(TODAY.minusYears(18), TODAY))
+                    .isEqualTo(PatientStatistics.AgeBand.FROM_18_TO_34);
+            assertThat(PatientStatistics.AgeBand.of(TODAY.minusYears(90), TODAY))
+                    .isEqualTo(PatientStatistics.AgeBand.FROM_65);
+        }
+    }
+
+    @Nested
+    @DisplayName("onPatientChanged")
+    class OnPatientChanged {
+
+        @Test
+        @DisplayName("should count created patients by status, age and day")
+        void shouldCountCreations() {
+            statistics.onPatientChanged(PatientChangedEvent.created(patient("ACTIVE", 40, TODAY)));
+            statistics.onPatientChanged(PatientChangedEvent.created(patient("ACTIVE", 10, TODAY.minusDays(1))));
+
+            PatientStatsResponse stats = statistics.snapshot();
+
+            assertThat(stats.getTotal()).isEqualTo(2);
+            assertThat(stats.getByStatus()).containsEntry("ACTIVE", 2L).containsEntry("INACTIVE", 0L);
+            assertThat(stats.getByAge()).containsEntry("0-17", 1L).containsEntry("35-49", 1L);
+            assertThat(stats.getCreatedPerDay()).hasSize(7)
+                    .containsEntry(TODAY, 1L)
+                    .containsEntry(TODAY.minusDays(1), 1L)
+                    .containsEntry(TODAY.minusDays(6), 0L);
+        }
+
+        @Test
+        @DisplayName("should move soft-deleted patients between statuses without changing the total")
+        void shouldMoveDeletedPatients() {
+            PatientResponse active = patient("ACTIVE", 70, TODAY);
+            statistics.onPatientChanged(PatientChangedEvent.created(active));
+
+            statistics.onPatientChanged(PatientChangedEvent.deleted(active, patient("INACTIVE", 70, TODAY)));
+
+            PatientStatsResponse stats = statistics.snapshot();
+            assertThat(stats.getTotal()).isEqualTo(1);
+            assertThat(stats.getByStatus()).containsEntry("ACTIVE", 0L).containsEntry("INACTIVE", 1L);
+            assertThat(stats.getByAge()).containsEntry("65+", 1L);
+            assertThat(stats.getCreatedPerDay()).containsEntry(TODAY, 1L);
+        }
+
+        @Test
+        @DisplayName("should move patients between age bands when the date of birth changes")
+        void shouldMoveBetweenAgeBands() {
+            PatientResponse child = patient("ACTIVE", 12, TODAY);
+            statistics.onPatientChanged(PatientChangedEvent.created(child));
+
+            statistics.onPatientChanged(PatientChangedEvent.updated(child, patient("ACTIVE", 52, TODAY)));
+
+            assertThat(statistics.snapshot().getByAge()).containsEntry("0-17", 0L).containsEntry("50-64", 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile")
+    class Reconcile {
+
+        @Test
+        @DisplayName("should replace the counters with the database counts")
+        void shouldReplaceCounters() {
+            statistics.onPatientChanged(PatientChangedEvent.created(patient("ACTIVE", 40, TODAY)));
+            when(patientRepository.countGroupedByStatus()).thenReturn(List.of(
+                    new Object[]{Patient.PatientStatus.ACTIVE, 5L},
+                    new Object[]{Patient.PatientStatus.DECEASED, 1L}));
+            when(patientRepository.countByAgeBands(any(), any(), any(), any()))
+                    .thenReturn(List.<Object[]>of(new Object[]{1L, 2L, 0L, 3L, 0L}));
+            when(patientRepository.countCreatedPerDaySince(TODAY.minusDays(6).atStartOfDay()))
+                    .thenReturn(List.<Object[]>of(new Object[]{TODAY.minusDays(2), 4L}));
+
+            statistics.reconcile();
+
+            PatientStatsResponse stats = statistics.snapshot();
+            assertThat(stats.getTotal()).isEqualTo(6);
+            assertThat(stats.getByStatus()).containsEntry("ACTIVE", 5L).containsEntry("DECEASED", 1L);
+            assertThat(stats.getByAge()).containsExactly(entry("0-17", 1L), entry("18-34", 2L), entry("35-49", 0L),
+                    entry("50-64", 3L), entry("65+", 0L));
+            assertThat(stats.getCreatedPerDay()).containsEntry(TODAY, 0L).containsEntry(TODAY.minusDays(2), 4L);
+            assertThat(stats.getReconciledAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should treat an empty table as zero")
+        void shouldHandleEmptyTable() {
+            when(patientRepository.countGroupedByStatus()).thenReturn(List.of());
+            when(patientRepository.countByAgeBands(any(), any(), any(), any()))
+                    .thenReturn(List.<Object[]>of(new Object[]{null, null, null, null, null}));
+            when(patientRepository.countCreatedPerDaySince(any())).thenReturn(List.of());
+
+            statistics.reconcile();
+
+            assertThat(statistics.snapshot().getTotal()).isZero();
+            assertThat(statistics.snapshot().getByAge()).containsEntry("65+", 0L);
+        }
+    }
+
+    private static PatientResponse patient(String status, int age, LocalDate createdOn) {
+        return PatientResponse.builder()
+                .status(status)
+                .dateOfBirth(TODAY.minusYears(age).minusDays(1))
+                .createdAt(LocalDateTime.of(createdOn, LocalTime.NOON))
+                .build();
+    }
+}
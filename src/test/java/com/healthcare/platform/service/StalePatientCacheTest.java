@@ -0,0 +1,143 @@
+package com.healthcare.platform.service;
+
+import com.healthcare.platform.dto.PatientResponse;
+import com.healthcare.platform.exception.ResourceNotFoundException;
+import com.healthcare.platform.filter.RequestDeadline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Stale Patient Cache Tests")
+class StalePatientCacheTest {
+
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private StalePatientCache cache;
+    private PatientResponse patient;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StalePatientCache(true, 100, Duration.ofMinutes(15), refreshes::add);
+        patient = PatientResponse.builder().id(UUID.randomUUID()).firstName("John").version(1L).build();
+    }
+
+    private static PatientResponse databaseDown() {
+        throw new CannotCreateTransactionException("Could not open JPA EntityManager for transaction");
+    }
+
+    @Test
+    @DisplayName("should serve the last good response when the database is unavailable")
+    void shouldServeStaleWhenDatabaseUnavailable() {
+        assertThat(cache.read("id:1", () -> patient).isStale()).isFalse();
+
+        StalePatientCache.Read read = cache.read("id:1", StalePatientCacheTest::databaseDown);
+
+        assertThat(read.isStale()).isTrue();
+        assertThat(read.patient()).isSameAs(patient);
+        assertThat(read.age()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should rethrow when nothing was served before")
+    void shouldRethrowWithoutCachedEntry() {
+        assertThatThrownBy(() -> cache.read("id:1", StalePatientCacheTest::databaseDown))
+                .isInstanceOf(CannotCreateTransactionException.class);
+    }
+
+    @Test
+    @DisplayName("should rethrow errors that are not database outages")
+    void shouldRethrowOtherErrors() {
+        cache.read("id:1", () -> patient);
+
+        assertThatThrownBy(() -> cache.read("id:1", () -> {
+            throw new InvalidDataAccessApiUsageException("bug");
+        })).isInstanceOf(InvalidDataAccessApiUsageException.class);
+    }
+
+    @Test
+    @DisplayName("should rethrow when the request ran out of its own deadline")
+    void shouldRethrowAfterDeadline() {
+        cache.read("id:1", () -> patient);
+
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(Duration.ZERO)) {
+            assertThatThrownBy(() -> cache.read("id:1", StalePatientCacheTest::databaseDown))
+                    .isInstanceOf(CannotCreateTransactionException.class);
+        }
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should forget patients that no longer exist")
+    void shouldForgetMissingPatients() {
+        cache.read("id:1", () -> patient);
+        assertThatThrownBy(() -> cache.read("id:1", () -> {
+            throw new ResourceNotFoundException("Patient", "id", "1");
+        })).isInstanceOf(ResourceNotFoundException.class);
+
+        assertThatThrownBy(() -> cache.read("id:1", StalePatientCacheTest::databaseDown))
+                .isInstanceOf(CannotCreateTransactionException.class);
+    }
+
+    @Test
+    @DisplayName("should refresh in the background once per key")
+    void shouldRefreshInBackground() {
+        cache.read("id:1", () -> patient);
+        cache.read("id:1", StalePatientCacheTest::databaseDown);
+        cache.read("id:1", StalePatientCacheTest::databaseDown);
+        assertThat(refreshes).hasSize(1);
+
+        // A failed refresh allows the next stale read to schedule another one
+        refreshes.get(0).run();
+
+        assertThat(cache.read("id:1", StalePatientCacheTest::databaseDown).isStale()).isTrue();
+        assertThat(refreshes).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should replace the copies under both id and MRN when a patient changes")
+    void shouldFollowPatientChanges() {
+        patient.setMedicalRecordNumber("MRN-1");
+        String idKey = StalePatientCache.idKey(patient.getId());
+        String mrnKey = StalePatientCache.mrnKey("MRN-1");
+        cache.read(idKey, () -> patient);
+        cache.read(mrnKey, () -> patient);
+        PatientResponse deleted = PatientResponse.builder().id(patient.getId()).medicalRecordNumber("MRN-1")
+                .status("INACTIVE").version(2L).build();
+
+        cache.onPatientChanged(PatientChangedEvent.deleted(patient, deleted));
+
+        assertThat(cache.read(idKey, StalePatientCacheTest::databaseDown).patient()).isSameAs(deleted);
+        assertThat(cache.read(mrnKey, StalePatientCacheTest::databaseDown).patient()).isSameAs(deleted);
+    }
+
+    @Test
+    @DisplayName("should replace cached copies under both keys after a bulk change without adding others")
+    void shouldFollowBulkChanges() {
+        patient.setMedicalRecordNumber("MRN-1");
+        String idKey = StalePatientCache.idKey(patient.getId());
+        String mrnKey = StalePatientCache.mrnKey("MRN-1");
+        cache.read(idKey, () -> patient);
+        cache.read(mrnKey, () -> patient);
+        PatientResponse deleted = PatientResponse.builder().id(patient.getId()).medicalRecordNumber("MRN-1")
+                .status("INACTIVE").version(2L).build();
+        PatientResponse uncached = PatientResponse.builder().id(UUID.randomUUID()).status("INACTIVE").build();
+
+        cache.onPatientsChanged(new PatientsChangedEvent(List.of(
+                PatientChangedEvent.deleted(patient, deleted),
+                PatientChangedEvent.deleted(uncached, uncached))));
+
+        assertThat(cache.read(idKey, StalePatientCacheTest::databaseDown).patient()).isSameAs(deleted);
+        assertThat(cache.read(mrnKey, StalePatientCacheTest::databaseDown).patient()).isSameAs(deleted);
+        assertThatThrownBy(() -> cache.read(StalePatientCache.idKey(uncached.getId()),
+                StalePatientCacheTest::databaseDown)).isInstanceOf(CannotCreateTransactionException.class);
+    }
+}